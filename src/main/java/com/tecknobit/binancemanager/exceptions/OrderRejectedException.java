@@ -0,0 +1,58 @@
+package com.tecknobit.binancemanager.exceptions;
+
+import com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.Filter.FilterType;
+
+import java.io.IOException;
+
+/**
+ * The {@code OrderRejectedException} class is useful to catch when an order has not been sent because it would be
+ * rejected by the {@code "Binance"}'s trading rules of its symbol
+ */
+public class OrderRejectedException extends IOException {
+
+    /**
+     * {@code symbol} is instance that memorizes the symbol of the order rejected
+     */
+    private final String symbol;
+
+    /**
+     * {@code filterType} is instance that memorizes the filter that rejected the order, {@code "null"} if the order
+     * has been rejected by the status of the symbol
+     */
+    private final FilterType filterType;
+
+    /**
+     * Constructor to init {@link OrderRejectedException} object
+     *
+     * @param symbol:     symbol of the order rejected
+     * @param filterType: filter that rejected the order, {@code "null"} if the order has been rejected by the status of
+     *                    the symbol
+     * @param reason:     reason of the rejection
+     */
+    public OrderRejectedException(String symbol, FilterType filterType, String reason) {
+        super("Order on " + symbol + " not sent because " + reason);
+        this.symbol = symbol;
+        this.filterType = filterType;
+    }
+
+    /**
+     * Method to get {@link #symbol} instance <br>
+     * No-any params required
+     *
+     * @return {@link #symbol} instance as {@link String}
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Method to get {@link #filterType} instance <br>
+     * No-any params required
+     *
+     * @return {@link #filterType} instance as {@link FilterType}
+     */
+    public FilterType getFilterType() {
+        return filterType;
+    }
+
+}
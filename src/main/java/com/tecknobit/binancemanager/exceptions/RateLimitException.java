@@ -0,0 +1,36 @@
+package com.tecknobit.binancemanager.exceptions;
+
+import java.io.IOException;
+
+/**
+ * The {@code RateLimitException} class is useful to catch when a request has not been sent because it would exceed
+ * the {@code "Binance"}'s rate limits
+ */
+public class RateLimitException extends IOException {
+
+    /**
+     * {@code retryAfter} is instance that memorizes after how many milliseconds the request can be retried
+     */
+    private final long retryAfter;
+
+    /**
+     * Constructor to init {@link RateLimitException} object
+     *
+     * @param retryAfter: after how many milliseconds the request can be retried
+     */
+    public RateLimitException(long retryAfter) {
+        super("Request not sent to respect the Binance rate limits, retry after " + retryAfter + " ms");
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Method to get {@link #retryAfter} instance <br>
+     * No-any params required
+     *
+     * @return {@link #retryAfter} instance as long
+     */
+    public long getRetryAfter() {
+        return retryAfter;
+    }
+
+}
@@ -0,0 +1,319 @@
+package com.tecknobit.binancemanager.managers;
+
+import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
+import com.tecknobit.binancemanager.managers.BinanceJsonReader.Decoder;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code BinanceHttpTransport} class is useful to send the requests of a {@link BinanceManager} from more threads
+ * at the same time
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the requests are sent with a single {@link HttpClient} that keeps alive and reuses the connections, and
+ * each request returns its own {@link Response}, so nothing is shared between the requests of different threads.
+ * The last {@link Response} received by each thread is also kept to be returned by the {@link BinanceManager}'s
+ * response methods like {@link BinanceManager#getResponse()} and {@link BinanceManager#getStatusResponse()}
+ * @see BinanceManager
+ */
+public class BinanceHttpTransport {
+
+    /**
+     * {@code API_KEY_HEADER} is the header used to send the api key of the account
+     */
+    public static final String API_KEY_HEADER = "X-MBX-APIKEY";
+
+    /**
+     * {@code httpClient} is the pooled client used to send the requests
+     */
+    private final HttpClient httpClient;
+
+    /**
+     * {@code timeout} is instance that memorizes the timeout, in milliseconds, of the requests
+     */
+    private final int timeout;
+
+    /**
+     * {@code lastResponse} is the last response received by each thread
+     */
+    private final ThreadLocal<Response> lastResponse = new ThreadLocal<>();
+
+    /**
+     * Constructor to init a {@link BinanceHttpTransport} <br>
+     * No-any params required
+     */
+    public BinanceHttpTransport() {
+        this(-1);
+    }
+
+    /**
+     * Constructor to init a {@link BinanceHttpTransport}
+     *
+     * @param timeout: timeout, in milliseconds, of the requests, {@code "-1"} to not use a timeout
+     */
+    public BinanceHttpTransport(int timeout) {
+        this.timeout = timeout;
+        HttpClient.Builder builder = HttpClient.newBuilder();
+        if (timeout > 0)
+            builder.connectTimeout(Duration.ofMillis(timeout));
+        httpClient = builder.build();
+    }
+
+    /**
+     * Method to send a request
+     *
+     * @param url:    url of the request, query string included
+     * @param method: method of the request
+     * @param apiKey: apiKey of the account to perform request, {@code "null"} if not required
+     * @return the response of the request as {@link Response}
+     * @throws IOException when the request cannot be sent or the thread is interrupted while waiting the response
+     */
+    public Response send(String url, RequestMethod method, String apiKey) throws IOException {
+        return send(url, method, apiKey, null);
+    }
+
+    /**
+     * Method to send a request
+     *
+     * @param url:     url of the request, query string included
+     * @param method:  method of the request
+     * @param apiKey:  apiKey of the account to perform request, {@code "null"} if not required
+     * @param payload: url-encoded payload to send in the body of the request, {@code "null"} if not required
+     * @return the response of the request as {@link Response}
+     * @throws IOException when the request cannot be sent or the thread is interrupted while waiting the response
+     */
+    public Response send(String url, RequestMethod method, String apiKey, String payload) throws IOException {
+        try {
+            java.net.http.HttpResponse<String> httpResponse = httpClient.send(buildRequest(url, method, apiKey, payload),
+                    BodyHandlers.ofString());
+            Response response = new Response(httpResponse.statusCode(), httpResponse.body(), httpResponse.headers());
+            lastResponse.set(response);
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Method to send a request and decode its response while it is received
+     *
+     * @param url:     url of the request, query string included
+     * @param method:  method of the request
+     * @param apiKey:  apiKey of the account to perform request, {@code "null"} if not required
+     * @param decoder: decoder of the response
+     * @return the response decoded as {@link T}, {@code "null"} if the request has not been successful
+     * @throws IOException when the request cannot be sent, the response cannot be decoded or the thread is
+     *                     interrupted while waiting the response
+     * @implNote the body of a successful response is decoded from the stream and is not kept in the
+     * {@link #getLastResponse()}, the body of an unsuccessful one is kept as usual
+     */
+    public <T> T send(String url, RequestMethod method, String apiKey, Decoder<T> decoder) throws IOException {
+        try {
+            java.net.http.HttpResponse<InputStream> httpResponse = httpClient.send(buildRequest(url, method, apiKey,
+                    null), BodyHandlers.ofInputStream());
+            int statusCode = httpResponse.statusCode();
+            try (InputStream body = httpResponse.body()) {
+                if (statusCode >= 200 && statusCode < 300) {
+                    lastResponse.set(new Response(statusCode, null, httpResponse.headers()));
+                    return decoder.decode(new BinanceJsonReader(new InputStreamReader(body, UTF_8)));
+                }
+                lastResponse.set(new Response(statusCode, new String(body.readAllBytes(), UTF_8),
+                        httpResponse.headers()));
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Method to build a request
+     *
+     * @param url:     url of the request, query string included
+     * @param method:  method of the request
+     * @param apiKey:  apiKey of the account to perform request, {@code "null"} if not required
+     * @param payload: url-encoded payload to send in the body of the request, {@code "null"} if not required
+     * @return the request as {@link HttpRequest}
+     */
+    private HttpRequest buildRequest(String url, RequestMethod method, String apiKey, String payload) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url));
+        if (timeout > 0)
+            builder.timeout(Duration.ofMillis(timeout));
+        if (apiKey != null)
+            builder.header(API_KEY_HEADER, apiKey);
+        if (payload != null) {
+            if (payload.startsWith("?"))
+                payload = payload.substring(1);
+            builder.header("Content-Type", "application/x-www-form-urlencoded");
+            builder.method(method.name(), BodyPublishers.ofString(payload));
+        } else
+            builder.method(method.name(), BodyPublishers.noBody());
+        return builder.build();
+    }
+
+    /**
+     * Method to get the last response received by the current thread <br>
+     * No-any params required
+     *
+     * @return last response received by the current thread as {@link Response}, {@code "null"} if the thread has not
+     * sent any request yet
+     */
+    public Response getLastResponse() {
+        return lastResponse.get();
+    }
+
+    /**
+     * Method to get {@link #timeout} instance <br>
+     * No-any params required
+     *
+     * @return {@link #timeout} instance as int
+     */
+    public int getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * The {@code Response} class is useful to contain the details of a single response
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    public static class Response {
+
+        /**
+         * {@code statusCode} is instance that memorizes the status code of the response
+         */
+        private final int statusCode;
+
+        /**
+         * {@code body} is instance that memorizes the body of the response
+         */
+        private final String body;
+
+        /**
+         * {@code headers} is instance that memorizes the headers of the response
+         */
+        private final HttpHeaders headers;
+
+        /**
+         * Constructor to init a {@link Response}
+         *
+         * @param statusCode: status code of the response
+         * @param body:       body of the response
+         * @param headers:    headers of the response
+         */
+        public Response(int statusCode, String body, HttpHeaders headers) {
+            this.statusCode = statusCode;
+            this.body = body;
+            this.headers = headers;
+        }
+
+        /**
+         * Method to get {@link #statusCode} instance <br>
+         * No-any params required
+         *
+         * @return {@link #statusCode} instance as int
+         */
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        /**
+         * Method to get {@link #body} instance <br>
+         * No-any params required
+         *
+         * @return {@link #body} instance as {@link String}
+         */
+        public String getBody() {
+            return body;
+        }
+
+        /**
+         * Method to get {@link #headers} instance <br>
+         * No-any params required
+         *
+         * @return {@link #headers} instance as {@link HttpHeaders}
+         */
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        /**
+         * Method to get the first value of a header
+         *
+         * @param header: the name of the header to fetch
+         * @return value of the header as {@link String}, {@code "null"} if not present
+         */
+        public String getHeader(String header) {
+            List<String> values = headers.allValues(header);
+            if (values.isEmpty())
+                return null;
+            return values.get(0);
+        }
+
+        /**
+         * Method to get whether the response is successful <br>
+         * No-any params required
+         *
+         * @return whether the status code is a {@code "2xx"} code as boolean
+         */
+        public boolean isSuccessful() {
+            return statusCode >= 200 && statusCode < 300;
+        }
+
+        /**
+         * Method to get the error response <br>
+         * No-any params required
+         *
+         * @return the {@link #body} if the response is not successful, {@code "null"} otherwise as {@link String}
+         */
+        public String getErrorResponse() {
+            if (isSuccessful())
+                return null;
+            return body;
+        }
+
+        /**
+         * Method to get the error response formatted in JSON <br>
+         * No-any params required
+         *
+         * @return error response formatted in JSON as {@link T}, {@code "null"} if the response is successful
+         */
+        public <T> T getJSONErrorResponse() {
+            String errorResponse = getErrorResponse();
+            if (errorResponse == null)
+                return null;
+            if (errorResponse.startsWith("["))
+                return (T) new JSONArray(errorResponse);
+            return (T) new JSONObject(errorResponse);
+        }
+
+        /**
+         * Returns a string representation of the object <br>
+         * No-any params required
+         *
+         * @return a string representation of the object as {@link String}
+         */
+        @Override
+        public String toString() {
+            return body;
+        }
+
+    }
+
+}
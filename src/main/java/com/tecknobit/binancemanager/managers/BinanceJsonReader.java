@@ -0,0 +1,845 @@
+package com.tecknobit.binancemanager.managers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+
+/**
+ * The {@code BinanceJsonReader} class is useful to read a {@code "JSON"} response as a stream of tokens, so the
+ * library objects can be built directly from the response without creating the intermediate {@code "org.json"} tree
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the numbers are read without creating any string also when they are quoted, as {@code "Binance"} does
+ * for the prices and the quantities, so {@link #nextDouble()} can be used on both the {@link Token#NUMBER} and the
+ * {@link Token#STRING} tokens
+ */
+public class BinanceJsonReader implements Closeable {
+
+    /**
+     * {@code Token} list of available tokens
+     */
+    public enum Token {
+
+        /**
+         * {@code BEGIN_OBJECT} the start of an object
+         */
+        BEGIN_OBJECT,
+
+        /**
+         * {@code END_OBJECT} the end of an object
+         */
+        END_OBJECT,
+
+        /**
+         * {@code BEGIN_ARRAY} the start of an array
+         */
+        BEGIN_ARRAY,
+
+        /**
+         * {@code END_ARRAY} the end of an array
+         */
+        END_ARRAY,
+
+        /**
+         * {@code NAME} the name of a property of an object
+         */
+        NAME,
+
+        /**
+         * {@code STRING} a string value
+         */
+        STRING,
+
+        /**
+         * {@code NUMBER} a number value
+         */
+        NUMBER,
+
+        /**
+         * {@code BOOLEAN} a boolean value
+         */
+        BOOLEAN,
+
+        /**
+         * {@code NULL} a null value
+         */
+        NULL,
+
+        /**
+         * {@code END_DOCUMENT} the end of the response
+         */
+        END_DOCUMENT
+
+    }
+
+    /**
+     * {@code Decoder} is the interface useful to decode a response read by a {@link BinanceJsonReader}
+     *
+     * @param <T> type of the object decoded
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    @FunctionalInterface
+    public interface Decoder<T> {
+
+        /**
+         * Method to decode a response
+         *
+         * @param reader: the reader of the response
+         * @return the object decoded as {@link T}
+         * @throws IOException when the response cannot be read or is not valid
+         */
+        T decode(BinanceJsonReader reader) throws IOException;
+
+    }
+
+    /**
+     * {@code EMPTY_DOCUMENT} scope of a document not read yet
+     */
+    private static final int EMPTY_DOCUMENT = 0;
+
+    /**
+     * {@code NONEMPTY_DOCUMENT} scope of a document already read
+     */
+    private static final int NONEMPTY_DOCUMENT = 1;
+
+    /**
+     * {@code EMPTY_ARRAY} scope of an array without values read
+     */
+    private static final int EMPTY_ARRAY = 2;
+
+    /**
+     * {@code NONEMPTY_ARRAY} scope of an array with values read
+     */
+    private static final int NONEMPTY_ARRAY = 3;
+
+    /**
+     * {@code EMPTY_OBJECT} scope of an object without properties read
+     */
+    private static final int EMPTY_OBJECT = 4;
+
+    /**
+     * {@code DANGLING_NAME} scope of an object where the name of a property has been read, but not its value
+     */
+    private static final int DANGLING_NAME = 5;
+
+    /**
+     * {@code NONEMPTY_OBJECT} scope of an object with properties read
+     */
+    private static final int NONEMPTY_OBJECT = 6;
+
+    /**
+     * {@code POWERS_OF_TEN} are the powers of ten exactly representable as double
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * {@code reader} is the source of the response
+     */
+    private final Reader reader;
+
+    /**
+     * {@code buffer} is the buffer of the characters read from the {@link #reader}
+     */
+    private final char[] buffer = new char[8192];
+
+    /**
+     * {@code number} is the buffer where the characters of the number read are scanned
+     */
+    private final char[] number = new char[64];
+
+    /**
+     * {@code position} is the position of the next character to read in the {@link #buffer}
+     */
+    private int position;
+
+    /**
+     * {@code limit} is the number of characters available in the {@link #buffer}
+     */
+    private int limit;
+
+    /**
+     * {@code stack} is the stack of the scopes opened
+     */
+    private int[] stack = new int[32];
+
+    /**
+     * {@code stackSize} is the number of the scopes opened
+     */
+    private int stackSize;
+
+    /**
+     * {@code peeked} is the token peeked and not consumed yet, {@code "null"} if there is not
+     */
+    private Token peeked;
+
+    /**
+     * {@code peekedBoolean} is the value of the {@link Token#BOOLEAN} peeked
+     */
+    private boolean peekedBoolean;
+
+    /**
+     * Constructor to init a {@link BinanceJsonReader}
+     *
+     * @param reader: the source of the response
+     */
+    public BinanceJsonReader(Reader reader) {
+        this.reader = reader;
+        stack[stackSize++] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Constructor to init a {@link BinanceJsonReader}
+     *
+     * @param response: the response to read
+     */
+    public BinanceJsonReader(String response) {
+        this(new StringReader(response));
+    }
+
+    /**
+     * Method to get the next token without consuming it <br>
+     * No-any params required
+     *
+     * @return the next token as {@link Token}
+     * @throws IOException when the response cannot be read or is not valid
+     */
+    public Token peek() throws IOException {
+        if (peeked != null)
+            return peeked;
+        int scope = stack[stackSize - 1];
+        int current;
+        switch (scope) {
+            case EMPTY_ARRAY:
+                stack[stackSize - 1] = NONEMPTY_ARRAY;
+                current = nextNonWhitespace();
+                if (current == ']')
+                    return peeked = Token.END_ARRAY;
+                position--;
+                break;
+            case NONEMPTY_ARRAY:
+                current = nextNonWhitespace();
+                if (current == ']')
+                    return peeked = Token.END_ARRAY;
+                if (current != ',')
+                    throw syntaxError("expected ',' or ']'");
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                stack[stackSize - 1] = DANGLING_NAME;
+                current = nextNonWhitespace();
+                if (current == '}')
+                    return peeked = Token.END_OBJECT;
+                if (scope == NONEMPTY_OBJECT) {
+                    if (current != ',')
+                        throw syntaxError("expected ',' or '}'");
+                    current = nextNonWhitespace();
+                }
+                if (current != '"')
+                    throw syntaxError("expected a name");
+                return peeked = Token.NAME;
+            case DANGLING_NAME:
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+                if (nextNonWhitespace() != ':')
+                    throw syntaxError("expected ':'");
+                break;
+            case EMPTY_DOCUMENT:
+                stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+                break;
+            default:
+                if (!skipWhitespaces())
+                    return peeked = Token.END_DOCUMENT;
+                throw syntaxError("expected the end of the document");
+        }
+        current = nextNonWhitespace();
+        switch (current) {
+            case '{':
+                return peeked = Token.BEGIN_OBJECT;
+            case '[':
+                return peeked = Token.BEGIN_ARRAY;
+            case '"':
+                return peeked = Token.STRING;
+            case 't':
+                readLiteral("rue");
+                peekedBoolean = true;
+                return peeked = Token.BOOLEAN;
+            case 'f':
+                readLiteral("alse");
+                peekedBoolean = false;
+                return peeked = Token.BOOLEAN;
+            case 'n':
+                readLiteral("ull");
+                return peeked = Token.NULL;
+            default:
+                if (current == '-' || (current >= '0' && current <= '9')) {
+                    position--;
+                    return peeked = Token.NUMBER;
+                }
+                throw syntaxError("unexpected character '" + (char) current + "'");
+        }
+    }
+
+    /**
+     * Method to consume the start of an object <br>
+     * No-any params required
+     *
+     * @throws IOException when the response cannot be read or the next token is not {@link Token#BEGIN_OBJECT}
+     */
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    /**
+     * Method to consume the end of an object <br>
+     * No-any params required
+     *
+     * @throws IOException when the response cannot be read or the next token is not {@link Token#END_OBJECT}
+     */
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        stackSize--;
+    }
+
+    /**
+     * Method to consume the start of an array <br>
+     * No-any params required
+     *
+     * @throws IOException when the response cannot be read or the next token is not {@link Token#BEGIN_ARRAY}
+     */
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    /**
+     * Method to consume the end of an array <br>
+     * No-any params required
+     *
+     * @throws IOException when the response cannot be read or the next token is not {@link Token#END_ARRAY}
+     */
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        stackSize--;
+    }
+
+    /**
+     * Method to get whether the current object or array has other elements <br>
+     * No-any params required
+     *
+     * @return whether the current object or array has other elements as boolean
+     * @throws IOException when the response cannot be read or is not valid
+     */
+    public boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    /**
+     * Method to consume the name of the next property <br>
+     * No-any params required
+     *
+     * @return the name of the property as {@link String}
+     * @throws IOException when the response cannot be read or the next token is not {@link Token#NAME}
+     */
+    public String nextName() throws IOException {
+        expect(Token.NAME);
+        return readString();
+    }
+
+    /**
+     * Method to consume the next value as string <br>
+     * No-any params required
+     *
+     * @return the value as {@link String}, {@code "null"} if the value is {@link Token#NULL}
+     * @throws IOException when the response cannot be read or the next token is not a scalar value
+     */
+    public String nextString() throws IOException {
+        Token token = peek();
+        peeked = null;
+        switch (token) {
+            case STRING:
+                return readString();
+            case NUMBER:
+                return readNumberLiteral();
+            case BOOLEAN:
+                return String.valueOf(peekedBoolean);
+            case NULL:
+                return null;
+            default:
+                throw syntaxError("expected a string but was " + token);
+        }
+    }
+
+    /**
+     * Method to consume the next value as double, quoted or not <br>
+     * No-any params required
+     *
+     * @return the value as double, 0 if the value is {@link Token#NULL} or an empty string
+     * @throws IOException when the response cannot be read or the next value is not a number
+     */
+    public double nextDouble() throws IOException {
+        if (nextNumberIsEmpty())
+            return 0;
+        boolean quoted = peeked == Token.STRING;
+        peeked = null;
+        double value = readDouble();
+        if (quoted)
+            closeQuote();
+        return value;
+    }
+
+    /**
+     * Method to consume the next value as long, quoted or not <br>
+     * No-any params required
+     *
+     * @return the value as long, 0 if the value is {@link Token#NULL} or an empty string
+     * @throws IOException when the response cannot be read or the next value is not an integer number
+     */
+    public long nextLong() throws IOException {
+        if (nextNumberIsEmpty())
+            return 0;
+        boolean quoted = peeked == Token.STRING;
+        peeked = null;
+        long value = readLong();
+        if (quoted)
+            closeQuote();
+        return value;
+    }
+
+    /**
+     * Method to check whether the next number value is empty, consuming it in that case <br>
+     * No-any params required
+     *
+     * @return whether the next value is {@link Token#NULL} or an empty string as boolean
+     * @throws IOException when the response cannot be read or the next value is not a number
+     */
+    private boolean nextNumberIsEmpty() throws IOException {
+        Token token = peek();
+        if (token == Token.NULL) {
+            peeked = null;
+            return true;
+        }
+        if (token == Token.STRING) {
+            if (fillBuffer(1) && buffer[position] == '"') {
+                peeked = null;
+                position++;
+                return true;
+            }
+            return false;
+        }
+        if (token != Token.NUMBER)
+            throw syntaxError("expected a number but was " + token);
+        return false;
+    }
+
+    /**
+     * Method to consume the closing quote of a quoted number <br>
+     * No-any params required
+     *
+     * @throws IOException when the response cannot be read or the quote is missing
+     */
+    private void closeQuote() throws IOException {
+        if (!fillBuffer(1) || buffer[position] != '"')
+            throw syntaxError("expected a number");
+        position++;
+    }
+
+    /**
+     * Method to consume the next value as int, quoted or not <br>
+     * No-any params required
+     *
+     * @return the value as int, 0 if the value is {@link Token#NULL}
+     * @throws IOException when the response cannot be read or the next value is not a number
+     */
+    public int nextInt() throws IOException {
+        long value = nextLong();
+        if (value != (int) value)
+            throw syntaxError("expected an int but was " + value);
+        return (int) value;
+    }
+
+    /**
+     * Method to consume the next value as boolean <br>
+     * No-any params required
+     *
+     * @return the value as boolean, false if the value is {@link Token#NULL}
+     * @throws IOException when the response cannot be read or the next value is not a boolean
+     */
+    public boolean nextBoolean() throws IOException {
+        Token token = peek();
+        peeked = null;
+        if (token == Token.BOOLEAN)
+            return peekedBoolean;
+        if (token == Token.NULL)
+            return false;
+        if (token == Token.STRING)
+            return Boolean.parseBoolean(readString());
+        throw syntaxError("expected a boolean but was " + token);
+    }
+
+    /**
+     * Method to consume the next scalar value as the object {@code "org.json"} would create <br>
+     * No-any params required
+     *
+     * @return the value as {@link String}, {@link Integer}, {@link Long}, {@link Double} or {@link Boolean},
+     * {@code "null"} if the value is {@link Token#NULL} or is an object or an array, which are skipped
+     * @throws IOException when the response cannot be read or is not valid
+     */
+    public Object nextValue() throws IOException {
+        Token token = peek();
+        switch (token) {
+            case STRING:
+                return nextString();
+            case NUMBER:
+                String number = nextString();
+                if (number.indexOf('.') == -1 && number.indexOf('e') == -1 && number.indexOf('E') == -1) {
+                    long value = Long.parseLong(number);
+                    if (value == (int) value)
+                        return (int) value;
+                    return value;
+                }
+                return Double.parseDouble(number);
+            case BOOLEAN:
+                return nextBoolean();
+            default:
+                skipValue();
+                return null;
+        }
+    }
+
+    /**
+     * Method to skip the next value, with all its nested values <br>
+     * No-any params required
+     *
+     * @throws IOException when the response cannot be read or is not valid
+     */
+    public void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            Token token = peek();
+            switch (token) {
+                case BEGIN_OBJECT:
+                    beginObject();
+                    depth++;
+                    break;
+                case BEGIN_ARRAY:
+                    beginArray();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    depth--;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    depth--;
+                    break;
+                case NAME:
+                    nextName();
+                    break;
+                case END_DOCUMENT:
+                    return;
+                default:
+                    nextString();
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Method to close the {@link #reader} <br>
+     * No-any params required
+     *
+     * @throws IOException when the reader cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Method to consume a token
+     *
+     * @param token: the token expected
+     * @throws IOException when the response cannot be read or the next token is not the expected one
+     */
+    private void expect(Token token) throws IOException {
+        Token current = peek();
+        if (current != token)
+            throw syntaxError("expected " + token + " but was " + current);
+        peeked = null;
+    }
+
+    /**
+     * Method to open a new scope
+     *
+     * @param scope: the scope to open
+     */
+    private void push(int scope) {
+        if (stackSize == stack.length)
+            stack = Arrays.copyOf(stack, stackSize << 1);
+        stack[stackSize++] = scope;
+    }
+
+    /**
+     * Method to read a string whose opening quote has been already consumed <br>
+     * No-any params required
+     *
+     * @return the string as {@link String}
+     * @throws IOException when the response cannot be read or the string is not terminated
+     */
+    private String readString() throws IOException {
+        StringBuilder builder = null;
+        while (true) {
+            int start = position;
+            while (position < limit) {
+                char current = buffer[position++];
+                if (current == '"') {
+                    if (builder == null)
+                        return new String(buffer, start, position - start - 1);
+                    builder.append(buffer, start, position - start - 1);
+                    return builder.toString();
+                } else if (current == '\\') {
+                    if (builder == null)
+                        builder = new StringBuilder();
+                    builder.append(buffer, start, position - start - 1);
+                    builder.append(readEscape());
+                    start = position;
+                }
+            }
+            if (builder == null)
+                builder = new StringBuilder();
+            builder.append(buffer, start, position - start);
+            if (!fillBuffer(1))
+                throw syntaxError("unterminated string");
+        }
+    }
+
+    /**
+     * Method to read an escape sequence whose backslash has been already consumed <br>
+     * No-any params required
+     *
+     * @return the character escaped as char
+     * @throws IOException when the response cannot be read or the escape sequence is not valid
+     */
+    private char readEscape() throws IOException {
+        if (!fillBuffer(1))
+            throw syntaxError("unterminated escape sequence");
+        char escaped = buffer[position++];
+        switch (escaped) {
+            case 'u':
+                if (!fillBuffer(4))
+                    throw syntaxError("unterminated escape sequence");
+                char unicode = (char) Integer.parseInt(new String(buffer, position, 4), 16);
+                position += 4;
+                return unicode;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            default:
+                return escaped;
+        }
+    }
+
+    /**
+     * Method to read a not quoted number as string <br>
+     * No-any params required
+     *
+     * @return the number as {@link String}
+     * @throws IOException when the response cannot be read or the number is not valid
+     */
+    private String readNumberLiteral() throws IOException {
+        return new String(number, 0, scanNumber());
+    }
+
+    /**
+     * Method to read a number <br>
+     * No-any params required
+     *
+     * @return the number as double
+     * @throws IOException when the response cannot be read or the number is not valid
+     * @implNote the numbers with up to 15 significant digits are computed without creating any string, the others
+     * are delegated to {@link Double#parseDouble(String)}
+     */
+    private double readDouble() throws IOException {
+        int length = scanNumber();
+        boolean negative = number[0] == '-';
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1;
+        for (int j = negative ? 1 : 0; j < length; j++) {
+            char current = number[j];
+            if (current >= '0' && current <= '9') {
+                if (mantissa != 0 || current != '0')
+                    digits++;
+                if (digits > 15)
+                    return Double.parseDouble(new String(number, 0, length));
+                mantissa = mantissa * 10 + (current - '0');
+                if (scale >= 0)
+                    scale++;
+            } else if (current == '.' && scale < 0)
+                scale = 0;
+            else
+                return Double.parseDouble(new String(number, 0, length));
+        }
+        if (scale > 22)
+            return Double.parseDouble(new String(number, 0, length));
+        double value = mantissa;
+        if (scale > 0)
+            value /= POWERS_OF_TEN[scale];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Method to read an integer number <br>
+     * No-any params required
+     *
+     * @return the number as long
+     * @throws IOException when the response cannot be read or the number is not an integer
+     */
+    private long readLong() throws IOException {
+        int length = scanNumber();
+        boolean negative = number[0] == '-';
+        int start = negative ? 1 : 0;
+        if (length - start > 18) {
+            try {
+                return Long.parseLong(new String(number, 0, length));
+            } catch (NumberFormatException e) {
+                throw syntaxError("expected a long but was " + new String(number, 0, length));
+            }
+        }
+        long value = 0;
+        for (int j = start; j < length; j++) {
+            char current = number[j];
+            if (current < '0' || current > '9') {
+                double decimal = Double.parseDouble(new String(number, 0, length));
+                if (decimal != (long) decimal)
+                    throw syntaxError("expected a long but was " + decimal);
+                return (long) decimal;
+            }
+            value = value * 10 + (current - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Method to scan the characters of a number in the {@link #number} buffer <br>
+     * No-any params required
+     *
+     * @return the number of characters scanned as int
+     * @throws IOException when the response cannot be read or the number is not valid
+     */
+    private int scanNumber() throws IOException {
+        int length = 0;
+        while (fillBuffer(1) && isNumberChar(buffer[position])) {
+            if (length == number.length)
+                throw syntaxError("number too long");
+            number[length++] = buffer[position++];
+        }
+        if (length == 0 || (length == 1 && number[0] == '-'))
+            throw syntaxError("expected a number");
+        return length;
+    }
+
+    /**
+     * Method to get whether a character can be part of a number
+     *
+     * @param current: the character to check
+     * @return whether the character can be part of a number as boolean
+     */
+    private static boolean isNumberChar(char current) {
+        return (current >= '0' && current <= '9') || current == '.' || current == '-' || current == '+'
+                || current == 'e' || current == 'E';
+    }
+
+    /**
+     * Method to read a literal whose first character has been already consumed
+     *
+     * @param literal: the remaining characters of the literal
+     * @throws IOException when the response cannot be read or the literal is not valid
+     */
+    private void readLiteral(String literal) throws IOException {
+        if (!fillBuffer(literal.length()))
+            throw syntaxError("unexpected end of the document");
+        for (int j = 0; j < literal.length(); j++)
+            if (buffer[position + j] != literal.charAt(j))
+                throw syntaxError("unexpected literal");
+        position += literal.length();
+    }
+
+    /**
+     * Method to consume the next character that is not a whitespace <br>
+     * No-any params required
+     *
+     * @return the character as int
+     * @throws IOException when the response cannot be read or the document is ended
+     */
+    private int nextNonWhitespace() throws IOException {
+        if (!skipWhitespaces())
+            throw syntaxError("unexpected end of the document");
+        return buffer[position++];
+    }
+
+    /**
+     * Method to skip the whitespaces <br>
+     * No-any params required
+     *
+     * @return whether there are other characters to read as boolean
+     * @throws IOException when the response cannot be read
+     */
+    private boolean skipWhitespaces() throws IOException {
+        while (fillBuffer(1)) {
+            char current = buffer[position];
+            if (current != ' ' && current != '\n' && current != '\r' && current != '\t')
+                return true;
+            position++;
+        }
+        return false;
+    }
+
+    /**
+     * Method to ensure that the {@link #buffer} contains at least a number of characters to read
+     *
+     * @param minimum: the number of characters required
+     * @return whether the characters are available as boolean
+     * @throws IOException when the response cannot be read
+     */
+    private boolean fillBuffer(int minimum) throws IOException {
+        if (limit - position >= minimum)
+            return true;
+        if (position > 0) {
+            limit -= position;
+            System.arraycopy(buffer, position, buffer, 0, limit);
+            position = 0;
+        }
+        int read;
+        while ((read = reader.read(buffer, limit, buffer.length - limit)) != -1) {
+            limit += read;
+            if (limit >= minimum)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Method to create a syntax error
+     *
+     * @param message: the message of the error
+     * @return the error as {@link IOException}
+     */
+    private IOException syntaxError(String message) {
+        return new IOException("Not a valid JSON response: " + message);
+    }
+
+}
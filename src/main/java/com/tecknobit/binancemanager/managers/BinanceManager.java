@@ -1,12 +1,15 @@
 package com.tecknobit.binancemanager.managers;
 
 import com.tecknobit.apimanager.annotations.RequestPath;
+import com.tecknobit.apimanager.annotations.RequestWeight;
 import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.annotations.Wrapper;
 import com.tecknobit.apimanager.apis.APIRequest;
 import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
 import com.tecknobit.apimanager.interfaces.Manager;
 import com.tecknobit.apimanager.trading.TradingTools;
+import com.tecknobit.binancemanager.managers.BinanceHttpTransport.Response;
+import com.tecknobit.binancemanager.managers.BinanceJsonReader.Decoder;
 import com.tecknobit.binancemanager.exceptions.SystemException;
 import org.json.JSONObject;
 
@@ -15,10 +18,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
 import static com.tecknobit.apimanager.trading.TradingTools.computeAssetPercent;
 import static com.tecknobit.apimanager.trading.TradingTools.textualizeAssetPercent;
+import static com.tecknobit.binancemanager.managers.BinanceServerClock.TIMESTAMP_ERROR_CODE;
 import static com.tecknobit.binancemanager.managers.market.BinanceMarketManager.TIMESTAMP_ENDPOINT;
 import static com.tecknobit.binancemanager.managers.signedmanagers.wallet.BinanceWalletManager.SYSTEM_STATUS_ENDPOINT;
 import static java.lang.System.currentTimeMillis;
@@ -30,6 +38,9 @@ import static java.lang.System.currentTimeMillis;
  * @author N7ghtm4r3 - Tecknobit
  * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#introduction">
  * Introduction</a>
+ * @implNote the asynchronous requests, see {@link #async(Callable)}, and the components that execute them require
+ * the concurrent transport, which must be enabled explicitly with {@link #enableConcurrentTransport()}: when enabled,
+ * the response methods like {@link #getErrorResponse()} return the last response received by the current thread
  * @see Manager
  */
 public class BinanceManager implements Manager {
@@ -45,6 +56,11 @@ public class BinanceManager implements Manager {
      */
     protected static final Properties properties = new Properties();
 
+    /**
+     * {@code defaultAsyncExecutor} is the executor shared by the managers to execute the asynchronous requests
+     */
+    private static Executor defaultAsyncExecutor;
+
     /**
      * {@code baseEndpoint} is instance that  memorizes main endpoint where {@link BinanceManager}'s managers work on
      */
@@ -55,6 +71,34 @@ public class BinanceManager implements Manager {
      */
     protected APIRequest apiRequest;
 
+    /**
+     * {@code serverClock} is instance used to estimate the server time without sending a request each time
+     */
+    protected final BinanceServerClock serverClock;
+
+    /**
+     * {@code httpTransport} is instance used to send the requests when the concurrent transport is enabled,
+     * {@code "null"} to send them with the {@link #apiRequest} instance
+     */
+    protected volatile BinanceHttpTransport httpTransport;
+
+    /**
+     * {@code websocketApiResponse} is the last response received by each thread with the WebSocket API,
+     * {@code "null"} when the last request of the thread has not been sent with it
+     */
+    protected final ThreadLocal<Response> websocketApiResponse = new ThreadLocal<>();
+
+    /**
+     * {@code rateLimiter} is instance used to keep the requests under the rate limits, {@code "null"} if the rate
+     * limits are not checked before sending the requests
+     */
+    protected volatile BinanceRateLimiter rateLimiter;
+
+    /**
+     * {@code asyncExecutor} is instance used to execute the asynchronous requests of the manager
+     */
+    protected volatile Executor asyncExecutor = getDefaultAsyncExecutor();
+
     /**
      * Constructor to init a {@link BinanceManager}
      *
@@ -68,6 +112,7 @@ public class BinanceManager implements Manager {
             this.baseEndpoint = baseEndpoint;
         else
             this.baseEndpoint = getDefaultBaseEndpoint();
+        serverClock = BinanceServerClock.getInstance(this.baseEndpoint);
         storeProperties(this.baseEndpoint, defaultErrorMessage, timeout);
     }
 
@@ -83,6 +128,7 @@ public class BinanceManager implements Manager {
             this.baseEndpoint = baseEndpoint;
         else
             this.baseEndpoint = getDefaultBaseEndpoint();
+        serverClock = BinanceServerClock.getInstance(this.baseEndpoint);
         storeProperties(this.baseEndpoint, defaultErrorMessage, -1);
     }
 
@@ -98,6 +144,7 @@ public class BinanceManager implements Manager {
             this.baseEndpoint = baseEndpoint;
         else
             this.baseEndpoint = getDefaultBaseEndpoint();
+        serverClock = BinanceServerClock.getInstance(this.baseEndpoint);
         storeProperties(this.baseEndpoint, null, timeout);
     }
 
@@ -112,6 +159,7 @@ public class BinanceManager implements Manager {
             this.baseEndpoint = baseEndpoint;
         else
             this.baseEndpoint = getDefaultBaseEndpoint();
+        serverClock = BinanceServerClock.getInstance(this.baseEndpoint);
         storeProperties(this.baseEndpoint, null, -1);
     }
 
@@ -135,6 +183,7 @@ public class BinanceManager implements Manager {
         baseEndpoint = properties.getProperty("baseEndpoint");
         if (baseEndpoint == null)
             throw new IllegalArgumentException("You need to call a parameterized constructor first");
+        serverClock = BinanceServerClock.getInstance(baseEndpoint);
         String defaultErrorMessage = properties.getProperty("defaultErrorMessage");
         int timeout;
         try {
@@ -185,8 +234,15 @@ public class BinanceManager implements Manager {
      * @param baseEndpoint endpoint to request status
      */
     public boolean isSystemAvailable(String baseEndpoint) throws IOException {
-        apiRequest.sendAPIRequest(baseEndpoint + SYSTEM_STATUS_ENDPOINT, GET);
-        return new JSONObject(apiRequest.getResponse()).getInt("status") == 0;
+        BinanceHttpTransport transport = httpTransport;
+        String response;
+        if (transport != null)
+            response = transport.send(baseEndpoint + SYSTEM_STATUS_ENDPOINT, GET, null).getBody();
+        else {
+            apiRequest.sendAPIRequest(baseEndpoint + SYSTEM_STATUS_ENDPOINT, GET);
+            response = apiRequest.getResponse();
+        }
+        return new JSONObject(response).getInt("status") == 0;
     }
 
     /**
@@ -198,21 +254,54 @@ public class BinanceManager implements Manager {
     @RequestPath(method = GET, path = "/api/v3/time")
     public long getServerTime() {
         try {
-            apiRequest.sendAPIRequest(baseEndpoint + TIMESTAMP_ENDPOINT, GET);
-            return ((JSONObject) apiRequest.getJSONResponse()).getLong("serverTime");
+            return new JSONObject(sendGetRequest(TIMESTAMP_ENDPOINT, "")).getLong("serverTime");
         } catch (Exception e) {
             return currentTimeMillis();
         }
     }
 
+    /**
+     * Method to get the timestamp to use in the signed requests <br>
+     * No-any params required
+     *
+     * @return current server time estimated by the {@link #serverClock} as long
+     * @implNote unlike {@link #getServerTime()} this method does not send any request, the offset with the server
+     * clock is kept updated in background
+     */
+    public long getTimestamp() {
+        return serverClock.currentTimeMillis();
+    }
+
     /**
      * Method to get timestamp for request <br>
      * No-any params required
      *
-     * @return "?timestamp=" + getServerTime() return value
+     * @return "?timestamp=" + getTimestamp() return value
      */
     public String getTimestampParam() {
-        return "?timestamp=" + getServerTime();
+        return "?timestamp=" + getTimestamp();
+    }
+
+    /**
+     * Method to force a new synchronization of the {@link #serverClock} <br>
+     * No-any params required
+     *
+     * @return whether the synchronization has been successful as boolean
+     * @apiNote this method is automatically invoked when {@code "Binance"} responds with the
+     * {@link BinanceServerClock#TIMESTAMP_ERROR_CODE} error
+     */
+    public boolean resyncServerClock() {
+        return serverClock.resync();
+    }
+
+    /**
+     * Method to get {@link #serverClock} instance <br>
+     * No-any params required
+     *
+     * @return {@link #serverClock} instance as {@link BinanceServerClock}
+     */
+    public BinanceServerClock getServerClock() {
+        return serverClock;
     }
 
     /**
@@ -265,6 +354,43 @@ public class BinanceManager implements Manager {
         return sendRequest(endpoint, params, apiKey, GET);
     }
 
+    /**
+     * Method to execute a {@link RequestMethod#GET} request and decode its response while it is read
+     *
+     * @param endpoint: endpoint to request
+     * @param params:   params HTTP for the request
+     * @param decoder:  decoder of the response
+     * @return response of request decoded as {@link T}
+     * @throws IOException when request has been go wrong or the response cannot be decoded
+     * @implNote the response is decoded with a {@link BinanceJsonReader}, without creating the {@code "org.json"}
+     * tree, and when the concurrent transport is enabled it is decoded directly from the stream of the connection
+     */
+    public <T> T sendDecodedGetRequest(String endpoint, String params, Decoder<T> decoder) throws IOException {
+        if (params == null)
+            params = "";
+        String reqUrl = baseEndpoint + endpoint + params;
+        BinanceRateLimiter limiter = rateLimiter;
+        BinanceHttpTransport transport = httpTransport;
+        if (limiter != null)
+            limiter.acquire(transport != null);
+        if (transport != null) {
+            T decoded = transport.send(reqUrl, GET, null, decoder);
+            Response response = transport.getLastResponse();
+            checkResponse(limiter, response);
+            if (!response.isSuccessful())
+                throw new IOException(response.getBody());
+            return decoded;
+        }
+        apiRequest.sendAPIRequest(reqUrl, GET);
+        checkResponse(limiter, null);
+        int statusCode = getStatusResponse();
+        if (statusCode < 200 || statusCode >= 300) {
+            String errorResponse = getErrorResponse();
+            throw new IOException(errorResponse != null ? errorResponse : getResponse());
+        }
+        return decoder.decode(new BinanceJsonReader(apiRequest.getResponse()));
+    }
+
     /**
      * Method to execute and get response of {@link RequestMethod#DELETE} request
      *
@@ -325,10 +451,20 @@ public class BinanceManager implements Manager {
         if (params == null)
             params = "";
         String reqUrl = baseEndpoint + endpoint + params;
+        BinanceRateLimiter limiter = rateLimiter;
+        BinanceHttpTransport transport = httpTransport;
+        if (limiter != null)
+            limiter.acquire(transport != null);
+        if (transport != null) {
+            Response response = transport.send(reqUrl, method, apiKey);
+            checkResponse(limiter, response);
+            return response.getBody();
+        }
         if (apiKey != null)
             apiRequest.sendAPIRequest(reqUrl, method, "X-MBX-APIKEY", apiKey);
         else
             apiRequest.sendAPIRequest(reqUrl, method);
+        checkResponse(limiter, null);
         return apiRequest.getResponse();
     }
 
@@ -393,13 +529,258 @@ public class BinanceManager implements Manager {
         if (params == null)
             params = new Params();
         String reqUrl = baseEndpoint + endpoint;
+        BinanceRateLimiter limiter = rateLimiter;
+        BinanceHttpTransport transport = httpTransport;
+        if (limiter != null)
+            limiter.acquire(transport != null);
+        if (transport != null) {
+            Response response = transport.send(reqUrl, method, apiKey, params.createQueryString());
+            checkResponse(limiter, response);
+            return response.getBody();
+        }
         if (apiKey != null)
             apiRequest.sendPayloadedAPIRequest(reqUrl, method, "X-MBX-APIKEY", apiKey, params);
         else
             apiRequest.sendPayloadedAPIRequest(reqUrl, method, params);
+        checkResponse(limiter, null);
         return apiRequest.getResponse();
     }
 
+    /**
+     * Method to check the response of the last request, updating the rate limiter and the server clock if needed
+     *
+     * @param limiter:  the rate limiter to update, {@code "null"} if not enabled
+     * @param response: the response received with the concurrent transport, {@code "null"} if not enabled
+     */
+    private void checkResponse(BinanceRateLimiter limiter, Response response) {
+        websocketApiResponse.remove();
+        if (limiter != null)
+            limiter.update(getStatusResponse(), response);
+        checkTimestampError();
+    }
+
+    /**
+     * Method to check whether the last request failed for the {@link BinanceServerClock#TIMESTAMP_ERROR_CODE} error
+     * and in that case resync the {@link #serverClock} <br>
+     * No-any params required
+     */
+    protected void checkTimestampError() {
+        if (getStatusResponse() >= 400) {
+            String response = getErrorResponse();
+            if (response == null)
+                response = getResponse();
+            if (response != null && response.contains("\"code\":" + TIMESTAMP_ERROR_CODE))
+                serverClock.resync();
+        }
+    }
+
+    /**
+     * Method to enable the concurrent transport, so the manager can be shared between more threads <br>
+     * No-any params required
+     *
+     * @apiNote when enabled, the requests are sent with a pooled {@link BinanceHttpTransport} that reuses the
+     * connections, and the response methods like {@link #getResponse()} return the last response received by the
+     * current thread
+     */
+    @Wrapper
+    public void enableConcurrentTransport() {
+        enableConcurrentTransport(new BinanceHttpTransport());
+    }
+
+    /**
+     * Method to enable the concurrent transport, so the manager can be shared between more threads
+     *
+     * @param httpTransport: the transport to use, can be shared between more managers to share also the connections
+     * @apiNote when enabled, the requests are sent with a pooled {@link BinanceHttpTransport} that reuses the
+     * connections, and the response methods like {@link #getResponse()} return the last response received by the
+     * current thread
+     */
+    public void enableConcurrentTransport(BinanceHttpTransport httpTransport) {
+        this.httpTransport = httpTransport;
+    }
+
+    /**
+     * Method to disable the concurrent transport and come back to send the requests with the {@link #apiRequest}
+     * instance <br>
+     * No-any params required
+     */
+    public void disableConcurrentTransport() {
+        httpTransport = null;
+    }
+
+    /**
+     * Method to get whether the concurrent transport is enabled <br>
+     * No-any params required
+     *
+     * @return whether the concurrent transport is enabled as boolean
+     */
+    public boolean isConcurrentTransportEnabled() {
+        return httpTransport != null;
+    }
+
+    /**
+     * Method to check whether the concurrent transport is enabled <br>
+     * No-any params required
+     *
+     * @throws IllegalStateException when the concurrent transport is not enabled
+     * @apiNote useful for the components that execute asynchronous requests, so they can fail when started instead
+     * of failing later in a background thread
+     */
+    public void checkConcurrentTransport() {
+        if (httpTransport == null)
+            throw new IllegalStateException("Concurrent transport is not enabled, invoke enableConcurrentTransport() "
+                    + "before executing asynchronous requests");
+    }
+
+    /**
+     * Method to get {@link #httpTransport} instance <br>
+     * No-any params required
+     *
+     * @return {@link #httpTransport} instance as {@link BinanceHttpTransport}
+     */
+    public BinanceHttpTransport getHttpTransport() {
+        return httpTransport;
+    }
+
+    /**
+     * Method to enable the rate limiter, so the requests are kept under the {@code "Binance"}'s rate limits <br>
+     * No-any params required
+     *
+     * @apiNote the weight of the requests is taken from their {@link RequestWeight} annotation, see
+     * {@link BinanceRateLimiter} for the details
+     */
+    @Wrapper
+    public void enableRateLimiter() {
+        enableRateLimiter(new BinanceRateLimiter());
+    }
+
+    /**
+     * Method to enable the rate limiter, so the requests are kept under the {@code "Binance"}'s rate limits
+     *
+     * @param rateLimiter: the rate limiter to use, should be shared between the managers that work with the same IP
+     *                     and account to count all their requests in the same budgets
+     * @apiNote the weight of the requests is taken from their {@link RequestWeight} annotation, see
+     * {@link BinanceRateLimiter} for the details
+     */
+    public void enableRateLimiter(BinanceRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Method to disable the rate limiter <br>
+     * No-any params required
+     */
+    public void disableRateLimiter() {
+        rateLimiter = null;
+    }
+
+    /**
+     * Method to get {@link #rateLimiter} instance <br>
+     * No-any params required
+     *
+     * @return {@link #rateLimiter} instance as {@link BinanceRateLimiter}
+     */
+    public BinanceRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Method to execute a request asynchronously with the {@link #asyncExecutor}
+     *
+     * @param request: the request to execute, es. {@code () -> marketManager.getOrderBook("BTCUSDT")}
+     * @return the future result of the request as {@link CompletableFuture} of {@link T}
+     * @throws IllegalStateException when the concurrent transport is not enabled
+     * @apiNote every request of the managers can be executed in this way, the future is completed exceptionally
+     * with the exception thrown by the request. The concurrent transport must be enabled with
+     * {@link #enableConcurrentTransport()} before, because the requests can be executed at the same time
+     */
+    @Wrapper
+    public <T> CompletableFuture<T> async(Callable<T> request) {
+        return async(request, asyncExecutor);
+    }
+
+    /**
+     * Method to execute a request asynchronously
+     *
+     * @param request:  the request to execute, es. {@code () -> marketManager.getOrderBook("BTCUSDT")}
+     * @param executor: the executor where execute the request
+     * @return the future result of the request as {@link CompletableFuture} of {@link T}
+     * @throws IllegalStateException when the concurrent transport is not enabled
+     * @apiNote every request of the managers can be executed in this way, the future is completed exceptionally
+     * with the exception thrown by the request. The concurrent transport must be enabled with
+     * {@link #enableConcurrentTransport()} before, because the requests can be executed at the same time
+     */
+    public <T> CompletableFuture<T> async(Callable<T> request, Executor executor) {
+        checkConcurrentTransport();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(request.call());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Method to get {@link #asyncExecutor} instance <br>
+     * No-any params required
+     *
+     * @return {@link #asyncExecutor} instance as {@link Executor}
+     */
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Method to set {@link #asyncExecutor} instance
+     *
+     * @param asyncExecutor: the executor where execute the asynchronous requests
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        if (asyncExecutor == null)
+            asyncExecutor = getDefaultAsyncExecutor();
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Method to get the default executor shared by the managers to execute the asynchronous requests <br>
+     * No-any params required
+     *
+     * @return the default executor as {@link Executor}
+     * @implNote the executor creates daemon threads on demand and reuses the idle ones
+     */
+    protected static synchronized Executor getDefaultAsyncExecutor() {
+        if (defaultAsyncExecutor == null) {
+            defaultAsyncExecutor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "binance-async-request");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return defaultAsyncExecutor;
+    }
+
+    /**
+     * Method to get the last response received by the current thread with the concurrent transport or with the
+     * WebSocket API <br>
+     * No-any params required
+     *
+     * @return last response received by the current thread as {@link Response}, {@code "null"} if the concurrent
+     * transport is not enabled and the last request has not been sent with the WebSocket API, or the thread has not
+     * sent any request yet
+     */
+    protected Response getTransportResponse() {
+        Response websocketApiResponse = this.websocketApiResponse.get();
+        if (websocketApiResponse != null)
+            return websocketApiResponse;
+        BinanceHttpTransport transport = httpTransport;
+        if (transport == null)
+            return null;
+        return transport.getLastResponse();
+    }
+
     /**
      * Method to round a value
      *
@@ -510,6 +891,10 @@ public class BinanceManager implements Manager {
      */
     @Override
     public int getStatusResponse() {
+        if (httpTransport != null || websocketApiResponse.get() != null) {
+            Response response = getTransportResponse();
+            return response != null ? response.getStatusCode() : -1;
+        }
         return apiRequest.getResponseStatusCode();
     }
 
@@ -521,6 +906,10 @@ public class BinanceManager implements Manager {
      */
     @Override
     public String getResponse() {
+        if (httpTransport != null || websocketApiResponse.get() != null) {
+            Response response = getTransportResponse();
+            return response != null ? response.getBody() : null;
+        }
         return apiRequest.getResponse();
     }
 
@@ -532,6 +921,10 @@ public class BinanceManager implements Manager {
      */
     @Override
     public String getErrorResponse() {
+        if (httpTransport != null || websocketApiResponse.get() != null) {
+            Response response = getTransportResponse();
+            return response != null ? response.getErrorResponse() : null;
+        }
         return apiRequest.getErrorResponse();
     }
 
@@ -543,6 +936,10 @@ public class BinanceManager implements Manager {
      */
     @Override
     public <T> T getJSONErrorResponse() {
+        if (httpTransport != null || websocketApiResponse.get() != null) {
+            Response response = getTransportResponse();
+            return response != null ? response.getJSONErrorResponse() : null;
+        }
         return apiRequest.getJSONErrorResponse();
     }
 
@@ -552,7 +949,10 @@ public class BinanceManager implements Manager {
      */
     @Override
     public void printErrorResponse() {
-        apiRequest.printErrorResponse();
+        if (httpTransport != null || websocketApiResponse.get() != null)
+            System.out.println(getErrorResponse());
+        else
+            apiRequest.printErrorResponse();
     }
 
     /**
@@ -0,0 +1,571 @@
+package com.tecknobit.binancemanager.managers;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import static com.tecknobit.binancemanager.managers.BinanceMessageQueue.OverflowPolicy.DROP_OLDEST;
+
+/**
+ * The {@code BinanceMessageQueue} class is useful to buffer the frames received by a websocket connection until they
+ * are consumed, without losing them when the consumer is slower than the stream
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the frames are stored in a bounded ring buffer, when it is full the {@link OverflowPolicy} chosen decides
+ * how to handle the new frames. The {@link #enqueued}, {@link #dropped} and {@link #maxDepth} counters can be used to
+ * know whether the consumer is falling behind the stream
+ */
+public class BinanceMessageQueue {
+
+    /**
+     * {@code OverflowPolicy} list of available policies to apply when the queue is full
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * {@code BLOCK} the websocket connection waits until the consumer frees a slot, no frame is lost
+         *
+         * @apiNote use it only when a single consumer takes all the frames of the queue, es. with
+         * {@link BinanceMessageQueue#take()}, a consumer that polls only some frames can leave the connection waiting
+         * forever
+         */
+        BLOCK,
+
+        /**
+         * {@code DROP_OLDEST} the oldest frame is removed to make room for the new one
+         */
+        DROP_OLDEST,
+
+        /**
+         * {@code DROP_NEWEST} the new frame is discarded
+         */
+        DROP_NEWEST,
+
+        /**
+         * {@code CONFLATE_BY_SYMBOL} a frame still not consumed is replaced by the new frame with the same event type
+         * and symbol, when the queue is full and there is nothing to replace the oldest frame is removed
+         *
+         * @apiNote useful for the snapshot streams like tickers or book-tickers, not for the trades or the diff. depth
+         * streams, where each frame must be consumed
+         */
+        CONFLATE_BY_SYMBOL
+
+    }
+
+    /**
+     * {@code DEFAULT_CAPACITY} is the default capacity of the queue
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * {@code DEFAULT_OVERFLOW_POLICY} is the default policy to apply when the queue is full
+     */
+    public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = DROP_OLDEST;
+
+    /**
+     * {@code frames} is the ring buffer where the frames are stored
+     */
+    private final String[] frames;
+
+    /**
+     * {@code keys} is the ring buffer where the conflation keys of the {@link #frames} are stored
+     */
+    private final String[] keys;
+
+    /**
+     * {@code mask} is the mask used to reach the slot of a sequence in the ring buffers
+     */
+    private final int mask;
+
+    /**
+     * {@code policy} is instance that memorizes the policy to apply when the queue is full
+     */
+    private final OverflowPolicy policy;
+
+    /**
+     * {@code conflationIndex} is the index of the sequence of the last frame queued for each conflation key
+     */
+    private final HashMap<String, Long> conflationIndex;
+
+    /**
+     * {@code lock} is the lock that guards the queue
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * {@code notEmpty} is the condition signalled when a frame is queued
+     */
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * {@code notFull} is the condition signalled when a frame is consumed
+     */
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * {@code head} is the sequence of the oldest frame in the queue
+     */
+    private long head;
+
+    /**
+     * {@code tail} is the sequence of the next frame to queue
+     */
+    private long tail;
+
+    /**
+     * {@code enqueued} is instance that memorizes the number of frames queued
+     */
+    private volatile long enqueued;
+
+    /**
+     * {@code dropped} is instance that memorizes the number of frames lost by the {@link #policy}
+     */
+    private volatile long dropped;
+
+    /**
+     * {@code maxDepth} is instance that memorizes the maximum number of frames reached by the queue
+     */
+    private volatile int maxDepth;
+
+    /**
+     * {@code closed} whether the queue has been closed
+     */
+    private volatile boolean closed;
+
+    /**
+     * {@code frameListener} is instance invoked each time a frame is queued
+     */
+    private volatile Runnable frameListener;
+
+    /**
+     * Constructor to init a {@link BinanceMessageQueue} with the {@link #DEFAULT_CAPACITY} and the
+     * {@link #DEFAULT_OVERFLOW_POLICY} <br>
+     * No-any params required
+     */
+    public BinanceMessageQueue() {
+        this(DEFAULT_CAPACITY, DEFAULT_OVERFLOW_POLICY);
+    }
+
+    /**
+     * Constructor to init a {@link BinanceMessageQueue}
+     *
+     * @param capacity: capacity of the queue, will be rounded up to the next power of two
+     * @param policy:   policy to apply when the queue is full
+     * @throws IllegalArgumentException when the capacity value is not positive
+     */
+    public BinanceMessageQueue(int capacity, OverflowPolicy policy) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity value must be positive");
+        if (capacity > 1 << 30)
+            capacity = 1 << 30;
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity)
+            size <<= 1;
+        frames = new String[size];
+        keys = new String[size];
+        mask = size - 1;
+        this.policy = policy;
+        if (policy == OverflowPolicy.CONFLATE_BY_SYMBOL)
+            conflationIndex = new HashMap<>();
+        else
+            conflationIndex = null;
+    }
+
+    /**
+     * Method to queue a frame applying the {@link #policy} if the queue is full
+     *
+     * @param frame: the frame to queue
+     * @return whether the frame has been queued as boolean
+     * @implNote with the {@link OverflowPolicy#BLOCK} policy the current thread waits until a slot is free, if it is
+     * interrupted or the queue is closed the frame is counted as dropped
+     */
+    public boolean offer(String frame) {
+        lock.lock();
+        try {
+            if (closed) {
+                dropped++;
+                return false;
+            }
+            String key = null;
+            if (conflationIndex != null) {
+                key = getConflationKey(frame);
+                if (key != null) {
+                    Long sequence = conflationIndex.get(key);
+                    if (sequence != null) {
+                        frames[(int) (sequence & mask)] = frame;
+                        enqueued++;
+                        dropped++;
+                        return true;
+                    }
+                }
+            }
+            while (tail - head == frames.length) {
+                switch (policy) {
+                    case BLOCK:
+                        try {
+                            notFull.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            dropped++;
+                            return false;
+                        }
+                        if (closed) {
+                            dropped++;
+                            return false;
+                        }
+                        break;
+                    case DROP_NEWEST:
+                        dropped++;
+                        return false;
+                    default:
+                        removeHead();
+                        dropped++;
+                }
+            }
+            int slot = (int) (tail & mask);
+            frames[slot] = frame;
+            keys[slot] = key;
+            if (key != null)
+                conflationIndex.put(key, tail);
+            tail++;
+            enqueued++;
+            int depth = (int) (tail - head);
+            if (depth > maxDepth)
+                maxDepth = depth;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        Runnable frameListener = this.frameListener;
+        if (frameListener != null)
+            frameListener.run();
+        return true;
+    }
+
+    /**
+     * Method to remove the oldest frame of the queue <br>
+     * No-any params required
+     *
+     * @return the oldest frame as {@link String}, {@code "null"} if the queue is empty
+     */
+    public String poll() {
+        lock.lock();
+        try {
+            if (tail == head)
+                return null;
+            String frame = removeHead();
+            notFull.signal();
+            return frame;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to remove the oldest frame of the queue that respects a condition
+     *
+     * @param condition: the condition that the frame must respect
+     * @return the oldest frame that respects the condition as {@link String}, {@code "null"} if there is not
+     * @implNote the frames that do not respect the condition are kept in the queue in the same order
+     */
+    public String poll(Predicate<String> condition) {
+        lock.lock();
+        try {
+            for (long sequence = head; sequence < tail; sequence++) {
+                String frame = frames[(int) (sequence & mask)];
+                if (condition.test(frame)) {
+                    remove(sequence);
+                    notFull.signal();
+                    return frame;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to remove the newest frame of the queue that respects a condition, the older frames that respect it are
+     * discarded
+     *
+     * @param condition: the condition that the frame must respect
+     * @return the newest frame that respects the condition as {@link String}, {@code "null"} if there is not
+     * @apiNote useful for the consumers that need only the latest state of a stream, the frames discarded are counted
+     * as dropped
+     * @implNote the frames that do not respect the condition are kept in the queue in the same order, the queue is
+     * compacted with a single pass
+     */
+    public String pollLatest(Predicate<String> condition) {
+        lock.lock();
+        try {
+            String latest = null;
+            int matches = 0;
+            long write = head;
+            for (long sequence = head; sequence < tail; sequence++) {
+                int slot = (int) (sequence & mask);
+                String frame = frames[slot];
+                String key = keys[slot];
+                if (condition.test(frame)) {
+                    latest = frame;
+                    matches++;
+                    if (key != null)
+                        conflationIndex.remove(key);
+                } else {
+                    if (write != sequence) {
+                        int target = (int) (write & mask);
+                        frames[target] = frame;
+                        keys[target] = key;
+                        if (key != null)
+                            conflationIndex.put(key, write);
+                    }
+                    write++;
+                }
+            }
+            if (latest == null)
+                return null;
+            for (long sequence = write; sequence < tail; sequence++) {
+                int slot = (int) (sequence & mask);
+                frames[slot] = null;
+                keys[slot] = null;
+            }
+            tail = write;
+            dropped += matches - 1;
+            notFull.signalAll();
+            return latest;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to remove the oldest frame of the queue, waiting until one is available <br>
+     * No-any params required
+     *
+     * @return the oldest frame as {@link String}, {@code "null"} if the queue has been closed
+     * @throws InterruptedException when the current thread is interrupted while waiting
+     */
+    public String take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (tail == head) {
+                if (closed)
+                    return null;
+                notEmpty.await();
+            }
+            String frame = removeHead();
+            notFull.signal();
+            return frame;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to remove the oldest frame of the queue, waiting until one is available or the timeout expires
+     *
+     * @param timeout: maximum time, in milliseconds, to wait
+     * @return the oldest frame as {@link String}, {@code "null"} if the timeout expired or the queue has been closed
+     * @throws InterruptedException when the current thread is interrupted while waiting
+     */
+    public String take(long timeout) throws InterruptedException {
+        long nanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+        lock.lock();
+        try {
+            while (tail == head) {
+                if (closed || nanos <= 0)
+                    return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            String frame = removeHead();
+            notFull.signal();
+            return frame;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to close the queue, the waiting threads are released and the next frames are dropped <br>
+     * No-any params required
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to remove the oldest frame, the {@link #lock} must be held <br>
+     * No-any params required
+     *
+     * @return the oldest frame as {@link String}
+     */
+    private String removeHead() {
+        int slot = (int) (head & mask);
+        String frame = frames[slot];
+        String key = keys[slot];
+        if (key != null) {
+            Long sequence = conflationIndex.get(key);
+            if (sequence != null && sequence == head)
+                conflationIndex.remove(key);
+        }
+        frames[slot] = null;
+        keys[slot] = null;
+        head++;
+        return frame;
+    }
+
+    /**
+     * Method to remove a frame from the queue shifting the following ones, the {@link #lock} must be held
+     *
+     * @param sequence: the sequence of the frame to remove
+     */
+    private void remove(long sequence) {
+        if (sequence == head) {
+            removeHead();
+            return;
+        }
+        String key = keys[(int) (sequence & mask)];
+        if (key != null)
+            conflationIndex.remove(key);
+        for (long current = sequence; current < tail - 1; current++) {
+            int slot = (int) (current & mask);
+            int next = (int) ((current + 1) & mask);
+            frames[slot] = frames[next];
+            keys[slot] = keys[next];
+            if (keys[slot] != null)
+                conflationIndex.put(keys[slot], current);
+        }
+        tail--;
+        int slot = (int) (tail & mask);
+        frames[slot] = null;
+        keys[slot] = null;
+    }
+
+    /**
+     * Method to get the conflation key of a frame
+     *
+     * @param frame: the frame from fetch the key
+     * @return the event type and the symbol of the frame as {@link String}, {@code "null"} if the frame has not a symbol
+     */
+    private static String getConflationKey(String frame) {
+        String symbol = getField(frame, "\"s\":\"");
+        if (symbol == null)
+            return null;
+        String eventType = getField(frame, "\"e\":\"");
+        if (eventType == null)
+            return symbol;
+        return eventType + ":" + symbol;
+    }
+
+    /**
+     * Method to get the value of a string field of a frame without parsing it
+     *
+     * @param frame: the frame from fetch the field
+     * @param field: the field to fetch formatted as {@code "\"key\":\""}
+     * @return the value of the field as {@link String}, {@code "null"} if not present
+     */
+    private static String getField(String frame, String field) {
+        int index = frame.indexOf(field);
+        if (index == -1)
+            return null;
+        int start = index + field.length();
+        int end = frame.indexOf('"', start);
+        if (end == -1)
+            return null;
+        return frame.substring(start, end);
+    }
+
+    /**
+     * Method to get the number of frames in the queue <br>
+     * No-any params required
+     *
+     * @return number of frames in the queue as int
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return (int) (tail - head);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to get the capacity of the queue <br>
+     * No-any params required
+     *
+     * @return capacity of the queue as int
+     */
+    public int getCapacity() {
+        return frames.length;
+    }
+
+    /**
+     * Method to get {@link #policy} instance <br>
+     * No-any params required
+     *
+     * @return {@link #policy} instance as {@link OverflowPolicy}
+     */
+    public OverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Method to get {@link #enqueued} instance <br>
+     * No-any params required
+     *
+     * @return {@link #enqueued} instance as long
+     */
+    public long getEnqueued() {
+        return enqueued;
+    }
+
+    /**
+     * Method to get {@link #dropped} instance <br>
+     * No-any params required
+     *
+     * @return {@link #dropped} instance as long
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Method to get {@link #maxDepth} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxDepth} instance as int
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Method to get {@link #closed} instance <br>
+     * No-any params required
+     *
+     * @return {@link #closed} instance as boolean
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Method to set {@link #frameListener} instance
+     *
+     * @param frameListener: instance invoked each time a frame is queued
+     */
+    public void setFrameListener(Runnable frameListener) {
+        this.frameListener = frameListener;
+    }
+
+}
@@ -0,0 +1,755 @@
+package com.tecknobit.binancemanager.managers;
+
+import com.tecknobit.apimanager.annotations.RequestPath;
+import com.tecknobit.apimanager.annotations.RequestWeight;
+import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.binancemanager.exceptions.RateLimitException;
+import com.tecknobit.binancemanager.managers.BinanceHttpTransport.Response;
+import com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation;
+import com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.RateLimit;
+
+import java.lang.StackWalker.StackFrame;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
+import static com.tecknobit.binancemanager.managers.BinanceRateLimiter.LimitPolicy.FAIL_FAST;
+import static com.tecknobit.binancemanager.managers.BinanceRateLimiter.LimitPolicy.QUEUE;
+import static java.lang.StackWalker.Option.RETAIN_CLASS_REFERENCE;
+import static java.lang.System.currentTimeMillis;
+
+/**
+ * The {@code BinanceRateLimiter} class is useful to keep the requests of the {@link BinanceManager}'s managers under
+ * the {@code "Binance"}'s rate limits
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the weight of each request is taken from the {@link RequestWeight} annotation of the manager method that
+ * sends it, and is counted in separated budgets for the {@code "IP"} and the {@code "UID"} limits. When a request
+ * would exceed one of the budgets it is queued until the window of the budget ends, or refused with a
+ * {@link RateLimitException}, as the {@link LimitPolicy} defines. The budgets are aligned with the usage counted by
+ * the server with the {@code "X-MBX-USED-WEIGHT-*"} and {@code "X-MBX-ORDER-COUNT-*"} headers, available when the
+ * concurrent transport is enabled
+ * @see BinanceManager#enableRateLimiter()
+ */
+public class BinanceRateLimiter {
+
+    /**
+     * {@code LimitPolicy} list of available policies when a request would exceed the limits
+     */
+    public enum LimitPolicy {
+
+        /**
+         * {@code QUEUE} wait until the request can be sent
+         */
+        QUEUE,
+
+        /**
+         * {@code FAIL_FAST} throw a {@link RateLimitException} without sending the request
+         */
+        FAIL_FAST
+
+    }
+
+    /**
+     * {@code DEFAULT_IP_WEIGHT_LIMIT} is the default weight limit, for minute, of the requests from the same IP
+     */
+    public static final int DEFAULT_IP_WEIGHT_LIMIT = 6000;
+
+    /**
+     * {@code DEFAULT_UID_WEIGHT_LIMIT} is the default weight limit, for minute, of the requests of the same account
+     */
+    public static final int DEFAULT_UID_WEIGHT_LIMIT = 180000;
+
+    /**
+     * {@code DEFAULT_ORDERS_LIMIT} is the default limit of orders for ten seconds
+     */
+    public static final int DEFAULT_ORDERS_LIMIT = 100;
+
+    /**
+     * {@code DEFAULT_DAILY_ORDERS_LIMIT} is the default limit of orders for day
+     */
+    public static final int DEFAULT_DAILY_ORDERS_LIMIT = 200000;
+
+    /**
+     * {@code USED_WEIGHT_HEADER} is the prefix of the headers with the weight used in a window
+     */
+    public static final String USED_WEIGHT_HEADER = "x-mbx-used-weight-";
+
+    /**
+     * {@code ORDER_COUNT_HEADER} is the prefix of the headers with the orders sent in a window
+     */
+    public static final String ORDER_COUNT_HEADER = "x-mbx-order-count-";
+
+    /**
+     * {@code DEFAULT_COST} is the cost used for the requests without a {@link RequestWeight} annotation
+     */
+    public static final RequestCost DEFAULT_COST = new RequestCost(1, 0, false);
+
+    /**
+     * {@code ORDER_PATHS} are the paths that place orders counted by the {@code "ORDERS"} limits, the
+     * {@code "/api/v3/orderList/*"} paths are counted too
+     */
+    private static final Set<String> ORDER_PATHS = Set.of("/api/v3/order", "/api/v3/order/oco",
+            "/api/v3/order/cancelReplace");
+
+    /**
+     * {@code WEIGHT_PATTERN} is the pattern used to read the values of the {@link RequestWeight} annotations
+     */
+    private static final Pattern WEIGHT_PATTERN = Pattern.compile("([\\d\\s/]+)(\\(([A-Z/]+)\\))?");
+
+    /**
+     * {@code WINDOW_PATTERN} is the pattern used to read the window of the rate limit headers
+     */
+    private static final Pattern WINDOW_PATTERN = Pattern.compile("(\\d+)([smhd])");
+
+    /**
+     * {@code costs} is the cache of the costs of the manager methods already sent
+     */
+    private static final ConcurrentHashMap<String, RequestCost> costs = new ConcurrentHashMap<>();
+
+    /**
+     * {@code stackWalker} is the walker used to find the manager method that is sending a request
+     */
+    private static final StackWalker stackWalker = StackWalker.getInstance(RETAIN_CLASS_REFERENCE);
+
+    /**
+     * {@code ipWeightBuckets} are the weight budgets of the {@code "IP"} limits, mapped by window
+     */
+    private final Map<String, Bucket> ipWeightBuckets;
+
+    /**
+     * {@code uidWeightBuckets} are the weight budgets of the {@code "UID"} limits, mapped by window
+     */
+    private final Map<String, Bucket> uidWeightBuckets;
+
+    /**
+     * {@code orderBuckets} are the budgets of the orders limits, mapped by window
+     */
+    private final Map<String, Bucket> orderBuckets;
+
+    /**
+     * {@code policy} is instance that memorizes the policy to use when a request would exceed the limits
+     */
+    private volatile LimitPolicy policy;
+
+    /**
+     * {@code blockedUntil} is instance that memorizes until when the requests are blocked by the server
+     */
+    private volatile long blockedUntil;
+
+    /**
+     * Constructor to init a {@link BinanceRateLimiter} with the {@link LimitPolicy#QUEUE} policy <br>
+     * No-any params required
+     */
+    public BinanceRateLimiter() {
+        this(QUEUE);
+    }
+
+    /**
+     * Constructor to init a {@link BinanceRateLimiter}
+     *
+     * @param policy: policy to use when a request would exceed the limits
+     */
+    public BinanceRateLimiter(LimitPolicy policy) {
+        this.policy = policy;
+        ipWeightBuckets = new HashMap<>();
+        uidWeightBuckets = new HashMap<>();
+        orderBuckets = new HashMap<>();
+        ipWeightBuckets.put("1m", new Bucket(DEFAULT_IP_WEIGHT_LIMIT, 60000));
+        uidWeightBuckets.put("1m", new Bucket(DEFAULT_UID_WEIGHT_LIMIT, 60000));
+        orderBuckets.put("10s", new Bucket(DEFAULT_ORDERS_LIMIT, 10000));
+        orderBuckets.put("1d", new Bucket(DEFAULT_DAILY_ORDERS_LIMIT, 86400000));
+    }
+
+    /**
+     * Method to load the limits published in the exchange information
+     *
+     * @param exchangeInformation: the exchange information with the rate limits to respect
+     */
+    public void loadRateLimits(ExchangeInformation exchangeInformation) {
+        loadRateLimits(exchangeInformation.getRateLimits());
+    }
+
+    /**
+     * Method to load the limits published in the exchange information
+     *
+     * @param rateLimits: the rate limits to respect
+     * @apiNote the {@code "REQUEST_WEIGHT"} limits replace the {@code "IP"} weight budgets and the {@code "ORDERS"}
+     * limits replace the orders budgets, the {@code "UID"} budget is not published and keeps its value
+     */
+    public synchronized void loadRateLimits(List<RateLimit> rateLimits) {
+        Map<String, Bucket> ipBuckets = new HashMap<>();
+        Map<String, Bucket> ordersBuckets = new HashMap<>();
+        for (RateLimit rateLimit : rateLimits) {
+            String window = rateLimit.getIntervalNum() + rateLimit.getInterval().name().substring(0, 1).toLowerCase();
+            Bucket bucket = new Bucket(rateLimit.getLimit(), getWindowMillis(window));
+            switch (rateLimit.getRateLimitType()) {
+                case REQUEST_WEIGHT:
+                    ipBuckets.put(window, bucket);
+                    break;
+                case ORDERS:
+                    ordersBuckets.put(window, bucket);
+                    break;
+            }
+        }
+        if (!ipBuckets.isEmpty()) {
+            ipWeightBuckets.clear();
+            ipWeightBuckets.putAll(ipBuckets);
+        }
+        if (!ordersBuckets.isEmpty()) {
+            orderBuckets.clear();
+            orderBuckets.putAll(ordersBuckets);
+        }
+    }
+
+    /**
+     * Method to set the weight limit of the {@code "UID"} budget
+     *
+     * @param limit:        limit of the weight in the window
+     * @param windowMillis: duration of the window in milliseconds
+     */
+    public synchronized void setUidWeightLimit(int limit, long windowMillis) {
+        uidWeightBuckets.clear();
+        uidWeightBuckets.put(windowMillis + "ms", new Bucket(limit, windowMillis));
+    }
+
+    /**
+     * Method to acquire the budget to send the request of the manager method that is invoking this method <br>
+     * No-any params required
+     *
+     * @throws RateLimitException when the policy is {@link LimitPolicy#FAIL_FAST} and the request would exceed the
+     *                            limits, or when the thread is interrupted while waiting
+     */
+    @Wrapper
+    public void acquire() throws RateLimitException {
+        acquire(false);
+    }
+
+    /**
+     * Method to acquire the budget to send the request of the manager method that is invoking this method
+     *
+     * @param weightHeaders: whether the response will have the {@link #USED_WEIGHT_HEADER} headers, so the requests
+     *                       with a weight that depends on their params can be charged with the lowest weight
+     * @throws RateLimitException when the policy is {@link LimitPolicy#FAIL_FAST} and the request would exceed the
+     *                            limits, or when the thread is interrupted while waiting
+     * @implNote when the headers are not available the highest weight is charged, so the budget is never
+     * underestimated
+     */
+    public void acquire(boolean weightHeaders) throws RateLimitException {
+        RequestCost cost = getRequestCost();
+        acquire(weightHeaders ? cost.getLowestTierCost() : cost);
+    }
+
+    /**
+     * Method to acquire the budget to send a request
+     *
+     * @param cost: the cost of the request
+     * @throws RateLimitException when the policy is {@link LimitPolicy#FAIL_FAST} and the request would exceed the
+     *                            limits, or when the thread is interrupted while waiting
+     */
+    public void acquire(RequestCost cost) throws RateLimitException {
+        while (true) {
+            long waitTime;
+            synchronized (this) {
+                long now = currentTimeMillis();
+                waitTime = blockedUntil - now;
+                if (waitTime <= 0) {
+                    waitTime = Math.max(getWaitTime(ipWeightBuckets, cost.ipWeight, now),
+                            getWaitTime(uidWeightBuckets, cost.uidWeight, now));
+                    if (cost.order)
+                        waitTime = Math.max(waitTime, getWaitTime(orderBuckets, 1, now));
+                    if (waitTime <= 0) {
+                        consume(ipWeightBuckets, cost.ipWeight, now);
+                        consume(uidWeightBuckets, cost.uidWeight, now);
+                        if (cost.order)
+                            consume(orderBuckets, 1, now);
+                        return;
+                    }
+                }
+            }
+            if (policy == FAIL_FAST)
+                throw new RateLimitException(waitTime);
+            try {
+                Thread.sleep(waitTime);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RateLimitException(waitTime);
+            }
+        }
+    }
+
+    /**
+     * Method to update the budgets with the details of a response
+     *
+     * @param statusCode: status code of the response
+     * @param response:   the response with the headers of the server, {@code "null"} if not available
+     * @apiNote when the server responds with a {@code "429"} or {@code "418"} status code all the requests are
+     * blocked for the time of the {@code "Retry-After"} header or, if not available, until the end of the minute
+     */
+    public synchronized void update(int statusCode, Response response) {
+        long now = currentTimeMillis();
+        if (response != null) {
+            response.getHeaders().map().forEach((header, values) -> {
+                String name = header.toLowerCase();
+                if (!values.isEmpty()) {
+                    if (name.startsWith(USED_WEIGHT_HEADER))
+                        sync(ipWeightBuckets, name.substring(USED_WEIGHT_HEADER.length()), values.get(0), now);
+                    else if (name.startsWith(ORDER_COUNT_HEADER))
+                        sync(orderBuckets, name.substring(ORDER_COUNT_HEADER.length()), values.get(0), now);
+                }
+            });
+        }
+        if (statusCode == 429 || statusCode == 418) {
+            long retryAfter = -1;
+            if (response != null) {
+                try {
+                    retryAfter = Long.parseLong(response.getHeader("Retry-After")) * 1000;
+                } catch (NumberFormatException ignored) {
+                }
+            }
+            if (retryAfter < 0)
+                retryAfter = 60000 - now % 60000;
+            blockedUntil = Math.max(blockedUntil, now + retryAfter);
+        }
+    }
+
+    /**
+     * Method to get the time to wait before a budget can be consumed
+     *
+     * @param buckets: the buckets of the budget
+     * @param weight:  weight to consume
+     * @param now:     current timestamp
+     * @return time to wait in milliseconds as long, zero or negative if the budget can be consumed immediately
+     */
+    private long getWaitTime(Map<String, Bucket> buckets, int weight, long now) {
+        long waitTime = 0;
+        if (weight > 0)
+            for (Bucket bucket : buckets.values())
+                waitTime = Math.max(waitTime, bucket.getWaitTime(weight, now));
+        return waitTime;
+    }
+
+    /**
+     * Method to consume a budget
+     *
+     * @param buckets: the buckets of the budget
+     * @param weight:  weight to consume
+     * @param now:     current timestamp
+     */
+    private void consume(Map<String, Bucket> buckets, int weight, long now) {
+        if (weight > 0)
+            for (Bucket bucket : buckets.values())
+                bucket.consume(weight, now);
+    }
+
+    /**
+     * Method to align a budget with the usage counted by the server
+     *
+     * @param buckets: the buckets of the budget
+     * @param window:  the window of the header es. 1m
+     * @param value:   the value of the header
+     * @param now:     current timestamp
+     */
+    private void sync(Map<String, Bucket> buckets, String window, String value, long now) {
+        try {
+            int used = Integer.parseInt(value.trim());
+            Bucket bucket = buckets.get(window);
+            if (bucket == null) {
+                long windowMillis = getWindowMillis(window);
+                if (windowMillis <= 0)
+                    return;
+                bucket = new Bucket(Integer.MAX_VALUE, windowMillis);
+                buckets.put(window, bucket);
+            }
+            bucket.sync(used, now);
+        } catch (NumberFormatException ignored) {
+        }
+    }
+
+    /**
+     * Method to get the duration of a window
+     *
+     * @param window: the window to get the duration es. 1m
+     * @return duration of the window in milliseconds as long, -1 if the window is not valid
+     */
+    private static long getWindowMillis(String window) {
+        Matcher matcher = WINDOW_PATTERN.matcher(window.toLowerCase());
+        if (!matcher.matches())
+            return -1;
+        long value = Long.parseLong(matcher.group(1));
+        switch (matcher.group(2)) {
+            case "s":
+                return value * 1000;
+            case "m":
+                return value * 60000;
+            case "h":
+                return value * 3600000;
+            default:
+                return value * 86400000;
+        }
+    }
+
+    /**
+     * Method to get the cost of the request sent by the manager method that is invoking this method <br>
+     * No-any params required
+     *
+     * @return the cost of the request as {@link RequestCost}, {@link #DEFAULT_COST} if the manager method has not a
+     * {@link RequestWeight} annotation
+     */
+    public static RequestCost getRequestCost() {
+        Optional<StackFrame> frame = stackWalker.walk(frames -> frames
+                .filter(stackFrame -> BinanceManager.class.isAssignableFrom(stackFrame.getDeclaringClass()))
+                .filter(stackFrame -> getMethodCost(stackFrame) != DEFAULT_COST)
+                .findFirst());
+        return frame.map(BinanceRateLimiter::getMethodCost).orElse(DEFAULT_COST);
+    }
+
+    /**
+     * Method to get the cost of a manager method
+     *
+     * @param frame: the frame of the manager method
+     * @return the cost of the manager method as {@link RequestCost}
+     */
+    private static RequestCost getMethodCost(StackFrame frame) {
+        String key = frame.getDeclaringClass().getName() + "#" + frame.getMethodName() + frame.getDescriptor();
+        return costs.computeIfAbsent(key, k -> {
+            try {
+                Method method = frame.getDeclaringClass().getDeclaredMethod(frame.getMethodName(),
+                        frame.getMethodType().parameterArray());
+                RequestWeight requestWeight = method.getAnnotation(RequestWeight.class);
+                if (requestWeight == null)
+                    return DEFAULT_COST;
+                RequestPath requestPath = method.getAnnotation(RequestPath.class);
+                boolean order = requestPath != null && requestPath.method() == POST
+                        && isOrderPath(requestPath.path());
+                return parseWeight(requestWeight.weight(), order);
+            } catch (Exception e) {
+                return DEFAULT_COST;
+            }
+        });
+    }
+
+    /**
+     * Method to get whether a path places orders counted by the {@code "ORDERS"} limits
+     *
+     * @param path: the path of the request es. /api/v3/order
+     * @return whether the path places orders counted by the {@code "ORDERS"} limits as boolean
+     * @implNote the test endpoints, es. /api/v3/order/test, are not counted by the server
+     */
+    private static boolean isOrderPath(String path) {
+        if (path.endsWith("/test"))
+            return false;
+        return ORDER_PATHS.contains(path) || path.startsWith("/api/v3/orderList/");
+    }
+
+    /**
+     * Method to parse the value of a {@link RequestWeight} annotation
+     *
+     * @param weight: the value to parse es. 1(IP), 3000(UID), 1/5/10/50(IP), 1(IP) / 2(UID)
+     * @param order:  whether the request is an order
+     * @return the cost as {@link RequestCost}
+     * @implNote when more weights are listed, because the weight depends on the params of the request, the cost has
+     * the highest one and its {@link RequestCost#getLowestTierCost()} has the lowest one, to charge only when the
+     * budget is aligned with the weight counted by the server with the {@link #USED_WEIGHT_HEADER} headers
+     */
+    public static RequestCost parseWeight(String weight, boolean order) {
+        int ipWeight = 0;
+        int uidWeight = 0;
+        int lowestIpWeight = 0;
+        int lowestUidWeight = 0;
+        Matcher matcher = WEIGHT_PATTERN.matcher(weight);
+        while (matcher.find()) {
+            int highest = 0;
+            int lowest = 0;
+            for (String number : matcher.group(1).split("/")) {
+                number = number.trim();
+                if (!number.isEmpty()) {
+                    int tier = Integer.parseInt(number);
+                    highest = Math.max(highest, tier);
+                    lowest = lowest == 0 ? tier : Math.min(lowest, tier);
+                }
+            }
+            String type = matcher.group(3);
+            if (type == null || type.contains("IP")) {
+                ipWeight = Math.max(ipWeight, highest);
+                lowestIpWeight = Math.max(lowestIpWeight, lowest);
+            }
+            if (type != null && type.contains("UID")) {
+                uidWeight = Math.max(uidWeight, highest);
+                lowestUidWeight = Math.max(lowestUidWeight, lowest);
+            }
+        }
+        if (ipWeight == 0 && uidWeight == 0) {
+            ipWeight = 1;
+            lowestIpWeight = 1;
+        }
+        return new RequestCost(ipWeight, uidWeight, lowestIpWeight, lowestUidWeight, order);
+    }
+
+    /**
+     * Method to get {@link #policy} instance <br>
+     * No-any params required
+     *
+     * @return {@link #policy} instance as {@link LimitPolicy}
+     */
+    public LimitPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Method to set {@link #policy} instance
+     *
+     * @param policy: policy to use when a request would exceed the limits
+     */
+    public void setPolicy(LimitPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Method to get the weight used in the current window of an {@code "IP"} limit
+     *
+     * @param window: the window of the limit es. 1m
+     * @return weight used as int, -1 if the limit does not exist
+     */
+    public synchronized int getUsedIpWeight(String window) {
+        Bucket bucket = ipWeightBuckets.get(window.toLowerCase());
+        if (bucket == null)
+            return -1;
+        return bucket.getUsed(currentTimeMillis());
+    }
+
+    /**
+     * Method to get the orders sent in the current window of an orders limit
+     *
+     * @param window: the window of the limit es. 10s
+     * @return orders sent as int, -1 if the limit does not exist
+     */
+    public synchronized int getOrderCount(String window) {
+        Bucket bucket = orderBuckets.get(window.toLowerCase());
+        if (bucket == null)
+            return -1;
+        return bucket.getUsed(currentTimeMillis());
+    }
+
+    /**
+     * Method to get {@link #blockedUntil} instance <br>
+     * No-any params required
+     *
+     * @return {@link #blockedUntil} instance as long
+     */
+    public long getBlockedUntil() {
+        return blockedUntil;
+    }
+
+    /**
+     * The {@code RequestCost} class is useful to contain the cost of a request
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    public static class RequestCost {
+
+        /**
+         * {@code ipWeight} is instance that memorizes the weight of the request for the {@code "IP"} limits
+         */
+        private final int ipWeight;
+
+        /**
+         * {@code uidWeight} is instance that memorizes the weight of the request for the {@code "UID"} limits
+         */
+        private final int uidWeight;
+
+        /**
+         * {@code order} is instance that memorizes whether the request is an order
+         */
+        private final boolean order;
+
+        /**
+         * {@code lowestTierCost} is instance that memorizes the cost of the request with the lowest weights, when its
+         * weight depends on its params
+         */
+        private final RequestCost lowestTierCost;
+
+        /**
+         * Constructor to init a {@link RequestCost}
+         *
+         * @param ipWeight:  weight of the request for the {@code "IP"} limits
+         * @param uidWeight: weight of the request for the {@code "UID"} limits
+         * @param order:     whether the request is an order
+         */
+        public RequestCost(int ipWeight, int uidWeight, boolean order) {
+            this(ipWeight, uidWeight, ipWeight, uidWeight, order);
+        }
+
+        /**
+         * Constructor to init a {@link RequestCost}
+         *
+         * @param ipWeight:        highest weight of the request for the {@code "IP"} limits
+         * @param uidWeight:       highest weight of the request for the {@code "UID"} limits
+         * @param lowestIpWeight:  lowest weight of the request for the {@code "IP"} limits
+         * @param lowestUidWeight: lowest weight of the request for the {@code "UID"} limits
+         * @param order:           whether the request is an order
+         */
+        public RequestCost(int ipWeight, int uidWeight, int lowestIpWeight, int lowestUidWeight, boolean order) {
+            this.ipWeight = ipWeight;
+            this.uidWeight = uidWeight;
+            this.order = order;
+            if (lowestIpWeight == ipWeight && lowestUidWeight == uidWeight)
+                lowestTierCost = this;
+            else
+                lowestTierCost = new RequestCost(lowestIpWeight, lowestUidWeight, order);
+        }
+
+        /**
+         * Method to get {@link #ipWeight} instance <br>
+         * No-any params required
+         *
+         * @return {@link #ipWeight} instance as int
+         */
+        public int getIpWeight() {
+            return ipWeight;
+        }
+
+        /**
+         * Method to get {@link #uidWeight} instance <br>
+         * No-any params required
+         *
+         * @return {@link #uidWeight} instance as int
+         */
+        public int getUidWeight() {
+            return uidWeight;
+        }
+
+        /**
+         * Method to get {@link #order} instance <br>
+         * No-any params required
+         *
+         * @return {@link #order} instance as boolean
+         */
+        public boolean isOrder() {
+            return order;
+        }
+
+        /**
+         * Method to get {@link #lowestTierCost} instance <br>
+         * No-any params required
+         *
+         * @return {@link #lowestTierCost} instance as {@link RequestCost}, this cost if the weight of the request
+         * does not depend on its params
+         */
+        public RequestCost getLowestTierCost() {
+            return lowestTierCost;
+        }
+
+    }
+
+    /**
+     * The {@code Bucket} class is useful to count the usage of a limit in its window
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @implNote the windows are aligned to the clock as the server does
+     */
+    private static class Bucket {
+
+        /**
+         * {@code limit} is instance that memorizes the limit of the window
+         */
+        private final int limit;
+
+        /**
+         * {@code windowMillis} is instance that memorizes the duration of the window
+         */
+        private final long windowMillis;
+
+        /**
+         * {@code windowStart} is instance that memorizes when the current window started
+         */
+        private long windowStart;
+
+        /**
+         * {@code used} is instance that memorizes the usage in the current window
+         */
+        private int used;
+
+        /**
+         * Constructor to init a {@link Bucket}
+         *
+         * @param limit:        limit of the window
+         * @param windowMillis: duration of the window
+         */
+        private Bucket(int limit, long windowMillis) {
+            this.limit = limit;
+            this.windowMillis = windowMillis;
+        }
+
+        /**
+         * Method to move the bucket to the window of a timestamp
+         *
+         * @param now: current timestamp
+         */
+        private void roll(long now) {
+            long currentWindow = now - now % windowMillis;
+            if (currentWindow != windowStart) {
+                windowStart = currentWindow;
+                used = 0;
+            }
+        }
+
+        /**
+         * Method to get the time to wait before the bucket can be consumed
+         *
+         * @param weight: weight to consume
+         * @param now:    current timestamp
+         * @return time to wait in milliseconds as long, zero if the bucket can be consumed immediately
+         */
+        private long getWaitTime(int weight, long now) {
+            roll(now);
+            if (used + Math.min(weight, limit) <= limit)
+                return 0;
+            return windowStart + windowMillis - now;
+        }
+
+        /**
+         * Method to consume the bucket
+         *
+         * @param weight: weight to consume
+         * @param now:    current timestamp
+         */
+        private void consume(int weight, long now) {
+            roll(now);
+            used += Math.min(weight, limit);
+        }
+
+        /**
+         * Method to align the bucket with the usage counted by the server
+         *
+         * @param used: usage counted by the server
+         * @param now:  current timestamp
+         * @implNote the usage counted by the server can be older than the requests acquired meanwhile, so it can
+         * only raise the local usage
+         */
+        private void sync(int used, long now) {
+            roll(now);
+            this.used = Math.max(this.used, used);
+        }
+
+        /**
+         * Method to get the usage of the current window
+         *
+         * @param now: current timestamp
+         * @return usage of the current window as int
+         */
+        private int getUsed(long now) {
+            roll(now);
+            return used;
+        }
+
+    }
+
+}
@@ -0,0 +1,307 @@
+package com.tecknobit.binancemanager.managers;
+
+import com.tecknobit.apimanager.apis.APIRequest;
+import org.json.JSONObject;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+import static com.tecknobit.binancemanager.managers.market.BinanceMarketManager.TIMESTAMP_ENDPOINT;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The {@code BinanceServerClock} class is useful to keep aligned the local clock with the {@code "Binance"}'s server
+ * clock without sending a {@code "/api/v3/time"} request before each signed request
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the offset is measured with an {@code "NTP"} style sampling: for each synchronization are sent
+ * {@link #samples} requests and is kept the one with the lowest round trip time, assuming the server timestamp has
+ * been taken in the middle of that exchange
+ * @see BinanceManager
+ */
+public class BinanceServerClock {
+
+    /**
+     * {@code DEFAULT_SYNC_PERIOD} is the default period, in milliseconds, between two synchronizations
+     */
+    public static final long DEFAULT_SYNC_PERIOD = 60000;
+
+    /**
+     * {@code DEFAULT_SAMPLES} is the default number of samples to take for each synchronization
+     */
+    public static final int DEFAULT_SAMPLES = 5;
+
+    /**
+     * {@code TIMESTAMP_ERROR_CODE} is the error code returned by {@code "Binance"} when the timestamp of a request
+     * is outside of the {@code "recvWindow"}
+     */
+    public static final int TIMESTAMP_ERROR_CODE = -1021;
+
+    /**
+     * {@code clocks} is the map of the clocks shared by the managers that work on the same base endpoint
+     */
+    private static final ConcurrentHashMap<String, BinanceServerClock> clocks = new ConcurrentHashMap<>();
+
+    /**
+     * {@code scheduler} is the shared scheduler used to synchronize all the clocks in background
+     */
+    private static ScheduledExecutorService scheduler;
+
+    /**
+     * {@code baseEndpoint} is instance that memorizes the endpoint where the clock is synchronized
+     */
+    private final String baseEndpoint;
+
+    /**
+     * {@code apiRequest} is instance used to send the synchronization requests, it is not shared with the managers
+     * to be usable from the background thread
+     */
+    private final APIRequest apiRequest;
+
+    /**
+     * {@code offset} is instance that memorizes the offset, in milliseconds, between the server and the local clock
+     */
+    private volatile long offset;
+
+    /**
+     * {@code roundTripTime} is instance that memorizes the round trip time, in milliseconds, of the best sample of
+     * the last synchronization
+     */
+    private volatile long roundTripTime = -1;
+
+    /**
+     * {@code lastSync} is instance that memorizes when the last synchronization has been done
+     */
+    private volatile long lastSync = -1;
+
+    /**
+     * {@code syncPeriod} is instance that memorizes the period, in milliseconds, between two synchronizations
+     */
+    private volatile long syncPeriod = DEFAULT_SYNC_PERIOD;
+
+    /**
+     * {@code samples} is instance that memorizes the number of samples to take for each synchronization
+     */
+    private volatile int samples = DEFAULT_SAMPLES;
+
+    /**
+     * {@code syncTask} is the scheduled task that synchronizes the clock in background
+     */
+    private ScheduledFuture<?> syncTask;
+
+    /**
+     * Constructor to init a {@link BinanceServerClock}
+     *
+     * @param baseEndpoint: endpoint where synchronize the clock
+     */
+    private BinanceServerClock(String baseEndpoint) {
+        this.baseEndpoint = baseEndpoint;
+        apiRequest = new APIRequest();
+    }
+
+    /**
+     * Method to get the clock of a base endpoint
+     *
+     * @param baseEndpoint: endpoint where synchronize the clock
+     * @return the clock shared by the managers that work on the base endpoint as {@link BinanceServerClock}
+     */
+    public static BinanceServerClock getInstance(String baseEndpoint) {
+        return clocks.computeIfAbsent(baseEndpoint, BinanceServerClock::new);
+    }
+
+    /**
+     * Method to get the current server time estimated by the local clock and the measured {@link #offset} <br>
+     * No-any params required
+     *
+     * @return current server time as long
+     * @implNote the first invocation synchronizes the clock and starts the background synchronization
+     */
+    public long currentTimeMillis() {
+        if (lastSync == -1) {
+            synchronized (this) {
+                if (lastSync == -1) {
+                    sync();
+                    start();
+                }
+            }
+        }
+        return System.currentTimeMillis() + offset;
+    }
+
+    /**
+     * Method to synchronize the clock with the server <br>
+     * No-any params required
+     *
+     * @return whether at least one sample has been taken as boolean
+     */
+    public synchronized boolean sync() {
+        long bestRoundTrip = Long.MAX_VALUE;
+        long bestOffset = offset;
+        for (int j = 0; j < samples; j++) {
+            try {
+                long localTime = System.currentTimeMillis();
+                long start = System.nanoTime();
+                apiRequest.sendAPIRequest(baseEndpoint + TIMESTAMP_ENDPOINT, GET);
+                long roundTrip = (System.nanoTime() - start) / 1000000;
+                long serverTime = new JSONObject(apiRequest.getResponse()).getLong("serverTime");
+                if (roundTrip < bestRoundTrip) {
+                    bestRoundTrip = roundTrip;
+                    bestOffset = serverTime - (localTime + roundTrip / 2);
+                }
+            } catch (Exception ignored) {
+            }
+        }
+        if (bestRoundTrip == Long.MAX_VALUE) {
+            if (lastSync == -1)
+                lastSync = 0;
+            return false;
+        }
+        offset = bestOffset;
+        roundTripTime = bestRoundTrip;
+        lastSync = System.currentTimeMillis();
+        return true;
+    }
+
+    /**
+     * Method to force a new synchronization of the clock, useful when {@code "Binance"} responds with the
+     * {@link #TIMESTAMP_ERROR_CODE} error <br>
+     * No-any params required
+     *
+     * @return whether at least one sample has been taken as boolean
+     */
+    public boolean resync() {
+        boolean synced = sync();
+        if (syncTask != null)
+            start();
+        return synced;
+    }
+
+    /**
+     * Method to start the background synchronization with the {@link #syncPeriod} cadence <br>
+     * No-any params required
+     */
+    public synchronized void start() {
+        stop();
+        syncTask = getScheduler().scheduleWithFixedDelay(this::sync, syncPeriod, syncPeriod, MILLISECONDS);
+    }
+
+    /**
+     * Method to stop the background synchronization <br>
+     * No-any params required
+     */
+    public synchronized void stop() {
+        if (syncTask != null) {
+            syncTask.cancel(false);
+            syncTask = null;
+        }
+    }
+
+    /**
+     * Method to get the shared scheduler, creating it if not exists yet <br>
+     * No-any params required
+     *
+     * @return the shared scheduler as {@link ScheduledExecutorService}
+     */
+    private static synchronized ScheduledExecutorService getScheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "binance-server-clock");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return scheduler;
+    }
+
+    /**
+     * Method to get {@link #baseEndpoint} instance <br>
+     * No-any params required
+     *
+     * @return {@link #baseEndpoint} instance as {@link String}
+     */
+    public String getBaseEndpoint() {
+        return baseEndpoint;
+    }
+
+    /**
+     * Method to get {@link #offset} instance <br>
+     * No-any params required
+     *
+     * @return {@link #offset} instance as long
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Method to get {@link #roundTripTime} instance <br>
+     * No-any params required
+     *
+     * @return {@link #roundTripTime} instance as long
+     * @implNote if the clock has never been synchronized will be returned -1
+     */
+    public long getRoundTripTime() {
+        return roundTripTime;
+    }
+
+    /**
+     * Method to get {@link #lastSync} instance <br>
+     * No-any params required
+     *
+     * @return {@link #lastSync} instance as long
+     * @implNote if the clock has never been synchronized will be returned -1
+     */
+    public long getLastSync() {
+        return lastSync;
+    }
+
+    /**
+     * Method to get {@link #syncPeriod} instance <br>
+     * No-any params required
+     *
+     * @return {@link #syncPeriod} instance as long
+     */
+    public long getSyncPeriod() {
+        return syncPeriod;
+    }
+
+    /**
+     * Method to set {@link #syncPeriod} instance
+     *
+     * @param syncPeriod: period, in milliseconds, between two synchronizations
+     * @throws IllegalArgumentException when the period value is not positive
+     */
+    public synchronized void setSyncPeriod(long syncPeriod) {
+        if (syncPeriod <= 0)
+            throw new IllegalArgumentException("Sync period value must be positive");
+        this.syncPeriod = syncPeriod;
+        if (syncTask != null)
+            start();
+    }
+
+    /**
+     * Method to get {@link #samples} instance <br>
+     * No-any params required
+     *
+     * @return {@link #samples} instance as int
+     */
+    public int getSamples() {
+        return samples;
+    }
+
+    /**
+     * Method to set {@link #samples} instance
+     *
+     * @param samples: number of samples to take for each synchronization
+     * @throws IllegalArgumentException when the samples value is not positive
+     */
+    public void setSamples(int samples) {
+        if (samples <= 0)
+            throw new IllegalArgumentException("Samples value must be positive");
+        this.samples = samples;
+    }
+
+}
@@ -0,0 +1,355 @@
+package com.tecknobit.binancemanager.managers;
+
+import com.tecknobit.binancemanager.managers.BinanceHttpTransport.Response;
+import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.handshake.ServerHandshake;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.tecknobit.binancemanager.managers.BinanceRateLimiter.ORDER_COUNT_HEADER;
+import static com.tecknobit.binancemanager.managers.BinanceRateLimiter.USED_WEIGHT_HEADER;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The {@code BinanceWebsocketApiTransport} class is useful to send the requests to the {@code "Binance"}'s WebSocket
+ * API over a single persistent connection
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the requests are multiplexed on the connection: each request has its own identifier and its response is
+ * correlated by that identifier, so more threads can send their requests at the same time without waiting the
+ * responses of the others. The connection is opened with the first request and reopened by the first request after
+ * it has been closed. The {@link Response}s returned have as body the {@code "result"} of the successful responses
+ * or the {@code "error"} of the unsuccessful ones, and as headers the usage of the rate limits, in the same format of
+ * the REST API, so they can be passed to the {@link BinanceRateLimiter}
+ * @see <a href="https://binance-docs.github.io/apidocs/websocket_api/en/#general-api-information">
+ * General API Information</a>
+ * @see BinanceHttpTransport
+ */
+public class BinanceWebsocketApiTransport {
+
+    /**
+     * {@code WEBSOCKET_API_ENDPOINT} is the endpoint of the {@code "Binance"}'s WebSocket API
+     */
+    public static final String WEBSOCKET_API_ENDPOINT = "wss://ws-api.binance.com:443/ws-api/v3";
+
+    /**
+     * {@code TESTNET_WEBSOCKET_API_ENDPOINT} is the endpoint of the {@code "Binance"}'s testnet WebSocket API
+     */
+    public static final String TESTNET_WEBSOCKET_API_ENDPOINT = "wss://testnet.binance.vision/ws-api/v3";
+
+    /**
+     * {@code DEFAULT_TIMEOUT} is the default timeout, in milliseconds, of the connection and of the requests
+     */
+    public static final int DEFAULT_TIMEOUT = 10000;
+
+    /**
+     * {@code endpoint} is instance that memorizes the endpoint of the connection
+     */
+    private final URI endpoint;
+
+    /**
+     * {@code timeout} is instance that memorizes the timeout, in milliseconds, of the connection and of the requests
+     */
+    private final int timeout;
+
+    /**
+     * {@code requestIds} is the generator of the identifiers of the requests
+     */
+    private final AtomicLong requestIds = new AtomicLong();
+
+    /**
+     * {@code pendingRequests} is instance that memorizes the requests waiting their response, mapped by identifier
+     */
+    private final ConcurrentHashMap<String, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+
+    /**
+     * {@code client} is the client of the connection, {@code "null"} if not opened
+     */
+    private volatile WebSocketClient client;
+
+    /**
+     * Constructor to init a {@link BinanceWebsocketApiTransport} with the {@link #WEBSOCKET_API_ENDPOINT} and the
+     * {@link #DEFAULT_TIMEOUT} <br>
+     * No-any params required
+     */
+    public BinanceWebsocketApiTransport() {
+        this(WEBSOCKET_API_ENDPOINT, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Constructor to init a {@link BinanceWebsocketApiTransport}
+     *
+     * @param endpoint: endpoint of the connection, es. {@link #TESTNET_WEBSOCKET_API_ENDPOINT}
+     * @param timeout:  timeout, in milliseconds, of the connection and of the requests
+     * @throws IllegalArgumentException when the timeout is not positive or the endpoint is not valid
+     */
+    public BinanceWebsocketApiTransport(String endpoint, int timeout) {
+        if (timeout <= 0)
+            throw new IllegalArgumentException("Timeout must be positive");
+        this.endpoint = URI.create(endpoint);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Method to send a request
+     *
+     * @param method: method of the request, es. {@code "order.place"}
+     * @param params: params of the request, {@code "null"} if not required
+     * @return the response of the request as {@link Response}
+     * @throws IOException when the connection cannot be opened, the response is not received in time or the thread
+     *                     is interrupted while waiting the response
+     */
+    public Response send(String method, JSONObject params) throws IOException {
+        WebSocketClient client = connect();
+        String id = String.valueOf(requestIds.incrementAndGet());
+        JSONObject request = new JSONObject();
+        request.put("id", id);
+        request.put("method", method);
+        if (params != null)
+            request.put("params", params);
+        CompletableFuture<Response> response = new CompletableFuture<>();
+        pendingRequests.put(id, new PendingRequest(client, response));
+        try {
+            client.send(request.toString());
+            return response.get(timeout, MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IOException("Response of the " + method + " request not received in " + timeout + " ms");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (Exception e) {
+            throw new IOException(e);
+        } finally {
+            pendingRequests.remove(id);
+        }
+    }
+
+    /**
+     * Method to open the connection, if not already opened <br>
+     * No-any params required
+     *
+     * @return the client of the connection as {@link WebSocketClient}
+     * @throws IOException when the connection cannot be opened
+     */
+    public WebSocketClient connect() throws IOException {
+        WebSocketClient client = this.client;
+        if (client != null && client.isOpen())
+            return client;
+        synchronized (this) {
+            client = this.client;
+            if (client != null && client.isOpen())
+                return client;
+            client = new WebSocketClient(endpoint) {
+
+                /**
+                 * Called after an opening handshake has been performed and the given websocket is ready to be
+                 * written on.
+                 *
+                 * @param handshakeData The handshake of the websocket instance
+                 */
+                @Override
+                public void onOpen(ServerHandshake handshakeData) {
+                }
+
+                /**
+                 * Callback for string messages received from the remote host
+                 *
+                 * @param message The UTF-8 decoded message that was received.
+                 */
+                @Override
+                public void onMessage(String message) {
+                    dispatchResponse(message);
+                }
+
+                /**
+                 * Called after the websocket connection has been closed.
+                 *
+                 * @param code   The codes can be looked up here
+                 * @param reason Additional information string
+                 * @param remote Returns whether the closing of the connection was initiated by the remote
+                 *               host.
+                 */
+                @Override
+                public void onClose(int code, String reason, boolean remote) {
+                    failPendingRequests(this, new IOException("Connection closed with code " + code + ": "
+                            + reason));
+                }
+
+                /**
+                 * Called when errors occurs. If an error causes the websocket connection to fail {@link
+                 * #onClose(int, String, boolean)} will be called additionally.<br> This method will be called
+                 * primarily because of IO or protocol errors.<br> If the given exception is an RuntimeException
+                 * that probably means that you encountered a bug.<br>
+                 *
+                 * @param ex The exception causing this error
+                 */
+                @Override
+                public void onError(Exception ex) {
+                    failPendingRequests(this, new IOException(ex));
+                }
+
+            };
+            try {
+                if (!client.connectBlocking(timeout, MILLISECONDS))
+                    throw new IOException("Connection to " + endpoint + " not opened in " + timeout + " ms");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            this.client = client;
+            return client;
+        }
+    }
+
+    /**
+     * Method to dispatch a response to the request that is waiting it
+     *
+     * @param message: the message received
+     */
+    private void dispatchResponse(String message) {
+        JSONObject jResponse = new JSONObject(message);
+        PendingRequest request = pendingRequests.get(jResponse.optString("id"));
+        if (request == null)
+            return;
+        int status = jResponse.optInt("status", 200);
+        Object body = jResponse.opt(status >= 200 && status < 300 ? "result" : "error");
+        request.response.complete(new Response(status, body == null ? "{}" : body.toString(),
+                assembleHeaders(jResponse)));
+    }
+
+    /**
+     * Method to assemble the headers of a response with the usage of the rate limits
+     *
+     * @param jResponse: the response received
+     * @return headers of the response as {@link HttpHeaders}
+     * @implNote the {@code "REQUEST_WEIGHT"} and {@code "ORDERS"} usages are converted in the
+     * {@link BinanceRateLimiter#USED_WEIGHT_HEADER} and {@link BinanceRateLimiter#ORDER_COUNT_HEADER} headers and the
+     * {@code "retryAfter"} timestamp of the errors in the {@code "Retry-After"} header
+     */
+    private static HttpHeaders assembleHeaders(JSONObject jResponse) {
+        HashMap<String, List<String>> headers = new HashMap<>();
+        JSONArray rateLimits = jResponse.optJSONArray("rateLimits");
+        if (rateLimits != null) {
+            for (int j = 0; j < rateLimits.length(); j++) {
+                JSONObject rateLimit = rateLimits.getJSONObject(j);
+                String interval = rateLimit.getInt("intervalNum") + rateLimit.getString("interval")
+                        .substring(0, 1).toLowerCase();
+                String count = String.valueOf(rateLimit.getInt("count"));
+                switch (rateLimit.getString("rateLimitType")) {
+                    case "REQUEST_WEIGHT" -> headers.put(USED_WEIGHT_HEADER + interval, List.of(count));
+                    case "ORDERS" -> headers.put(ORDER_COUNT_HEADER + interval, List.of(count));
+                }
+            }
+        }
+        JSONObject error = jResponse.optJSONObject("error");
+        if (error != null) {
+            JSONObject data = error.optJSONObject("data");
+            if (data != null && data.has("retryAfter")) {
+                long retryAfter = Math.max(data.getLong("retryAfter") - System.currentTimeMillis(), 0);
+                headers.put("Retry-After", List.of(String.valueOf((retryAfter + 999) / 1000)));
+            }
+        }
+        return HttpHeaders.of(headers, (name, value) -> true);
+    }
+
+    /**
+     * Method to fail the requests sent on a client and waiting their response
+     *
+     * @param client: the client closed or failed
+     * @param cause:  the cause of the failure
+     * @implNote the requests sent on the other clients are not failed, so a late close of a client already replaced
+     * does not fail the requests sent on the current one
+     */
+    private void failPendingRequests(WebSocketClient client, IOException cause) {
+        for (PendingRequest request : pendingRequests.values())
+            if (request.client == client)
+                request.response.completeExceptionally(cause);
+    }
+
+    /**
+     * Method to close the connection <br>
+     * No-any params required
+     */
+    public synchronized void close() {
+        WebSocketClient client = this.client;
+        if (client != null) {
+            this.client = null;
+            client.close();
+        }
+    }
+
+    /**
+     * Method to get whether the connection is opened <br>
+     * No-any params required
+     *
+     * @return whether the connection is opened as boolean
+     */
+    public boolean isConnected() {
+        WebSocketClient client = this.client;
+        return client != null && client.isOpen();
+    }
+
+    /**
+     * Method to get {@link #endpoint} instance <br>
+     * No-any params required
+     *
+     * @return {@link #endpoint} instance as {@link URI}
+     */
+    public URI getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Method to get {@link #timeout} instance <br>
+     * No-any params required
+     *
+     * @return {@link #timeout} instance as int
+     */
+    public int getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * The {@code PendingRequest} class is useful to memorize a request waiting its response
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static final class PendingRequest {
+
+        /**
+         * {@code client} is the client where the request has been sent
+         */
+        private final WebSocketClient client;
+
+        /**
+         * {@code response} is the future response of the request
+         */
+        private final CompletableFuture<Response> response;
+
+        /**
+         * Constructor to init a {@link PendingRequest}
+         *
+         * @param client:   the client where the request has been sent
+         * @param response: the future response of the request
+         */
+        private PendingRequest(WebSocketClient client, CompletableFuture<Response> response) {
+            this.client = client;
+            this.response = response;
+        }
+
+    }
+
+}
@@ -0,0 +1,219 @@
+package com.tecknobit.binancemanager.managers;
+
+import org.json.JSONObject;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code LatencyHistogram} class is useful to record latencies and read their percentiles with a bounded
+ * relative error, in the same way of the {@code "HDR"} histograms
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the values are recorded in microseconds, each bucket covers a range of values not wider than the
+ * {@code 1.6%} of its lower bound, so the percentiles have at most that error whatever the magnitude of the values
+ * @implNote the buckets are log-linear: the values lower than {@link #SUB_BUCKETS} have a bucket each, then each power
+ * of two is split in {@code SUB_BUCKETS / 2} buckets of the same width. The recording is lock-free and does not
+ * allocate, the reads are not atomic with the concurrent recordings, so a read during the recordings can miss the
+ * last of them
+ */
+public class LatencyHistogram {
+
+    /**
+     * {@code SUB_BUCKET_BITS} is the number of the bits of the sub buckets
+     */
+    private static final int SUB_BUCKET_BITS = 7;
+
+    /**
+     * {@code SUB_BUCKETS} is the number of the buckets of the first range of values
+     */
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * {@code HALF_SUB_BUCKETS_BITS} is the number of the bits of the buckets of each power of two
+     */
+    private static final int HALF_SUB_BUCKETS_BITS = SUB_BUCKET_BITS - 1;
+
+    /**
+     * {@code BUCKETS} is the number of the buckets needed to cover all the positive long values
+     */
+    private static final int BUCKETS = ((Long.SIZE - SUB_BUCKET_BITS) << HALF_SUB_BUCKETS_BITS) + SUB_BUCKETS;
+
+    /**
+     * {@code counts} is instance that memorizes the number of values recorded in each bucket
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * {@code totalCount} is instance that memorizes the number of values recorded
+     */
+    private final LongAdder totalCount = new LongAdder();
+
+    /**
+     * {@code sum} is instance that memorizes the sum of the values recorded
+     */
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * {@code min} is instance that memorizes the minimum value recorded
+     */
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+
+    /**
+     * {@code max} is instance that memorizes the maximum value recorded
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Method to record a value
+     *
+     * @param micros: the value to record in microseconds, the negative values are recorded as 0
+     */
+    public void record(long micros) {
+        if (micros < 0)
+            micros = 0;
+        counts.incrementAndGet(bucketIndex(micros));
+        totalCount.increment();
+        sum.add(micros);
+        if (micros < min.get())
+            min.accumulateAndGet(micros, Math::min);
+        if (micros > max.get())
+            max.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Method to get the index of the bucket of a value
+     *
+     * @param value: the value, not negative
+     * @return index of the bucket as int
+     */
+    private static int bucketIndex(long value) {
+        int magnitude = Long.SIZE - SUB_BUCKET_BITS - Long.numberOfLeadingZeros(value | (SUB_BUCKETS - 1));
+        return (magnitude << HALF_SUB_BUCKETS_BITS) + (int) (value >>> magnitude);
+    }
+
+    /**
+     * Method to get the highest value of a bucket
+     *
+     * @param index: the index of the bucket
+     * @return highest value of the bucket as long
+     */
+    private static long highestValue(int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+        int magnitude = (index >>> HALF_SUB_BUCKETS_BITS) - 1;
+        long subBucket = index - ((long) magnitude << HALF_SUB_BUCKETS_BITS);
+        return ((subBucket + 1) << magnitude) - 1;
+    }
+
+    /**
+     * Method to get the value at a percentile of the values recorded
+     *
+     * @param percentile: the percentile, from 0 to 100
+     * @return value at the percentile in microseconds as long, 0 when no values have been recorded
+     * @implNote the value returned is the highest value of its bucket, limited by the maximum value recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long totalCount = this.totalCount.sum();
+        if (totalCount == 0)
+            return 0;
+        long target = Math.max((long) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * totalCount), 1);
+        long count = 0;
+        for (int j = 0; j < BUCKETS; j++) {
+            count += counts.get(j);
+            if (count >= target)
+                return Math.min(highestValue(j), getMax());
+        }
+        return getMax();
+    }
+
+    /**
+     * Method to get the number of values recorded <br>
+     * No-any params required
+     *
+     * @return number of values recorded as long
+     */
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Method to get the mean of the values recorded <br>
+     * No-any params required
+     *
+     * @return mean of the values recorded in microseconds as double, 0 when no values have been recorded
+     */
+    public double getMean() {
+        long totalCount = this.totalCount.sum();
+        return totalCount == 0 ? 0 : (double) sum.sum() / totalCount;
+    }
+
+    /**
+     * Method to get {@link #min} instance <br>
+     * No-any params required
+     *
+     * @return {@link #min} instance in microseconds as long, 0 when no values have been recorded
+     */
+    public long getMin() {
+        long min = this.min.get();
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+
+    /**
+     * Method to get {@link #max} instance <br>
+     * No-any params required
+     *
+     * @return {@link #max} instance in microseconds as long
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Method to reset the histogram <br>
+     * No-any params required
+     *
+     * @implNote the values recorded during the reset can be partially lost
+     */
+    public void reset() {
+        for (int j = 0; j < BUCKETS; j++)
+            counts.set(j, 0);
+        totalCount.reset();
+        sum.reset();
+        min.set(Long.MAX_VALUE);
+        max.set(0);
+    }
+
+    /**
+     * Method to get the summary of the histogram <br>
+     * No-any params required
+     *
+     * @return summary of the histogram as {@link JSONObject}, with the count, the minimum, the mean, the main
+     * percentiles and the maximum in microseconds
+     */
+    public JSONObject toJSONObject() {
+        JSONObject summary = new JSONObject();
+        summary.put("count", getTotalCount());
+        summary.put("min", getMin());
+        summary.put("mean", getMean());
+        summary.put("p50", getValueAtPercentile(50));
+        summary.put("p90", getValueAtPercentile(90));
+        summary.put("p99", getValueAtPercentile(99));
+        summary.put("p99.9", getValueAtPercentile(99.9));
+        summary.put("max", getMax());
+        return summary;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return toJSONObject().toString();
+    }
+
+}
@@ -0,0 +1,703 @@
+package com.tecknobit.binancemanager.managers;
+
+import com.tecknobit.apimanager.annotations.Wrapper;
+import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.handshake.ServerHandshake;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The {@code SupervisedWebsocket} class is useful to keep a websocket connection opened, reconnecting it when it is
+ * dropped and rolling it over before the {@link #MAX_CONNECTION_LIFETIME} limit
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote when the connection is dropped it is reopened with an exponential backoff, starting from
+ * {@link #DEFAULT_INITIAL_BACKOFF} and doubled at each failed attempt up to {@link #DEFAULT_MAX_BACKOFF}, and after the
+ * reconnection a {@link ConnectionGap} is dispatched to the {@link #gapListener}, so the consumers know that the frames
+ * of the gap have been lost and can resync their state. Before the {@code "Binance"}'s limit of
+ * {@link #MAX_CONNECTION_LIFETIME} the connection is rolled over: the new connection is opened before closing the old
+ * one, so no frame is lost
+ * @implNote the endpoint is fetched at each connection, so it can change between a connection and the next one, and
+ * the {@link #openListener} is invoked with each new connection before it replaces the previous one, to resubscribe
+ * the streams subscribed live. During a rollover only the frames of the old connection are dispatched, and the
+ * frames of the new one are dispatched from when it replaces the old one, so no frame is dispatched twice by the two
+ * connections. The reconnections and the rollovers of all the connections are executed by a single
+ * daemon thread
+ * @see <a href="https://binance-docs.github.io/apidocs/spot/en/#websocket-market-streams">
+ * Websocket Market Streams</a>
+ */
+public class SupervisedWebsocket {
+
+    /**
+     * {@code MAX_CONNECTION_LIFETIME} is the max lifetime, in milliseconds, of a connection before it is closed by
+     * {@code "Binance"}
+     */
+    public static final long MAX_CONNECTION_LIFETIME = 24 * 60 * 60 * 1000;
+
+    /**
+     * {@code DEFAULT_ROLLOVER_TIME} is the default lifetime, in milliseconds, after that a connection is rolled over
+     */
+    public static final long DEFAULT_ROLLOVER_TIME = 23 * 60 * 60 * 1000;
+
+    /**
+     * {@code DEFAULT_INITIAL_BACKOFF} is the default delay, in milliseconds, before the first reconnection attempt
+     */
+    public static final long DEFAULT_INITIAL_BACKOFF = 1000;
+
+    /**
+     * {@code DEFAULT_MAX_BACKOFF} is the default max delay, in milliseconds, between two reconnection attempts
+     */
+    public static final long DEFAULT_MAX_BACKOFF = 60 * 1000;
+
+    /**
+     * {@code CONNECTION_TIMEOUT} is the timeout, in milliseconds, to open a connection
+     */
+    public static final int CONNECTION_TIMEOUT = 10000;
+
+    /**
+     * {@code SUPERVISOR} is the executor of the reconnections and of the rollovers
+     */
+    private static final ScheduledExecutorService SUPERVISOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "binance-websocket-supervisor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * {@code endpoint} is instance that supplies the endpoint of each connection
+     */
+    private final Supplier<String> endpoint;
+
+    /**
+     * {@code frameListener} is instance that receives the frames of the connection
+     */
+    private final Consumer<String> frameListener;
+
+    /**
+     * {@code client} is the current connection, {@code "null"} if not opened or dropped
+     */
+    private volatile WebSocketClient client;
+
+    /**
+     * {@code openListener} is instance invoked with each new connection before it starts to be used
+     */
+    private volatile Consumer<WebSocketClient> openListener;
+
+    /**
+     * {@code gapListener} is instance that receives the gaps of the connection
+     */
+    private volatile Consumer<ConnectionGap> gapListener;
+
+    /**
+     * {@code errorListener} is instance that receives the errors of the connection
+     */
+    private volatile Consumer<Exception> errorListener;
+
+    /**
+     * {@code initialBackoff} is instance that memorizes the delay, in milliseconds, before the first reconnection attempt
+     */
+    private volatile long initialBackoff = DEFAULT_INITIAL_BACKOFF;
+
+    /**
+     * {@code maxBackoff} is instance that memorizes the max delay, in milliseconds, between two reconnection attempts
+     */
+    private volatile long maxBackoff = DEFAULT_MAX_BACKOFF;
+
+    /**
+     * {@code rolloverTime} is instance that memorizes the lifetime, in milliseconds, after that a connection is rolled
+     * over
+     */
+    private volatile long rolloverTime = DEFAULT_ROLLOVER_TIME;
+
+    /**
+     * {@code attempts} is the number of failed reconnection attempts since the last drop
+     */
+    private int attempts;
+
+    /**
+     * {@code rolloverTask} is the task of the next rollover, {@code "null"} if not scheduled
+     */
+    private ScheduledFuture<?> rolloverTask;
+
+    /**
+     * {@code disconnectedAt} is instance that memorizes when the connection has been dropped
+     */
+    private long disconnectedAt;
+
+    /**
+     * {@code closeCode} is instance that memorizes the code of the last drop
+     */
+    private int closeCode;
+
+    /**
+     * {@code closeReason} is instance that memorizes the reason of the last drop
+     */
+    private String closeReason;
+
+    /**
+     * {@code reconnections} is instance that memorizes the number of reconnections after a drop
+     */
+    private volatile long reconnections;
+
+    /**
+     * {@code rollovers} is instance that memorizes the number of rollovers
+     */
+    private volatile long rollovers;
+
+    /**
+     * {@code closed} whether the connection has been closed
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructor to init a {@link SupervisedWebsocket}
+     *
+     * @param endpoint:      endpoint of the connection
+     * @param frameListener: listener that receives the frames of the connection
+     */
+    @Wrapper
+    public SupervisedWebsocket(String endpoint, Consumer<String> frameListener) {
+        this(() -> endpoint, frameListener);
+    }
+
+    /**
+     * Constructor to init a {@link SupervisedWebsocket}
+     *
+     * @param endpoint:      supplier of the endpoint of each connection
+     * @param frameListener: listener that receives the frames of the connection
+     */
+    public SupervisedWebsocket(Supplier<String> endpoint, Consumer<String> frameListener) {
+        this.endpoint = endpoint;
+        this.frameListener = frameListener;
+    }
+
+    /**
+     * Method to open the connection and start to supervise it <br>
+     * No-any params required
+     *
+     * @throws IOException           when the connection cannot be opened
+     * @throws IllegalStateException when the connection has been closed
+     */
+    public synchronized void connect() throws IOException {
+        if (closed)
+            throw new IllegalStateException("Connection has been closed");
+        if (client != null)
+            return;
+        client = open();
+        scheduleRollover(rolloverTime);
+    }
+
+    /**
+     * Method to send a message on the current connection
+     *
+     * @param message: the message to send
+     * @throws IOException when the connection is not opened or the message cannot be sent
+     */
+    public void send(String message) throws IOException {
+        WebSocketClient client = this.client;
+        if (client == null || !client.isOpen())
+            throw new IOException("Connection is not opened");
+        try {
+            client.send(message);
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Method to roll over the connection, opening the new one before closing the current one <br>
+     * No-any params required
+     *
+     * @return whether the new connection has replaced the current one as boolean
+     * @apiNote this method is invoked automatically after the {@link #rolloverTime}, when the new connection cannot be
+     * opened, or it is dropped before replacing the current one, the rollover is retried after the
+     * {@link #initialBackoff}
+     */
+    public boolean rollover() {
+        if (closed)
+            return false;
+        WebSocketClient newClient;
+        try {
+            newClient = open();
+        } catch (Exception e) {
+            notifyError(e);
+            synchronized (this) {
+                if (!closed)
+                    scheduleRollover(initialBackoff);
+            }
+            return false;
+        }
+        WebSocketClient oldClient;
+        ConnectionGap gap = null;
+        synchronized (this) {
+            if (closed) {
+                newClient.close();
+                return false;
+            }
+            oldClient = client;
+            if (!newClient.isOpen()) {
+                // dropped before becoming the current one, so its drop has been ignored by onDisconnection
+                if (oldClient != null)
+                    scheduleRollover(initialBackoff);
+                else
+                    scheduleReconnection();
+                return false;
+            }
+            client = newClient;
+            if (oldClient == null) {
+                gap = new ConnectionGap(disconnectedAt, System.currentTimeMillis(), closeCode, closeReason);
+                attempts = 0;
+                reconnections++;
+            } else
+                rollovers++;
+            scheduleRollover(rolloverTime);
+        }
+        if (oldClient != null)
+            oldClient.close();
+        else
+            notifyGap(gap);
+        return true;
+    }
+
+    /**
+     * Method to close the connection and stop to supervise it <br>
+     * No-any params required
+     */
+    public void close() {
+        WebSocketClient client;
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+            if (rolloverTask != null)
+                rolloverTask.cancel(false);
+            client = this.client;
+            this.client = null;
+        }
+        if (client != null)
+            client.close();
+    }
+
+    /**
+     * Method to open a new connection <br>
+     * No-any params required
+     *
+     * @return the connection opened as {@link WebSocketClient}
+     * @throws IOException when the connection cannot be opened
+     */
+    private WebSocketClient open() throws IOException {
+        WebSocketClient client = new WebSocketClient(URI.create(endpoint.get())) {
+
+            /**
+             * Called after an opening handshake has been performed and the given websocket is ready to be
+             * written on.
+             *
+             * @param handshakeData The handshake of the websocket instance
+             */
+            @Override
+            public void onOpen(ServerHandshake handshakeData) {
+            }
+
+            /**
+             * Callback for string messages received from the remote host
+             *
+             * @param message The UTF-8 decoded message that was received.
+             */
+            @Override
+            public void onMessage(String message) {
+                if (isDispatching(this))
+                    frameListener.accept(message);
+            }
+
+            /**
+             * Called after the websocket connection has been closed.
+             *
+             * @param code   The codes can be looked up here
+             * @param reason Additional information string
+             * @param remote Returns whether the closing of the connection was initiated by the remote
+             *               host.
+             */
+            @Override
+            public void onClose(int code, String reason, boolean remote) {
+                onDisconnection(this, code, reason);
+            }
+
+            /**
+             * Called when errors occurs. If an error causes the websocket connection to fail {@link
+             * #onClose(int, String, boolean)} will be called additionally.<br> This method will be called
+             * primarily because of IO or protocol errors.<br> If the given exception is an RuntimeException
+             * that probably means that you encountered a bug.<br>
+             *
+             * @param ex The exception causing this error
+             */
+            @Override
+            public void onError(Exception ex) {
+                notifyError(ex);
+            }
+
+        };
+        try {
+            if (!client.connectBlocking(CONNECTION_TIMEOUT, MILLISECONDS)) {
+                client.close();
+                throw new IOException("Connection to " + client.getURI() + " not opened in " + CONNECTION_TIMEOUT
+                        + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+        Consumer<WebSocketClient> openListener = this.openListener;
+        if (openListener != null) {
+            try {
+                openListener.accept(client);
+            } catch (Exception e) {
+                client.close();
+                throw new IOException(e);
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Method to get whether the frames of a connection have to be dispatched
+     *
+     * @param client: the connection that received the frames
+     * @return whether the frames of the connection have to be dispatched as boolean
+     * @implNote the frames are dispatched when the connection is the current one or, while a dropped connection is
+     * reopened, when there is not a current one, so the frames of a connection opened by a rollover are discarded
+     * until it replaces the old one, and the frames of the old one are discarded after it has been replaced
+     */
+    private boolean isDispatching(WebSocketClient client) {
+        if (closed)
+            return false;
+        WebSocketClient current = this.client;
+        return current == null || current == client;
+    }
+
+    /**
+     * Method to manage the drop of a connection
+     *
+     * @param client: the connection dropped
+     * @param code:   code of the drop
+     * @param reason: reason of the drop
+     * @implNote the connections closed by a rollover or by {@link #close()} are not the current one and are ignored
+     */
+    private void onDisconnection(WebSocketClient client, int code, String reason) {
+        synchronized (this) {
+            if (closed || client != this.client)
+                return;
+            this.client = null;
+            disconnectedAt = System.currentTimeMillis();
+            closeCode = code;
+            closeReason = reason;
+            attempts = 0;
+            if (rolloverTask != null)
+                rolloverTask.cancel(false);
+            scheduleReconnection();
+        }
+        notifyError(new IOException("Connection closed with code " + code + ": " + reason));
+    }
+
+    /**
+     * Method to schedule the next reconnection attempt, the lock of the connection must be held <br>
+     * No-any params required
+     *
+     * @implNote the delay is randomized between the half and the whole of the backoff, so the connections dropped
+     * together are not reopened all at the same time
+     */
+    private void scheduleReconnection() {
+        long backoff = Math.min(maxBackoff, initialBackoff << Math.min(attempts, 20));
+        attempts++;
+        SUPERVISOR.schedule(this::reconnect, backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1),
+                MILLISECONDS);
+    }
+
+    /**
+     * Method to reopen a dropped connection <br>
+     * No-any params required
+     */
+    private void reconnect() {
+        if (closed || client != null)
+            return;
+        WebSocketClient client;
+        try {
+            client = open();
+        } catch (Exception e) {
+            notifyError(e);
+            synchronized (this) {
+                if (!closed && this.client == null)
+                    scheduleReconnection();
+            }
+            return;
+        }
+        ConnectionGap gap;
+        synchronized (this) {
+            if (closed || this.client != null) {
+                client.close();
+                return;
+            }
+            if (!client.isOpen()) {
+                // dropped before becoming the current one, so its drop has been ignored by onDisconnection
+                scheduleReconnection();
+                return;
+            }
+            this.client = client;
+            attempts = 0;
+            reconnections++;
+            gap = new ConnectionGap(disconnectedAt, System.currentTimeMillis(), closeCode, closeReason);
+            scheduleRollover(rolloverTime);
+        }
+        notifyGap(gap);
+    }
+
+    /**
+     * Method to schedule the next rollover, the lock of the connection must be held
+     *
+     * @param delay: delay, in milliseconds, of the rollover
+     */
+    private void scheduleRollover(long delay) {
+        if (rolloverTask != null)
+            rolloverTask.cancel(false);
+        rolloverTask = SUPERVISOR.schedule(this::rollover, delay, MILLISECONDS);
+    }
+
+    /**
+     * Method to notify a gap to the {@link #gapListener}
+     *
+     * @param gap: the gap occurred
+     */
+    private void notifyGap(ConnectionGap gap) {
+        Consumer<ConnectionGap> gapListener = this.gapListener;
+        if (gapListener != null) {
+            try {
+                gapListener.accept(gap);
+            } catch (Exception e) {
+                notifyError(e);
+            }
+        }
+    }
+
+    /**
+     * Method to notify an error to the {@link #errorListener}
+     *
+     * @param error: the error occurred
+     */
+    private void notifyError(Exception error) {
+        Consumer<Exception> errorListener = this.errorListener;
+        if (errorListener != null)
+            errorListener.accept(error);
+    }
+
+    /**
+     * Method to get whether the connection is opened <br>
+     * No-any params required
+     *
+     * @return whether the connection is opened as boolean
+     */
+    public boolean isConnected() {
+        WebSocketClient client = this.client;
+        return client != null && client.isOpen();
+    }
+
+    /**
+     * Method to get {@link #closed} instance <br>
+     * No-any params required
+     *
+     * @return {@link #closed} instance as boolean
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Method to get {@link #reconnections} instance <br>
+     * No-any params required
+     *
+     * @return {@link #reconnections} instance as long
+     */
+    public long getReconnections() {
+        return reconnections;
+    }
+
+    /**
+     * Method to get {@link #rollovers} instance <br>
+     * No-any params required
+     *
+     * @return {@link #rollovers} instance as long
+     */
+    public long getRollovers() {
+        return rollovers;
+    }
+
+    /**
+     * Method to set the backoff of the reconnections
+     *
+     * @param initialBackoff: delay, in milliseconds, before the first reconnection attempt
+     * @param maxBackoff:     max delay, in milliseconds, between two reconnection attempts
+     * @throws IllegalArgumentException when the initial backoff is not positive or greater than the max backoff
+     */
+    public void setBackoff(long initialBackoff, long maxBackoff) {
+        if (initialBackoff <= 0 || initialBackoff > maxBackoff)
+            throw new IllegalArgumentException("Initial backoff must be positive and not greater than max backoff");
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Method to set {@link #rolloverTime} instance
+     *
+     * @param rolloverTime: lifetime, in milliseconds, after that a connection is rolled over
+     * @throws IllegalArgumentException when the rollover time is not in the range (0, {@link #MAX_CONNECTION_LIFETIME})
+     * @implNote the new value is applied from the next connection
+     */
+    public void setRolloverTime(long rolloverTime) {
+        if (rolloverTime <= 0 || rolloverTime >= MAX_CONNECTION_LIFETIME)
+            throw new IllegalArgumentException("Rollover time must be in the range (0, " + MAX_CONNECTION_LIFETIME + ")");
+        this.rolloverTime = rolloverTime;
+    }
+
+    /**
+     * Method to set {@link #openListener} instance
+     *
+     * @param openListener: listener invoked with each new connection before it starts to be used, es. to resubscribe
+     *                      the streams subscribed live
+     */
+    public void setOpenListener(Consumer<WebSocketClient> openListener) {
+        this.openListener = openListener;
+    }
+
+    /**
+     * Method to set {@link #gapListener} instance
+     *
+     * @param gapListener: listener that receives the gaps of the connection
+     */
+    public void setGapListener(Consumer<ConnectionGap> gapListener) {
+        this.gapListener = gapListener;
+    }
+
+    /**
+     * Method to set {@link #errorListener} instance
+     *
+     * @param errorListener: listener that receives the errors of the connection
+     */
+    public void setErrorListener(Consumer<Exception> errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    /**
+     * The {@code ConnectionGap} class is useful to describe a period when a connection was dropped and its frames have
+     * been lost
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    public static class ConnectionGap {
+
+        /**
+         * {@code disconnectedAt} is instance that memorizes when the connection has been dropped
+         */
+        private final long disconnectedAt;
+
+        /**
+         * {@code reconnectedAt} is instance that memorizes when the connection has been reopened
+         */
+        private final long reconnectedAt;
+
+        /**
+         * {@code closeCode} is instance that memorizes the code of the drop
+         */
+        private final int closeCode;
+
+        /**
+         * {@code closeReason} is instance that memorizes the reason of the drop
+         */
+        private final String closeReason;
+
+        /**
+         * Constructor to init a {@link ConnectionGap}
+         *
+         * @param disconnectedAt: when the connection has been dropped
+         * @param reconnectedAt:  when the connection has been reopened
+         * @param closeCode:      code of the drop
+         * @param closeReason:    reason of the drop
+         */
+        public ConnectionGap(long disconnectedAt, long reconnectedAt, int closeCode, String closeReason) {
+            this.disconnectedAt = disconnectedAt;
+            this.reconnectedAt = reconnectedAt;
+            this.closeCode = closeCode;
+            this.closeReason = closeReason;
+        }
+
+        /**
+         * Method to get {@link #disconnectedAt} instance <br>
+         * No-any params required
+         *
+         * @return {@link #disconnectedAt} instance as long
+         */
+        public long getDisconnectedAt() {
+            return disconnectedAt;
+        }
+
+        /**
+         * Method to get {@link #reconnectedAt} instance <br>
+         * No-any params required
+         *
+         * @return {@link #reconnectedAt} instance as long
+         */
+        public long getReconnectedAt() {
+            return reconnectedAt;
+        }
+
+        /**
+         * Method to get the duration of the gap <br>
+         * No-any params required
+         *
+         * @return duration of the gap, in milliseconds, as long
+         */
+        public long getDuration() {
+            return reconnectedAt - disconnectedAt;
+        }
+
+        /**
+         * Method to get {@link #closeCode} instance <br>
+         * No-any params required
+         *
+         * @return {@link #closeCode} instance as int
+         */
+        public int getCloseCode() {
+            return closeCode;
+        }
+
+        /**
+         * Method to get {@link #closeReason} instance <br>
+         * No-any params required
+         *
+         * @return {@link #closeReason} instance as {@link String}
+         */
+        public String getCloseReason() {
+            return closeReason;
+        }
+
+        /**
+         * Returns a string representation of the object <br>
+         * No-any params required
+         *
+         * @return a string representation of the object as {@link String}
+         */
+        @Override
+        public String toString() {
+            return new JSONObject(this).toString();
+        }
+
+    }
+
+}
@@ -6,8 +6,10 @@ import com.tecknobit.binancemanager.exceptions.SystemException;
 import com.tecknobit.binancemanager.managers.BinanceManager;
 import com.tecknobit.binancemanager.managers.market.records.CurrentAveragePrice;
 import com.tecknobit.binancemanager.managers.market.records.OrderBook;
+import com.tecknobit.binancemanager.managers.market.records.PrimitiveOrderBook;
 import com.tecknobit.binancemanager.managers.market.records.stats.Candlestick;
 import com.tecknobit.binancemanager.managers.market.records.stats.Candlestick.Interval;
+import com.tecknobit.binancemanager.managers.market.records.stats.CandlestickSeries;
 import com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation;
 import com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.ExchangePermission;
 import com.tecknobit.binancemanager.managers.market.records.tickers.OrderBookTicker;
@@ -21,6 +23,7 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
@@ -109,6 +112,11 @@ public class BinanceMarketManager extends BinanceManager {
      */
     public static final String BOOK_TICKER_ENDPOINT = "/api/v3/ticker/bookTicker";
 
+    /**
+     * {@code candlesticksCache} is instance that memorizes the cache of the candlesticks, {@code "null"} if not enabled
+     */
+    private volatile CandlestickCache candlesticksCache;
+
     /**
      * Constructor to init a {@link BinanceMarketManager}
      *
@@ -246,7 +254,7 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestWeight(weight = "10(IP)")
     @RequestPath(method = GET, path = "/api/v3/exchangeInfo")
     public <T> T getExchangeInformation(ReturnFormat format) throws IOException {
-        return returnExchangeInformation(sendGetRequest(EXCHANGE_INFORMATION_ENDPOINT, (String) null), format);
+        return returnExchangeInformation(EXCHANGE_INFORMATION_ENDPOINT, null, format);
     }
 
     /**
@@ -300,7 +308,7 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestWeight(weight = "10(IP)")
     @RequestPath(method = GET, path = "/api/v3/exchangeInfo")
     public <T> T getExchangeInformation(String symbol, ReturnFormat format) throws Exception {
-        return returnExchangeInformation(sendGetRequest(EXCHANGE_INFORMATION_ENDPOINT, "?symbol=" + symbol), format);
+        return returnExchangeInformation(EXCHANGE_INFORMATION_ENDPOINT, "?symbol=" + symbol, format);
     }
 
     /**
@@ -354,8 +362,8 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestWeight(weight = "10(IP)")
     @RequestPath(method = GET, path = "/api/v3/exchangeInfo")
     public <T> T getExchangeInformation(String[] symbols, ReturnFormat format) throws Exception {
-        return returnExchangeInformation(sendGetRequest(EXCHANGE_INFORMATION_ENDPOINT, "?symbols=[" +
-                assembleSymbolsList(symbols) + "]"), format);
+        return returnExchangeInformation(EXCHANGE_INFORMATION_ENDPOINT, "?symbols=[" +
+                assembleSymbolsList(symbols) + "]", format);
     }
 
     /**
@@ -409,8 +417,8 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestWeight(weight = "10(IP)")
     @RequestPath(method = GET, path = "/api/v3/exchangeInfo")
     public <T> T getExchangeInformation(ExchangePermission permission, ReturnFormat format) throws Exception {
-        return returnExchangeInformation(sendGetRequest(EXCHANGE_INFORMATION_ENDPOINT, "?permissions="
-                + permission), format);
+        return returnExchangeInformation(EXCHANGE_INFORMATION_ENDPOINT, "?permissions="
+                + permission, format);
     }
 
     /**
@@ -464,8 +472,8 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestWeight(weight = "10(IP)")
     @RequestPath(method = GET, path = "/api/v3/exchangeInfo")
     public <T> T getExchangeInformation(ExchangePermission[] permissions, ReturnFormat format) throws Exception {
-        return returnExchangeInformation(sendGetRequest(EXCHANGE_INFORMATION_ENDPOINT, "?permissions=[" +
-                assembleSymbolsList(permissions) + "]"), format);
+        return returnExchangeInformation(EXCHANGE_INFORMATION_ENDPOINT, "?permissions=[" +
+                assembleSymbolsList(permissions) + "]", format);
     }
 
     /**
@@ -557,27 +565,28 @@ public class BinanceMarketManager extends BinanceManager {
     public <T> T getExchangeInformation(Params extraParams, ReturnFormat format) throws Exception {
         manageList(extraParams, "symbols");
         manageList(extraParams, "permissions");
-        return returnExchangeInformation(sendGetRequest(EXCHANGE_INFORMATION_ENDPOINT,
-                extraParams.createQueryString()), format);
+        return returnExchangeInformation(EXCHANGE_INFORMATION_ENDPOINT,
+                extraParams.createQueryString(), format);
     }
 
     /**
      * Method to create an exchange information object
      *
-     * @param exchangeInformationResponse: obtained from Binance's response
-     * @param format:                      return type formatter -> {@link ReturnFormat}
+     * @param endpoint: endpoint to request
+     * @param params:   params of the request
+     * @param format:   return type formatter -> {@link ReturnFormat}
      * @return exchange information as {@code "format"} defines
+     * @implNote with the {@link ReturnFormat#LIBRARY_OBJECT} format the response is decoded while it is read, without
+     * building the {@link JSONObject} form of the whole exchange information
      */
     @Returner
-    private <T> T returnExchangeInformation(String exchangeInformationResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONObject(exchangeInformationResponse);
-            case LIBRARY_OBJECT:
-                return (T) new ExchangeInformation(new JSONObject(exchangeInformationResponse));
-            default:
-                return (T) exchangeInformationResponse;
-        }
+    private <T> T returnExchangeInformation(String endpoint, String params, ReturnFormat format) throws IOException {
+        if (format == LIBRARY_OBJECT)
+            return (T) sendDecodedGetRequest(endpoint, params, ExchangeInformation::new);
+        String exchangeInformationResponse = sendGetRequest(endpoint, params);
+        if (format == JSON)
+            return (T) new JSONObject(exchangeInformationResponse);
+        return (T) exchangeInformationResponse;
     }
 
     /**
@@ -694,6 +703,89 @@ public class BinanceMarketManager extends BinanceManager {
                 limit), format);
     }
 
+    /**
+     * Request to get order book in the primitive form
+     *
+     * @param symbol: symbol of the order book to fetch es. BTCBUSD
+     * @return order book as {@link PrimitiveOrderBook} custom object
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#order-book">
+     * Order Book</a>
+     */
+    @RequestWeight(weight = "1/5/10/50(IP)")
+    @RequestPath(method = GET, path = "/api/v3/depth")
+    public PrimitiveOrderBook getPrimitiveOrderBook(String symbol) throws IOException {
+        return new PrimitiveOrderBook(symbol, sendGetRequest(ORDER_BOOK_ENDPOINT, "?symbol=" + symbol));
+    }
+
+    /**
+     * Request to get order book in the primitive form
+     *
+     * @param symbol: symbol of the order book to fetch es. BTCBUSD
+     * @param limit:  limit of result to fetch
+     * @return order book as {@link PrimitiveOrderBook} custom object
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @implSpec Limit of default is 100 and max 5000. Valid limits:[5, 10, 20, 50, 100, 500, 1000, 5000]
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#order-book">
+     * Order Book</a>
+     */
+    @RequestWeight(weight = "1/5/10/50(IP)")
+    @RequestPath(method = GET, path = "/api/v3/depth")
+    public PrimitiveOrderBook getPrimitiveOrderBook(String symbol, int limit) throws IOException {
+        PrimitiveOrderBook orderBook = new PrimitiveOrderBook(symbol, limit);
+        refreshPrimitiveOrderBook(orderBook, limit);
+        return orderBook;
+    }
+
+    /**
+     * Request to refresh an order book in the primitive form, reusing its arrays
+     *
+     * @param orderBook: the order book to refresh
+     * @param limit:     limit of result to fetch
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @implSpec Limit of default is 100 and max 5000. Valid limits:[5, 10, 20, 50, 100, 500, 1000, 5000]
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#order-book">
+     * Order Book</a>
+     */
+    @RequestWeight(weight = "1/5/10/50(IP)")
+    @RequestPath(method = GET, path = "/api/v3/depth")
+    public void refreshPrimitiveOrderBook(PrimitiveOrderBook orderBook, int limit) throws IOException {
+        orderBook.parse(sendGetRequest(ORDER_BOOK_ENDPOINT, "?symbol=" + orderBook.getSymbol() + "&limit=" + limit));
+    }
+
     /**
      * Method to create an order book object
      *
@@ -765,8 +857,7 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestWeight(weight = "1(IP)")
     @RequestPath(method = GET, path = "/api/v3/trades")
     public <T> T getRecentTradesList(String symbol, ReturnFormat format) throws IOException {
-        return returnTradesList(sendGetRequest(RECENT_TRADE_LIST_ENDPOINT, "?symbol=" + symbol),
-                format);
+        return returnTradesList(RECENT_TRADE_LIST_ENDPOINT, "?symbol=" + symbol, format);
     }
 
     /**
@@ -820,8 +911,8 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestWeight(weight = "1(IP)")
     @RequestPath(method = GET, path = "/api/v3/trades")
     public <T> T getRecentTradesList(String symbol, int limit, ReturnFormat format) throws IOException {
-        return returnTradesList(sendGetRequest(RECENT_TRADE_LIST_ENDPOINT, "?symbol=" + symbol + "&limit="
-                + limit), format);
+        return returnTradesList(RECENT_TRADE_LIST_ENDPOINT, "?symbol=" + symbol + "&limit="
+                + limit, format);
     }
 
     /**
@@ -875,7 +966,7 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestWeight(weight = "5(IP)")
     @RequestPath(method = GET, path = "/api/v3/historicalTrades")
     public <T> T getOldTradesList(String symbol, ReturnFormat format) throws IOException {
-        return returnTradesList(sendGetRequest(OLD_TRADE_LOOKUP_ENDPOINT, "?symbol=" + symbol), format);
+        return returnTradesList(OLD_TRADE_LOOKUP_ENDPOINT, "?symbol=" + symbol, format);
     }
 
     /**
@@ -949,30 +1040,27 @@ public class BinanceMarketManager extends BinanceManager {
     public <T> T getOldTradeList(String symbol, Params extraParams, ReturnFormat format) throws IOException {
         String payload = "?symbol=" + symbol;
         payload = apiRequest.encodeAdditionalParams(payload, extraParams);
-        return returnTradesList(sendGetRequest(OLD_TRADE_LOOKUP_ENDPOINT, payload), format);
+        return returnTradesList(OLD_TRADE_LOOKUP_ENDPOINT, payload, format);
     }
 
     /**
      * Method to create a trades list
      *
-     * @param tradesListResponse: obtained from Binance's response
-     * @param format:             return type formatter -> {@link ReturnFormat}
+     * @param endpoint: endpoint to request
+     * @param params:   params of the request
+     * @param format:   return type formatter -> {@link ReturnFormat}
      * @return trades list as {@code "format"} defines
+     * @implNote with the {@link ReturnFormat#LIBRARY_OBJECT} format the response is decoded while it is read, without
+     * building the {@link JSONArray} form of the trades
      */
     @Returner
-    private <T> T returnTradesList(String tradesListResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(tradesListResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<Trade> trades = new ArrayList<>();
-                JSONArray jTrades = new JSONArray(tradesListResponse);
-                for (int j = 0; j < jTrades.length(); j++)
-                    trades.add(new Trade(jTrades.getJSONObject(j)));
-                return (T) trades;
-            default:
-                return (T) tradesListResponse;
-        }
+    private <T> T returnTradesList(String endpoint, String params, ReturnFormat format) throws IOException {
+        if (format == LIBRARY_OBJECT)
+            return (T) sendDecodedGetRequest(endpoint, params, Trade::returnTradesList);
+        String tradesListResponse = sendGetRequest(endpoint, params);
+        if (format == JSON)
+            return (T) new JSONArray(tradesListResponse);
+        return (T) tradesListResponse;
     }
 
     /**
@@ -1026,8 +1114,7 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestWeight(weight = "1(IP)")
     @RequestPath(method = GET, path = "/api/v3/aggTrades")
     public <T> T getCompressedTradesList(String symbol, ReturnFormat format) throws IOException {
-        return returnCompressedTradesList(sendGetRequest(COMPRESSED_TRADE_LIST_ENDPOINT, "?symbol=" + symbol),
-                format);
+        return returnCompressedTradesList(COMPRESSED_TRADE_LIST_ENDPOINT, "?symbol=" + symbol, format);
     }
 
     /**
@@ -1113,30 +1200,27 @@ public class BinanceMarketManager extends BinanceManager {
     public <T> T getCompressedTradesList(String symbol, Params extraParams, ReturnFormat format) throws IOException {
         String payload = "?symbol=" + symbol;
         payload = apiRequest.encodeAdditionalParams(payload, extraParams);
-        return returnCompressedTradesList(sendGetRequest(COMPRESSED_TRADE_LIST_ENDPOINT, payload), format);
+        return returnCompressedTradesList(COMPRESSED_TRADE_LIST_ENDPOINT, payload, format);
     }
 
     /**
      * Method to create a compressed trades list
      *
-     * @param compressedTradesListResponse: obtained from Binance's response
-     * @param format:                       return type formatter -> {@link ReturnFormat}
+     * @param endpoint: endpoint to request
+     * @param params:   params of the request
+     * @param format:   return type formatter -> {@link ReturnFormat}
      * @return compressed trades list as {@code "format"} defines
+     * @implNote with the {@link ReturnFormat#LIBRARY_OBJECT} format the response is decoded while it is read, without
+     * building the {@link JSONArray} form of the compressed trades
      */
     @Returner
-    private <T> T returnCompressedTradesList(String compressedTradesListResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(compressedTradesListResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<CompressedTrade> compressedTrades = new ArrayList<>();
-                JSONArray jTrades = new JSONArray(compressedTradesListResponse);
-                for (int j = 0; j < jTrades.length(); j++)
-                    compressedTrades.add(new CompressedTrade(jTrades.getJSONObject(j)));
-                return (T) compressedTrades;
-            default:
-                return (T) compressedTradesListResponse;
-        }
+    private <T> T returnCompressedTradesList(String endpoint, String params, ReturnFormat format) throws IOException {
+        if (format == LIBRARY_OBJECT)
+            return (T) sendDecodedGetRequest(endpoint, params, CompressedTrade::returnCompressedTradesList);
+        String compressedTradesListResponse = sendGetRequest(endpoint, params);
+        if (format == JSON)
+            return (T) new JSONArray(compressedTradesListResponse);
+        return (T) compressedTradesListResponse;
     }
 
     /** Request to get candlestick data list
@@ -1192,8 +1276,8 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestWeight(weight = "1(IP)")
     @RequestPath(method = GET, path = "/api/v3/klines")
     public <T> T getCandlesticksList(String symbol, Interval interval, ReturnFormat format) throws IOException {
-        return returnCandlesticksList(sendGetRequest(CANDLESTICK_DATA_ENDPOINT, "?symbol=" + symbol +
-                "&interval=" + interval), format);
+        return returnCandlesticksList(CANDLESTICK_DATA_ENDPOINT, "?symbol=" + symbol +
+                "&interval=" + interval, format);
     }
 
     /**
@@ -1278,7 +1362,120 @@ public class BinanceMarketManager extends BinanceManager {
                                      ReturnFormat format) throws IOException {
         String payload = "?symbol=" + symbol + "&interval=" + interval;
         payload = apiRequest.encodeAdditionalParams(payload, extraParams);
-        return returnCandlesticksList(sendGetRequest(CANDLESTICK_DATA_ENDPOINT, payload), format);
+        return returnCandlesticksList(CANDLESTICK_DATA_ENDPOINT, payload, format);
+    }
+
+    /**
+     * Request to get candlestick data series
+     *
+     * @param symbol:   symbol to fetch candlestick data es. BTCBUSD
+     * @param interval: time period to fetch
+     * @return candlestick data as {@link CandlestickSeries}
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#kline-candlestick-data">
+     * Kline/Candlestick Data</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestWeight(weight = "1(IP)")
+    @RequestPath(method = GET, path = "/api/v3/klines")
+    public CandlestickSeries getCandlesticksSeries(String symbol, Interval interval) throws IOException {
+        return getCandlesticksSeries(symbol, interval, null);
+    }
+
+    /**
+     * Request to get candlestick data series
+     *
+     * @param symbol:      symbol to fetch candlestick data es. BTCBUSD
+     * @param interval:    time period to fetch
+     * @param extraParams: additional params of the request, keys accepted are:
+     *                     <ul>
+     *                           <li>
+     *                                {@code "startTime"} -> timestamp in ms to get aggregate trades from INCLUSIVE - [LONG]
+     *                           </li>
+     *                           <li>
+     *                                {@code "endTime"} -> timestamp in ms to get aggregate trades until INCLUSIVE - [LONG]
+     *                           </li>
+     *                           <li>
+     *                                {@code "limit"} -> limit results, max 1000 - [INT, default 500]
+     *                           </li>
+     *                     </ul>
+     * @return candlestick data as {@link CandlestickSeries}
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#kline-candlestick-data">
+     * Kline/Candlestick Data</a>
+     * @implNote the response is decoded straight into the columns of the series, without creating any
+     * {@link Candlestick}
+     */
+    @WrappedRequest
+    @RequestWeight(weight = "1(IP)")
+    @RequestPath(method = GET, path = "/api/v3/klines")
+    public CandlestickSeries getCandlesticksSeries(String symbol, Interval interval, Params extraParams) throws IOException {
+        String payload = "?symbol=" + symbol + "&interval=" + interval;
+        if (extraParams != null)
+            payload = apiRequest.encodeAdditionalParams(payload, extraParams);
+        return sendDecodedGetRequest(CANDLESTICK_DATA_ENDPOINT, payload, CandlestickSeries::returnCandlesticksSeries);
+    }
+
+    /**
+     * Request to get candlestick data list of a time range, of any length
+     *
+     * @param symbol:    symbol to fetch candlestick data es. BTCBUSD
+     * @param interval:  time period to fetch
+     * @param startTime: timestamp in ms of the start of the range, inclusive
+     * @param endTime:   timestamp in ms of the end of the range, inclusive
+     * @return candlestick data as {@link ArrayList} of {@link Candlestick}
+     * @throws IOException when a request has been go wrong
+     * @implNote when the cache of the candlesticks is enabled with {@link #enableCandlesticksCache(Path)} only the
+     * candlesticks not cached yet are requested
+     */
+    @Wrapper
+    public ArrayList<Candlestick> getCandlesticksList(String symbol, Interval interval, long startTime,
+                                                     long endTime) throws IOException {
+        return getCandlesticksSeries(symbol, interval, startTime, endTime).toCandlesticksList();
+    }
+
+    /**
+     * Request to get candlestick data series of a time range, of any length
+     *
+     * @param symbol:    symbol to fetch candlestick data es. BTCBUSD
+     * @param interval:  time period to fetch
+     * @param startTime: timestamp in ms of the start of the range, inclusive
+     * @param endTime:   timestamp in ms of the end of the range, inclusive
+     * @return candlestick data as {@link CandlestickSeries}
+     * @throws IOException when a request has been go wrong
+     * @implNote when the cache of the candlesticks is enabled with {@link #enableCandlesticksCache(Path)} only the
+     * candlesticks not cached yet are requested, otherwise all the range is fetched with a
+     * {@link CandlestickHistoryFetcher}
+     */
+    public CandlestickSeries getCandlesticksSeries(String symbol, Interval interval, long startTime,
+                                                   long endTime) throws IOException {
+        CandlestickCache candlesticksCache = this.candlesticksCache;
+        if (candlesticksCache != null)
+            return candlesticksCache.getCandlesticksSeries(symbol, interval, startTime, endTime);
+        return new CandlestickHistoryFetcher(this).fetch(symbol, interval, startTime, endTime);
     }
 
     /** Request to get candlestick data list
@@ -1331,8 +1528,8 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestWeight(weight = "1(IP)")
     @RequestPath(method = GET, path = "/api/v3/uiKlines")
     public <T> T getUIKLinesList(String symbol, Interval interval, ReturnFormat format) throws IOException {
-        return returnCandlesticksList(sendGetRequest(UIKLINES_ENDPOINT, "?symbol=" + symbol + "&interval="
-                + interval), format);
+        return returnCandlesticksList(UIKLINES_ENDPOINT, "?symbol=" + symbol + "&interval="
+                + interval, format);
     }
 
     /** Request to get candlestick data list
@@ -1414,30 +1611,72 @@ public class BinanceMarketManager extends BinanceManager {
     public <T> T getUIKLinesList(String symbol, Interval interval, Params extraParams, ReturnFormat format) throws IOException {
         String params = "?symbol=" + symbol + "&interval=" + interval;
         params = apiRequest.encodeAdditionalParams(params, extraParams);
-        return returnCandlesticksList(sendGetRequest(UIKLINES_ENDPOINT, params), format);
+        return returnCandlesticksList(UIKLINES_ENDPOINT, params, format);
+    }
+
+    /**
+     * Request to get UIKlines data series
+     *
+     * @param symbol:      symbol to fetch UIKlines data es. BTCBUSD
+     * @param interval:    time period to fetch
+     * @param extraParams: additional params of the request, keys accepted are:
+     *                     <ul>
+     *                           <li>
+     *                                {@code "startTime"} -> timestamp in ms to get aggregate trades from INCLUSIVE - [LONG]
+     *                           </li>
+     *                           <li>
+     *                                {@code "endTime"} -> timestamp in ms to get aggregate trades until INCLUSIVE - [LONG]
+     *                           </li>
+     *                           <li>
+     *                                {@code "limit"} -> limit results, max 1000 - [INT, default 500]
+     *                           </li>
+     *                     </ul>
+     * @return UIKlines data as {@link CandlestickSeries}
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#uiklines">
+     * UIKlines</a>
+     * @implNote the response is decoded straight into the columns of the series, without creating any
+     * {@link Candlestick}
+     */
+    @WrappedRequest
+    @RequestWeight(weight = "1(IP)")
+    @RequestPath(method = GET, path = "/api/v3/uiKlines")
+    public CandlestickSeries getUIKLinesSeries(String symbol, Interval interval, Params extraParams) throws IOException {
+        String params = "?symbol=" + symbol + "&interval=" + interval;
+        if (extraParams != null)
+            params = apiRequest.encodeAdditionalParams(params, extraParams);
+        return sendDecodedGetRequest(UIKLINES_ENDPOINT, params, CandlestickSeries::returnCandlesticksSeries);
     }
 
     /**
      * Method to create a candlesticks list
      *
-     * @param candlesticksResponse: obtained from Binance's response
-     * @param format:               return type formatter -> {@link ReturnFormat}
+     * @param endpoint: endpoint to request
+     * @param params:   params of the request
+     * @param format:   return type formatter -> {@link ReturnFormat}
      * @return candlesticks list as {@code "format"} defines
+     * @implNote with the {@link ReturnFormat#LIBRARY_OBJECT} format the response is decoded while it is read, without
+     * building the {@link JSONArray} form of the candlesticks
      */
     @Returner
-    private <T> T returnCandlesticksList(String candlesticksResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(candlesticksResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<Candlestick> candlesticksList = new ArrayList<>();
-                JSONArray jList = new JSONArray(candlesticksResponse);
-                for (int j = 0; j < jList.length(); j++)
-                    candlesticksList.add(new Candlestick(jList.getJSONArray(j)));
-                return (T) candlesticksList;
-            default:
-                return (T) candlesticksResponse;
-        }
+    private <T> T returnCandlesticksList(String endpoint, String params, ReturnFormat format) throws IOException {
+        if (format == LIBRARY_OBJECT)
+            return (T) sendDecodedGetRequest(endpoint, params, Candlestick::returnCandlesticksList);
+        String candlesticksResponse = sendGetRequest(endpoint, params);
+        if (format == JSON)
+            return (T) new JSONArray(candlesticksResponse);
+        return (T) candlesticksResponse;
     }
 
     /**
@@ -1733,8 +1972,8 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestWeight(weight = "1/20/40(IP)")
     @RequestPath(method = GET, path = "/api/v3/ticker/24hr")
     public <T> T getTickersPriceChangeList(String[] symbols, ReturnFormat format) throws IOException {
-        return returnTickersPriceChangeList(sendGetRequest(TICKER_PRICE_CHANGE_ENDPOINT, "?symbols=[" +
-                assembleSymbolsList(symbols) + "]"), format);
+        return returnTickersPriceChangeList(TICKER_PRICE_CHANGE_ENDPOINT, "?symbols=[" +
+                assembleSymbolsList(symbols) + "]", format);
     }
 
     /** Request to get all requested tickers change list
@@ -1786,8 +2025,8 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestWeight(weight = "1/20/40(IP)")
     @RequestPath(method = GET, path = "/api/v3/ticker/24hr")
     public <T> T getTickersPriceChangeList(String[] symbols, ResponseType type, ReturnFormat format) throws IOException {
-        return returnTickersPriceChangeList(sendGetRequest(TICKER_PRICE_CHANGE_ENDPOINT, "?type=" + type
-                + "&symbols=[" + assembleSymbolsList(symbols) + "]"), format);
+        return returnTickersPriceChangeList(TICKER_PRICE_CHANGE_ENDPOINT, "?type=" + type
+                + "&symbols=[" + assembleSymbolsList(symbols) + "]", format);
     }
 
     /** Request to get all requested tickers change list
@@ -1837,8 +2076,8 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestWeight(weight = "1/20/40(IP)")
     @RequestPath(method = GET, path = "/api/v3/ticker/24hr")
     public <T> T getTickersPriceChangeList(ArrayList<String> symbols, ReturnFormat format) throws IOException {
-        return returnTickersPriceChangeList(sendGetRequest(TICKER_PRICE_CHANGE_ENDPOINT, "?symbols=[" +
-                assembleSymbolsList(symbols) + "]"), format);
+        return returnTickersPriceChangeList(TICKER_PRICE_CHANGE_ENDPOINT, "?symbols=[" +
+                assembleSymbolsList(symbols) + "]", format);
     }
 
     /** Request to get all requested tickers change list
@@ -1894,8 +2133,8 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestPath(method = GET, path = "/api/v3/ticker/24hr")
     public <T> T getTickersPriceChangeList(ArrayList<String> symbols, ResponseType type,
                                            ReturnFormat format) throws IOException {
-        return returnTickersPriceChangeList(sendGetRequest(TICKER_PRICE_CHANGE_ENDPOINT, "?type=" + type
-                + "&symbols=[" + assembleSymbolsList(symbols) + "]"), format);
+        return returnTickersPriceChangeList(TICKER_PRICE_CHANGE_ENDPOINT, "?type=" + type
+                + "&symbols=[" + assembleSymbolsList(symbols) + "]", format);
     }
 
     /**
@@ -1948,8 +2187,7 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestWeight(weight = "40(IP)")
     @RequestPath(method = GET, path = "/api/v3/ticker/24hr")
     public <T> T getTickersPriceChangeList(ReturnFormat format) throws IOException {
-        return returnTickersPriceChangeList(sendGetRequest(TICKER_PRICE_CHANGE_ENDPOINT, ""),
-                format);
+        return returnTickersPriceChangeList(TICKER_PRICE_CHANGE_ENDPOINT, "", format);
     }
 
     /**
@@ -2003,31 +2241,27 @@ public class BinanceMarketManager extends BinanceManager {
     @RequestWeight(weight = "40(IP)")
     @RequestPath(method = GET, path = "/api/v3/ticker/24hr")
     public <T> T getTickersPriceChangeList(ResponseType type, ReturnFormat format) throws IOException {
-        return returnTickersPriceChangeList(sendGetRequest(TICKER_PRICE_CHANGE_ENDPOINT, "?type=" + type
-        ), format);
+        return returnTickersPriceChangeList(TICKER_PRICE_CHANGE_ENDPOINT, "?type=" + type, format);
     }
 
     /**
      * Method to create a tickers price change list
      *
-     * @param tickersPriceResponse: obtained from Binance's response
-     * @param format:               return type formatter -> {@link ReturnFormat}
+     * @param endpoint: endpoint to request
+     * @param params:   params of the request
+     * @param format:   return type formatter -> {@link ReturnFormat}
      * @return tickers price change list as {@code "format"} defines
+     * @implNote with the {@link ReturnFormat#LIBRARY_OBJECT} format the response is decoded while it is read, without
+     * building the {@link JSONArray} form of the tickers
      */
     @Returner
-    private <T> T returnTickersPriceChangeList(String tickersPriceResponse, ReturnFormat format) {
-        switch (format) {
-            case JSON:
-                return (T) new JSONArray(tickersPriceResponse);
-            case LIBRARY_OBJECT:
-                ArrayList<TickerPriceChange> tickerPriceStatistics = new ArrayList<>();
-                JSONArray jList = new JSONArray(tickersPriceResponse);
-                for (int j = 0; j < jList.length(); j++)
-                    tickerPriceStatistics.add(new TickerPriceChange(jList.getJSONObject(j)));
-                return (T) tickerPriceStatistics;
-            default:
-                return (T) tickersPriceResponse;
-        }
+    private <T> T returnTickersPriceChangeList(String endpoint, String params, ReturnFormat format) throws IOException {
+        if (format == LIBRARY_OBJECT)
+            return (T) sendDecodedGetRequest(endpoint, params, TickerPriceChange::returnTickersPriceChangeList);
+        String tickersPriceResponse = sendGetRequest(endpoint, params);
+        if (format == JSON)
+            return (T) new JSONArray(tickersPriceResponse);
+        return (T) tickersPriceResponse;
     }
 
     /**
@@ -2967,5 +3201,43 @@ public class BinanceMarketManager extends BinanceManager {
         return computeTPTOPIndex(historicalValues, getCurrentAveragePriceValue(symbol), intervalDays, toleranceValue);
     }
 
+    /**
+     * Method to enable the cache of the candlesticks requested with
+     * {@link #getCandlesticksSeries(String, Interval, long, long)}
+     *
+     * @param directory: directory where the files of the cache are stored
+     */
+    public void enableCandlesticksCache(Path directory) {
+        enableCandlesticksCache(new CandlestickCache(this, directory));
+    }
+
+    /**
+     * Method to enable the cache of the candlesticks requested with
+     * {@link #getCandlesticksSeries(String, Interval, long, long)}
+     *
+     * @param candlesticksCache: the cache to use
+     */
+    public void enableCandlesticksCache(CandlestickCache candlesticksCache) {
+        this.candlesticksCache = candlesticksCache;
+    }
+
+    /**
+     * Method to disable the cache of the candlesticks, the files already stored are kept <br>
+     * No-any params required
+     */
+    public void disableCandlesticksCache() {
+        candlesticksCache = null;
+    }
+
+    /**
+     * Method to get {@link #candlesticksCache} instance <br>
+     * No-any params required
+     *
+     * @return {@link #candlesticksCache} instance as {@link CandlestickCache}
+     */
+    public CandlestickCache getCandlesticksCache() {
+        return candlesticksCache;
+    }
+
 }
 
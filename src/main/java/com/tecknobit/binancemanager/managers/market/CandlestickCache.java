@@ -0,0 +1,448 @@
+package com.tecknobit.binancemanager.managers.market;
+
+import com.tecknobit.binancemanager.managers.market.records.stats.Candlestick;
+import com.tecknobit.binancemanager.managers.market.records.stats.Candlestick.Interval;
+import com.tecknobit.binancemanager.managers.market.records.stats.CandlestickSeries;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static com.tecknobit.binancemanager.managers.market.records.stats.Candlestick.Interval._1M;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.*;
+import static java.time.ZoneOffset.UTC;
+
+/**
+ * The {@code CandlestickCache} class is useful to keep the candlesticks already fetched on the disk, so only the
+ * candlesticks not cached yet are requested to {@code "Binance"}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the candlesticks are stored in a file for each symbol, interval and month of their open time, with the
+ * path {@code "<directory>/<symbol>/<interval>/<yyyy-MM>.klines"}. Each file memorizes the range of open times
+ * already fetched and the candlesticks in a binary columnar form, that is read with a memory mapping. The candlesticks
+ * not closed yet are returned but never stored, so they are requested again on the next call
+ * @see BinanceMarketManager#enableCandlesticksCache(Path)
+ */
+public class CandlestickCache {
+
+    /**
+     * {@code FILE_EXTENSION} is the extension of the files of the cache
+     */
+    public static final String FILE_EXTENSION = ".klines";
+
+    /**
+     * {@code MAGIC} is the value that identifies the files of the cache
+     */
+    private static final int MAGIC = 0x424B4C43;
+
+    /**
+     * {@code VERSION} is the version of the format of the files of the cache
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * {@code HEADER_SIZE} is the size in bytes of the header of the files: magic, version, covered range and size
+     */
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4;
+
+    /**
+     * {@code CANDLESTICK_SIZE} is the size in bytes of a candlestick in the columns of the files
+     */
+    private static final int CANDLESTICK_SIZE = 8 * 10 + 4;
+
+    /**
+     * {@code fetcher} is instance used to fetch the candlesticks not cached yet
+     */
+    private final CandlestickHistoryFetcher fetcher;
+
+    /**
+     * {@code marketManager} is instance used to get the current timestamp of the server
+     */
+    private final BinanceMarketManager marketManager;
+
+    /**
+     * {@code directory} is instance that memorizes the directory where the files of the cache are stored
+     */
+    private final Path directory;
+
+    /**
+     * {@code locks} are the locks of the files of the cache in use
+     */
+    private final ConcurrentHashMap<Path, Object> locks;
+
+    /**
+     * Constructor to init a {@link CandlestickCache}
+     *
+     * @param marketManager: manager used to fetch the candlesticks not cached yet
+     * @param directory:     directory where the files of the cache are stored
+     */
+    public CandlestickCache(BinanceMarketManager marketManager, Path directory) {
+        this(new CandlestickHistoryFetcher(marketManager), marketManager, directory);
+    }
+
+    /**
+     * Constructor to init a {@link CandlestickCache}
+     *
+     * @param fetcher:       fetcher used to fetch the candlesticks not cached yet
+     * @param marketManager: manager used to get the current timestamp of the server
+     * @param directory:     directory where the files of the cache are stored
+     */
+    public CandlestickCache(CandlestickHistoryFetcher fetcher, BinanceMarketManager marketManager, Path directory) {
+        this.fetcher = fetcher;
+        this.marketManager = marketManager;
+        this.directory = directory;
+        locks = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method to get the candlesticks of a time range, requesting only the ones not cached yet
+     *
+     * @param symbol:    symbol to fetch es. BTCBUSD
+     * @param interval:  time period of the candlesticks
+     * @param startTime: timestamp in ms of the start of the range, inclusive
+     * @param endTime:   timestamp in ms of the end of the range, inclusive
+     * @return candlesticks of the range as {@link ArrayList} of {@link Candlestick}
+     * @throws IOException when a request has been go wrong or the cache cannot be read or written
+     */
+    public ArrayList<Candlestick> getCandlesticksList(String symbol, Interval interval, long startTime,
+                                                     long endTime) throws IOException {
+        return getCandlesticksSeries(symbol, interval, startTime, endTime).toCandlesticksList();
+    }
+
+    /**
+     * Method to get the candlesticks of a time range, requesting only the ones not cached yet
+     *
+     * @param symbol:    symbol to fetch es. BTCBUSD
+     * @param interval:  time period of the candlesticks
+     * @param startTime: timestamp in ms of the start of the range, inclusive
+     * @param endTime:   timestamp in ms of the end of the range, inclusive
+     * @return candlesticks of the range as {@link CandlestickSeries}
+     * @throws IOException when a request has been go wrong or the cache cannot be read or written
+     */
+    public CandlestickSeries getCandlesticksSeries(String symbol, Interval interval, long startTime,
+                                                   long endTime) throws IOException {
+        CandlestickSeries series = new CandlestickSeries();
+        endTime = Math.min(endTime, marketManager.getTimestamp());
+        YearMonth month = YearMonth.from(Instant.ofEpochMilli(startTime).atZone(UTC));
+        long monthStart = startOf(month);
+        while (monthStart <= endTime) {
+            long nextMonthStart = startOf(month.plusMonths(1));
+            series.append(getMonth(symbol, interval, month, Math.max(startTime, monthStart),
+                    Math.min(endTime, nextMonthStart - 1)));
+            month = month.plusMonths(1);
+            monthStart = nextMonthStart;
+        }
+        return series;
+    }
+
+    /**
+     * Method to get the candlesticks of a range inside a month, topping up its file when needed
+     *
+     * @param symbol:   symbol to fetch
+     * @param interval: time period of the candlesticks
+     * @param month:    the month of the range
+     * @param from:     timestamp in ms of the start of the range, inclusive
+     * @param to:       timestamp in ms of the end of the range, inclusive
+     * @return candlesticks of the range as {@link CandlestickSeries}
+     * @throws IOException when a request has been go wrong or the file cannot be read or written
+     */
+    private CandlestickSeries getMonth(String symbol, Interval interval, YearMonth month, long from,
+                                       long to) throws IOException {
+        Path file = directory.resolve(symbol).resolve(directoryOf(interval)).resolve(month + FILE_EXTENSION);
+        Object lock = locks.computeIfAbsent(file, key -> new Object());
+        synchronized (lock) {
+            MonthFile cached = read(file);
+            if (cached != null && from >= cached.coveredFrom && to <= cached.coveredUntil)
+                return slice(cached.series, from, to);
+            long now = marketManager.getTimestamp();
+            CandlestickSeries stored = new CandlestickSeries();
+            long coveredFrom, coveredUntil;
+            CandlestickSeries tail;
+            if (cached == null) {
+                coveredFrom = from;
+                coveredUntil = to;
+                tail = fetcher.fetch(symbol, interval, from, to);
+            } else {
+                coveredFrom = Math.min(from, cached.coveredFrom);
+                coveredUntil = Math.max(to, cached.coveredUntil);
+                if (from < cached.coveredFrom)
+                    stored.append(fetcher.fetch(symbol, interval, from, cached.coveredFrom - 1));
+                stored.append(cached.series);
+                if (to > cached.coveredUntil)
+                    tail = fetcher.fetch(symbol, interval, cached.coveredUntil + 1, to);
+                else
+                    tail = new CandlestickSeries(0);
+            }
+            int closed = tail.size();
+            while (closed > 0 && tail.getCloseTime()[closed - 1] >= now)
+                closed--;
+            stored.append(tail.slice(0, closed));
+            coveredUntil = Math.min(coveredUntil, now - 1);
+            if (closed < tail.size())
+                coveredUntil = Math.min(coveredUntil, tail.getOpenTime()[closed] - 1);
+            if (coveredUntil >= coveredFrom)
+                write(file, new MonthFile(stored, coveredFrom, coveredUntil));
+            CandlestickSeries series = slice(stored, from, to);
+            series.append(tail.slice(closed, tail.size()));
+            return series;
+        }
+    }
+
+    /**
+     * Method to delete the files of the cache of a symbol and interval
+     *
+     * @param symbol:   symbol of the files to delete
+     * @param interval: interval of the files to delete
+     * @throws IOException when the files cannot be deleted
+     */
+    public void invalidate(String symbol, Interval interval) throws IOException {
+        Path intervalDirectory = directory.resolve(symbol).resolve(directoryOf(interval));
+        if (Files.isDirectory(intervalDirectory)) {
+            try (Stream<Path> files = Files.list(intervalDirectory)) {
+                for (Path file : files.toList()) {
+                    synchronized (locks.computeIfAbsent(file, key -> new Object())) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to get {@link #directory} instance <br>
+     * No-any params required
+     *
+     * @return {@link #directory} instance as {@link Path}
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Method to get {@link #fetcher} instance <br>
+     * No-any params required
+     *
+     * @return {@link #fetcher} instance as {@link CandlestickHistoryFetcher}
+     */
+    public CandlestickHistoryFetcher getFetcher() {
+        return fetcher;
+    }
+
+    /**
+     * Method to read a file of the cache
+     *
+     * @param file: the file to read
+     * @return the content of the file as {@link MonthFile}, {@code "null"} if the file does not exist or is not valid
+     * @throws IOException when the file cannot be read
+     */
+    private static MonthFile read(Path file) throws IOException {
+        if (!Files.exists(file))
+            return null;
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE)
+                return null;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+                return null;
+            long coveredFrom = buffer.getLong();
+            long coveredUntil = buffer.getLong();
+            int size = buffer.getInt();
+            if (size < 0 || fileSize != HEADER_SIZE + (long) size * CANDLESTICK_SIZE)
+                return null;
+            long[] openTime = readLongs(buffer, size);
+            double[] open = readDoubles(buffer, size);
+            double[] high = readDoubles(buffer, size);
+            double[] low = readDoubles(buffer, size);
+            double[] close = readDoubles(buffer, size);
+            double[] volume = readDoubles(buffer, size);
+            long[] closeTime = readLongs(buffer, size);
+            double[] quoteAssetVolume = readDoubles(buffer, size);
+            int[] numberOfTrades = new int[size];
+            buffer.asIntBuffer().get(numberOfTrades);
+            buffer.position(buffer.position() + size * 4);
+            double[] takerBuyBaseAssetVolume = readDoubles(buffer, size);
+            double[] takerBuyQuoteAssetVolume = readDoubles(buffer, size);
+            return new MonthFile(new CandlestickSeries(openTime, open, high, low, close, volume, closeTime,
+                    quoteAssetVolume, numberOfTrades, takerBuyBaseAssetVolume, takerBuyQuoteAssetVolume, size),
+                    coveredFrom, coveredUntil);
+        }
+    }
+
+    /**
+     * Method to write a file of the cache, replacing it atomically
+     *
+     * @param file:      the file to write
+     * @param monthFile: the content of the file
+     * @throws IOException when the file cannot be written
+     */
+    private static void write(Path file, MonthFile monthFile) throws IOException {
+        CandlestickSeries series = monthFile.series;
+        int size = series.size();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + size * CANDLESTICK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(monthFile.coveredFrom).putLong(monthFile.coveredUntil)
+                .putInt(size);
+        writeLongs(buffer, series.getOpenTime());
+        writeDoubles(buffer, series.getOpen());
+        writeDoubles(buffer, series.getHigh());
+        writeDoubles(buffer, series.getLow());
+        writeDoubles(buffer, series.getClose());
+        writeDoubles(buffer, series.getVolume());
+        writeLongs(buffer, series.getCloseTime());
+        writeDoubles(buffer, series.getQuoteAssetVolume());
+        buffer.asIntBuffer().put(series.getNumberOfTrades());
+        buffer.position(buffer.position() + size * 4);
+        writeDoubles(buffer, series.getTakerBuyBaseAssetVolume());
+        writeDoubles(buffer, series.getTakerBuyQuoteAssetVolume());
+        buffer.flip();
+        Files.createDirectories(file.getParent());
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+        }
+        try {
+            Files.move(temporary, file, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, file, REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Method to read a column of long values
+     *
+     * @param buffer: the buffer to read
+     * @param size:   number of values to read
+     * @return the values as long[]
+     */
+    private static long[] readLongs(ByteBuffer buffer, int size) {
+        long[] values = new long[size];
+        buffer.asLongBuffer().get(values);
+        buffer.position(buffer.position() + size * 8);
+        return values;
+    }
+
+    /**
+     * Method to read a column of double values
+     *
+     * @param buffer: the buffer to read
+     * @param size:   number of values to read
+     * @return the values as double[]
+     */
+    private static double[] readDoubles(ByteBuffer buffer, int size) {
+        double[] values = new double[size];
+        buffer.asDoubleBuffer().get(values);
+        buffer.position(buffer.position() + size * 8);
+        return values;
+    }
+
+    /**
+     * Method to write a column of long values
+     *
+     * @param buffer: the buffer where write
+     * @param values: the values to write
+     */
+    private static void writeLongs(ByteBuffer buffer, long[] values) {
+        buffer.asLongBuffer().put(values);
+        buffer.position(buffer.position() + values.length * 8);
+    }
+
+    /**
+     * Method to write a column of double values
+     *
+     * @param buffer: the buffer where write
+     * @param values: the values to write
+     */
+    private static void writeDoubles(ByteBuffer buffer, double[] values) {
+        buffer.asDoubleBuffer().put(values);
+        buffer.position(buffer.position() + values.length * 8);
+    }
+
+    /**
+     * Method to get the candlesticks of a series with the open time in a range
+     *
+     * @param series: the series to slice
+     * @param from:   timestamp in ms of the start of the range, inclusive
+     * @param to:     timestamp in ms of the end of the range, inclusive
+     * @return the candlesticks of the range as {@link CandlestickSeries}
+     */
+    private static CandlestickSeries slice(CandlestickSeries series, long from, long to) {
+        int start = series.indexOf(from);
+        if (start < 0)
+            start = -start - 1;
+        int end = series.indexOf(to);
+        end = end < 0 ? -end - 1 : end + 1;
+        return series.slice(start, Math.max(start, end));
+    }
+
+    /**
+     * Method to get the timestamp of the start of a month
+     *
+     * @param month: the month
+     * @return timestamp in ms of the start of the month as long
+     */
+    private static long startOf(YearMonth month) {
+        return month.atDay(1).atStartOfDay(UTC).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Method to get the name of the directory of an interval
+     *
+     * @param interval: the interval
+     * @return name of the directory as {@link String}
+     * @implNote the {@link Interval#_1M} interval is stored as {@code "1mo"}, to not clash with the
+     * {@link Interval#_1m} interval on the case-insensitive file systems
+     */
+    private static String directoryOf(Interval interval) {
+        if (interval == _1M)
+            return "1mo";
+        return interval.toString();
+    }
+
+    /**
+     * The {@code MonthFile} class is useful to memorize the content of a file of the cache
+     */
+    private static class MonthFile {
+
+        /**
+         * {@code series} is instance that memorizes the candlesticks of the file
+         */
+        private final CandlestickSeries series;
+
+        /**
+         * {@code coveredFrom} is instance that memorizes the start of the range of open times fetched, inclusive
+         */
+        private final long coveredFrom;
+
+        /**
+         * {@code coveredUntil} is instance that memorizes the end of the range of open times fetched, inclusive
+         */
+        private final long coveredUntil;
+
+        /**
+         * Constructor to init a {@link MonthFile}
+         *
+         * @param series:       candlesticks of the file
+         * @param coveredFrom:  start of the range of open times fetched, inclusive
+         * @param coveredUntil: end of the range of open times fetched, inclusive
+         */
+        private MonthFile(CandlestickSeries series, long coveredFrom, long coveredUntil) {
+            this.series = series;
+            this.coveredFrom = coveredFrom;
+            this.coveredUntil = coveredUntil;
+        }
+
+    }
+
+}
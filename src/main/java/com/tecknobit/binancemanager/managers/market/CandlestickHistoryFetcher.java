@@ -0,0 +1,353 @@
+package com.tecknobit.binancemanager.managers.market;
+
+import com.tecknobit.binancemanager.managers.market.records.stats.Candlestick.Interval;
+import com.tecknobit.binancemanager.managers.market.records.stats.CandlestickSeries;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static com.tecknobit.binancemanager.managers.BinanceManager.Params;
+
+/**
+ * The {@code CandlestickHistoryFetcher} class is useful to fetch the candlesticks of a time range longer than a page
+ * of the {@code "Binance"}'s responses
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the range is split in windows of {@link #getPageSize()} candlesticks, that are fetched at the same time,
+ * up to {@link #getParallelism()} windows, with the {@link BinanceMarketManager#async(java.util.concurrent.Callable)}
+ * requests. The pages are dispatched in order of open time for each symbol and the candlesticks already dispatched
+ * are discarded, so the pages can be stitched together. The asynchronous requests need the concurrent transport, so
+ * {@link BinanceMarketManager#enableConcurrentTransport()} must be invoked before fetching. Enable the rate limiter of
+ * the manager with {@link BinanceMarketManager#enableRateLimiter()} to keep the requests within the weight budget
+ * @see BinanceMarketManager#getCandlesticksSeries(String, Interval, Params)
+ * @see BinanceMarketManager#getUIKLinesSeries(String, Interval, Params)
+ */
+public class CandlestickHistoryFetcher {
+
+    /**
+     * {@code MAX_PAGE_SIZE} is the max number of candlesticks returned by a request
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * {@code DEFAULT_PARALLELISM} is the default number of windows fetched at the same time
+     */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    /**
+     * {@code marketManager} is instance used to fetch the candlesticks
+     */
+    private final BinanceMarketManager marketManager;
+
+    /**
+     * {@code uiKlines} whether fetch the UIKlines instead of the klines
+     */
+    private final boolean uiKlines;
+
+    /**
+     * {@code parallelism} is instance that memorizes the number of windows fetched at the same time
+     */
+    private volatile int parallelism = DEFAULT_PARALLELISM;
+
+    /**
+     * {@code pageSize} is instance that memorizes the number of candlesticks requested for each window
+     */
+    private volatile int pageSize = MAX_PAGE_SIZE;
+
+    /**
+     * Constructor to init a {@link CandlestickHistoryFetcher} of the klines
+     *
+     * @param marketManager: manager used to fetch the candlesticks
+     */
+    public CandlestickHistoryFetcher(BinanceMarketManager marketManager) {
+        this(marketManager, false);
+    }
+
+    /**
+     * Constructor to init a {@link CandlestickHistoryFetcher}
+     *
+     * @param marketManager: manager used to fetch the candlesticks
+     * @param uiKlines:      whether fetch the UIKlines instead of the klines
+     */
+    public CandlestickHistoryFetcher(BinanceMarketManager marketManager, boolean uiKlines) {
+        this.marketManager = marketManager;
+        this.uiKlines = uiKlines;
+    }
+
+    /**
+     * Method to fetch the candlesticks of a time range
+     *
+     * @param symbol:    symbol to fetch es. BTCBUSD
+     * @param interval:  time period of the candlesticks
+     * @param startTime: timestamp in ms of the start of the range, inclusive
+     * @param endTime:   timestamp in ms of the end of the range, inclusive
+     * @return candlesticks of the range as {@link CandlestickSeries}
+     * @throws IOException when a request has been go wrong
+     * @throws IllegalStateException when the concurrent transport of the {@link #marketManager} is not enabled
+     */
+    public CandlestickSeries fetch(String symbol, Interval interval, long startTime, long endTime) throws IOException {
+        CandlestickSeries series = new CandlestickSeries();
+        fetch(symbol, interval, startTime, endTime, series::append);
+        return series;
+    }
+
+    /**
+     * Method to fetch the candlesticks of a time range dispatching them page by page
+     *
+     * @param symbol:       symbol to fetch es. BTCBUSD
+     * @param interval:     time period of the candlesticks
+     * @param startTime:    timestamp in ms of the start of the range, inclusive
+     * @param endTime:      timestamp in ms of the end of the range, inclusive
+     * @param pageListener: listener that receives the pages in order of open time
+     * @throws IOException when a request has been go wrong
+     * @throws IllegalStateException when the concurrent transport of the {@link #marketManager} is not enabled
+     */
+    public void fetch(String symbol, Interval interval, long startTime, long endTime,
+                      Consumer<CandlestickSeries> pageListener) throws IOException {
+        fetch(List.of(symbol), interval, startTime, endTime, (pageSymbol, page) -> pageListener.accept(page));
+    }
+
+    /**
+     * Method to fetch the candlesticks of a time range for more symbols
+     *
+     * @param symbols:   symbols to fetch
+     * @param interval:  time period of the candlesticks
+     * @param startTime: timestamp in ms of the start of the range, inclusive
+     * @param endTime:   timestamp in ms of the end of the range, inclusive
+     * @return candlesticks of the range as {@link HashMap} with symbols as keys and {@link CandlestickSeries} as
+     * values
+     * @throws IOException when a request has been go wrong
+     * @throws IllegalStateException when the concurrent transport of the {@link #marketManager} is not enabled
+     */
+    public HashMap<String, CandlestickSeries> fetch(Collection<String> symbols, Interval interval, long startTime,
+                                                    long endTime) throws IOException {
+        HashMap<String, CandlestickSeries> series = new HashMap<>();
+        for (String symbol : symbols)
+            series.put(symbol, new CandlestickSeries());
+        fetch(symbols, interval, startTime, endTime, (symbol, page) -> series.get(symbol).append(page));
+        return series;
+    }
+
+    /**
+     * Method to fetch the candlesticks of a time range for more symbols dispatching them page by page
+     *
+     * @param symbols:      symbols to fetch
+     * @param interval:     time period of the candlesticks
+     * @param startTime:    timestamp in ms of the start of the range, inclusive
+     * @param endTime:      timestamp in ms of the end of the range, inclusive
+     * @param pageListener: listener that receives the symbol and the pages, in order of open time for each symbol
+     * @throws IOException when a request has been go wrong
+     * @throws IllegalStateException when the concurrent transport of the {@link #marketManager} is not enabled
+     * @implNote the windows of all the symbols share the same {@link #parallelism}, and the listener is invoked by
+     * the thread that invokes this method
+     */
+    public void fetch(Collection<String> symbols, Interval interval, long startTime, long endTime,
+                      BiConsumer<String, CandlestickSeries> pageListener) throws IOException {
+        marketManager.checkConcurrentTransport();
+        int pageSize = this.pageSize;
+        int parallelism = this.parallelism;
+        long window = interval.getDuration() * pageSize;
+        ArrayDeque<Window> pending = new ArrayDeque<>();
+        HashMap<String, Long> lastOpenTimes = new HashMap<>();
+        try {
+            for (String symbol : symbols) {
+                for (long from = startTime; from <= endTime; from += window) {
+                    long to = Math.min(from + window - 1, endTime);
+                    if (pending.size() == parallelism)
+                        dispatch(pending.poll(), lastOpenTimes, pageListener);
+                    long windowStart = from;
+                    pending.add(new Window(symbol, marketManager.async(() -> fetchWindow(symbol, interval,
+                            windowStart, to, pageSize))));
+                    if (to == endTime)
+                        break;
+                }
+            }
+            while (!pending.isEmpty())
+                dispatch(pending.poll(), lastOpenTimes, pageListener);
+        } finally {
+            for (Window remaining : pending)
+                remaining.page.cancel(true);
+        }
+    }
+
+    /**
+     * Method to fetch the candlesticks of a time range asynchronously
+     *
+     * @param symbol:    symbol to fetch es. BTCBUSD
+     * @param interval:  time period of the candlesticks
+     * @param startTime: timestamp in ms of the start of the range, inclusive
+     * @param endTime:   timestamp in ms of the end of the range, inclusive
+     * @return the future candlesticks of the range as {@link CompletableFuture} of {@link CandlestickSeries}
+     * @throws IllegalStateException when the concurrent transport of the {@link #marketManager} is not enabled
+     */
+    public CompletableFuture<CandlestickSeries> fetchAsync(String symbol, Interval interval, long startTime,
+                                                          long endTime) {
+        marketManager.checkConcurrentTransport();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return fetch(symbol, interval, startTime, endTime);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, marketManager.getAsyncExecutor());
+    }
+
+    /**
+     * Method to fetch the candlesticks of a window, with more requests if a page does not contain all of them
+     *
+     * @param symbol:   symbol to fetch
+     * @param interval: time period of the candlesticks
+     * @param from:     timestamp in ms of the start of the window, inclusive
+     * @param to:       timestamp in ms of the end of the window, inclusive
+     * @param pageSize: the number of candlesticks to request
+     * @return candlesticks of the window as {@link CandlestickSeries}
+     * @throws IOException when a request has been go wrong
+     */
+    private CandlestickSeries fetchWindow(String symbol, Interval interval, long from, long to,
+                                          int pageSize) throws IOException {
+        CandlestickSeries series = null;
+        while (true) {
+            Params query = new Params();
+            query.addParam("startTime", from);
+            query.addParam("endTime", to);
+            query.addParam("limit", pageSize);
+            CandlestickSeries page;
+            if (uiKlines)
+                page = marketManager.getUIKLinesSeries(symbol, interval, query);
+            else
+                page = marketManager.getCandlesticksSeries(symbol, interval, query);
+            if (series == null)
+                series = page;
+            else
+                series.append(page);
+            if (page.size() < pageSize)
+                return series;
+            long next = page.getOpenTime()[page.size() - 1] + 1;
+            if (next > to)
+                return series;
+            from = next;
+        }
+    }
+
+    /**
+     * Method to wait a window and dispatch its candlesticks not already dispatched
+     *
+     * @param window:        the window to dispatch
+     * @param lastOpenTimes: the open times of the last candlesticks dispatched for each symbol
+     * @param pageListener:  listener that receives the symbol and the pages
+     * @throws IOException when the request of the window has been go wrong
+     */
+    private void dispatch(Window window, HashMap<String, Long> lastOpenTimes,
+                          BiConsumer<String, CandlestickSeries> pageListener) throws IOException {
+        CandlestickSeries page;
+        try {
+            page = window.page.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException)
+                throw (IOException) cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            throw new IOException(cause);
+        }
+        Long lastOpenTime = lastOpenTimes.get(window.symbol);
+        if (lastOpenTime != null) {
+            int first = page.indexOf(lastOpenTime + 1);
+            if (first < 0)
+                first = -first - 1;
+            if (first > 0)
+                page = page.slice(first, page.size());
+        }
+        if (!page.isEmpty()) {
+            lastOpenTimes.put(window.symbol, page.getOpenTime()[page.size() - 1]);
+            pageListener.accept(window.symbol, page);
+        }
+    }
+
+    /**
+     * Method to get {@link #uiKlines} instance <br>
+     * No-any params required
+     *
+     * @return {@link #uiKlines} instance as boolean
+     */
+    public boolean isUiKlines() {
+        return uiKlines;
+    }
+
+    /**
+     * Method to get {@link #parallelism} instance <br>
+     * No-any params required
+     *
+     * @return {@link #parallelism} instance as int
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Method to set {@link #parallelism} instance
+     *
+     * @param parallelism: number of windows fetched at the same time
+     * @throws IllegalArgumentException when the parallelism is not positive
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0)
+            throw new IllegalArgumentException("Parallelism must be positive");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Method to get {@link #pageSize} instance <br>
+     * No-any params required
+     *
+     * @return {@link #pageSize} instance as int
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Method to set {@link #pageSize} instance
+     *
+     * @param pageSize: number of candlesticks requested for each window, max {@link #MAX_PAGE_SIZE}
+     * @throws IllegalArgumentException when the page size is not between 1 and {@link #MAX_PAGE_SIZE}
+     */
+    public void setPageSize(int pageSize) {
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE)
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * The {@code Window} class is useful to memorize a window in fetching
+     */
+    private static class Window {
+
+        /**
+         * {@code symbol} is instance that memorizes symbol of the window
+         */
+        private final String symbol;
+
+        /**
+         * {@code page} is instance that memorizes the future candlesticks of the window
+         */
+        private final CompletableFuture<CandlestickSeries> page;
+
+        /**
+         * Constructor to init a {@link Window}
+         *
+         * @param symbol: symbol of the window
+         * @param page:   the future candlesticks of the window
+         */
+        private Window(String symbol, CompletableFuture<CandlestickSeries> page) {
+            this.symbol = symbol;
+            this.page = page;
+        }
+
+    }
+
+}
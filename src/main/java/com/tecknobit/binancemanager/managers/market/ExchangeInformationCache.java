@@ -0,0 +1,278 @@
+package com.tecknobit.binancemanager.managers.market;
+
+import com.tecknobit.binancemanager.managers.BinanceRateLimiter;
+import com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation;
+import com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.Symbol;
+import com.tecknobit.binancemanager.managers.market.records.stats.SymbolFilters;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The {@code ExchangeInformationCache} class is useful to keep the {@link ExchangeInformation} in memory, refreshing
+ * it when its time to live is expired
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote each refresh builds an immutable snapshot with the {@link Symbol}s and their {@link SymbolFilters} indexed
+ * by name, so the lookups cost a map access and never wait for a request when the background refresh is started with
+ * {@link #startBackgroundRefresh()}. Without the background refresh the snapshot expired is refreshed by the first
+ * lookup. When the manager has a rate limiter enabled its limits are loaded from each exchange information fetched
+ * @see BinanceMarketManager#getExchangeInformation()
+ */
+public class ExchangeInformationCache {
+
+    /**
+     * {@code DEFAULT_TIME_TO_LIVE} is the default time to live, in milliseconds, of the exchange information
+     */
+    public static final long DEFAULT_TIME_TO_LIVE = 60 * 60 * 1000;
+
+    /**
+     * {@code marketManager} is instance used to fetch the exchange information
+     */
+    private final BinanceMarketManager marketManager;
+
+    /**
+     * {@code timeToLive} is instance that memorizes the time to live, in milliseconds, of the exchange information
+     */
+    private final long timeToLive;
+
+    /**
+     * {@code snapshot} is instance that memorizes the last exchange information fetched
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * {@code refresher} is the executor of the background refresh, {@code "null"} if not started
+     */
+    private ScheduledExecutorService refresher;
+
+    /**
+     * {@code refreshTask} is the task of the background refresh, {@code "null"} if not started
+     */
+    private ScheduledFuture<?> refreshTask;
+
+    /**
+     * {@code errorListener} is instance that receives the errors occurred during the background refresh
+     */
+    private volatile Consumer<Exception> errorListener;
+
+    /**
+     * Constructor to init an {@link ExchangeInformationCache} with the {@link #DEFAULT_TIME_TO_LIVE}
+     *
+     * @param marketManager: manager used to fetch the exchange information
+     */
+    public ExchangeInformationCache(BinanceMarketManager marketManager) {
+        this(marketManager, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Constructor to init an {@link ExchangeInformationCache}
+     *
+     * @param marketManager: manager used to fetch the exchange information
+     * @param timeToLive:    time to live, in milliseconds, of the exchange information
+     * @throws IllegalArgumentException when the time to live is not positive
+     */
+    public ExchangeInformationCache(BinanceMarketManager marketManager, long timeToLive) {
+        if (timeToLive <= 0)
+            throw new IllegalArgumentException("Time to live must be positive");
+        this.marketManager = marketManager;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Method to get the exchange information, refreshing it if expired <br>
+     * No-any params required
+     *
+     * @return exchange information as {@link ExchangeInformation}
+     * @throws IOException when the request to refresh the exchange information has been go wrong
+     */
+    public ExchangeInformation getExchangeInformation() throws IOException {
+        return currentSnapshot().exchangeInformation;
+    }
+
+    /**
+     * Method to get a symbol of the exchange information
+     *
+     * @param symbol: name of the symbol to fetch es. BTCBUSD
+     * @return symbol as {@link Symbol}, {@code "null"} if it is not listed
+     * @throws IOException when the request to refresh the exchange information has been go wrong
+     */
+    public Symbol getSymbol(String symbol) throws IOException {
+        return currentSnapshot().exchangeInformation.getSymbol(symbol);
+    }
+
+    /**
+     * Method to get the filters of a symbol as primitive values
+     *
+     * @param symbol: name of the symbol to fetch es. BTCBUSD
+     * @return filters of the symbol as {@link SymbolFilters}, {@code "null"} if it is not listed
+     * @throws IOException when the request to refresh the exchange information has been go wrong
+     */
+    public SymbolFilters getSymbolFilters(String symbol) throws IOException {
+        return currentSnapshot().symbolsFilters.get(symbol);
+    }
+
+    /**
+     * Method to refresh the exchange information <br>
+     * No-any params required
+     *
+     * @return exchange information fetched as {@link ExchangeInformation}
+     * @throws IOException when the request has been go wrong
+     */
+    public ExchangeInformation refresh() throws IOException {
+        ExchangeInformation exchangeInformation = marketManager.getExchangeInformation();
+        HashMap<String, SymbolFilters> symbolsFilters = new HashMap<>(exchangeInformation.getSymbols().size() * 2);
+        for (Symbol symbol : exchangeInformation.getSymbols())
+            symbolsFilters.put(symbol.getSymbol(), new SymbolFilters(symbol));
+        BinanceRateLimiter rateLimiter = marketManager.getRateLimiter();
+        if (rateLimiter != null)
+            rateLimiter.loadRateLimits(exchangeInformation);
+        snapshot = new Snapshot(exchangeInformation, symbolsFilters, System.currentTimeMillis() + timeToLive);
+        return exchangeInformation;
+    }
+
+    /**
+     * Method to start refreshing the exchange information in background, at each {@link #timeToLive} <br>
+     * No-any params required
+     *
+     * @apiNote the errors occurred are dispatched to the {@link #errorListener} and the last exchange information
+     * fetched is kept until the next successful refresh
+     */
+    public synchronized void startBackgroundRefresh() {
+        if (refresher != null)
+            return;
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "binance-exchange-information-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long initialDelay = snapshot == null ? 0 : Math.max(snapshot.expiresAt - System.currentTimeMillis(), 0);
+        refreshTask = refresher.scheduleAtFixedRate(() -> {
+            try {
+                refresh();
+            } catch (Exception e) {
+                Consumer<Exception> errorListener = this.errorListener;
+                if (errorListener != null)
+                    errorListener.accept(e);
+            }
+        }, initialDelay, timeToLive, MILLISECONDS);
+    }
+
+    /**
+     * Method to stop refreshing the exchange information in background <br>
+     * No-any params required
+     */
+    public synchronized void stopBackgroundRefresh() {
+        if (refresher != null) {
+            refreshTask.cancel(false);
+            refresher.shutdownNow();
+            refresher = null;
+            refreshTask = null;
+        }
+    }
+
+    /**
+     * Method to get whether the background refresh is started <br>
+     * No-any params required
+     *
+     * @return whether the background refresh is started as boolean
+     */
+    public synchronized boolean isBackgroundRefreshStarted() {
+        return refresher != null;
+    }
+
+    /**
+     * Method to get the snapshot to use for a lookup, refreshing it when needed <br>
+     * No-any params required
+     *
+     * @return snapshot as {@link Snapshot}
+     * @throws IOException when the request to refresh the exchange information has been go wrong
+     * @implNote with the background refresh started an expired snapshot is still used, the refresh is already in
+     * progress
+     */
+    private Snapshot currentSnapshot() throws IOException {
+        Snapshot snapshot = this.snapshot;
+        if (snapshot != null && (snapshot.expiresAt > System.currentTimeMillis() || isBackgroundRefreshStarted()))
+            return snapshot;
+        synchronized (this) {
+            snapshot = this.snapshot;
+            if (snapshot == null || snapshot.expiresAt <= System.currentTimeMillis()) {
+                refresh();
+                snapshot = this.snapshot;
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Method to get {@link #marketManager} instance <br>
+     * No-any params required
+     *
+     * @return {@link #marketManager} instance as {@link BinanceMarketManager}
+     */
+    public BinanceMarketManager getMarketManager() {
+        return marketManager;
+    }
+
+    /**
+     * Method to get {@link #timeToLive} instance <br>
+     * No-any params required
+     *
+     * @return {@link #timeToLive} instance as long
+     */
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Method to set {@link #errorListener} instance
+     *
+     * @param errorListener: listener that receives the errors occurred during the background refresh
+     */
+    public void setErrorListener(Consumer<Exception> errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    /**
+     * The {@code Snapshot} class is useful to memorize an exchange information fetched
+     */
+    private static class Snapshot {
+
+        /**
+         * {@code exchangeInformation} is instance that memorizes the exchange information fetched
+         */
+        private final ExchangeInformation exchangeInformation;
+
+        /**
+         * {@code symbolsFilters} is instance that memorizes the filters of the symbols, mapped by symbol
+         */
+        private final HashMap<String, SymbolFilters> symbolsFilters;
+
+        /**
+         * {@code expiresAt} is instance that memorizes when the snapshot expires
+         */
+        private final long expiresAt;
+
+        /**
+         * Constructor to init a {@link Snapshot}
+         *
+         * @param exchangeInformation: exchange information fetched
+         * @param symbolsFilters:      filters of the symbols, mapped by symbol
+         * @param expiresAt:           when the snapshot expires
+         */
+        private Snapshot(ExchangeInformation exchangeInformation, HashMap<String, SymbolFilters> symbolsFilters,
+                         long expiresAt) {
+            this.exchangeInformation = exchangeInformation;
+            this.symbolsFilters = symbolsFilters;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,564 @@
+package com.tecknobit.binancemanager.managers.market;
+
+import com.tecknobit.binancemanager.managers.market.records.trade.CompressedTrade;
+import com.tecknobit.binancemanager.managers.market.records.trade.Trade;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+
+import static com.tecknobit.binancemanager.managers.BinanceManager.Params;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The {@code TradesExporter} class is useful to export the whole history of the trades of the symbols into files,
+ * walking the trades by {@code "fromId"}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at:
+ * <ul>
+ *     <li>
+ *         <a href="https://binance-docs.github.io/apidocs/spot/en/#compressed-aggregate-trades-list">
+ *             Compressed/Aggregate Trades List</a>
+ *     </li>
+ *     <li>
+ *         <a href="https://binance-docs.github.io/apidocs/spot/en/#old-trade-lookup">
+ *             Old Trade Lookup (MARKET_DATA)</a>
+ *     </li>
+ * </ul>
+ * @implNote each symbol is exported in the {@code "<directory>/<symbol>-<source><extension>"} file, and after each page
+ * the id of the last trade written and the length of the file are persisted in the
+ * {@code "<directory>/<symbol>-<source>.checkpoint"} file. When an export is started again it resumes from the
+ * checkpoint, discarding the bytes written after it. The symbols are exported at the same time, up to
+ * {@link #getParallelism()} symbols, with the asynchronous requests of the manager that need
+ * {@link BinanceMarketManager#enableConcurrentTransport()}: enable the rate limiter of the manager with
+ * {@link BinanceMarketManager#enableRateLimiter()} to keep the requests within the weight budget, so the exporter
+ * runs at the max weight allowed
+ */
+public class TradesExporter {
+
+    /**
+     * {@code TradesSource} list of available sources of the trades
+     */
+    public enum TradesSource {
+
+        /**
+         * {@code AGGREGATE_TRADES} the compressed trades of the {@code "/api/v3/aggTrades"} endpoint
+         */
+        AGGREGATE_TRADES("aggTrades"),
+
+        /**
+         * {@code HISTORICAL_TRADES} the trades of the {@code "/api/v3/historicalTrades"} endpoint
+         */
+        HISTORICAL_TRADES("historicalTrades");
+
+        /**
+         * {@code source} name of the source
+         */
+        private final String source;
+
+        /**
+         * Constructor to init {@link TradesSource}
+         *
+         * @param source: name of the source
+         */
+        TradesSource(String source) {
+            this.source = source;
+        }
+
+        /**
+         * Method to get {@link #source} instance <br>
+         * No-any params required
+         *
+         * @return {@link #source} instance as {@link String}
+         */
+        @Override
+        public String toString() {
+            return source;
+        }
+
+    }
+
+    /**
+     * {@code ExportFormat} list of available formats of the files exported
+     */
+    public enum ExportFormat {
+
+        /**
+         * {@code CSV} comma separated values with a header line, stored in {@code ".csv"} files
+         */
+        CSV(".csv"),
+
+        /**
+         * {@code BINARY} fixed size little-endian records, stored in {@code ".bin"} files: <br>
+         * aggregate trades -> aggregateTradeId, price, quantity, firstTradeId, lastTradeId, timestamp, flags <br>
+         * historical trades -> id, price, qty, quoteQty, time, flags <br>
+         * where flags is a byte with {@code "isBuyerMaker"} as first bit and {@code "isBestMatch"} as second bit
+         */
+        BINARY(".bin");
+
+        /**
+         * {@code extension} extension of the files
+         */
+        private final String extension;
+
+        /**
+         * Constructor to init {@link ExportFormat}
+         *
+         * @param extension: extension of the files
+         */
+        ExportFormat(String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Method to get {@link #extension} instance <br>
+         * No-any params required
+         *
+         * @return {@link #extension} instance as {@link String}
+         */
+        public String getExtension() {
+            return extension;
+        }
+
+    }
+
+    /**
+     * {@code MAX_PAGE_SIZE} is the max number of trades returned by a request
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * {@code DEFAULT_PARALLELISM} is the default number of symbols exported at the same time
+     */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    /**
+     * {@code CHECKPOINT_EXTENSION} is the extension of the checkpoint files
+     */
+    public static final String CHECKPOINT_EXTENSION = ".checkpoint";
+
+    /**
+     * {@code AGGREGATE_TRADE_SIZE} is the size in bytes of an aggregate trade in the binary format
+     */
+    private static final int AGGREGATE_TRADE_SIZE = 8 * 6 + 1;
+
+    /**
+     * {@code TRADE_SIZE} is the size in bytes of a trade in the binary format
+     */
+    private static final int TRADE_SIZE = 8 * 5 + 1;
+
+    /**
+     * {@code marketManager} is instance used to fetch the trades
+     */
+    private final BinanceMarketManager marketManager;
+
+    /**
+     * {@code directory} is instance that memorizes the directory where the files are exported
+     */
+    private final Path directory;
+
+    /**
+     * {@code source} is instance that memorizes the source of the trades
+     */
+    private final TradesSource source;
+
+    /**
+     * {@code format} is instance that memorizes the format of the files exported
+     */
+    private final ExportFormat format;
+
+    /**
+     * {@code parallelism} is instance that memorizes the number of symbols exported at the same time
+     */
+    private volatile int parallelism = DEFAULT_PARALLELISM;
+
+    /**
+     * {@code progressListener} is instance that receives the symbol and the id of the last trade persisted
+     */
+    private volatile BiConsumer<String, Long> progressListener;
+
+    /**
+     * Constructor to init a {@link TradesExporter}
+     *
+     * @param marketManager: manager used to fetch the trades
+     * @param directory:     directory where the files are exported
+     * @param source:        source of the trades
+     * @param format:        format of the files exported
+     */
+    public TradesExporter(BinanceMarketManager marketManager, Path directory, TradesSource source,
+                          ExportFormat format) {
+        this.marketManager = marketManager;
+        this.directory = directory;
+        this.source = source;
+        this.format = format;
+    }
+
+    /**
+     * Method to export the trades of a symbol
+     *
+     * @param symbol: symbol to export es. BTCBUSD
+     * @param fromId: id of the first trade to export, when there is not a checkpoint
+     * @param toId:   id of the last trade to export, inclusive, or a negative value to export until the last trade
+     * @return id of the last trade persisted as long, {@code "fromId - 1"} if no trade has been persisted
+     * @throws IOException when a request has been go wrong or the files cannot be written
+     */
+    public long export(String symbol, long fromId, long toId) throws IOException {
+        Path file = getExportFile(symbol);
+        Path checkpointFile = getCheckpointFile(symbol);
+        Files.createDirectories(directory);
+        long lastId = fromId - 1;
+        long length = 0;
+        if (Files.exists(checkpointFile)) {
+            Properties checkpoint = new Properties();
+            try (InputStream input = Files.newInputStream(checkpointFile)) {
+                checkpoint.load(input);
+            }
+            lastId = Long.parseLong(checkpoint.getProperty("lastId"));
+            length = Long.parseLong(checkpoint.getProperty("length"));
+        }
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE)) {
+            channel.truncate(length);
+            channel.position(length);
+            if (length == 0 && format == ExportFormat.CSV)
+                length += write(channel, ByteBuffer.wrap(csvHeader().getBytes(StandardCharsets.UTF_8)));
+            while (toId < 0 || lastId < toId) {
+                Params query = new Params();
+                query.addParam("fromId", lastId + 1);
+                query.addParam("limit", MAX_PAGE_SIZE);
+                ByteBuffer page;
+                int pageSize;
+                long pageLastId;
+                if (source == TradesSource.AGGREGATE_TRADES) {
+                    ArrayList<CompressedTrade> trades = marketManager.getCompressedTradesList(symbol, query);
+                    while (toId >= 0 && !trades.isEmpty() && trades.get(trades.size() - 1).getAggregateTradeId() > toId)
+                        trades.remove(trades.size() - 1);
+                    if (trades.isEmpty())
+                        break;
+                    pageSize = trades.size();
+                    pageLastId = trades.get(pageSize - 1).getAggregateTradeId();
+                    page = encodeCompressedTrades(trades);
+                } else {
+                    ArrayList<Trade> trades = marketManager.getOldTradeList(symbol, query);
+                    while (toId >= 0 && !trades.isEmpty() && trades.get(trades.size() - 1).getId() > toId)
+                        trades.remove(trades.size() - 1);
+                    if (trades.isEmpty())
+                        break;
+                    pageSize = trades.size();
+                    pageLastId = trades.get(pageSize - 1).getId();
+                    page = encodeTrades(trades);
+                }
+                length += write(channel, page);
+                channel.force(false);
+                lastId = pageLastId;
+                writeCheckpoint(checkpointFile, lastId, length);
+                BiConsumer<String, Long> progressListener = this.progressListener;
+                if (progressListener != null)
+                    progressListener.accept(symbol, lastId);
+                if (pageSize < MAX_PAGE_SIZE)
+                    break;
+            }
+        }
+        return lastId;
+    }
+
+    /**
+     * Method to export the trades of more symbols at the same time
+     *
+     * @param symbols: symbols to export
+     * @param fromId:  id of the first trade to export, when there is not a checkpoint
+     * @param toId:    id of the last trade to export, inclusive, or a negative value to export until the last trade
+     * @return ids of the last trades exported as {@link HashMap} with symbols as keys and ids as values
+     * @throws IOException           when a request has been go wrong or the files cannot be written
+     * @throws IllegalStateException when the concurrent transport of the {@link #marketManager} is not enabled, the
+     *                               symbols are exported with its asynchronous requests
+     * @implNote when the export of a symbol fails the other symbols are completed, then the first error is thrown:
+     * the exports can be resumed invoking again this method
+     */
+    public HashMap<String, Long> export(Collection<String> symbols, long fromId, long toId) throws IOException {
+        marketManager.checkConcurrentTransport();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "binance-trades-exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            HashMap<String, CompletableFuture<Long>> exports = new HashMap<>();
+            for (String symbol : symbols)
+                exports.put(symbol, marketManager.async(() -> export(symbol, fromId, toId), executor));
+            HashMap<String, Long> lastIds = new HashMap<>();
+            IOException error = null;
+            for (String symbol : exports.keySet()) {
+                try {
+                    lastIds.put(symbol, exports.get(symbol).join());
+                } catch (CompletionException e) {
+                    if (error == null)
+                        error = e.getCause() instanceof IOException ? (IOException) e.getCause()
+                                : new IOException(e.getCause());
+                }
+            }
+            if (error != null)
+                throw error;
+            return lastIds;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Method to get the id of the last trade persisted of a symbol
+     *
+     * @param symbol: symbol of the export
+     * @return id of the last trade persisted as long, {@code "-1"} if there is not a checkpoint
+     * @throws IOException when the checkpoint cannot be read
+     */
+    public long getLastPersistedId(String symbol) throws IOException {
+        Path checkpointFile = getCheckpointFile(symbol);
+        if (!Files.exists(checkpointFile))
+            return -1;
+        Properties checkpoint = new Properties();
+        try (InputStream input = Files.newInputStream(checkpointFile)) {
+            checkpoint.load(input);
+        }
+        return Long.parseLong(checkpoint.getProperty("lastId"));
+    }
+
+    /**
+     * Method to get the file where the trades of a symbol are exported
+     *
+     * @param symbol: symbol of the export
+     * @return file of the export as {@link Path}
+     */
+    public Path getExportFile(String symbol) {
+        return directory.resolve(symbol + "-" + source + format.getExtension());
+    }
+
+    /**
+     * Method to get the checkpoint file of the export of a symbol
+     *
+     * @param symbol: symbol of the export
+     * @return checkpoint file of the export as {@link Path}
+     */
+    public Path getCheckpointFile(String symbol) {
+        return directory.resolve(symbol + "-" + source + CHECKPOINT_EXTENSION);
+    }
+
+    /**
+     * Method to encode a page of compressed trades
+     *
+     * @param trades: the trades to encode
+     * @return trades encoded as {@link ByteBuffer}
+     */
+    private ByteBuffer encodeCompressedTrades(ArrayList<CompressedTrade> trades) {
+        if (format == ExportFormat.CSV) {
+            StringBuilder csv = new StringBuilder(trades.size() * 96);
+            for (CompressedTrade trade : trades) {
+                csv.append(trade.getAggregateTradeId()).append(',')
+                        .append(plain(trade.getPrice())).append(',')
+                        .append(plain(trade.getQuantity())).append(',')
+                        .append(trade.getFirstTradeId()).append(',')
+                        .append(trade.getLastTradeId()).append(',')
+                        .append(trade.getTimestamp()).append(',')
+                        .append(trade.isBuyerMaker()).append(',')
+                        .append(trade.isBestMatch()).append('\n');
+            }
+            return ByteBuffer.wrap(csv.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(trades.size() * AGGREGATE_TRADE_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        for (CompressedTrade trade : trades) {
+            buffer.putLong(trade.getAggregateTradeId())
+                    .putDouble(trade.getPrice())
+                    .putDouble(trade.getQuantity())
+                    .putLong(trade.getFirstTradeId())
+                    .putLong(trade.getLastTradeId())
+                    .putLong(trade.getTimestamp())
+                    .put(flags(trade.isBuyerMaker(), trade.isBestMatch()));
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Method to encode a page of trades
+     *
+     * @param trades: the trades to encode
+     * @return trades encoded as {@link ByteBuffer}
+     */
+    private ByteBuffer encodeTrades(ArrayList<Trade> trades) {
+        if (format == ExportFormat.CSV) {
+            StringBuilder csv = new StringBuilder(trades.size() * 96);
+            for (Trade trade : trades) {
+                csv.append(trade.getId()).append(',')
+                        .append(plain(trade.getPrice())).append(',')
+                        .append(plain(trade.getQty())).append(',')
+                        .append(plain(trade.getQuoteQty())).append(',')
+                        .append(trade.getTime()).append(',')
+                        .append(trade.isBuyerMaker()).append(',')
+                        .append(trade.isBestMatch()).append('\n');
+            }
+            return ByteBuffer.wrap(csv.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(trades.size() * TRADE_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        for (Trade trade : trades) {
+            buffer.putLong(trade.getId())
+                    .putDouble(trade.getPrice())
+                    .putDouble(trade.getQty())
+                    .putDouble(trade.getQuoteQty())
+                    .putLong(trade.getTime())
+                    .put(flags(trade.isBuyerMaker(), trade.isBestMatch()));
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Method to get the header line of the CSV files <br>
+     * No-any params required
+     *
+     * @return header line as {@link String}
+     */
+    private String csvHeader() {
+        if (source == TradesSource.AGGREGATE_TRADES)
+            return "aggregateTradeId,price,quantity,firstTradeId,lastTradeId,timestamp,isBuyerMaker,isBestMatch\n";
+        return "id,price,qty,quoteQty,time,isBuyerMaker,isBestMatch\n";
+    }
+
+    /**
+     * Method to write a checkpoint, replacing the previous one atomically
+     *
+     * @param checkpointFile: the checkpoint file
+     * @param lastId:         id of the last trade written
+     * @param length:         length of the file exported
+     * @throws IOException when the checkpoint cannot be written
+     */
+    private static void writeCheckpoint(Path checkpointFile, long lastId, long length) throws IOException {
+        Properties checkpoint = new Properties();
+        checkpoint.setProperty("lastId", String.valueOf(lastId));
+        checkpoint.setProperty("length", String.valueOf(length));
+        Path temporary = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try (OutputStream output = Files.newOutputStream(temporary)) {
+            checkpoint.store(output, null);
+        }
+        try {
+            Files.move(temporary, checkpointFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, checkpointFile, REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Method to write a buffer in a channel
+     *
+     * @param channel: the channel where write
+     * @param buffer:  the buffer to write
+     * @return number of bytes written as int
+     * @throws IOException when the buffer cannot be written
+     */
+    private static int write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        int written = buffer.remaining();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        return written;
+    }
+
+    /**
+     * Method to format a value without the scientific notation
+     *
+     * @param value: the value to format
+     * @return value formatted as {@link String}
+     */
+    private static String plain(double value) {
+        return BigDecimal.valueOf(value).toPlainString();
+    }
+
+    /**
+     * Method to pack the flags of a trade
+     *
+     * @param isBuyerMaker: whether the buyer is the maker
+     * @param isBestMatch:  whether the trade is the best match
+     * @return flags as byte
+     */
+    private static byte flags(boolean isBuyerMaker, boolean isBestMatch) {
+        return (byte) ((isBuyerMaker ? 1 : 0) | (isBestMatch ? 2 : 0));
+    }
+
+    /**
+     * Method to get {@link #directory} instance <br>
+     * No-any params required
+     *
+     * @return {@link #directory} instance as {@link Path}
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Method to get {@link #source} instance <br>
+     * No-any params required
+     *
+     * @return {@link #source} instance as {@link TradesSource}
+     */
+    public TradesSource getSource() {
+        return source;
+    }
+
+    /**
+     * Method to get {@link #format} instance <br>
+     * No-any params required
+     *
+     * @return {@link #format} instance as {@link ExportFormat}
+     */
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Method to get {@link #parallelism} instance <br>
+     * No-any params required
+     *
+     * @return {@link #parallelism} instance as int
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Method to set {@link #parallelism} instance
+     *
+     * @param parallelism: number of symbols exported at the same time
+     * @throws IllegalArgumentException when the parallelism is not positive
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0)
+            throw new IllegalArgumentException("Parallelism must be positive");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Method to set {@link #progressListener} instance
+     *
+     * @param progressListener: listener that receives the symbol and the id of the last trade persisted
+     */
+    public void setProgressListener(BiConsumer<String, Long> progressListener) {
+        this.progressListener = progressListener;
+    }
+
+}
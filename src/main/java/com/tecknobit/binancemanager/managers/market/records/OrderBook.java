@@ -63,8 +63,8 @@ public class OrderBook {
         JsonHelper hBook = new JsonHelper(orderBook);
         symbol = hBook.getString("symbol");
         lastUpdateId = hBook.getLong("lastUpdateId", 0);
-        orderDetailsAsks = returnOrdersList(hBook.getJSONArray("bids"));
-        orderDetailsBids = returnOrdersList(hBook.getJSONArray("asks"));
+        orderDetailsBids = returnOrdersList(hBook.getJSONArray("bids"));
+        orderDetailsAsks = returnOrdersList(hBook.getJSONArray("asks"));
     }
 
     /**
@@ -0,0 +1,382 @@
+package com.tecknobit.binancemanager.managers.market.records;
+
+import com.tecknobit.binancemanager.managers.market.records.OrderBook.BookOrderDetails;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * The {@code PrimitiveOrderBook} class is useful to format an order book in a primitive form, where each side is
+ * stored in parallel arrays of prices and quantities
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#order-book">
+ * Order Book</a>
+ * @implNote the response is parsed directly into the arrays, without creating any {@link JSONObject} or
+ * {@link BookOrderDetails}, and the same instance can be reused with {@link #parse(String)} to refresh the book
+ * without allocating new arrays
+ * @see OrderBook
+ */
+public class PrimitiveOrderBook {
+
+    /**
+     * {@code symbol} is instance that memorizes symbol of the order book
+     */
+    private final String symbol;
+
+    /**
+     * {@code lastUpdateId} is instance that memorizes last update identifier
+     */
+    private long lastUpdateId;
+
+    /**
+     * {@code bidPrices} is instance that memorizes the prices of the bids
+     */
+    private double[] bidPrices;
+
+    /**
+     * {@code bidQuantities} is instance that memorizes the quantities of the bids
+     */
+    private double[] bidQuantities;
+
+    /**
+     * {@code bidsCount} is instance that memorizes the number of the bids
+     */
+    private int bidsCount;
+
+    /**
+     * {@code askPrices} is instance that memorizes the prices of the asks
+     */
+    private double[] askPrices;
+
+    /**
+     * {@code askQuantities} is instance that memorizes the quantities of the asks
+     */
+    private double[] askQuantities;
+
+    /**
+     * {@code asksCount} is instance that memorizes the number of the asks
+     */
+    private int asksCount;
+
+    /**
+     * {@code position} is the position reached by the parser in the current response
+     */
+    private int position;
+
+    /**
+     * Constructor to init a {@link PrimitiveOrderBook}
+     *
+     * @param symbol:   symbol of the order book
+     * @param capacity: initial number of levels for each side
+     */
+    public PrimitiveOrderBook(String symbol, int capacity) {
+        this.symbol = symbol;
+        capacity = Math.max(capacity, 1);
+        bidPrices = new double[capacity];
+        bidQuantities = new double[capacity];
+        askPrices = new double[capacity];
+        askQuantities = new double[capacity];
+    }
+
+    /**
+     * Constructor to init a {@link PrimitiveOrderBook}
+     *
+     * @param symbol:            symbol of the order book
+     * @param orderBookResponse: order book details as {@link String} obtained from Binance's response
+     */
+    public PrimitiveOrderBook(String symbol, String orderBookResponse) {
+        this(symbol, 100);
+        parse(orderBookResponse);
+    }
+
+    /**
+     * Method to parse an order book response replacing the current levels
+     *
+     * @param orderBookResponse: order book details as {@link String} obtained from Binance's response
+     * @throws IllegalArgumentException when the response is not a valid order book
+     */
+    public synchronized void parse(String orderBookResponse) {
+        bidsCount = 0;
+        asksCount = 0;
+        position = orderBookResponse.indexOf("\"lastUpdateId\"");
+        if (position == -1)
+            throw new IllegalArgumentException("Not a valid order book: " + orderBookResponse);
+        position = orderBookResponse.indexOf(':', position) + 1;
+        skipWhitespaces(orderBookResponse);
+        lastUpdateId = (long) parseNumber(orderBookResponse);
+        int bidsIndex = orderBookResponse.indexOf("\"bids\"", position);
+        if (bidsIndex != -1) {
+            position = bidsIndex + 6;
+            bidsCount = parseLevels(orderBookResponse, true);
+        }
+        int asksIndex = orderBookResponse.indexOf("\"asks\"");
+        if (asksIndex != -1) {
+            position = asksIndex + 6;
+            asksCount = parseLevels(orderBookResponse, false);
+        }
+    }
+
+    /**
+     * Method to parse the levels of a side of the book
+     *
+     * @param response: the response to parse
+     * @param bids:     whether the levels are the bids
+     * @return number of levels parsed as int
+     */
+    private int parseLevels(String response, boolean bids) {
+        double[] prices = bids ? bidPrices : askPrices;
+        double[] quantities = bids ? bidQuantities : askQuantities;
+        int count = 0;
+        position = response.indexOf('[', position) + 1;
+        while (true) {
+            skipWhitespaces(response);
+            char current = response.charAt(position);
+            if (current == ']') {
+                position++;
+                break;
+            }
+            if (current == ',') {
+                position++;
+                continue;
+            }
+            position++;
+            if (count == prices.length) {
+                prices = Arrays.copyOf(prices, count << 1);
+                quantities = Arrays.copyOf(quantities, count << 1);
+            }
+            prices[count] = parseNumber(response);
+            quantities[count] = parseNumber(response);
+            position = response.indexOf(']', position) + 1;
+            count++;
+        }
+        if (bids) {
+            bidPrices = prices;
+            bidQuantities = quantities;
+        } else {
+            askPrices = prices;
+            askQuantities = quantities;
+        }
+        return count;
+    }
+
+    /**
+     * Method to parse the next number of the response, quoted or not
+     *
+     * @param response: the response to parse
+     * @return the number parsed as double
+     * @implNote the numbers with up to 15 significant digits are computed without creating any string
+     */
+    private double parseNumber(String response) {
+        while (true) {
+            char current = response.charAt(position);
+            if (current == '-' || (current >= '0' && current <= '9'))
+                break;
+            position++;
+        }
+        int start = position;
+        boolean negative = response.charAt(position) == '-';
+        if (negative)
+            position++;
+        long mantissa = 0;
+        int digits = 0;
+        int scale = -1;
+        int length = response.length();
+        while (position < length) {
+            char current = response.charAt(position);
+            if (current >= '0' && current <= '9') {
+                mantissa = mantissa * 10 + (current - '0');
+                if (mantissa != 0)
+                    digits++;
+                if (scale >= 0)
+                    scale++;
+            } else if (current == '.' && scale < 0)
+                scale = 0;
+            else
+                break;
+            position++;
+        }
+        char end = position < length ? response.charAt(position) : ' ';
+        if (digits > 15 || scale > 22 || end == 'e' || end == 'E') {
+            while (position < length && "0123456789.eE+-".indexOf(response.charAt(position)) != -1)
+                position++;
+            return Double.parseDouble(response.substring(start, position));
+        }
+        double value = mantissa;
+        if (scale > 0)
+            value /= POWERS_OF_TEN[scale];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Method to skip the whitespaces of the response
+     *
+     * @param response: the response to parse
+     */
+    private void skipWhitespaces(String response) {
+        while (Character.isWhitespace(response.charAt(position)))
+            position++;
+    }
+
+    /**
+     * {@code POWERS_OF_TEN} are the powers of ten exactly representable as double
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Method to get {@link #symbol} instance <br>
+     * No-any params required
+     *
+     * @return {@link #symbol} instance as {@link String}
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Method to get {@link #lastUpdateId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #lastUpdateId} instance as long
+     */
+    public synchronized long getLastUpdateId() {
+        return lastUpdateId;
+    }
+
+    /**
+     * Method to get {@link #bidsCount} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bidsCount} instance as int
+     */
+    public synchronized int getBidsCount() {
+        return bidsCount;
+    }
+
+    /**
+     * Method to get the price of a bid
+     *
+     * @param index: index of the bid, 0 is the best one
+     * @return price of the bid as double
+     * @throws IndexOutOfBoundsException when the index is not valid
+     */
+    public synchronized double getBidPrice(int index) {
+        return bidPrices[checkIndex(index, bidsCount)];
+    }
+
+    /**
+     * Method to get the quantity of a bid
+     *
+     * @param index: index of the bid, 0 is the best one
+     * @return quantity of the bid as double
+     * @throws IndexOutOfBoundsException when the index is not valid
+     */
+    public synchronized double getBidQuantity(int index) {
+        return bidQuantities[checkIndex(index, bidsCount)];
+    }
+
+    /**
+     * Method to get {@link #asksCount} instance <br>
+     * No-any params required
+     *
+     * @return {@link #asksCount} instance as int
+     */
+    public synchronized int getAsksCount() {
+        return asksCount;
+    }
+
+    /**
+     * Method to get the price of an ask
+     *
+     * @param index: index of the ask, 0 is the best one
+     * @return price of the ask as double
+     * @throws IndexOutOfBoundsException when the index is not valid
+     */
+    public synchronized double getAskPrice(int index) {
+        return askPrices[checkIndex(index, asksCount)];
+    }
+
+    /**
+     * Method to get the quantity of an ask
+     *
+     * @param index: index of the ask, 0 is the best one
+     * @return quantity of the ask as double
+     * @throws IndexOutOfBoundsException when the index is not valid
+     */
+    public synchronized double getAskQuantity(int index) {
+        return askQuantities[checkIndex(index, asksCount)];
+    }
+
+    /**
+     * Method to copy the bids into arrays
+     *
+     * @param prices:     array where copy the prices
+     * @param quantities: array where copy the quantities
+     * @return number of bids copied as int
+     */
+    public synchronized int copyBids(double[] prices, double[] quantities) {
+        int count = Math.min(bidsCount, Math.min(prices.length, quantities.length));
+        System.arraycopy(bidPrices, 0, prices, 0, count);
+        System.arraycopy(bidQuantities, 0, quantities, 0, count);
+        return count;
+    }
+
+    /**
+     * Method to copy the asks into arrays
+     *
+     * @param prices:     array where copy the prices
+     * @param quantities: array where copy the quantities
+     * @return number of asks copied as int
+     */
+    public synchronized int copyAsks(double[] prices, double[] quantities) {
+        int count = Math.min(asksCount, Math.min(prices.length, quantities.length));
+        System.arraycopy(askPrices, 0, prices, 0, count);
+        System.arraycopy(askQuantities, 0, quantities, 0, count);
+        return count;
+    }
+
+    /**
+     * Method to convert the book in the {@link OrderBook} form <br>
+     * No-any params required
+     *
+     * @return order book as {@link OrderBook} custom object
+     */
+    public synchronized OrderBook toOrderBook() {
+        ArrayList<BookOrderDetails> bids = new ArrayList<>(bidsCount);
+        for (int j = 0; j < bidsCount; j++)
+            bids.add(new BookOrderDetails(bidPrices[j], bidQuantities[j]));
+        ArrayList<BookOrderDetails> asks = new ArrayList<>(asksCount);
+        for (int j = 0; j < asksCount; j++)
+            asks.add(new BookOrderDetails(askPrices[j], askQuantities[j]));
+        return new OrderBook(lastUpdateId, bids, asks, symbol);
+    }
+
+    /**
+     * Method to check whether an index is valid
+     *
+     * @param index: the index to check
+     * @param count: the number of the levels
+     * @return the index checked as int
+     */
+    private static int checkIndex(int index, int count) {
+        if (index < 0 || index >= count)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + count);
+        return index;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return toOrderBook().toString();
+    }
+
+}
@@ -1,9 +1,13 @@
 package com.tecknobit.binancemanager.managers.market.records.stats;
 
+import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.formatters.TimeFormatter;
+import com.tecknobit.binancemanager.managers.BinanceJsonReader;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Date;
 
 import static com.tecknobit.apimanager.trading.TradingTools.roundValue;
@@ -129,6 +133,48 @@ public class Candlestick {
                 candlestick.getDouble(9), candlestick.getDouble(10), candlestick.getDouble(11));
     }
 
+    /**
+     * Constructor to init {@link Candlestick} object
+     *
+     * @param candlestick: candlestick details as {@link BinanceJsonReader} positioned on the candlestick array
+     * @throws IOException when the candlestick cannot be read
+     */
+    public Candlestick(BinanceJsonReader candlestick) throws IOException {
+        candlestick.beginArray();
+        openTime = candlestick.nextLong();
+        open = candlestick.nextDouble();
+        high = candlestick.nextDouble();
+        low = candlestick.nextDouble();
+        close = candlestick.nextDouble();
+        volume = candlestick.nextDouble();
+        closeTime = candlestick.nextLong();
+        quoteAssetVolume = candlestick.nextDouble();
+        numberOfTrades = candlestick.nextInt();
+        takerBuyBaseAssetVolume = candlestick.nextDouble();
+        takerBuyQuoteAssetVolume = candlestick.nextDouble();
+        valueToIgnore = candlestick.nextDouble();
+        while (candlestick.hasNext())
+            candlestick.skipValue();
+        candlestick.endArray();
+    }
+
+    /**
+     * Method to create a candlesticks list
+     *
+     * @param candlesticks: candlesticks list as {@link BinanceJsonReader} positioned on the list
+     * @return candlesticks list as {@link ArrayList} of {@link Candlestick}
+     * @throws IOException when the candlesticks cannot be read
+     */
+    @Returner
+    public static ArrayList<Candlestick> returnCandlesticksList(BinanceJsonReader candlesticks) throws IOException {
+        ArrayList<Candlestick> candlesticksList = new ArrayList<>();
+        candlesticks.beginArray();
+        while (candlesticks.hasNext())
+            candlesticksList.add(new Candlestick(candlesticks));
+        candlesticks.endArray();
+        return candlesticksList;
+    }
+
     /**
      * Method to get {@link #openTime} instance <br>
      * No-any params required
@@ -377,90 +423,98 @@ public class Candlestick {
         /**
          * {@code "_1s"} one second interval
          */
-        _1s("1s"),
+        _1s("1s", 1000L),
 
         /**
          * {@code "_1m"} one minute interval
          */
-        _1m("1m"),
+        _1m("1m", 60000L),
 
         /**
          * {@code "_3m"} three minutes interval
          */
-        _3m("3m"),
+        _3m("3m", 180000L),
 
         /**
          * {@code "_5m"} five minutes interval
          */
-        _5m("5m"),
+        _5m("5m", 300000L),
 
         /**
          * {@code "_15m"} fifteen minutes interval
          */
-        _15m("15m"),
+        _15m("15m", 900000L),
 
         /**
          * {@code "_1h"} one hour interval
          */
-        _1h("1h"),
+        _1h("1h", 3600000L),
 
         /**
          * {@code "_2h"} two hours interval
          */
-        _2h("2h"),
+        _2h("2h", 7200000L),
 
         /**
          * {@code "_4h"} four hours interval
          */
-        _4h("4h"),
+        _4h("4h", 14400000L),
 
         /**
          * {@code "_6h"} six hours interval
          */
-        _6h("6h"),
+        _6h("6h", 21600000L),
 
         /**
          * {@code "_8h"} eight hours interval
          */
-        _8h("8h"),
+        _8h("8h", 28800000L),
 
         /**
          * {@code "_12h"} twelve hours interval
          */
-        _12h("12h"),
+        _12h("12h", 43200000L),
 
         /**
          * {@code "_1d"} one day interval
          */
-        _1d("1d"),
+        _1d("1d", 86400000L),
 
         /**
          * {@code "_3d"} three days interval
          */
-        _3d("3d"),
+        _3d("3d", 259200000L),
 
         /**
          * {@code "_1w"} one week interval
          */
-        _1w("1w"),
+        _1w("1w", 604800000L),
 
         /**
          * {@code "_1M"} one month interval
          */
-        _1M("1M");
+        _1M("1M", 2678400000L);
 
         /**
          * {@code interval} interval type
          */
         private final String interval;
 
+        /**
+         * {@code duration} duration of the interval in milliseconds, for the {@link #_1M} interval is the duration
+         * of the longest month
+         */
+        private final long duration;
+
         /**
          * Constructor to init {@link Interval}
          *
          * @param interval: interval type
+         * @param duration: duration of the interval in milliseconds
          */
-        Interval(String interval) {
+        Interval(String interval, long duration) {
             this.interval = interval;
+            this.duration = duration;
         }
 
         /**
@@ -473,6 +527,16 @@ public class Candlestick {
             return Interval.valueOf("_" + interval);
         }
 
+        /**
+         * Method to get {@link #duration} instance <br>
+         * No-any params required
+         *
+         * @return {@link #duration} instance as long
+         */
+        public long getDuration() {
+            return duration;
+        }
+
         /**
          * Method to get {@link #interval} instance <br>
          * No-any params required
@@ -0,0 +1,567 @@
+package com.tecknobit.binancemanager.managers.market.records.stats;
+
+import com.tecknobit.apimanager.annotations.Returner;
+import com.tecknobit.binancemanager.managers.BinanceJsonReader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * The {@code CandlestickSeries} class is useful to format a series of candlesticks in a columnar form, where each
+ * value of the candlesticks is stored in its own array
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at:
+ * <ul>
+ *     <li>
+ *         <a href="https://binance-docs.github.io/apidocs/spot/en/#kline-candlestick-data">
+ *            Kline/Candlestick Data</a>
+ *     </li>
+ *      <li>
+ *         <a href="https://binance-docs.github.io/apidocs/spot/en/#uiklines">
+ *           UIKlines</a>
+ *     </li>
+ * </ul>
+ * @implNote the columns are contiguous primitive arrays, so indicators can be computed over them without creating a
+ * {@link Candlestick} for each bar; the series is not thread safe
+ * @see Candlestick
+ */
+public class CandlestickSeries {
+
+    /**
+     * {@code DEFAULT_CAPACITY} is the initial number of candlesticks of a series
+     */
+    public static final int DEFAULT_CAPACITY = 500;
+
+    /**
+     * {@code size} is instance that memorizes the number of candlesticks of the series
+     */
+    private int size;
+
+    /**
+     * {@code openTime} is instance that contains open times of the candlesticks
+     */
+    private long[] openTime;
+
+    /**
+     * {@code open} is instance that contains open prices of the candlesticks
+     */
+    private double[] open;
+
+    /**
+     * {@code high} is instance that contains high prices of the candlesticks
+     */
+    private double[] high;
+
+    /**
+     * {@code low} is instance that contains low prices of the candlesticks
+     */
+    private double[] low;
+
+    /**
+     * {@code close} is instance that contains close prices of the candlesticks
+     */
+    private double[] close;
+
+    /**
+     * {@code volume} is instance that contains volumes of the candlesticks
+     */
+    private double[] volume;
+
+    /**
+     * {@code closeTime} is instance that contains close times of the candlesticks
+     */
+    private long[] closeTime;
+
+    /**
+     * {@code quoteAssetVolume} is instance that contains quote asset volumes of the candlesticks
+     */
+    private double[] quoteAssetVolume;
+
+    /**
+     * {@code numberOfTrades} is instance that contains count numbers of trades of the candlesticks
+     */
+    private int[] numberOfTrades;
+
+    /**
+     * {@code takerBuyBaseAssetVolume} is instance that contains taker buy base asset volumes of the candlesticks
+     */
+    private double[] takerBuyBaseAssetVolume;
+
+    /**
+     * {@code takerBuyQuoteAssetVolume} is instance that contains taker buy quote asset volumes of the candlesticks
+     */
+    private double[] takerBuyQuoteAssetVolume;
+
+    /**
+     * Constructor to init {@link CandlestickSeries} object <br>
+     * No-any params required
+     */
+    public CandlestickSeries() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor to init {@link CandlestickSeries} object
+     *
+     * @param capacity: initial number of candlesticks of the series
+     */
+    public CandlestickSeries(int capacity) {
+        allocate(Math.max(capacity, 1));
+    }
+
+    /**
+     * Constructor to init {@link CandlestickSeries} object
+     *
+     * @param candlesticks: candlesticks to add to the series
+     */
+    public CandlestickSeries(Collection<Candlestick> candlesticks) {
+        this(candlesticks.size());
+        for (Candlestick candlestick : candlesticks)
+            append(candlestick);
+    }
+
+    /**
+     * Constructor to init {@link CandlestickSeries} object
+     *
+     * @param openTime:                 open times of the candlesticks
+     * @param open:                     open prices of the candlesticks
+     * @param high:                     high prices of the candlesticks
+     * @param low:                      low prices of the candlesticks
+     * @param close:                    close prices of the candlesticks
+     * @param volume:                   volumes of the candlesticks
+     * @param closeTime:                close times of the candlesticks
+     * @param quoteAssetVolume:         quote asset volumes of the candlesticks
+     * @param numberOfTrades:           numbers of trades of the candlesticks
+     * @param takerBuyBaseAssetVolume:  taker buy base asset volumes of the candlesticks
+     * @param takerBuyQuoteAssetVolume: taker buy quote asset volumes of the candlesticks
+     * @param size:                     number of candlesticks of the columns
+     * @apiNote the columns are not copied, so they must not be modified after the creation of the series
+     */
+    public CandlestickSeries(long[] openTime, double[] open, double[] high, double[] low, double[] close,
+                             double[] volume, long[] closeTime, double[] quoteAssetVolume, int[] numberOfTrades,
+                             double[] takerBuyBaseAssetVolume, double[] takerBuyQuoteAssetVolume, int size) {
+        this.openTime = openTime;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.volume = volume;
+        this.closeTime = closeTime;
+        this.quoteAssetVolume = quoteAssetVolume;
+        this.numberOfTrades = numberOfTrades;
+        this.takerBuyBaseAssetVolume = takerBuyBaseAssetVolume;
+        this.takerBuyQuoteAssetVolume = takerBuyQuoteAssetVolume;
+        this.size = size;
+    }
+
+    /**
+     * Constructor to init {@link CandlestickSeries} object
+     *
+     * @param candlesticks: candlesticks list as {@link BinanceJsonReader} positioned on the list
+     * @throws IOException when the candlesticks cannot be read
+     */
+    public CandlestickSeries(BinanceJsonReader candlesticks) throws IOException {
+        this();
+        append(candlesticks);
+    }
+
+    /**
+     * Method to create a candlesticks series
+     *
+     * @param candlesticks: candlesticks list as {@link BinanceJsonReader} positioned on the list
+     * @return candlesticks series as {@link CandlestickSeries}
+     * @throws IOException when the candlesticks cannot be read
+     */
+    @Returner
+    public static CandlestickSeries returnCandlesticksSeries(BinanceJsonReader candlesticks) throws IOException {
+        return new CandlestickSeries(candlesticks);
+    }
+
+    /**
+     * Method to append a candlestick to the series
+     *
+     * @param openTime:                 open time of the candlestick
+     * @param open:                     open price of the candlestick
+     * @param high:                     high price of the candlestick
+     * @param low:                      low price of the candlestick
+     * @param close:                    close price of the candlestick
+     * @param volume:                   volume of the candlestick
+     * @param closeTime:                close time of the candlestick
+     * @param quoteAssetVolume:         quote asset volume of the candlestick
+     * @param numberOfTrades:           number of trades of the candlestick
+     * @param takerBuyBaseAssetVolume:  taker buy base asset volume of the candlestick
+     * @param takerBuyQuoteAssetVolume: taker buy quote asset volume of the candlestick
+     */
+    public void append(long openTime, double open, double high, double low, double close, double volume,
+                       long closeTime, double quoteAssetVolume, int numberOfTrades, double takerBuyBaseAssetVolume,
+                       double takerBuyQuoteAssetVolume) {
+        ensureCapacity(size + 1);
+        this.openTime[size] = openTime;
+        this.open[size] = open;
+        this.high[size] = high;
+        this.low[size] = low;
+        this.close[size] = close;
+        this.volume[size] = volume;
+        this.closeTime[size] = closeTime;
+        this.quoteAssetVolume[size] = quoteAssetVolume;
+        this.numberOfTrades[size] = numberOfTrades;
+        this.takerBuyBaseAssetVolume[size] = takerBuyBaseAssetVolume;
+        this.takerBuyQuoteAssetVolume[size] = takerBuyQuoteAssetVolume;
+        size++;
+    }
+
+    /**
+     * Method to append a candlestick to the series
+     *
+     * @param candlestick: candlestick to append
+     */
+    public void append(Candlestick candlestick) {
+        append(candlestick.getOpenTime(), candlestick.getOpen(), candlestick.getHigh(), candlestick.getLow(),
+                candlestick.getClose(), candlestick.getVolume(), candlestick.getCloseTime(),
+                candlestick.getQuoteAssetVolume(), candlestick.getNumberOfTrades(),
+                candlestick.getTakerBuyBaseAssetVolume(), candlestick.getTakerBuyQuoteAssetVolume());
+    }
+
+    /**
+     * Method to append the candlesticks of another series to this series
+     *
+     * @param series: series to append
+     */
+    public void append(CandlestickSeries series) {
+        int count = series.size;
+        ensureCapacity(size + count);
+        System.arraycopy(series.openTime, 0, openTime, size, count);
+        System.arraycopy(series.open, 0, open, size, count);
+        System.arraycopy(series.high, 0, high, size, count);
+        System.arraycopy(series.low, 0, low, size, count);
+        System.arraycopy(series.close, 0, close, size, count);
+        System.arraycopy(series.volume, 0, volume, size, count);
+        System.arraycopy(series.closeTime, 0, closeTime, size, count);
+        System.arraycopy(series.quoteAssetVolume, 0, quoteAssetVolume, size, count);
+        System.arraycopy(series.numberOfTrades, 0, numberOfTrades, size, count);
+        System.arraycopy(series.takerBuyBaseAssetVolume, 0, takerBuyBaseAssetVolume, size, count);
+        System.arraycopy(series.takerBuyQuoteAssetVolume, 0, takerBuyQuoteAssetVolume, size, count);
+        size += count;
+    }
+
+    /**
+     * Method to append a candlesticks list read from a Binance's response
+     *
+     * @param candlesticks: candlesticks list as {@link BinanceJsonReader} positioned on the list
+     * @throws IOException when the candlesticks cannot be read
+     */
+    public void append(BinanceJsonReader candlesticks) throws IOException {
+        candlesticks.beginArray();
+        while (candlesticks.hasNext()) {
+            candlesticks.beginArray();
+            append(candlesticks.nextLong(), candlesticks.nextDouble(), candlesticks.nextDouble(),
+                    candlesticks.nextDouble(), candlesticks.nextDouble(), candlesticks.nextDouble(),
+                    candlesticks.nextLong(), candlesticks.nextDouble(), candlesticks.nextInt(),
+                    candlesticks.nextDouble(), candlesticks.nextDouble());
+            while (candlesticks.hasNext())
+                candlesticks.skipValue();
+            candlesticks.endArray();
+        }
+        candlesticks.endArray();
+    }
+
+    /**
+     * Method to get a slice of the series
+     *
+     * @param from: index of the first candlestick of the slice, inclusive
+     * @param to:   index of the last candlestick of the slice, exclusive
+     * @return slice of the series as {@link CandlestickSeries}
+     * @throws IndexOutOfBoundsException when the range is not valid
+     */
+    public CandlestickSeries slice(int from, int to) {
+        if (from < 0 || to > size || from > to)
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + size);
+        CandlestickSeries slice = new CandlestickSeries(to - from);
+        slice.openTime = Arrays.copyOfRange(openTime, from, to);
+        slice.open = Arrays.copyOfRange(open, from, to);
+        slice.high = Arrays.copyOfRange(high, from, to);
+        slice.low = Arrays.copyOfRange(low, from, to);
+        slice.close = Arrays.copyOfRange(close, from, to);
+        slice.volume = Arrays.copyOfRange(volume, from, to);
+        slice.closeTime = Arrays.copyOfRange(closeTime, from, to);
+        slice.quoteAssetVolume = Arrays.copyOfRange(quoteAssetVolume, from, to);
+        slice.numberOfTrades = Arrays.copyOfRange(numberOfTrades, from, to);
+        slice.takerBuyBaseAssetVolume = Arrays.copyOfRange(takerBuyBaseAssetVolume, from, to);
+        slice.takerBuyQuoteAssetVolume = Arrays.copyOfRange(takerBuyQuoteAssetVolume, from, to);
+        slice.size = to - from;
+        return slice;
+    }
+
+    /**
+     * Method to get the index of a candlestick by its open time
+     *
+     * @param openTime: open time of the candlestick to search
+     * @return index of the candlestick as int, if it is not in the series {@code -(insertion point) - 1} as
+     * {@link Arrays#binarySearch(long[], long)} does
+     * @implNote the series must be sorted by open time, as the candlesticks returned by Binance are
+     */
+    public int indexOf(long openTime) {
+        return Arrays.binarySearch(this.openTime, 0, size, openTime);
+    }
+
+    /**
+     * Method to get a candlestick of the series
+     *
+     * @param index: index of the candlestick
+     * @return candlestick as {@link Candlestick}
+     * @throws IndexOutOfBoundsException when the index is not valid
+     */
+    public Candlestick getCandlestick(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        return new Candlestick(openTime[index], open[index], high[index], low[index], close[index], volume[index],
+                closeTime[index], quoteAssetVolume[index], numberOfTrades[index], takerBuyBaseAssetVolume[index],
+                takerBuyQuoteAssetVolume[index], 0);
+    }
+
+    /**
+     * Method to convert the series in the {@link Candlestick} form <br>
+     * No-any params required
+     *
+     * @return candlesticks list as {@link ArrayList} of {@link Candlestick}
+     */
+    public ArrayList<Candlestick> toCandlesticksList() {
+        ArrayList<Candlestick> candlesticks = new ArrayList<>(size);
+        for (int j = 0; j < size; j++)
+            candlesticks.add(getCandlestick(j));
+        return candlesticks;
+    }
+
+    /**
+     * Method to remove all the candlesticks of the series keeping the allocated columns <br>
+     * No-any params required
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Method to get {@link #size} instance <br>
+     * No-any params required
+     *
+     * @return {@link #size} instance as int
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Method to get whether the series is empty <br>
+     * No-any params required
+     *
+     * @return whether the series is empty as boolean
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Method to get {@link #openTime} instance <br>
+     * No-any params required
+     *
+     * @return {@link #openTime} instance as long[]
+     * @implNote the column returned is the one of the series, with exactly {@link #size()} values
+     */
+    public long[] getOpenTime() {
+        trimToSize();
+        return openTime;
+    }
+
+    /**
+     * Method to get {@link #open} instance <br>
+     * No-any params required
+     *
+     * @return {@link #open} instance as double[]
+     * @implNote the column returned is the one of the series, with exactly {@link #size()} values
+     */
+    public double[] getOpen() {
+        trimToSize();
+        return open;
+    }
+
+    /**
+     * Method to get {@link #high} instance <br>
+     * No-any params required
+     *
+     * @return {@link #high} instance as double[]
+     * @implNote the column returned is the one of the series, with exactly {@link #size()} values
+     */
+    public double[] getHigh() {
+        trimToSize();
+        return high;
+    }
+
+    /**
+     * Method to get {@link #low} instance <br>
+     * No-any params required
+     *
+     * @return {@link #low} instance as double[]
+     * @implNote the column returned is the one of the series, with exactly {@link #size()} values
+     */
+    public double[] getLow() {
+        trimToSize();
+        return low;
+    }
+
+    /**
+     * Method to get {@link #close} instance <br>
+     * No-any params required
+     *
+     * @return {@link #close} instance as double[]
+     * @implNote the column returned is the one of the series, with exactly {@link #size()} values
+     */
+    public double[] getClose() {
+        trimToSize();
+        return close;
+    }
+
+    /**
+     * Method to get {@link #volume} instance <br>
+     * No-any params required
+     *
+     * @return {@link #volume} instance as double[]
+     * @implNote the column returned is the one of the series, with exactly {@link #size()} values
+     */
+    public double[] getVolume() {
+        trimToSize();
+        return volume;
+    }
+
+    /**
+     * Method to get {@link #closeTime} instance <br>
+     * No-any params required
+     *
+     * @return {@link #closeTime} instance as long[]
+     * @implNote the column returned is the one of the series, with exactly {@link #size()} values
+     */
+    public long[] getCloseTime() {
+        trimToSize();
+        return closeTime;
+    }
+
+    /**
+     * Method to get {@link #quoteAssetVolume} instance <br>
+     * No-any params required
+     *
+     * @return {@link #quoteAssetVolume} instance as double[]
+     * @implNote the column returned is the one of the series, with exactly {@link #size()} values
+     */
+    public double[] getQuoteAssetVolume() {
+        trimToSize();
+        return quoteAssetVolume;
+    }
+
+    /**
+     * Method to get {@link #numberOfTrades} instance <br>
+     * No-any params required
+     *
+     * @return {@link #numberOfTrades} instance as int[]
+     * @implNote the column returned is the one of the series, with exactly {@link #size()} values
+     */
+    public int[] getNumberOfTrades() {
+        trimToSize();
+        return numberOfTrades;
+    }
+
+    /**
+     * Method to get {@link #takerBuyBaseAssetVolume} instance <br>
+     * No-any params required
+     *
+     * @return {@link #takerBuyBaseAssetVolume} instance as double[]
+     * @implNote the column returned is the one of the series, with exactly {@link #size()} values
+     */
+    public double[] getTakerBuyBaseAssetVolume() {
+        trimToSize();
+        return takerBuyBaseAssetVolume;
+    }
+
+    /**
+     * Method to get {@link #takerBuyQuoteAssetVolume} instance <br>
+     * No-any params required
+     *
+     * @return {@link #takerBuyQuoteAssetVolume} instance as double[]
+     * @implNote the column returned is the one of the series, with exactly {@link #size()} values
+     */
+    public double[] getTakerBuyQuoteAssetVolume() {
+        trimToSize();
+        return takerBuyQuoteAssetVolume;
+    }
+
+    /**
+     * Method to shrink the columns to the {@link #size} of the series <br>
+     * No-any params required
+     */
+    public void trimToSize() {
+        if (openTime.length != size)
+            resize(size);
+    }
+
+    /**
+     * Method to grow the columns to contain at least a number of candlesticks
+     *
+     * @param capacity: the number of candlesticks to contain
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > openTime.length)
+            resize(Math.max(capacity, openTime.length + (openTime.length >> 1) + 1));
+    }
+
+    /**
+     * Method to allocate the columns
+     *
+     * @param capacity: the number of candlesticks of the columns
+     */
+    private void allocate(int capacity) {
+        openTime = new long[capacity];
+        open = new double[capacity];
+        high = new double[capacity];
+        low = new double[capacity];
+        close = new double[capacity];
+        volume = new double[capacity];
+        closeTime = new long[capacity];
+        quoteAssetVolume = new double[capacity];
+        numberOfTrades = new int[capacity];
+        takerBuyBaseAssetVolume = new double[capacity];
+        takerBuyQuoteAssetVolume = new double[capacity];
+    }
+
+    /**
+     * Method to resize the columns
+     *
+     * @param capacity: the new number of candlesticks of the columns
+     */
+    private void resize(int capacity) {
+        openTime = Arrays.copyOf(openTime, capacity);
+        open = Arrays.copyOf(open, capacity);
+        high = Arrays.copyOf(high, capacity);
+        low = Arrays.copyOf(low, capacity);
+        close = Arrays.copyOf(close, capacity);
+        volume = Arrays.copyOf(volume, capacity);
+        closeTime = Arrays.copyOf(closeTime, capacity);
+        quoteAssetVolume = Arrays.copyOf(quoteAssetVolume, capacity);
+        numberOfTrades = Arrays.copyOf(numberOfTrades, capacity);
+        takerBuyBaseAssetVolume = Arrays.copyOf(takerBuyBaseAssetVolume, capacity);
+        takerBuyQuoteAssetVolume = Arrays.copyOf(takerBuyQuoteAssetVolume, capacity);
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return "CandlestickSeries{size=" + size + ", from=" + (size > 0 ? openTime[0] : null) + ", to="
+                + (size > 0 ? closeTime[size - 1] : null) + "}";
+    }
+
+}
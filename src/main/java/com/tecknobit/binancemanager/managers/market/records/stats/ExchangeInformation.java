@@ -2,11 +2,14 @@ package com.tecknobit.binancemanager.managers.market.records.stats;
 
 import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.formatters.JsonHelper;
+import com.tecknobit.binancemanager.managers.BinanceJsonReader;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
 
 import static com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.Filter.FilterType;
@@ -51,6 +54,11 @@ public class ExchangeInformation {
      */
     private ArrayList<Symbol> symbols;
 
+    /**
+     * {@code symbolsIndex} is instance that indexes the {@link #symbols} by name, built at the first lookup
+     */
+    private volatile HashMap<String, Symbol> symbolsIndex;
+
     /** Constructor to init {@link ExchangeInformation} object
      * @param timezone: timezone information
      * @param serverTime: server time information
@@ -82,6 +90,46 @@ public class ExchangeInformation {
         assembleSymbols();
     }
 
+    /**
+     * Constructor to init {@link ExchangeInformation} object
+     *
+     * @param exchangeInfo: exchange details as {@link BinanceJsonReader} positioned on the exchange object
+     * @throws IOException when the exchange details cannot be read
+     */
+    public ExchangeInformation(BinanceJsonReader exchangeInfo) throws IOException {
+        hInfo = null;
+        String timezone = null;
+        long serverTime = 0;
+        ArrayList<Filter> exchangeFilters = new ArrayList<>();
+        rateLimits = new ArrayList<>();
+        symbols = new ArrayList<>();
+        exchangeInfo.beginObject();
+        while (exchangeInfo.hasNext()) {
+            switch (exchangeInfo.nextName()) {
+                case "timezone" -> timezone = exchangeInfo.nextString();
+                case "serverTime" -> serverTime = exchangeInfo.nextLong();
+                case "exchangeFilters" -> exchangeFilters = returnFilters(exchangeInfo);
+                case "rateLimits" -> {
+                    exchangeInfo.beginArray();
+                    while (exchangeInfo.hasNext())
+                        rateLimits.add(new RateLimit(exchangeInfo));
+                    exchangeInfo.endArray();
+                }
+                case "symbols" -> {
+                    exchangeInfo.beginArray();
+                    while (exchangeInfo.hasNext())
+                        symbols.add(new Symbol(exchangeInfo));
+                    exchangeInfo.endArray();
+                }
+                default -> exchangeInfo.skipValue();
+            }
+        }
+        exchangeInfo.endObject();
+        this.timezone = timezone;
+        this.serverTime = serverTime;
+        this.exchangeFilters = exchangeFilters;
+    }
+
     /**
      * Method to assemble a Filters list
      *
@@ -102,6 +150,37 @@ public class ExchangeInformation {
         return filters;
     }
 
+    /**
+     * Method to assemble a Filters list
+     *
+     * @param jsonFilters: filters list as {@link BinanceJsonReader} positioned on the list
+     * @return filters list as {@link ArrayList} of {@link Filter} custom object
+     * @throws IOException when the filters cannot be read
+     */
+    @Returner
+    private static ArrayList<Filter> returnFilters(BinanceJsonReader jsonFilters) throws IOException {
+        ArrayList<Filter> filters = new ArrayList<>();
+        jsonFilters.beginArray();
+        while (jsonFilters.hasNext()) {
+            ArrayList<String> filterKeys = new ArrayList<>();
+            ArrayList<Object> filterValues = new ArrayList<>();
+            FilterType filterType = null;
+            jsonFilters.beginObject();
+            while (jsonFilters.hasNext()) {
+                String filterKey = jsonFilters.nextName();
+                Object filterValue = jsonFilters.nextValue();
+                if (filterKey.equals("filterType"))
+                    filterType = valueOf(String.valueOf(filterValue));
+                filterKeys.add(filterKey);
+                filterValues.add(filterValue);
+            }
+            jsonFilters.endObject();
+            filters.add(new Filter(filterKeys, filterValues, filterType));
+        }
+        jsonFilters.endArray();
+        return filters;
+    }
+
     /**
      * Method to assemble an RateLimits list <br>
      * No-any params required
@@ -199,6 +278,24 @@ public class ExchangeInformation {
         return symbols;
     }
 
+    /**
+     * Method to get a symbol by its name
+     *
+     * @param symbol: name of the symbol to fetch es. BTCBUSD
+     * @return symbol as {@link Symbol}, {@code "null"} if it is not listed
+     * @implNote the lookup is made on an index of the {@link #symbols}, built at the first invocation
+     */
+    public Symbol getSymbol(String symbol) {
+        HashMap<String, Symbol> symbolsIndex = this.symbolsIndex;
+        if (symbolsIndex == null) {
+            symbolsIndex = new HashMap<>(symbols.size() * 2);
+            for (Symbol listedSymbol : symbols)
+                symbolsIndex.put(listedSymbol.getSymbol(), listedSymbol);
+            this.symbolsIndex = symbolsIndex;
+        }
+        return symbolsIndex.get(symbol);
+    }
+
     /**
      * Returns a string representation of the object <br>
      * No-any params required
@@ -263,6 +360,34 @@ public class ExchangeInformation {
             rateLimitType = RateLimitType.valueOf(rateLimit.getString("rateLimitType"));
         }
 
+        /**
+         * Constructor to init {@link RateLimit} object
+         *
+         * @param rateLimit: rate limit details as {@link BinanceJsonReader} positioned on the rate limit object
+         * @throws IOException when the rate limit cannot be read
+         */
+        public RateLimit(BinanceJsonReader rateLimit) throws IOException {
+            int intervalNum = 0;
+            int limit = 0;
+            RateLimitInterval interval = null;
+            RateLimitType rateLimitType = null;
+            rateLimit.beginObject();
+            while (rateLimit.hasNext()) {
+                switch (rateLimit.nextName()) {
+                    case "intervalNum" -> intervalNum = rateLimit.nextInt();
+                    case "limit" -> limit = rateLimit.nextInt();
+                    case "interval" -> interval = RateLimitInterval.valueOf(rateLimit.nextString());
+                    case "rateLimitType" -> rateLimitType = RateLimitType.valueOf(rateLimit.nextString());
+                    default -> rateLimit.skipValue();
+                }
+            }
+            rateLimit.endObject();
+            this.intervalNum = intervalNum;
+            this.limit = limit;
+            this.interval = interval;
+            this.rateLimitType = rateLimitType;
+        }
+
         /**
          * Method to get {@link #intervalNum} instance <br>
          * No-any params required
@@ -463,6 +588,11 @@ public class ExchangeInformation {
          */
         private final ArrayList<SelfTradePreventionMode> allowedSelfTradePreventionModes;
 
+        /**
+         * {@code filtersIndex} is instance that indexes the {@link #filters} by type, built at the first lookup
+         */
+        private volatile EnumMap<FilterType, Filter> filtersIndex;
+
         /**
          * Constructor to init {@link Symbol} object
          *
@@ -542,6 +672,74 @@ public class ExchangeInformation {
                 allowedSelfTradePreventionModes.add(SelfTradePreventionMode.valueOf(jModes.getString(j)));
         }
 
+        /**
+         * Constructor to init {@link Symbol} object
+         *
+         * @param symbol: symbol details as {@link BinanceJsonReader} positioned on the symbol object
+         * @throws IOException when the symbol cannot be read
+         */
+        public Symbol(BinanceJsonReader symbol) throws IOException {
+            String symbolName = null, status = null, baseAsset = null, quoteAsset = null;
+            boolean quoteOrderQtyMarketAllowed = false, icebergAllowed = false, ocoAllowed = false,
+                    isSpotTradingAllowed = false, isMarginTradingAllowed = false;
+            int baseAssetPrecision = 0, quotePrecision = 0, quoteAssetPrecision = 0, baseCommissionPrecision = 0;
+            ArrayList<String> orderTypes = new ArrayList<>();
+            ArrayList<String> permissions = new ArrayList<>();
+            ArrayList<Filter> filters = new ArrayList<>();
+            SelfTradePreventionMode defaultSelfTradePreventionMode = null;
+            ArrayList<SelfTradePreventionMode> allowedSelfTradePreventionModes = new ArrayList<>();
+            symbol.beginObject();
+            while (symbol.hasNext()) {
+                switch (symbol.nextName()) {
+                    case "symbol" -> symbolName = symbol.nextString();
+                    case "status" -> status = symbol.nextString();
+                    case "baseAsset" -> baseAsset = symbol.nextString();
+                    case "baseAssetPrecision" -> baseAssetPrecision = symbol.nextInt();
+                    case "quoteAsset" -> quoteAsset = symbol.nextString();
+                    case "quotePrecision" -> quotePrecision = symbol.nextInt();
+                    case "quoteAssetPrecision" -> quoteAssetPrecision = symbol.nextInt();
+                    case "baseCommissionPrecision" -> baseCommissionPrecision = symbol.nextInt();
+                    case "quoteOrderQtyMarketAllowed" -> quoteOrderQtyMarketAllowed = symbol.nextBoolean();
+                    case "icebergAllowed" -> icebergAllowed = symbol.nextBoolean();
+                    case "ocoAllowed" -> ocoAllowed = symbol.nextBoolean();
+                    case "isSpotTradingAllowed" -> isSpotTradingAllowed = symbol.nextBoolean();
+                    case "isMarginTradingAllowed" -> isMarginTradingAllowed = symbol.nextBoolean();
+                    case "orderTypes" -> orderTypes = returnEnumsList(symbol);
+                    case "permissions" -> permissions = returnEnumsList(symbol);
+                    case "filters" -> filters = returnFilters(symbol);
+                    case "defaultSelfTradePreventionMode" -> {
+                        String mode = symbol.nextString();
+                        if (mode != null)
+                            defaultSelfTradePreventionMode = SelfTradePreventionMode.valueOf(mode);
+                    }
+                    case "allowedSelfTradePreventionModes" -> {
+                        for (String mode : returnEnumsList(symbol))
+                            allowedSelfTradePreventionModes.add(SelfTradePreventionMode.valueOf(mode));
+                    }
+                    default -> symbol.skipValue();
+                }
+            }
+            symbol.endObject();
+            this.symbol = symbolName;
+            this.quoteOrderQtyMarketAllowed = quoteOrderQtyMarketAllowed;
+            this.status = status;
+            this.baseAsset = baseAsset;
+            this.baseAssetPrecision = baseAssetPrecision;
+            this.quoteAsset = quoteAsset;
+            this.quotePrecision = quotePrecision;
+            this.quoteAssetPrecision = quoteAssetPrecision;
+            this.orderTypes = orderTypes;
+            this.icebergAllowed = icebergAllowed;
+            this.ocoAllowed = ocoAllowed;
+            this.isSpotTradingAllowed = isSpotTradingAllowed;
+            this.isMarginTradingAllowed = isMarginTradingAllowed;
+            this.filters = filters;
+            this.permissions = permissions;
+            this.baseCommissionPrecision = baseCommissionPrecision;
+            this.defaultSelfTradePreventionMode = defaultSelfTradePreventionMode;
+            this.allowedSelfTradePreventionModes = allowedSelfTradePreventionModes;
+        }
+
         /**
          * Method to assemble an enums list
          *
@@ -556,6 +754,23 @@ public class ExchangeInformation {
             return enumValues;
         }
 
+        /**
+         * Method to assemble an enums list
+         *
+         * @param jsonList: enums list as {@link BinanceJsonReader} positioned on the list
+         * @return enums from exchange as {@link ArrayList} of {@link String}
+         * @throws IOException when the enums cannot be read
+         */
+        @Returner
+        private static ArrayList<String> returnEnumsList(BinanceJsonReader jsonList) throws IOException {
+            ArrayList<String> enumValues = new ArrayList<>();
+            jsonList.beginArray();
+            while (jsonList.hasNext())
+                enumValues.add(jsonList.nextString());
+            jsonList.endArray();
+            return enumValues;
+        }
+
         /**
          * Method to get {@link #symbol} instance <br>
          * No-any params required
@@ -741,6 +956,25 @@ public class ExchangeInformation {
             return filters.get(index);
         }
 
+        /**
+         * Method to get a filter from {@link #filters} list by its type
+         *
+         * @param type: type of the filter to fetch
+         * @return filter as {@link Filter}, {@code "null"} if the symbol has not a filter of that type
+         * @implNote the lookup is made on an index of the {@link #filters}, built at the first invocation
+         */
+        public Filter getFilter(FilterType type) {
+            EnumMap<FilterType, Filter> filtersIndex = this.filtersIndex;
+            if (filtersIndex == null) {
+                filtersIndex = new EnumMap<>(FilterType.class);
+                for (Filter filter : filters)
+                    if (filter.getFilterType() != null)
+                        filtersIndex.putIfAbsent(filter.getFilterType(), filter);
+                this.filtersIndex = filtersIndex;
+            }
+            return filtersIndex.get(type);
+        }
+
         /**
          * Method to get {@link #permissions} instance <br>
          * No-any params required
@@ -904,6 +1138,39 @@ public class ExchangeInformation {
             return null;
         }
 
+        /**
+         * Method to get a value of the filter as double
+         *
+         * @param key: key of the value to fetch es. tickSize
+         * @return value as double, {@link Double#NaN} if the filter has not the value
+         */
+        public double getDoubleValue(String key) {
+            int index = keys.indexOf(key);
+            if (index == -1)
+                return Double.NaN;
+            Object value = values.get(index);
+            if (value instanceof Number)
+                return ((Number) value).doubleValue();
+            try {
+                return Double.parseDouble(String.valueOf(value));
+            } catch (NumberFormatException e) {
+                return Double.NaN;
+            }
+        }
+
+        /**
+         * Method to get a value of the filter as boolean
+         *
+         * @param key: key of the value to fetch es. applyMinToMarket
+         * @return value as boolean, {@code "false"} if the filter has not the value
+         */
+        public boolean getBooleanValue(String key) {
+            int index = keys.indexOf(key);
+            if (index == -1)
+                return false;
+            return Boolean.parseBoolean(String.valueOf(values.get(index)));
+        }
+
         /**
          * Method to get filter details list <br>
          * No-any params required
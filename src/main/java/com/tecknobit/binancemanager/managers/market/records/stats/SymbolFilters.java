@@ -0,0 +1,470 @@
+package com.tecknobit.binancemanager.managers.market.records.stats;
+
+import com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.Filter;
+import com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.Symbol;
+import org.json.JSONObject;
+
+import static com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.Filter.FilterType.*;
+
+/**
+ * The {@code SymbolFilters} class is useful to format the trading rules of a {@link Symbol} as primitive values, so
+ * the pre-trade checks do not need to walk its {@link Filter}s
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#filters">
+ * Filters</a>
+ * @implNote the values of the filters not applied to the symbol do not constrain the orders: the minimums are
+ * {@code "0"}, the maximums are {@link Double#POSITIVE_INFINITY} and the steps are {@code "0"}
+ */
+public class SymbolFilters {
+
+    /**
+     * {@code symbol} is instance that contains the name of the symbol
+     */
+    private final String symbol;
+
+    /**
+     * {@code status} is instance that contains the status of the symbol
+     */
+    private final String status;
+
+    /**
+     * {@code baseAsset} is instance that contains the base asset of the symbol
+     */
+    private final String baseAsset;
+
+    /**
+     * {@code quoteAsset} is instance that contains the quote asset of the symbol
+     */
+    private final String quoteAsset;
+
+    /**
+     * {@code minPrice} is instance that contains the min price of the {@code "PRICE_FILTER"}
+     */
+    private final double minPrice;
+
+    /**
+     * {@code maxPrice} is instance that contains the max price of the {@code "PRICE_FILTER"}
+     */
+    private final double maxPrice;
+
+    /**
+     * {@code tickSize} is instance that contains the tick size of the {@code "PRICE_FILTER"}
+     */
+    private final double tickSize;
+
+    /**
+     * {@code minQty} is instance that contains the min quantity of the {@code "LOT_SIZE"}
+     */
+    private final double minQty;
+
+    /**
+     * {@code maxQty} is instance that contains the max quantity of the {@code "LOT_SIZE"}
+     */
+    private final double maxQty;
+
+    /**
+     * {@code stepSize} is instance that contains the step size of the {@code "LOT_SIZE"}
+     */
+    private final double stepSize;
+
+    /**
+     * {@code marketMinQty} is instance that contains the min quantity of the {@code "MARKET_LOT_SIZE"}
+     */
+    private final double marketMinQty;
+
+    /**
+     * {@code marketMaxQty} is instance that contains the max quantity of the {@code "MARKET_LOT_SIZE"}
+     */
+    private final double marketMaxQty;
+
+    /**
+     * {@code marketStepSize} is instance that contains the step size of the {@code "MARKET_LOT_SIZE"}
+     */
+    private final double marketStepSize;
+
+    /**
+     * {@code minNotional} is instance that contains the min notional of the {@code "NOTIONAL"} or
+     * {@code "MIN_NOTIONAL"} filters
+     */
+    private final double minNotional;
+
+    /**
+     * {@code applyMinToMarket} is instance that contains whether the {@link #minNotional} is applied to the market
+     * orders
+     */
+    private final boolean applyMinToMarket;
+
+    /**
+     * {@code maxNotional} is instance that contains the max notional of the {@code "NOTIONAL"} filter
+     */
+    private final double maxNotional;
+
+    /**
+     * {@code applyMaxToMarket} is instance that contains whether the {@link #maxNotional} is applied to the market
+     * orders
+     */
+    private final boolean applyMaxToMarket;
+
+    /**
+     * {@code bidMultiplierUp} is instance that contains the max multiplier of the average price for the BUY orders of
+     * the {@code "PERCENT_PRICE_BY_SIDE"} or {@code "PERCENT_PRICE"} filters
+     */
+    private final double bidMultiplierUp;
+
+    /**
+     * {@code bidMultiplierDown} is instance that contains the min multiplier of the average price for the BUY orders
+     * of the {@code "PERCENT_PRICE_BY_SIDE"} or {@code "PERCENT_PRICE"} filters
+     */
+    private final double bidMultiplierDown;
+
+    /**
+     * {@code askMultiplierUp} is instance that contains the max multiplier of the average price for the SELL orders
+     * of the {@code "PERCENT_PRICE_BY_SIDE"} or {@code "PERCENT_PRICE"} filters
+     */
+    private final double askMultiplierUp;
+
+    /**
+     * {@code askMultiplierDown} is instance that contains the min multiplier of the average price for the SELL orders
+     * of the {@code "PERCENT_PRICE_BY_SIDE"} or {@code "PERCENT_PRICE"} filters
+     */
+    private final double askMultiplierDown;
+
+    /**
+     * {@code maxNumOrders} is instance that contains the max number of open orders of the {@code "MAX_NUM_ORDERS"}
+     * filter
+     */
+    private final int maxNumOrders;
+
+    /**
+     * {@code baseAssetPrecision} is instance that contains the precision of the base asset
+     */
+    private final int baseAssetPrecision;
+
+    /**
+     * {@code quoteAssetPrecision} is instance that contains the precision of the quote asset
+     */
+    private final int quoteAssetPrecision;
+
+    /**
+     * Constructor to init {@link SymbolFilters} object
+     *
+     * @param symbol: symbol from read the filters
+     */
+    public SymbolFilters(Symbol symbol) {
+        this.symbol = symbol.getSymbol();
+        status = symbol.getStatus();
+        baseAsset = symbol.getBaseAsset();
+        quoteAsset = symbol.getQuoteAsset();
+        baseAssetPrecision = symbol.getBaseAssetPrecision();
+        quoteAssetPrecision = symbol.getQuoteAssetPrecision();
+        Filter priceFilter = symbol.getFilter(PRICE_FILTER);
+        minPrice = filterValue(priceFilter, "minPrice", 0);
+        maxPrice = filterValue(priceFilter, "maxPrice", Double.POSITIVE_INFINITY);
+        tickSize = filterValue(priceFilter, "tickSize", 0);
+        Filter lotSize = symbol.getFilter(LOT_SIZE);
+        minQty = filterValue(lotSize, "minQty", 0);
+        maxQty = filterValue(lotSize, "maxQty", Double.POSITIVE_INFINITY);
+        stepSize = filterValue(lotSize, "stepSize", 0);
+        Filter marketLotSize = symbol.getFilter(MARKET_LOT_SIZE);
+        marketMinQty = filterValue(marketLotSize, "minQty", minQty);
+        marketMaxQty = filterValue(marketLotSize, "maxQty", maxQty);
+        marketStepSize = filterValue(marketLotSize, "stepSize", stepSize);
+        Filter notional = symbol.getFilter(NOTIONAL);
+        if (notional != null) {
+            minNotional = filterValue(notional, "minNotional", 0);
+            applyMinToMarket = notional.getBooleanValue("applyMinToMarket");
+            maxNotional = filterValue(notional, "maxNotional", Double.POSITIVE_INFINITY);
+            applyMaxToMarket = notional.getBooleanValue("applyMaxToMarket");
+        } else {
+            Filter minNotionalFilter = symbol.getFilter(MIN_NOTIONAL);
+            minNotional = filterValue(minNotionalFilter, "minNotional", 0);
+            applyMinToMarket = minNotionalFilter != null && minNotionalFilter.getBooleanValue("applyToMarket");
+            maxNotional = Double.POSITIVE_INFINITY;
+            applyMaxToMarket = false;
+        }
+        Filter percentPriceBySide = symbol.getFilter(PERCENT_PRICE_BY_SIDE);
+        if (percentPriceBySide != null) {
+            bidMultiplierUp = filterValue(percentPriceBySide, "bidMultiplierUp", Double.POSITIVE_INFINITY);
+            bidMultiplierDown = filterValue(percentPriceBySide, "bidMultiplierDown", 0);
+            askMultiplierUp = filterValue(percentPriceBySide, "askMultiplierUp", Double.POSITIVE_INFINITY);
+            askMultiplierDown = filterValue(percentPriceBySide, "askMultiplierDown", 0);
+        } else {
+            Filter percentPrice = symbol.getFilter(PERCENT_PRICE);
+            bidMultiplierUp = askMultiplierUp = filterValue(percentPrice, "multiplierUp", Double.POSITIVE_INFINITY);
+            bidMultiplierDown = askMultiplierDown = filterValue(percentPrice, "multiplierDown", 0);
+        }
+        double maxNumOrders = filterValue(symbol.getFilter(MAX_NUM_ORDERS), "maxNumOrders", Double.POSITIVE_INFINITY);
+        this.maxNumOrders = maxNumOrders == Double.POSITIVE_INFINITY ? Integer.MAX_VALUE : (int) maxNumOrders;
+    }
+
+    /**
+     * Method to get a value of a filter
+     *
+     * @param filter:       the filter from read the value, can be {@code "null"}
+     * @param key:          key of the value
+     * @param defaultValue: value to use when the filter or the value are not available, or the value is {@code "0"}
+     *                      for a max
+     * @return value as double
+     */
+    private static double filterValue(Filter filter, String key, double defaultValue) {
+        if (filter == null)
+            return defaultValue;
+        double value = filter.getDoubleValue(key);
+        if (Double.isNaN(value) || (value == 0 && defaultValue == Double.POSITIVE_INFINITY))
+            return defaultValue;
+        return value;
+    }
+
+    /**
+     * Method to get {@link #symbol} instance <br>
+     * No-any params required
+     *
+     * @return {@link #symbol} instance as {@link String}
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Method to get {@link #status} instance <br>
+     * No-any params required
+     *
+     * @return {@link #status} instance as {@link String}
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Method to get {@link #baseAsset} instance <br>
+     * No-any params required
+     *
+     * @return {@link #baseAsset} instance as {@link String}
+     */
+    public String getBaseAsset() {
+        return baseAsset;
+    }
+
+    /**
+     * Method to get {@link #quoteAsset} instance <br>
+     * No-any params required
+     *
+     * @return {@link #quoteAsset} instance as {@link String}
+     */
+    public String getQuoteAsset() {
+        return quoteAsset;
+    }
+
+    /**
+     * Method to get {@link #minPrice} instance <br>
+     * No-any params required
+     *
+     * @return {@link #minPrice} instance as double
+     */
+    public double getMinPrice() {
+        return minPrice;
+    }
+
+    /**
+     * Method to get {@link #maxPrice} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxPrice} instance as double
+     */
+    public double getMaxPrice() {
+        return maxPrice;
+    }
+
+    /**
+     * Method to get {@link #tickSize} instance <br>
+     * No-any params required
+     *
+     * @return {@link #tickSize} instance as double
+     */
+    public double getTickSize() {
+        return tickSize;
+    }
+
+    /**
+     * Method to get {@link #minQty} instance <br>
+     * No-any params required
+     *
+     * @return {@link #minQty} instance as double
+     */
+    public double getMinQty() {
+        return minQty;
+    }
+
+    /**
+     * Method to get {@link #maxQty} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxQty} instance as double
+     */
+    public double getMaxQty() {
+        return maxQty;
+    }
+
+    /**
+     * Method to get {@link #stepSize} instance <br>
+     * No-any params required
+     *
+     * @return {@link #stepSize} instance as double
+     */
+    public double getStepSize() {
+        return stepSize;
+    }
+
+    /**
+     * Method to get {@link #marketMinQty} instance <br>
+     * No-any params required
+     *
+     * @return {@link #marketMinQty} instance as double
+     */
+    public double getMarketMinQty() {
+        return marketMinQty;
+    }
+
+    /**
+     * Method to get {@link #marketMaxQty} instance <br>
+     * No-any params required
+     *
+     * @return {@link #marketMaxQty} instance as double
+     */
+    public double getMarketMaxQty() {
+        return marketMaxQty;
+    }
+
+    /**
+     * Method to get {@link #marketStepSize} instance <br>
+     * No-any params required
+     *
+     * @return {@link #marketStepSize} instance as double
+     */
+    public double getMarketStepSize() {
+        return marketStepSize;
+    }
+
+    /**
+     * Method to get {@link #minNotional} instance <br>
+     * No-any params required
+     *
+     * @return {@link #minNotional} instance as double
+     */
+    public double getMinNotional() {
+        return minNotional;
+    }
+
+    /**
+     * Method to get {@link #applyMinToMarket} instance <br>
+     * No-any params required
+     *
+     * @return {@link #applyMinToMarket} instance as boolean
+     */
+    public boolean isApplyMinToMarket() {
+        return applyMinToMarket;
+    }
+
+    /**
+     * Method to get {@link #maxNotional} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxNotional} instance as double
+     */
+    public double getMaxNotional() {
+        return maxNotional;
+    }
+
+    /**
+     * Method to get {@link #applyMaxToMarket} instance <br>
+     * No-any params required
+     *
+     * @return {@link #applyMaxToMarket} instance as boolean
+     */
+    public boolean isApplyMaxToMarket() {
+        return applyMaxToMarket;
+    }
+
+    /**
+     * Method to get {@link #bidMultiplierUp} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bidMultiplierUp} instance as double
+     */
+    public double getBidMultiplierUp() {
+        return bidMultiplierUp;
+    }
+
+    /**
+     * Method to get {@link #bidMultiplierDown} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bidMultiplierDown} instance as double
+     */
+    public double getBidMultiplierDown() {
+        return bidMultiplierDown;
+    }
+
+    /**
+     * Method to get {@link #askMultiplierUp} instance <br>
+     * No-any params required
+     *
+     * @return {@link #askMultiplierUp} instance as double
+     */
+    public double getAskMultiplierUp() {
+        return askMultiplierUp;
+    }
+
+    /**
+     * Method to get {@link #askMultiplierDown} instance <br>
+     * No-any params required
+     *
+     * @return {@link #askMultiplierDown} instance as double
+     */
+    public double getAskMultiplierDown() {
+        return askMultiplierDown;
+    }
+
+    /**
+     * Method to get {@link #maxNumOrders} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxNumOrders} instance as int
+     */
+    public int getMaxNumOrders() {
+        return maxNumOrders;
+    }
+
+    /**
+     * Method to get {@link #baseAssetPrecision} instance <br>
+     * No-any params required
+     *
+     * @return {@link #baseAssetPrecision} instance as int
+     */
+    public int getBaseAssetPrecision() {
+        return baseAssetPrecision;
+    }
+
+    /**
+     * Method to get {@link #quoteAssetPrecision} instance <br>
+     * No-any params required
+     *
+     * @return {@link #quoteAssetPrecision} instance as int
+     */
+    public int getQuoteAssetPrecision() {
+        return quoteAssetPrecision;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject(this).toString();
+    }
+
+}
@@ -1,7 +1,12 @@
 package com.tecknobit.binancemanager.managers.market.records.tickers;
 
+import com.tecknobit.apimanager.annotations.Returner;
+import com.tecknobit.binancemanager.managers.BinanceJsonReader;
 import org.json.JSONObject;
 
+import java.io.IOException;
+import java.util.ArrayList;
+
 import static com.tecknobit.apimanager.trading.TradingTools.roundValue;
 
 /**
@@ -151,11 +156,11 @@ public class TickerPriceChange extends OrderBookTicker {
         priceChangePercent = hTicker.getDouble("priceChangePercent", 0);
         weightedAvgPrice = hTicker.getDouble("weightedAvgPrice", 0);
         prevClosePrice = hTicker.getDouble("prevClosePrice", 0);
-        lastPrice = hTicker.getDouble("openPrice", 0);
+        lastPrice = hTicker.getDouble("lastPrice", 0);
         lastQty = hTicker.getDouble("lastQty", 0);
-        openPrice = hTicker.getDouble("highPrice", 0);
-        highPrice = hTicker.getDouble("lowPrice", 0);
-        lowPrice = hTicker.getDouble("lastPrice", 0);
+        openPrice = hTicker.getDouble("openPrice", 0);
+        highPrice = hTicker.getDouble("highPrice", 0);
+        lowPrice = hTicker.getDouble("lowPrice", 0);
         volume = hTicker.getDouble("volume", 0);
         quoteVolume = hTicker.getDouble("quoteVolume", 0);
         openTime = hTicker.getLong("openTime", 0);
@@ -165,6 +170,71 @@ public class TickerPriceChange extends OrderBookTicker {
         count = hTicker.getInt("count", 0);
     }
 
+    /**
+     * Method to create a ticker price change
+     *
+     * @param ticker: ticker price change details as {@link BinanceJsonReader} positioned on the ticker object
+     * @return ticker price change as {@link TickerPriceChange} custom object
+     * @throws IOException when the ticker cannot be read
+     */
+    @Returner
+    public static TickerPriceChange returnTickerPriceChange(BinanceJsonReader ticker) throws IOException {
+        String symbol = null;
+        double priceChange = 0, priceChangePercent = 0, weightedAvgPrice = 0, prevClosePrice = 0, lastPrice = 0,
+                lastQty = 0, bidPrice = 0, bidQty = 0, askPrice = 0, askQty = 0, openPrice = 0, highPrice = 0,
+                lowPrice = 0, volume = 0, quoteVolume = 0;
+        long openTime = 0, closeTime = 0, firstId = 0, lastId = 0;
+        int count = 0;
+        ticker.beginObject();
+        while (ticker.hasNext()) {
+            switch (ticker.nextName()) {
+                case "symbol" -> symbol = ticker.nextString();
+                case "priceChange" -> priceChange = ticker.nextDouble();
+                case "priceChangePercent" -> priceChangePercent = ticker.nextDouble();
+                case "weightedAvgPrice" -> weightedAvgPrice = ticker.nextDouble();
+                case "prevClosePrice" -> prevClosePrice = ticker.nextDouble();
+                case "lastPrice" -> lastPrice = ticker.nextDouble();
+                case "lastQty" -> lastQty = ticker.nextDouble();
+                case "bidPrice" -> bidPrice = ticker.nextDouble();
+                case "bidQty" -> bidQty = ticker.nextDouble();
+                case "askPrice" -> askPrice = ticker.nextDouble();
+                case "askQty" -> askQty = ticker.nextDouble();
+                case "openPrice" -> openPrice = ticker.nextDouble();
+                case "highPrice" -> highPrice = ticker.nextDouble();
+                case "lowPrice" -> lowPrice = ticker.nextDouble();
+                case "volume" -> volume = ticker.nextDouble();
+                case "quoteVolume" -> quoteVolume = ticker.nextDouble();
+                case "openTime" -> openTime = ticker.nextLong();
+                case "closeTime" -> closeTime = ticker.nextLong();
+                case "firstId" -> firstId = ticker.nextLong();
+                case "lastId" -> lastId = ticker.nextLong();
+                case "count" -> count = ticker.nextInt();
+                default -> ticker.skipValue();
+            }
+        }
+        ticker.endObject();
+        return new TickerPriceChange(symbol, priceChange, priceChangePercent, weightedAvgPrice, prevClosePrice,
+                lastPrice, lastQty, bidPrice, bidQty, askPrice, askQty, openPrice, highPrice, lowPrice, volume,
+                quoteVolume, openTime, closeTime, firstId, lastId, count);
+    }
+
+    /**
+     * Method to create a tickers price change list
+     *
+     * @param tickers: tickers price change list as {@link BinanceJsonReader} positioned on the list
+     * @return tickers price change list as {@link ArrayList} of {@link TickerPriceChange}
+     * @throws IOException when the tickers cannot be read
+     */
+    @Returner
+    public static ArrayList<TickerPriceChange> returnTickersPriceChangeList(BinanceJsonReader tickers) throws IOException {
+        ArrayList<TickerPriceChange> tickersList = new ArrayList<>();
+        tickers.beginArray();
+        while (tickers.hasNext())
+            tickersList.add(returnTickerPriceChange(tickers));
+        tickers.endArray();
+        return tickersList;
+    }
+
     /**
      * Method to get {@link #bidPrice} instance <br>
      * No-any params required
@@ -1,8 +1,12 @@
 package com.tecknobit.binancemanager.managers.market.records.trade;
 
+import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.formatters.TimeFormatter;
+import com.tecknobit.binancemanager.managers.BinanceJsonReader;
 import org.json.JSONObject;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Date;
 
 import static com.tecknobit.apimanager.trading.TradingTools.roundValue;
@@ -94,6 +98,58 @@ public class CompressedTrade {
         isBestMatch = compressedTrade.getBoolean("M");
     }
 
+    /**
+     * Constructor to init {@link CompressedTrade} object
+     *
+     * @param compressedTrade: compressed trade details as {@link BinanceJsonReader} positioned on the trade object
+     * @throws IOException when the compressed trade cannot be read
+     */
+    public CompressedTrade(BinanceJsonReader compressedTrade) throws IOException {
+        long aggregateTradeId = 0, firstTradeId = 0, lastTradeId = 0, timestamp = 0;
+        double price = 0, quantity = 0;
+        boolean isBuyerMaker = false, isBestMatch = false;
+        compressedTrade.beginObject();
+        while (compressedTrade.hasNext()) {
+            switch (compressedTrade.nextName()) {
+                case "a" -> aggregateTradeId = compressedTrade.nextLong();
+                case "p" -> price = compressedTrade.nextDouble();
+                case "q" -> quantity = compressedTrade.nextDouble();
+                case "f" -> firstTradeId = compressedTrade.nextLong();
+                case "l" -> lastTradeId = compressedTrade.nextLong();
+                case "T" -> timestamp = compressedTrade.nextLong();
+                case "m" -> isBuyerMaker = compressedTrade.nextBoolean();
+                case "M" -> isBestMatch = compressedTrade.nextBoolean();
+                default -> compressedTrade.skipValue();
+            }
+        }
+        compressedTrade.endObject();
+        this.aggregateTradeId = aggregateTradeId;
+        this.price = price;
+        this.quantity = quantity;
+        this.firstTradeId = firstTradeId;
+        this.lastTradeId = lastTradeId;
+        this.timestamp = timestamp;
+        this.isBuyerMaker = isBuyerMaker;
+        this.isBestMatch = isBestMatch;
+    }
+
+    /**
+     * Method to create a compressed trades list
+     *
+     * @param compressedTrades: compressed trades list as {@link BinanceJsonReader} positioned on the list
+     * @return compressed trades list as {@link ArrayList} of {@link CompressedTrade}
+     * @throws IOException when the compressed trades cannot be read
+     */
+    @Returner
+    public static ArrayList<CompressedTrade> returnCompressedTradesList(BinanceJsonReader compressedTrades) throws IOException {
+        ArrayList<CompressedTrade> compressedTradesList = new ArrayList<>();
+        compressedTrades.beginArray();
+        while (compressedTrades.hasNext())
+            compressedTradesList.add(new CompressedTrade(compressedTrades));
+        compressedTrades.endArray();
+        return compressedTradesList;
+    }
+
     /**
      * Method to get {@link #aggregateTradeId} instance <br>
      * No-any params required
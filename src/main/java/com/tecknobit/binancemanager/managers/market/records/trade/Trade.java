@@ -1,8 +1,12 @@
 package com.tecknobit.binancemanager.managers.market.records.trade;
 
+import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.formatters.TimeFormatter;
+import com.tecknobit.binancemanager.managers.BinanceJsonReader;
 import org.json.JSONObject;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Date;
 
 import static com.tecknobit.apimanager.trading.TradingTools.roundValue;
@@ -94,6 +98,56 @@ public class Trade {
         isBestMatch = trade.getBoolean("isBestMatch");
     }
 
+    /**
+     * Constructor to init {@link Trade} object
+     *
+     * @param trade: trade details as {@link BinanceJsonReader} positioned on the trade object
+     * @throws IOException when the trade cannot be read
+     */
+    public Trade(BinanceJsonReader trade) throws IOException {
+        long id = 0, time = 0;
+        double price = 0, qty = 0, quoteQty = 0;
+        boolean isBuyerMaker = false, isBestMatch = false;
+        trade.beginObject();
+        while (trade.hasNext()) {
+            switch (trade.nextName()) {
+                case "id" -> id = trade.nextLong();
+                case "price" -> price = trade.nextDouble();
+                case "qty" -> qty = trade.nextDouble();
+                case "quoteQty" -> quoteQty = trade.nextDouble();
+                case "time" -> time = trade.nextLong();
+                case "isBuyerMaker" -> isBuyerMaker = trade.nextBoolean();
+                case "isBestMatch" -> isBestMatch = trade.nextBoolean();
+                default -> trade.skipValue();
+            }
+        }
+        trade.endObject();
+        this.id = id;
+        this.price = price;
+        this.qty = qty;
+        this.quoteQty = quoteQty;
+        this.time = time;
+        this.isBuyerMaker = isBuyerMaker;
+        this.isBestMatch = isBestMatch;
+    }
+
+    /**
+     * Method to create a trades list
+     *
+     * @param trades: trades list as {@link BinanceJsonReader} positioned on the list
+     * @return trades list as {@link ArrayList} of {@link Trade}
+     * @throws IOException when the trades cannot be read
+     */
+    @Returner
+    public static ArrayList<Trade> returnTradesList(BinanceJsonReader trades) throws IOException {
+        ArrayList<Trade> tradesList = new ArrayList<>();
+        trades.beginArray();
+        while (trades.hasNext())
+            tradesList.add(new Trade(trades));
+        trades.endArray();
+        return tradesList;
+    }
+
     /**
      * Method to get {@link #id} instance <br>
      * No-any params required
@@ -6,6 +6,12 @@ import com.tecknobit.apimanager.annotations.Wrapper;
 import com.tecknobit.apimanager.interfaces.Manager;
 import com.tecknobit.binancemanager.exceptions.SystemException;
 import com.tecknobit.binancemanager.managers.BinanceManager;
+import com.tecknobit.binancemanager.managers.BinanceMessageQueue;
+import com.tecknobit.binancemanager.managers.BinanceMessageQueue.OverflowPolicy;
+import com.tecknobit.binancemanager.managers.SupervisedWebsocket;
+import com.tecknobit.binancemanager.managers.SupervisedWebsocket.ConnectionGap;
+import com.tecknobit.binancemanager.managers.marketstreams.MarketFrameDecoder.BookTickerEvent;
+import com.tecknobit.binancemanager.managers.marketstreams.MarketFrameDecoder.TradeEvent;
 import com.tecknobit.binancemanager.managers.market.records.OrderBook;
 import com.tecknobit.binancemanager.managers.market.records.stats.Candlestick.Interval;
 import com.tecknobit.binancemanager.managers.marketstreams.records.DiffDepth;
@@ -20,21 +26,24 @@ import com.tecknobit.binancemanager.managers.marketstreams.records.trade.WbsTrad
 import com.tecknobit.binancemanager.managers.records.websocketstream.BinanceWebsocketResponse.EventType;
 import com.tecknobit.binancemanager.managers.signedmanagers.BinanceSignedManager;
 import com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers.BinanceWebsocketManager;
-import org.java_websocket.client.WebSocketClient;
-import org.java_websocket.handshake.ServerHandshake;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.IOException;
-import java.net.URI;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
-import static com.tecknobit.apimanager.formatters.JsonHelper.getString;
 import static com.tecknobit.binancemanager.managers.BinanceManager.ReturnFormat.LIBRARY_OBJECT;
+import static com.tecknobit.binancemanager.managers.BinanceMessageQueue.DEFAULT_CAPACITY;
+import static com.tecknobit.binancemanager.managers.BinanceMessageQueue.DEFAULT_OVERFLOW_POLICY;
 import static com.tecknobit.binancemanager.managers.marketstreams.BinanceMarketStreamsManager.Streams.*;
+import static com.tecknobit.binancemanager.managers.marketstreams.MarketFrameDecoder.COMBINED_FRAME_PREFIX;
 import static com.tecknobit.binancemanager.managers.records.websocketstream.BinanceWebsocketResponse.EventType.*;
-import static java.lang.Thread.onSpinWait;
 
 /**
  * The {@code BinanceMarketStreamsManager} class is useful to manage market streams endpoints
@@ -151,6 +160,12 @@ public class BinanceMarketStreamsManager extends BinanceManager {
      */
     public static final String WEB_SOCKET_DATA_STREAM_ENDPOINT = "wss://data-stream.binance.com";
 
+    /**
+     * {@code BOOK_TICKER_FRAME_PREFIX} is the prefix of the frames of the book-ticker stream, that have not an event
+     * type
+     */
+    private static final String BOOK_TICKER_FRAME_PREFIX = "{\"u\":";
+
     /**
      * {@code webSocketResponse} response obtained from the websocket connection
      */
@@ -161,6 +176,38 @@ public class BinanceMarketStreamsManager extends BinanceManager {
      */
     private volatile boolean streamAvailable = true;
 
+    /**
+     * {@code responseLock} is the lock used to wait the {@link #webSocketResponse} without spinning
+     */
+    private final Object responseLock = new Object();
+
+    /**
+     * {@code messageQueues} is the list of the queues of the connections opened by the manager
+     */
+    private final CopyOnWriteArrayList<BinanceMessageQueue> messageQueues = new CopyOnWriteArrayList<>();
+
+    /**
+     * {@code messageQueueCapacity} is instance that memorizes the capacity of the queues of the new connections
+     */
+    private volatile int messageQueueCapacity = DEFAULT_CAPACITY;
+
+    /**
+     * {@code overflowPolicy} is instance that memorizes the policy of the queues of the new connections
+     */
+    private volatile OverflowPolicy overflowPolicy = DEFAULT_OVERFLOW_POLICY;
+
+    /**
+     * {@code streamMultiplexer} is instance used to subscribe many streams on few combined connections,
+     * {@code "null"} if not created yet
+     */
+    private volatile StreamMultiplexer streamMultiplexer;
+
+    /**
+     * {@code connectionGapListener} is instance that receives the gaps of the connections, when the frames of a dropped
+     * connection have been lost
+     */
+    private volatile Consumer<ConnectionGap> connectionGapListener;
+
     /**
      * Constructor to init a {@link BinanceMarketStreamsManager}
      *
@@ -285,7 +332,7 @@ public class BinanceMarketStreamsManager extends BinanceManager {
                 mReturn = (T) new JSONObject(webSocketResponse);
                 break;
             case LIBRARY_OBJECT:
-                mReturn = (T) new AggregateTrade(new JSONObject(webSocketResponse));
+                mReturn = (T) new MarketFrameDecoder().decodeAggregateTrade(webSocketResponse);
                 break;
             default:
                 mReturn = (T) webSocketResponse;
@@ -352,7 +399,7 @@ public class BinanceMarketStreamsManager extends BinanceManager {
                 mReturn = (T) new JSONObject(webSocketResponse);
                 break;
             case LIBRARY_OBJECT:
-                mReturn = (T) new WbsTrade(new JSONObject(webSocketResponse));
+                mReturn = (T) new MarketFrameDecoder().decodeTrade(webSocketResponse);
                 break;
             default:
                 mReturn = (T) webSocketResponse;
@@ -881,7 +928,7 @@ public class BinanceMarketStreamsManager extends BinanceManager {
      */
     @RequestPath(method = GET, path = "<symbol>@bookTicker")
     public void connectToIndividualSymbolBookTickerStreams(String symbol) throws Exception {
-        connectToSingleStream(symbol.toLowerCase() + bookTicker);
+        connectToSingleStream(symbol.toLowerCase() + Streams.bookTicker);
     }
 
     /**
@@ -913,15 +960,14 @@ public class BinanceMarketStreamsManager extends BinanceManager {
     @Returner
     @RequestPath(method = GET, path = "<symbol>@bookTicker")
     public <T> T getBookTicker(ReturnFormat format) {
-        while (webSocketResponse == null || !webSocketResponse.contains("bookTicker"))
-            onSpinWait();
+        waitCorrectResponse(BinanceMarketStreamsManager::isBookTickerFrame);
         T mReturn;
         switch (format) {
             case JSON:
                 mReturn = (T) new JSONObject(webSocketResponse);
                 break;
             case LIBRARY_OBJECT:
-                mReturn = (T) new WbsBookTicker(new JSONObject(webSocketResponse));
+                mReturn = (T) new MarketFrameDecoder().decodeBookTicker(webSocketResponse);
                 break;
             default:
                 mReturn = (T) webSocketResponse;
@@ -930,6 +976,25 @@ public class BinanceMarketStreamsManager extends BinanceManager {
         return mReturn;
     }
 
+    /**
+     * Method to get whether a frame is a frame of the book-ticker stream
+     *
+     * @param frame: the frame to check
+     * @return whether the frame is a frame of the book-ticker stream as boolean
+     * @implNote the frames of the single stream are matched by their prefix, because they have not an event type,
+     * and the frames of the combined streams by their {@code "<symbol>@bookTicker"} stream name
+     */
+    private static boolean isBookTickerFrame(String frame) {
+        if (frame.startsWith(BOOK_TICKER_FRAME_PREFIX))
+            return true;
+        if (!frame.startsWith(COMBINED_FRAME_PREFIX))
+            return false;
+        int start = frame.indexOf('"', COMBINED_FRAME_PREFIX.length());
+        int end = start == -1 ? -1 : frame.indexOf('"', start + 1);
+        String stream = Streams.bookTicker.toString();
+        return end != -1 && frame.startsWith(stream, end - stream.length());
+    }
+
     /**
      * Method to connect to the book-depth stream
      *
@@ -1014,8 +1079,7 @@ public class BinanceMarketStreamsManager extends BinanceManager {
     @Returner
     @RequestPath(method = GET, path = "<symbol>@depth<levels>")
     public <T> T getPartialBookDepth(ReturnFormat format) {
-        while (webSocketResponse == null || !webSocketResponse.contains("lastUpdateId"))
-            onSpinWait();
+        waitCorrectResponse(response -> response.contains("lastUpdateId"));
         T mReturn;
         switch (format) {
             case JSON:
@@ -1129,6 +1193,411 @@ public class BinanceMarketStreamsManager extends BinanceManager {
         return mReturn;
     }
 
+    /**
+     * Method to subscribe to a stream and receive each frame of it
+     *
+     * @param stream:   the stream name to subscribe es. btcusdt@trade
+     * @param listener: listener that receives each frame of the stream as {@link String}
+     * @return the subscription created as {@link StreamSubscription} of {@link String}
+     * @implNote the stream name must be concatenated in this way: <br>
+     * <b>stream params</b> + {@link Streams} item
+     */
+    @Wrapper
+    public StreamSubscription<String> subscribe(String stream, Consumer<String> listener) throws Exception {
+        return subscribe(stream, frame -> frame, listener);
+    }
+
+    /**
+     * Method to subscribe to a stream and receive each event of it
+     *
+     * @param stream:   the stream name to subscribe es. btcusdt@trade
+     * @param decoder:  decoder of the frames of the stream
+     * @param listener: listener that receives each event of the stream
+     * @return the subscription created as {@link StreamSubscription} of {@link T}
+     * @implNote the stream name must be concatenated in this way: <br>
+     * <b>stream params</b> + {@link Streams} item
+     */
+    public <T> StreamSubscription<T> subscribe(String stream, Function<String, T> decoder,
+                                               Consumer<T> listener) throws Exception {
+        StreamSubscription<T> subscription = new StreamSubscription<>(stream, decoder, listener,
+                new BinanceMessageQueue(messageQueueCapacity, overflowPolicy));
+        subscription.start();
+        try {
+            subscription.setWebSocket(openWebsocket(WEB_SOCKET_DATA_STREAM_ENDPOINT + "/ws/" + stream,
+                    subscription::onFrame, subscription::onGap));
+        } catch (Exception e) {
+            subscription.cancel();
+            throw e;
+        }
+        return subscription;
+    }
+
+    /**
+     * Method to subscribe to the aggregate trade stream
+     *
+     * @param symbol:   symbol of the aggregate trade to subscribe
+     * @param listener: listener that receives each aggregate trade
+     * @return the subscription created as {@link StreamSubscription} of {@link AggregateTrade}
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#aggregate-trade-streams">
+     * Aggregate Trade Streams</a>
+     */
+    @RequestPath(method = GET, path = "<symbol>@aggTrade")
+    public StreamSubscription<AggregateTrade> subscribeToAggTradeStream(String symbol,
+                                                                        Consumer<AggregateTrade> listener) throws Exception {
+        return subscribe(symbol.toLowerCase() + Streams.aggTrade, new MarketFrameDecoder()::decodeAggregateTrade,
+                listener);
+    }
+
+    /**
+     * Method to subscribe to the aggregate trade stream without allocating an object for each aggregate trade
+     *
+     * @param symbol:   symbol of the aggregate trade to subscribe
+     * @param listener: listener that receives each aggregate trade
+     * @return the subscription created as {@link StreamSubscription} of {@link TradeEvent}
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#aggregate-trade-streams">
+     * Aggregate Trade Streams</a>
+     * @implNote the listener receives the same {@link TradeEvent} filled again with each frame, it must not be kept
+     * after the listener returns
+     */
+    @RequestPath(method = GET, path = "<symbol>@aggTrade")
+    public StreamSubscription<TradeEvent> subscribeToAggTradeEvents(String symbol,
+                                                                    Consumer<TradeEvent> listener) throws Exception {
+        return subscribeToTradeEvents(symbol.toLowerCase() + Streams.aggTrade, listener);
+    }
+
+    /**
+     * Method to subscribe to the trade stream
+     *
+     * @param symbol:   symbol of the trade to subscribe
+     * @param listener: listener that receives each trade
+     * @return the subscription created as {@link StreamSubscription} of {@link WbsTrade}
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#trade-streams">
+     * Trade Streams</a>
+     */
+    @RequestPath(method = GET, path = "<symbol>@trade")
+    public StreamSubscription<WbsTrade> subscribeToTradeStream(String symbol,
+                                                               Consumer<WbsTrade> listener) throws Exception {
+        return subscribe(symbol.toLowerCase() + Streams.trade, new MarketFrameDecoder()::decodeTrade, listener);
+    }
+
+    /**
+     * Method to subscribe to the trade stream without allocating an object for each trade
+     *
+     * @param symbol:   symbol of the trade to subscribe
+     * @param listener: listener that receives each trade
+     * @return the subscription created as {@link StreamSubscription} of {@link TradeEvent}
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#trade-streams">
+     * Trade Streams</a>
+     * @implNote the listener receives the same {@link TradeEvent} filled again with each frame, it must not be kept
+     * after the listener returns
+     */
+    @RequestPath(method = GET, path = "<symbol>@trade")
+    public StreamSubscription<TradeEvent> subscribeToTradeEvents(String symbol,
+                                                                 Consumer<TradeEvent> listener) throws Exception {
+        return subscribeToTradeEvents(symbol.toLowerCase() + Streams.trade, listener);
+    }
+
+    /**
+     * Method to subscribe to the kline stream
+     *
+     * @param symbol:   symbol of the kline to subscribe
+     * @param interval: interval of the kline to subscribe
+     * @param listener: listener that receives each kline
+     * @return the subscription created as {@link StreamSubscription} of {@link WbsKline}
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#kline-candlestick-streams">
+     * Kline/Candlestick Streams</a>
+     */
+    @RequestPath(method = GET, path = "<symbol>@kline_<interval>")
+    public StreamSubscription<WbsKline> subscribeToKlineCandlestickStream(String symbol, Interval interval,
+                                                                          Consumer<WbsKline> listener) throws Exception {
+        return subscribe(symbol.toLowerCase() + kline_ + interval, frame -> new WbsKline(new JSONObject(frame)),
+                listener);
+    }
+
+    /**
+     * Method to subscribe to the mini ticker stream
+     *
+     * @param symbol:   symbol of the mini ticker to subscribe
+     * @param listener: listener that receives each mini ticker
+     * @return the subscription created as {@link StreamSubscription} of {@link WbsMiniTicker}
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#individual-symbol-mini-ticker-stream">
+     * Individual Symbol Mini Ticker Stream</a>
+     */
+    @RequestPath(method = GET, path = "<symbol>@miniTicker")
+    public StreamSubscription<WbsMiniTicker> subscribeToIndividualSymbolMiniTickerStream(String symbol,
+                                                                                         Consumer<WbsMiniTicker> listener) throws Exception {
+        return subscribe(symbol.toLowerCase() + miniTicker, frame -> new WbsMiniTicker(new JSONObject(frame)),
+                listener);
+    }
+
+    /**
+     * Method to subscribe to the all market mini tickers stream
+     *
+     * @param listener: listener that receives each mini tickers list
+     * @return the subscription created as {@link StreamSubscription} of {@link ArrayList} of {@link WbsMiniTicker}
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#all-market-mini-tickers-stream">
+     * All Market Mini Tickers Stream</a>
+     */
+    @RequestPath(method = GET, path = "!miniTicker@arr")
+    public StreamSubscription<ArrayList<WbsMiniTicker>> subscribeToAllMarketMiniTickersStream(
+            Consumer<ArrayList<WbsMiniTicker>> listener) throws Exception {
+        return subscribe(miniTickerArr.stream, frame -> returnItemsList(frame, WbsMiniTicker::new), listener);
+    }
+
+    /**
+     * Method to subscribe to the ticker stream
+     *
+     * @param symbol:   symbol of the ticker to subscribe
+     * @param listener: listener that receives each ticker
+     * @return the subscription created as {@link StreamSubscription} of {@link WbsTicker}
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#individual-symbol-ticker-streams">
+     * Individual Symbol Ticker Streams</a>
+     */
+    @RequestPath(method = GET, path = "<symbol>@ticker")
+    public StreamSubscription<WbsTicker> subscribeToIndividualSymbolTickerStream(String symbol,
+                                                                                 Consumer<WbsTicker> listener) throws Exception {
+        return subscribe(symbol.toLowerCase() + ticker, frame -> new WbsTicker(new JSONObject(frame)), listener);
+    }
+
+    /**
+     * Method to subscribe to the all market tickers stream
+     *
+     * @param listener: listener that receives each tickers list
+     * @return the subscription created as {@link StreamSubscription} of {@link ArrayList} of {@link WbsTicker}
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#all-market-tickers-stream">
+     * All Market Tickers Stream</a>
+     */
+    @RequestPath(method = GET, path = "!ticker@arr")
+    public StreamSubscription<ArrayList<WbsTicker>> subscribeToAllMarketTickersStream(
+            Consumer<ArrayList<WbsTicker>> listener) throws Exception {
+        return subscribe(tickersArr.stream, frame -> returnItemsList(frame, WbsTicker::new), listener);
+    }
+
+    /**
+     * Method to subscribe to the rolling ticker stream
+     *
+     * @param symbol:   symbol of the rolling ticker to subscribe
+     * @param size:     size of the rolling ticker requested
+     * @param listener: listener that receives each rolling ticker
+     * @return the subscription created as {@link StreamSubscription} of {@link WbsRollingWindowTicker}
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#individual-symbol-rolling-window-statistics-streams">
+     * Individual Symbol Rolling Window Statistics Streams</a>
+     */
+    @RequestPath(method = GET, path = "<symbol>@ticker_<window_size>")
+    public StreamSubscription<WbsRollingWindowTicker> subscribeToIndividualSymbolRollingWindowStatisticsStreams(
+            String symbol, WindowSize size, Consumer<WbsRollingWindowTicker> listener) throws Exception {
+        return subscribe(symbol.toLowerCase() + ticker_ + size.getSize(),
+                frame -> new WbsRollingWindowTicker(new JSONObject(frame)), listener);
+    }
+
+    /**
+     * Method to subscribe to the all market rolling tickers stream
+     *
+     * @param size:     size of the rolling tickers requested
+     * @param listener: listener that receives each rolling tickers list
+     * @return the subscription created as {@link StreamSubscription} of {@link ArrayList} of {@link WbsRollingWindowTicker}
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#all-market-rolling-window-statistics-streams">
+     * All Market Rolling Window Statistics Streams</a>
+     */
+    @RequestPath(method = GET, path = "!ticker_<window-size>@arr")
+    public StreamSubscription<ArrayList<WbsRollingWindowTicker>> subscribeToAllMarketRollingWindowStatisticsStreams(
+            WindowSize size, Consumer<ArrayList<WbsRollingWindowTicker>> listener) throws Exception {
+        return subscribe(rollingTickersArr + size.getSize() + "@arr",
+                frame -> returnItemsList(frame, WbsRollingWindowTicker::new), listener);
+    }
+
+    /**
+     * Method to subscribe to the book-ticker stream
+     *
+     * @param symbol:   symbol of the book-ticker to subscribe
+     * @param listener: listener that receives each book-ticker
+     * @return the subscription created as {@link StreamSubscription} of {@link WbsBookTicker}
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#individual-symbol-book-ticker-streams">
+     * Individual Symbol Book Ticker Streams</a>
+     */
+    @RequestPath(method = GET, path = "<symbol>@bookTicker")
+    public StreamSubscription<WbsBookTicker> subscribeToIndividualSymbolBookTickerStreams(String symbol,
+                                                                                          Consumer<WbsBookTicker> listener) throws Exception {
+        return subscribe(symbol.toLowerCase() + Streams.bookTicker, new MarketFrameDecoder()::decodeBookTicker, listener);
+    }
+
+    /**
+     * Method to subscribe to the book-ticker stream without allocating an object for each book-ticker
+     *
+     * @param symbol:   symbol of the book-ticker to subscribe
+     * @param listener: listener that receives each book-ticker
+     * @return the subscription created as {@link StreamSubscription} of {@link BookTickerEvent}
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#individual-symbol-book-ticker-streams">
+     * Individual Symbol Book Ticker Streams</a>
+     * @implNote the listener receives the same {@link BookTickerEvent} filled again with each frame, it must not be
+     * kept after the listener returns
+     */
+    @RequestPath(method = GET, path = "<symbol>@bookTicker")
+    public StreamSubscription<BookTickerEvent> subscribeToBookTickerEvents(String symbol,
+                                                                           Consumer<BookTickerEvent> listener) throws Exception {
+        MarketFrameDecoder decoder = new MarketFrameDecoder();
+        BookTickerEvent event = new BookTickerEvent();
+        return subscribe(symbol.toLowerCase() + Streams.bookTicker, frame -> decoder.decodeBookTicker(frame, event), listener);
+    }
+
+    /**
+     * Method to subscribe to the book-depth stream
+     *
+     * @param symbol:      symbol of the book-depth to subscribe
+     * @param levels:      top bids and asks -> valid are 5, 10, or 20
+     * @param updateSpeed: update speed of the refresh -> valid are 100ms, 1000ms, -1 to use the default one
+     * @param listener:    listener that receives each book-depth
+     * @return the subscription created as {@link StreamSubscription} of {@link OrderBook}
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#partial-book-depth-streams">
+     * Partial Book Depth Streams</a>
+     */
+    @RequestPath(method = GET, path = "<symbol>@depth<levels>")
+    public StreamSubscription<OrderBook> subscribeToPartialBookDepthStreams(String symbol, int levels, int updateSpeed,
+                                                                            Consumer<OrderBook> listener) throws Exception {
+        String stream = symbol.toLowerCase() + Streams.depth + levels;
+        if (updateSpeed != -1)
+            stream += "@" + updateSpeed + "ms";
+        return subscribe(stream, frame -> new OrderBook(new JSONObject(frame)), listener);
+    }
+
+    /**
+     * Method to subscribe to the diff. depth stream
+     *
+     * @param symbol:      symbol of the diff. depth to subscribe
+     * @param updateSpeed: update speed of the refresh -> valid are 100ms, 1000ms, -1 to use the default one
+     * @param listener:    listener that receives each diff. depth
+     * @return the subscription created as {@link StreamSubscription} of {@link DiffDepth}
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#diff-depth-stream">
+     * Diff. Depth Stream</a>
+     */
+    @RequestPath(method = GET, path = "<symbol>@depth")
+    public StreamSubscription<DiffDepth> subscribeToDiffDepthStream(String symbol, int updateSpeed,
+                                                                    Consumer<DiffDepth> listener) throws Exception {
+        String stream = symbol.toLowerCase() + Streams.depth;
+        if (updateSpeed != -1)
+            stream += "@" + updateSpeed + "ms";
+        return subscribe(stream, frame -> new DiffDepth(new JSONObject(frame)), listener);
+    }
+
+    /**
+     * Method to get the multiplexer of the manager, creating it with the first invocation <br>
+     * No-any params required
+     *
+     * @return multiplexer of the manager as {@link StreamMultiplexer}
+     * @apiNote prefer the multiplexer to {@link #subscribe(String, Function, Consumer)} when subscribing many streams:
+     * each subscription of the manager has its own connection and dispatcher thread, while the multiplexer packs up to
+     * {@link StreamMultiplexer#MAX_STREAMS_PER_CONNECTION} streams on each connection and dispatches all of them with
+     * a single thread
+     * @implNote the multiplexer buffers the frames in a queue created with the {@link #messageQueueCapacity} and the
+     * {@link #overflowPolicy} set when it is created
+     */
+    public StreamMultiplexer getStreamMultiplexer() {
+        StreamMultiplexer streamMultiplexer = this.streamMultiplexer;
+        if (streamMultiplexer == null || streamMultiplexer.isClosed()) {
+            synchronized (this) {
+                streamMultiplexer = this.streamMultiplexer;
+                if (streamMultiplexer == null || streamMultiplexer.isClosed()) {
+                    streamMultiplexer = new StreamMultiplexer(StreamMultiplexer.MAX_STREAMS_PER_CONNECTION,
+                            new BinanceMessageQueue(messageQueueCapacity, overflowPolicy));
+                    this.streamMultiplexer = streamMultiplexer;
+                }
+            }
+        }
+        return streamMultiplexer;
+    }
+
+    /**
+     * Method to set the queue used by the new connections
+     *
+     * @param capacity:       capacity of the queues of the new connections
+     * @param overflowPolicy: policy to apply when a queue is full
+     * @throws IllegalArgumentException when the capacity value is not positive or the policy is
+     *                                  {@link OverflowPolicy#BLOCK}
+     * @implNote the connections already opened keep their own queue. The {@link OverflowPolicy#BLOCK} policy is not
+     * allowed because the getters poll the responses by type, so a queue full of responses of other types would block
+     * the connection forever
+     */
+    public void setMessageQueue(int capacity, OverflowPolicy overflowPolicy) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity value must be positive");
+        if (overflowPolicy == OverflowPolicy.BLOCK)
+            throw new IllegalArgumentException("BLOCK policy is not allowed for the connections of the manager");
+        messageQueueCapacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Method to get {@link #messageQueueCapacity} instance <br>
+     * No-any params required
+     *
+     * @return {@link #messageQueueCapacity} instance as int
+     */
+    public int getMessageQueueCapacity() {
+        return messageQueueCapacity;
+    }
+
+    /**
+     * Method to get {@link #overflowPolicy} instance <br>
+     * No-any params required
+     *
+     * @return {@link #overflowPolicy} instance as {@link OverflowPolicy}
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Method to set {@link #connectionGapListener} instance
+     *
+     * @param connectionGapListener: listener that receives the gaps of the connections
+     * @apiNote the gaps of the subscriptions are also dispatched to their own listener, see
+     * {@link StreamSubscription#setGapListener(Consumer)}
+     */
+    public void setConnectionGapListener(Consumer<ConnectionGap> connectionGapListener) {
+        this.connectionGapListener = connectionGapListener;
+    }
+
+    /**
+     * Method to get the queues of the connections opened with the {@code "connect"} methods <br>
+     * No-any params required
+     *
+     * @return queues of the connections as {@link List} of {@link BinanceMessageQueue}
+     * @implNote the queues of the subscriptions are reachable with {@link StreamSubscription#getMessageQueue()}
+     */
+    public List<BinanceMessageQueue> getMessageQueues() {
+        return List.copyOf(messageQueues);
+    }
+
+    /**
+     * Method to create a list of items from a frame
+     *
+     * @param frame:   the frame to format
+     * @param creator: the creator of each item of the list
+     * @return list of items as {@link ArrayList} of {@link T}
+     */
+    @Returner
+    private static <T> ArrayList<T> returnItemsList(String frame, Function<JSONObject, T> creator) {
+        ArrayList<T> items = new ArrayList<>();
+        JSONArray jItems = new JSONArray(frame);
+        for (int j = 0; j < jItems.length(); j++)
+            items.add(creator.apply(jItems.getJSONObject(j)));
+        return items;
+    }
+
+    /**
+     * Method to subscribe to a trade or aggregate trade stream with a {@link TradeEvent} reused for each frame
+     *
+     * @param stream:   the stream name to subscribe
+     * @param listener: listener that receives each trade
+     * @return the subscription created as {@link StreamSubscription} of {@link TradeEvent}
+     */
+    private StreamSubscription<TradeEvent> subscribeToTradeEvents(String stream,
+                                                                  Consumer<TradeEvent> listener) throws Exception {
+        MarketFrameDecoder decoder = new MarketFrameDecoder();
+        TradeEvent event = new TradeEvent();
+        return subscribe(stream, frame -> decoder.decodeTrade(frame, event), listener);
+    }
+
     /**
      * Method to connect to one stream
      *
@@ -1143,74 +1612,51 @@ public class BinanceMarketStreamsManager extends BinanceManager {
      * No-any params required
      */
     private void releaseResources() {
-        webSocketResponse = null;
-        streamAvailable = true;
+        synchronized (responseLock) {
+            webSocketResponse = null;
+            streamAvailable = true;
+            responseLock.notifyAll();
+        }
     }
 
     /**
-     * Method to start the websocket connection
+     * Method to start the websocket connection used by the getters of the streams responses
      *
      * @param endpoint: the endpoint of the stream
      */
     private void startWebsocket(String endpoint) throws Exception {
-        new WebSocketClient(new URI(endpoint)) {
-
-            /**
-             * Called after an opening handshake has been performed and the given websocket is ready to be
-             * written on.
-             *
-             * @param handshakeData The handshake of the websocket instance
-             */
-            @Override
-            public void onOpen(ServerHandshake handshakeData) {
-            }
-
-            /**
-             * Callback for string messages received from the remote host
-             *
-             * @param message The UTF-8 decoded message that was received.
-             */
-            @Override
-            public void onMessage(String message) {
-                if (streamAvailable) {
-                    webSocketResponse = message;
-                    if (endpoint.endsWith(bookTicker.stream)) {
-                        synchronized (webSocketResponse) {
-                            webSocketResponse = new JSONObject(webSocketResponse).put("e", "bookTicker").toString();
-                        }
-                    }
-                }
-            }
-
-            /**
-             * Called after the websocket connection has been closed.
-             *
-             * @param code   The codes can be looked up here
-             * @param reason Additional information string
-             * @param remote Returns whether the closing of the connection was initiated by the remote
-             *               host.
-             */
-            @Override
-            public void onClose(int code, String reason, boolean remote) {
+        BinanceMessageQueue messageQueue = new BinanceMessageQueue(messageQueueCapacity, overflowPolicy);
+        messageQueue.setFrameListener(() -> {
+            synchronized (responseLock) {
+                responseLock.notifyAll();
             }
+        });
+        messageQueues.add(messageQueue);
+        openWebsocket(endpoint, messageQueue::offer, null);
+    }
 
-            /**
-             * Called when errors occurs. If an error causes the websocket connection to fail {@link
-             * #onClose(int, String, boolean)} will be called additionally.<br> This method will be called
-             * primarily because of IO or protocol errors.<br> If the given exception is an RuntimeException
-             * that probably means that you encountered a bug.<br>
-             *
-             * @param ex The exception causing this error
-             */
-            @Override
-            public void onError(Exception ex) {
-                try {
-                    throw new Exception(ex);
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            }
-        }.connect();
+    /**
+     * Method to open a websocket connection
+     *
+     * @param endpoint: the endpoint of the stream
+     * @param onFrame:  the callback invoked for each frame received
+     * @param onGap:    the callback invoked when the connection has been reopened after a drop, {@code "null"} if not
+     *                  required
+     * @return the websocket connection as {@link SupervisedWebsocket}
+     * @implNote the connection is supervised: it is reopened when dropped and rolled over before the 24 hours limit
+     */
+    private SupervisedWebsocket openWebsocket(String endpoint, Consumer<String> onFrame,
+                                              Consumer<ConnectionGap> onGap) throws Exception {
+        SupervisedWebsocket webSocket = new SupervisedWebsocket(endpoint, onFrame);
+        webSocket.setGapListener(gap -> {
+            if (onGap != null)
+                onGap.accept(gap);
+            Consumer<ConnectionGap> connectionGapListener = this.connectionGapListener;
+            if (connectionGapListener != null)
+                connectionGapListener.accept(gap);
+        });
+        webSocket.connect();
+        return webSocket;
     }
 
     /**
@@ -1229,29 +1675,39 @@ public class BinanceMarketStreamsManager extends BinanceManager {
      * @param type:       type of the event to wait
      * @param charToWait: the start char of the {@link #webSocketResponse} to wait
      */
-    private synchronized void waitCorrectResponse(EventType type, String charToWait) {
-        while (!streamAvailable)
-            onSpinWait();
-        if (webSocketResponse != null)
-            streamAvailable = false;
-        if (charToWait == null) {
-            while (webSocketResponse == null || reachEnumConstant(getString(new JSONObject(webSocketResponse), "e",
-                    no_content.name())) != type) {
-                onSpinWait();
-            }
-        } else {
-            if (charToWait.startsWith("{")) {
-                while (webSocketResponse == null || !webSocketResponse.startsWith(charToWait) ||
-                        reachEnumConstant(getString(new JSONObject(webSocketResponse), "e", no_content.name())) !=
-                                type) {
-                    onSpinWait();
-                }
-            } else {
-                while (webSocketResponse == null || !webSocketResponse.startsWith(charToWait) || reachEnumConstant(
-                        getString(new JSONArray(webSocketResponse).getJSONObject(0), "e", no_content.name()))
-                        != type) {
-                    onSpinWait();
+    @Wrapper
+    private void waitCorrectResponse(EventType type, String charToWait) {
+        waitCorrectResponse(response -> (charToWait == null || response.startsWith(charToWait))
+                && reachFrameEventType(response) == type);
+    }
+
+    /**
+     * Method to wait the correct response to format the correct object or return the correct response
+     *
+     * @param condition: the condition that the {@link #webSocketResponse} must respect
+     * @implNote the current thread waits, without spinning, until one of the {@link #messageQueues} contains a
+     * response that respects the condition, the newest one is removed from its queue, the older ones that respect the
+     * condition are discarded and the other responses are kept for the next invocations
+     */
+    private void waitCorrectResponse(Predicate<String> condition) {
+        synchronized (responseLock) {
+            try {
+                while (true) {
+                    if (streamAvailable) {
+                        for (BinanceMessageQueue messageQueue : messageQueues) {
+                            String response = messageQueue.pollLatest(condition);
+                            if (response != null) {
+                                webSocketResponse = response;
+                                streamAvailable = false;
+                                return;
+                            }
+                        }
+                    }
+                    responseLock.wait();
                 }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
             }
         }
     }
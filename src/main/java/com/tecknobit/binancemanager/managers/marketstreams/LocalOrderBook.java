@@ -0,0 +1,650 @@
+package com.tecknobit.binancemanager.managers.marketstreams;
+
+import com.tecknobit.binancemanager.managers.SupervisedWebsocket.ConnectionGap;
+import com.tecknobit.binancemanager.managers.market.BinanceMarketManager;
+import com.tecknobit.binancemanager.managers.market.records.OrderBook;
+import com.tecknobit.binancemanager.managers.market.records.OrderBook.BookOrderDetails;
+import com.tecknobit.binancemanager.managers.marketstreams.records.DiffDepth;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static com.tecknobit.binancemanager.managers.BinanceManager.ReturnFormat.LIBRARY_OBJECT;
+
+/**
+ * The {@code LocalOrderBook} class is useful to keep a local copy of the order book of a symbol, built from a
+ * {@link OrderBook} snapshot and maintained with the {@link DiffDepth} events of the diff. depth stream
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#how-to-manage-a-local-order-book-correctly">
+ * How to manage a local order book correctly</a>
+ * @implNote the events received before the snapshot are buffered, then the snapshot is applied validating the
+ * {@code "lastUpdateId"}, {@code "U"} and {@code "u"} sequence. When a gap in the sequence is detected the book is
+ * cleared and rebuilt with a new snapshot, as when the connection of the stream is reopened after a drop
+ * @see BinanceMarketStreamsManager
+ * @see BinanceMarketManager
+ */
+public class LocalOrderBook {
+
+    /**
+     * {@code DEFAULT_SNAPSHOT_LIMIT} is the default number of levels requested with the snapshot
+     */
+    public static final int DEFAULT_SNAPSHOT_LIMIT = 1000;
+
+    /**
+     * {@code symbol} is instance that memorizes the symbol of the order book
+     */
+    private final String symbol;
+
+    /**
+     * {@code streamsManager} is the manager used to subscribe to the diff. depth stream
+     */
+    private final BinanceMarketStreamsManager streamsManager;
+
+    /**
+     * {@code marketManager} is the manager used to fetch the snapshots
+     */
+    private final BinanceMarketManager marketManager;
+
+    /**
+     * {@code snapshotLimit} is instance that memorizes the number of levels requested with the snapshot
+     */
+    private final int snapshotLimit;
+
+    /**
+     * {@code updateSpeed} is instance that memorizes the update speed of the diff. depth stream
+     */
+    private final int updateSpeed;
+
+    /**
+     * {@code bids} is instance that memorizes the bid levels of the book
+     */
+    private final PriceLevels bids = new PriceLevels(true);
+
+    /**
+     * {@code asks} is instance that memorizes the ask levels of the book
+     */
+    private final PriceLevels asks = new PriceLevels(false);
+
+    /**
+     * {@code pendingEvents} is the buffer of the events received while the book is not synchronized
+     */
+    private final ArrayDeque<DiffDepth> pendingEvents = new ArrayDeque<>();
+
+    /**
+     * {@code subscription} is the subscription to the diff. depth stream
+     */
+    private volatile StreamSubscription<DiffDepth> subscription;
+
+    /**
+     * {@code lastUpdateId} is instance that memorizes the identifier of the last update applied to the book
+     */
+    private long lastUpdateId = -1;
+
+    /**
+     * {@code synced} whether the book is synchronized with the stream
+     */
+    private volatile boolean synced;
+
+    /**
+     * {@code snapshotPending} whether a snapshot has been requested and not applied yet
+     */
+    private boolean snapshotPending;
+
+    /**
+     * {@code firstEventPending} whether the first event after the snapshot has not been applied yet, that event can
+     * straddle the {@link #lastUpdateId} of the snapshot
+     */
+    private boolean firstEventPending;
+
+    /**
+     * {@code resyncs} is instance that memorizes the number of times the book has been rebuilt
+     */
+    private volatile long resyncs;
+
+    /**
+     * {@code updateListener} is instance invoked each time the book is updated
+     */
+    private volatile Consumer<LocalOrderBook> updateListener;
+
+    /**
+     * {@code errorListener} is instance that receives the errors occurred fetching the snapshots
+     */
+    private volatile Consumer<Exception> errorListener;
+
+    /**
+     * Constructor to init a {@link LocalOrderBook}
+     *
+     * @param symbol:         symbol of the order book es. BTCUSDT
+     * @param streamsManager: manager used to subscribe to the diff. depth stream
+     * @param marketManager:  manager used to fetch the snapshots
+     */
+    public LocalOrderBook(String symbol, BinanceMarketStreamsManager streamsManager,
+                          BinanceMarketManager marketManager) {
+        this(symbol, streamsManager, marketManager, DEFAULT_SNAPSHOT_LIMIT, 100);
+    }
+
+    /**
+     * Constructor to init a {@link LocalOrderBook}
+     *
+     * @param symbol:         symbol of the order book es. BTCUSDT
+     * @param streamsManager: manager used to subscribe to the diff. depth stream
+     * @param marketManager:  manager used to fetch the snapshots
+     * @param snapshotLimit:  number of levels requested with the snapshot -> valid are 5, 10, 20, 50, 100, 500, 1000, 5000
+     * @param updateSpeed:    update speed of the diff. depth stream -> valid are 100ms, 1000ms, -1 to use the default one
+     */
+    public LocalOrderBook(String symbol, BinanceMarketStreamsManager streamsManager, BinanceMarketManager marketManager,
+                          int snapshotLimit, int updateSpeed) {
+        this.symbol = symbol.toUpperCase();
+        this.streamsManager = streamsManager;
+        this.marketManager = marketManager;
+        this.snapshotLimit = snapshotLimit;
+        this.updateSpeed = updateSpeed;
+    }
+
+    /**
+     * Method to subscribe to the diff. depth stream and start to build the book <br>
+     * No-any params required
+     *
+     * @throws IllegalStateException when the concurrent transport of the {@link #marketManager} is not enabled, the
+     *                               snapshots are requested asynchronously
+     */
+    public void start() throws Exception {
+        marketManager.checkConcurrentTransport();
+        if (subscription == null) {
+            subscription = streamsManager.subscribeToDiffDepthStream(symbol, updateSpeed, this::onDiffDepth);
+            subscription.setGapListener(this::onGap);
+        }
+    }
+
+    /**
+     * Method to stop the book and cancel its subscription <br>
+     * No-any params required
+     */
+    public void stop() {
+        StreamSubscription<DiffDepth> subscription = this.subscription;
+        if (subscription != null) {
+            subscription.cancel();
+            this.subscription = null;
+        }
+        synchronized (this) {
+            synced = false;
+            pendingEvents.clear();
+        }
+    }
+
+    /**
+     * Method to apply a diff. depth event to the book
+     *
+     * @param diffDepth: the event received from the stream
+     */
+    public void onDiffDepth(DiffDepth diffDepth) {
+        boolean updated = false;
+        synchronized (this) {
+            if (synced) {
+                if (diffDepth.getFinalUpdateIdInEvent() <= lastUpdateId)
+                    return;
+                if (!isNextEvent(diffDepth))
+                    resync(diffDepth);
+                else {
+                    apply(diffDepth);
+                    updated = true;
+                }
+            } else {
+                pendingEvents.add(diffDepth);
+                requestSnapshot();
+            }
+        }
+        if (updated)
+            notifyUpdate();
+    }
+
+    /**
+     * Method to apply a snapshot to the book
+     *
+     * @param snapshot: the snapshot to apply
+     * @implNote if the buffered events start after the snapshot, it is too old and a new one is requested
+     */
+    public void onSnapshot(OrderBook snapshot) {
+        boolean updated = false;
+        synchronized (this) {
+            snapshotPending = false;
+            if (synced || subscription == null)
+                return;
+            long snapshotId = snapshot.getLastUpdateId();
+            while (!pendingEvents.isEmpty() && pendingEvents.peek().getFinalUpdateIdInEvent() <= snapshotId)
+                pendingEvents.poll();
+            DiffDepth first = pendingEvents.peek();
+            if (first != null && first.getFirstUpdateIdInEvent() > snapshotId + 1) {
+                requestSnapshot();
+                return;
+            }
+            bids.clear();
+            asks.clear();
+            for (BookOrderDetails bid : snapshot.getOrderDetailsBids())
+                bids.set(bid.getPrice(), bid.getQuantity());
+            for (BookOrderDetails ask : snapshot.getOrderDetailsAsks())
+                asks.set(ask.getPrice(), ask.getQuantity());
+            lastUpdateId = snapshotId;
+            firstEventPending = true;
+            synced = true;
+            DiffDepth event;
+            while ((event = pendingEvents.poll()) != null) {
+                if (!isNextEvent(event)) {
+                    resync(event);
+                    return;
+                }
+                apply(event);
+            }
+            updated = true;
+        }
+        if (updated)
+            notifyUpdate();
+    }
+
+    /**
+     * Method to invalidate the book after a gap of the connection, the book is rebuilt with a new snapshot when the
+     * next event is received
+     *
+     * @param gap: the gap occurred
+     */
+    public synchronized void onGap(ConnectionGap gap) {
+        if (synced) {
+            synced = false;
+            resyncs++;
+            bids.clear();
+            asks.clear();
+        }
+        pendingEvents.clear();
+    }
+
+    /**
+     * Method to check whether an event follows the {@link #lastUpdateId} of the book, the lock of the book must be
+     * held
+     *
+     * @param diffDepth: the event to check, its {@code "u"} must be greater than the {@link #lastUpdateId}
+     * @return whether the event follows the {@link #lastUpdateId} as boolean
+     * @implNote the first event after the snapshot, buffered or received live, must have
+     * {@code U <= lastUpdateId + 1 <= u}, each of the next events must start from the {@code "u"} + 1 of the previous
+     * one
+     */
+    private boolean isNextEvent(DiffDepth diffDepth) {
+        if (firstEventPending)
+            return diffDepth.getFirstUpdateIdInEvent() <= lastUpdateId + 1;
+        return diffDepth.getFirstUpdateIdInEvent() == lastUpdateId + 1;
+    }
+
+    /**
+     * Method to apply an event to the levels of the book, the lock of the book must be held
+     *
+     * @param diffDepth: the event to apply
+     */
+    private void apply(DiffDepth diffDepth) {
+        firstEventPending = false;
+        for (BookOrderDetails bid : diffDepth.getBids())
+            bids.set(bid.getPrice(), bid.getQuantity());
+        for (BookOrderDetails ask : diffDepth.getAsks())
+            asks.set(ask.getPrice(), ask.getQuantity());
+        lastUpdateId = diffDepth.getFinalUpdateIdInEvent();
+    }
+
+    /**
+     * Method to clear the book and rebuild it with a new snapshot, the lock of the book must be held
+     *
+     * @param diffDepth: the event that revealed the gap, it is buffered to be applied after the new snapshot
+     */
+    private void resync(DiffDepth diffDepth) {
+        synced = false;
+        resyncs++;
+        bids.clear();
+        asks.clear();
+        pendingEvents.clear();
+        pendingEvents.add(diffDepth);
+        requestSnapshot();
+    }
+
+    /**
+     * Method to request a new snapshot if there is not one already pending, the lock of the book must be held <br>
+     * No-any params required
+     */
+    private void requestSnapshot() {
+        if (snapshotPending)
+            return;
+        snapshotPending = true;
+        marketManager.async(() -> marketManager.<OrderBook>getOrderBook(symbol, snapshotLimit, LIBRARY_OBJECT))
+                .whenComplete((snapshot, error) -> {
+                    if (error == null)
+                        onSnapshot(snapshot);
+                    else {
+                        synchronized (this) {
+                            snapshotPending = false;
+                        }
+                        Consumer<Exception> errorListener = this.errorListener;
+                        if (errorListener != null)
+                            errorListener.accept(error instanceof Exception ? (Exception) error : new Exception(error));
+                    }
+                });
+    }
+
+    /**
+     * Method to notify the {@link #updateListener} <br>
+     * No-any params required
+     */
+    private void notifyUpdate() {
+        Consumer<LocalOrderBook> updateListener = this.updateListener;
+        if (updateListener != null)
+            updateListener.accept(this);
+    }
+
+    /**
+     * Method to get the best bid price <br>
+     * No-any params required
+     *
+     * @return best bid price as double, {@code "NaN"} if the book has no bids
+     */
+    public synchronized double getBestBidPrice() {
+        return bids.getPrice(0);
+    }
+
+    /**
+     * Method to get the best bid quantity <br>
+     * No-any params required
+     *
+     * @return best bid quantity as double, {@code "NaN"} if the book has no bids
+     */
+    public synchronized double getBestBidQuantity() {
+        return bids.getQuantity(0);
+    }
+
+    /**
+     * Method to get the best ask price <br>
+     * No-any params required
+     *
+     * @return best ask price as double, {@code "NaN"} if the book has no asks
+     */
+    public synchronized double getBestAskPrice() {
+        return asks.getPrice(0);
+    }
+
+    /**
+     * Method to get the best ask quantity <br>
+     * No-any params required
+     *
+     * @return best ask quantity as double, {@code "NaN"} if the book has no asks
+     */
+    public synchronized double getBestAskQuantity() {
+        return asks.getQuantity(0);
+    }
+
+    /**
+     * Method to get the quantity of a bid level
+     *
+     * @param price: price of the level
+     * @return quantity of the level as double, 0 if the level is not in the book
+     */
+    public synchronized double getBidQuantity(double price) {
+        return bids.get(price);
+    }
+
+    /**
+     * Method to get the quantity of an ask level
+     *
+     * @param price: price of the level
+     * @return quantity of the level as double, 0 if the level is not in the book
+     */
+    public synchronized double getAskQuantity(double price) {
+        return asks.get(price);
+    }
+
+    /**
+     * Method to get the best bid levels
+     *
+     * @param levels: number of levels to get
+     * @return best bid levels as {@link ArrayList} of {@link BookOrderDetails}
+     */
+    public synchronized ArrayList<BookOrderDetails> getBids(int levels) {
+        return bids.getLevels(levels);
+    }
+
+    /**
+     * Method to get the best ask levels
+     *
+     * @param levels: number of levels to get
+     * @return best ask levels as {@link ArrayList} of {@link BookOrderDetails}
+     */
+    public synchronized ArrayList<BookOrderDetails> getAsks(int levels) {
+        return asks.getLevels(levels);
+    }
+
+    /**
+     * Method to get a snapshot of the book
+     *
+     * @param levels: number of levels for each side to get
+     * @return snapshot of the book as {@link OrderBook} custom object
+     */
+    public synchronized OrderBook getOrderBook(int levels) {
+        return new OrderBook(lastUpdateId, bids.getLevels(levels), asks.getLevels(levels), symbol);
+    }
+
+    /**
+     * Method to get {@link #symbol} instance <br>
+     * No-any params required
+     *
+     * @return {@link #symbol} instance as {@link String}
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Method to get {@link #lastUpdateId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #lastUpdateId} instance as long
+     */
+    public synchronized long getLastUpdateId() {
+        return lastUpdateId;
+    }
+
+    /**
+     * Method to get {@link #synced} instance <br>
+     * No-any params required
+     *
+     * @return {@link #synced} instance as boolean
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * Method to get {@link #resyncs} instance <br>
+     * No-any params required
+     *
+     * @return {@link #resyncs} instance as long
+     */
+    public long getResyncs() {
+        return resyncs;
+    }
+
+    /**
+     * Method to set {@link #updateListener} instance
+     *
+     * @param updateListener: instance invoked each time the book is updated
+     */
+    public void setUpdateListener(Consumer<LocalOrderBook> updateListener) {
+        this.updateListener = updateListener;
+    }
+
+    /**
+     * Method to set {@link #errorListener} instance
+     *
+     * @param errorListener: instance that receives the errors occurred fetching the snapshots
+     */
+    public void setErrorListener(Consumer<Exception> errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    /**
+     * The {@code PriceLevels} class is useful to store one side of a book as sorted primitive arrays of prices and
+     * quantities
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @apiNote the levels are sorted from the best one, so the best level is reached in O(1), a level is reached with
+     * a binary search in O(log n) and the top levels are contiguous in memory
+     */
+    public static class PriceLevels {
+
+        /**
+         * {@code descending} whether the prices are sorted from the highest, as for the bids
+         */
+        private final boolean descending;
+
+        /**
+         * {@code prices} is instance that memorizes the prices of the levels
+         */
+        private double[] prices = new double[64];
+
+        /**
+         * {@code quantities} is instance that memorizes the quantities of the levels
+         */
+        private double[] quantities = new double[64];
+
+        /**
+         * {@code size} is instance that memorizes the number of levels
+         */
+        private int size;
+
+        /**
+         * Constructor to init a {@link PriceLevels}
+         *
+         * @param descending: whether the prices are sorted from the highest, as for the bids
+         */
+        public PriceLevels(boolean descending) {
+            this.descending = descending;
+        }
+
+        /**
+         * Method to set the quantity of a level
+         *
+         * @param price:    price of the level
+         * @param quantity: quantity of the level, 0 to remove it
+         */
+        public void set(double price, double quantity) {
+            int index = indexOf(price);
+            if (index >= 0) {
+                if (quantity == 0) {
+                    System.arraycopy(prices, index + 1, prices, index, size - index - 1);
+                    System.arraycopy(quantities, index + 1, quantities, index, size - index - 1);
+                    size--;
+                } else
+                    quantities[index] = quantity;
+            } else if (quantity != 0) {
+                index = -index - 1;
+                if (size == prices.length) {
+                    prices = Arrays.copyOf(prices, size << 1);
+                    quantities = Arrays.copyOf(quantities, size << 1);
+                }
+                System.arraycopy(prices, index, prices, index + 1, size - index);
+                System.arraycopy(quantities, index, quantities, index + 1, size - index);
+                prices[index] = price;
+                quantities[index] = quantity;
+                size++;
+            }
+        }
+
+        /**
+         * Method to get the quantity of a level
+         *
+         * @param price: price of the level
+         * @return quantity of the level as double, 0 if the level is not present
+         */
+        public double get(double price) {
+            int index = indexOf(price);
+            if (index < 0)
+                return 0;
+            return quantities[index];
+        }
+
+        /**
+         * Method to get the price of a level
+         *
+         * @param index: index of the level, 0 is the best one
+         * @return price of the level as double, {@code "NaN"} if the level is not present
+         */
+        public double getPrice(int index) {
+            if (index >= size)
+                return Double.NaN;
+            return prices[index];
+        }
+
+        /**
+         * Method to get the quantity of a level
+         *
+         * @param index: index of the level, 0 is the best one
+         * @return quantity of the level as double, {@code "NaN"} if the level is not present
+         */
+        public double getQuantity(int index) {
+            if (index >= size)
+                return Double.NaN;
+            return quantities[index];
+        }
+
+        /**
+         * Method to get the best levels
+         *
+         * @param levels: number of levels to get
+         * @return best levels as {@link ArrayList} of {@link BookOrderDetails}
+         */
+        public ArrayList<BookOrderDetails> getLevels(int levels) {
+            int count = Math.min(levels, size);
+            ArrayList<BookOrderDetails> details = new ArrayList<>(count);
+            for (int j = 0; j < count; j++)
+                details.add(new BookOrderDetails(prices[j], quantities[j]));
+            return details;
+        }
+
+        /**
+         * Method to remove all the levels <br>
+         * No-any params required
+         */
+        public void clear() {
+            size = 0;
+        }
+
+        /**
+         * Method to get {@link #size} instance <br>
+         * No-any params required
+         *
+         * @return {@link #size} instance as int
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Method to search a level with a binary search
+         *
+         * @param price: price of the level to search
+         * @return index of the level if present, otherwise {@code "-(insertion point) - 1"} as int
+         */
+        private int indexOf(double price) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                double current = prices[middle];
+                if (current == price)
+                    return middle;
+                if (descending ? current > price : current < price)
+                    low = middle + 1;
+                else
+                    high = middle - 1;
+            }
+            return -(low + 1);
+        }
+
+    }
+
+}
@@ -0,0 +1,747 @@
+package com.tecknobit.binancemanager.managers.marketstreams;
+
+import com.tecknobit.binancemanager.managers.marketstreams.records.ticker.WbsBookTicker;
+import com.tecknobit.binancemanager.managers.marketstreams.records.trade.AggregateTrade;
+import com.tecknobit.binancemanager.managers.marketstreams.records.trade.WbsTrade;
+import com.tecknobit.binancemanager.managers.records.websocketstream.BinanceWebsocketResponse.EventType;
+import org.json.JSONObject;
+
+import static com.tecknobit.binancemanager.managers.records.websocketstream.BinanceWebsocketResponse.EventType.aggTrade;
+import static com.tecknobit.binancemanager.managers.records.websocketstream.BinanceWebsocketResponse.EventType.no_content;
+import static com.tecknobit.binancemanager.managers.records.websocketstream.BinanceWebsocketResponse.EventType.reachEnumConstant;
+
+/**
+ * The {@code MarketFrameDecoder} class is useful to decode the frames of the trade, aggregate trade and book-ticker
+ * streams in a single pass, without building a {@link JSONObject}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the frames are scanned field by field and the values are read directly from the frame, the symbols and the
+ * event types equal to the previous ones are reused, so decoding an event allocates only the event object. With the
+ * {@link TradeEvent} and {@link BookTickerEvent} flyweights, filled again with each frame, decoding allocates nothing
+ * @implNote a decoder is not thread safe: use one decoder for each subscription, whose frames are decoded by a single
+ * thread. The frames must be flat {@code "JSON"} objects as the ones sent by {@code "Binance"}, or the frames of the
+ * combined streams that wrap them, the nested values are skipped
+ * @see StreamSubscription
+ */
+public class MarketFrameDecoder {
+
+    /**
+     * {@code COMBINED_FRAME_PREFIX} is the prefix of the frames of the combined streams, that wrap the event in their
+     * {@code "data"} field
+     */
+    public static final String COMBINED_FRAME_PREFIX = "{\"stream\":";
+
+    /**
+     * {@code POWERS_OF_TEN} are the powers of ten that are exactly representable as double
+     */
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+            1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /**
+     * {@code MAX_EXACT_MANTISSA} is the max integer that is exactly representable as double
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /**
+     * {@code scratchTrade} is the flyweight used to decode the trades returned as immutable objects
+     */
+    private final TradeEvent scratchTrade = new TradeEvent();
+
+    /**
+     * {@code scratchBookTicker} is the flyweight used to decode the book-tickers returned as immutable objects
+     */
+    private final BookTickerEvent scratchBookTicker = new BookTickerEvent();
+
+    /**
+     * {@code frame} is the frame currently decoded
+     */
+    private String frame;
+
+    /**
+     * {@code position} is the position in the {@link #frame} where the next field starts
+     */
+    private int position;
+
+    /**
+     * {@code key} is the key of the current field, when it is a single char, {@code -1} otherwise
+     */
+    private int key;
+
+    /**
+     * {@code valueStart} is the position in the {@link #frame} where the value of the current field starts
+     */
+    private int valueStart;
+
+    /**
+     * {@code valueEnd} is the position in the {@link #frame} where the value of the current field ends
+     */
+    private int valueEnd;
+
+    /**
+     * {@code lastSymbol} is the last symbol decoded
+     */
+    private String lastSymbol;
+
+    /**
+     * {@code lastEventTypeName} is the name of the last event type decoded
+     */
+    private String lastEventTypeName;
+
+    /**
+     * {@code lastEventType} is the last event type decoded
+     */
+    private EventType lastEventType;
+
+    /**
+     * Method to read the event type of a frame, without decoding the other fields
+     *
+     * @param frame: the frame to read
+     * @return event type as {@link EventType}, {@link EventType#no_content} if the frame has not an event type
+     */
+    public EventType readEventType(String frame) {
+        start(frame);
+        while (nextField())
+            if (key == 'e')
+                return readEventType();
+        return no_content;
+    }
+
+    /**
+     * Method to decode a frame of the trade stream
+     *
+     * @param frame: the frame to decode
+     * @return trade as {@link WbsTrade}
+     */
+    public WbsTrade decodeTrade(String frame) {
+        return decodeTrade(frame, scratchTrade).toTrade();
+    }
+
+    /**
+     * Method to decode a frame of the aggregate trade stream
+     *
+     * @param frame: the frame to decode
+     * @return aggregate trade as {@link AggregateTrade}
+     */
+    public AggregateTrade decodeAggregateTrade(String frame) {
+        return decodeTrade(frame, scratchTrade).toAggregateTrade();
+    }
+
+    /**
+     * Method to decode a frame of the trade or of the aggregate trade stream in a flyweight
+     *
+     * @param frame: the frame to decode
+     * @param event: the flyweight to fill, its previous values are overwritten
+     * @return the flyweight filled as {@link TradeEvent}
+     * @implNote the {@code "a"} field is the aggregate trade identifier in the aggregate trade frames and the seller
+     * order identifier in the trade frames, the event type is the first field of the frames
+     */
+    public TradeEvent decodeTrade(String frame, TradeEvent event) {
+        event.reset();
+        start(frame);
+        while (nextField()) {
+            switch (key) {
+                case 'e' -> event.eventType = readEventType();
+                case 'E' -> event.eventTime = readLong();
+                case 's' -> event.symbol = readSymbol();
+                case 'p' -> event.price = readDouble();
+                case 'q' -> event.quantity = readDouble();
+                case 'T' -> event.tradeTime = readLong();
+                case 'm' -> event.buyerMarketMaker = readBoolean();
+                case 't' -> event.tradeId = readLong();
+                case 'b' -> event.buyerOrderId = readLong();
+                case 'a' -> {
+                    if (event.eventType == aggTrade)
+                        event.aggregateTradeId = readLong();
+                    else
+                        event.sellerOrderId = readLong();
+                }
+                case 'f' -> event.firstTradeId = readLong();
+                case 'l' -> event.lastTradeId = readLong();
+            }
+        }
+        return event;
+    }
+
+    /**
+     * Method to decode a frame of the book-ticker stream
+     *
+     * @param frame: the frame to decode
+     * @return book-ticker as {@link WbsBookTicker}
+     */
+    public WbsBookTicker decodeBookTicker(String frame) {
+        return decodeBookTicker(frame, scratchBookTicker).toBookTicker();
+    }
+
+    /**
+     * Method to decode a frame of the book-ticker stream in a flyweight
+     *
+     * @param frame: the frame to decode
+     * @param event: the flyweight to fill, its previous values are overwritten
+     * @return the flyweight filled as {@link BookTickerEvent}
+     */
+    public BookTickerEvent decodeBookTicker(String frame, BookTickerEvent event) {
+        event.reset();
+        start(frame);
+        while (nextField()) {
+            switch (key) {
+                case 'u' -> event.orderBookUpdateId = readLong();
+                case 's' -> event.symbol = readSymbol();
+                case 'b' -> event.bestBidPrice = readDouble();
+                case 'B' -> event.bestBidQuantity = readDouble();
+                case 'a' -> event.bestAskPrice = readDouble();
+                case 'A' -> event.bestAskQuantity = readDouble();
+            }
+        }
+        return event;
+    }
+
+    /**
+     * Method to start to decode a frame
+     *
+     * @param frame: the frame to decode
+     * @implNote the frames of the combined streams are decoded from the event wrapped in their {@code "data"} field
+     */
+    private void start(String frame) {
+        this.frame = frame;
+        int data = frame.startsWith(COMBINED_FRAME_PREFIX) ? frame.indexOf("\"data\":") : -1;
+        position = frame.indexOf('{', Math.max(data, 0)) + 1;
+    }
+
+    /**
+     * Method to move to the next field of the {@link #frame} <br>
+     * No-any params required
+     *
+     * @return whether a field has been found as boolean
+     * @implNote the string values are delimited without their quotes, the nested values are delimited with their
+     * brackets
+     */
+    private boolean nextField() {
+        int length = frame.length();
+        int keyStart = position;
+        if (keyStart <= 0)
+            return false;
+        while (keyStart < length && (frame.charAt(keyStart) == ',' || Character.isWhitespace(frame.charAt(keyStart))))
+            keyStart++;
+        if (keyStart == length || frame.charAt(keyStart) != '"')
+            return false;
+        int keyEnd = frame.indexOf('"', keyStart + 1);
+        int colon = keyEnd == -1 ? -1 : frame.indexOf(':', keyEnd);
+        if (colon == -1)
+            return false;
+        key = keyEnd - keyStart == 2 ? frame.charAt(keyStart + 1) : -1;
+        int index = colon + 1;
+        while (index < length && Character.isWhitespace(frame.charAt(index)))
+            index++;
+        if (index == length)
+            return false;
+        char first = frame.charAt(index);
+        if (first == '"') {
+            valueStart = index + 1;
+            valueEnd = frame.indexOf('"', valueStart);
+            if (valueEnd == -1)
+                return false;
+            position = valueEnd + 1;
+        } else if (first == '{' || first == '[') {
+            valueStart = index;
+            int depth = 0;
+            boolean quoted = false;
+            for (; index < length; index++) {
+                char current = frame.charAt(index);
+                if (current == '"')
+                    quoted = !quoted;
+                else if (!quoted) {
+                    if (current == '{' || current == '[')
+                        depth++;
+                    else if ((current == '}' || current == ']') && --depth == 0)
+                        break;
+                }
+            }
+            valueEnd = Math.min(index + 1, length);
+            position = valueEnd;
+        } else {
+            valueStart = index;
+            while (index < length) {
+                char current = frame.charAt(index);
+                if (current == ',' || current == '}' || Character.isWhitespace(current))
+                    break;
+                index++;
+            }
+            valueEnd = index;
+            position = index;
+        }
+        return true;
+    }
+
+    /**
+     * Method to read the value of the current field as long <br>
+     * No-any params required
+     *
+     * @return value as long
+     */
+    private long readLong() {
+        int index = valueStart;
+        boolean negative = index < valueEnd && frame.charAt(index) == '-';
+        if (negative)
+            index++;
+        long value = 0;
+        for (; index < valueEnd; index++) {
+            char current = frame.charAt(index);
+            if (current < '0' || current > '9')
+                return (long) readDouble();
+            value = value * 10 + (current - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Method to read the value of the current field as double <br>
+     * No-any params required
+     *
+     * @return value as double
+     * @implNote the values with a mantissa up to 2^53 and up to twenty-two decimals are read without creating a
+     * {@link String}: their mantissa and the power of ten of their decimals are exact doubles, so their division is
+     * exactly the value returned by {@link Double#parseDouble(String)}
+     */
+    private double readDouble() {
+        int index = valueStart;
+        boolean negative = index < valueEnd && frame.charAt(index) == '-';
+        if (negative)
+            index++;
+        long mantissa = 0;
+        int decimals = -1;
+        for (; index < valueEnd; index++) {
+            char current = frame.charAt(index);
+            if (current == '.' && decimals == -1)
+                decimals = 0;
+            else if (current >= '0' && current <= '9' && mantissa < MAX_EXACT_MANTISSA) {
+                mantissa = mantissa * 10 + (current - '0');
+                if (decimals >= 0)
+                    decimals++;
+            } else
+                return Double.parseDouble(frame.substring(valueStart, valueEnd));
+        }
+        if (mantissa > MAX_EXACT_MANTISSA || decimals >= POWERS_OF_TEN.length)
+            return Double.parseDouble(frame.substring(valueStart, valueEnd));
+        double value = decimals > 0 ? mantissa / POWERS_OF_TEN[decimals] : mantissa;
+        return negative ? -value : value;
+    }
+
+    /**
+     * Method to read the value of the current field as boolean <br>
+     * No-any params required
+     *
+     * @return value as boolean
+     */
+    private boolean readBoolean() {
+        return frame.charAt(valueStart) == 't';
+    }
+
+    /**
+     * Method to read the value of the current field as symbol <br>
+     * No-any params required
+     *
+     * @return symbol as {@link String}, the previous one if equal
+     */
+    private String readSymbol() {
+        int length = valueEnd - valueStart;
+        String lastSymbol = this.lastSymbol;
+        if (lastSymbol == null || lastSymbol.length() != length || !frame.regionMatches(valueStart, lastSymbol, 0,
+                length)) {
+            lastSymbol = frame.substring(valueStart, valueEnd);
+            this.lastSymbol = lastSymbol;
+        }
+        return lastSymbol;
+    }
+
+    /**
+     * Method to read the value of the current field as event type <br>
+     * No-any params required
+     *
+     * @return event type as {@link EventType}, the previous one if equal
+     */
+    private EventType readEventType() {
+        int length = valueEnd - valueStart;
+        String lastEventTypeName = this.lastEventTypeName;
+        if (lastEventTypeName == null || lastEventTypeName.length() != length
+                || !frame.regionMatches(valueStart, lastEventTypeName, 0, length)) {
+            lastEventTypeName = frame.substring(valueStart, valueEnd);
+            this.lastEventTypeName = lastEventTypeName;
+            lastEventType = reachEnumConstant(lastEventTypeName);
+        }
+        return lastEventType;
+    }
+
+    /**
+     * The {@code TradeEvent} class is useful to decode the trade and the aggregate trade frames without allocations
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @apiNote the same instance is filled again with each frame: it must not be kept after the listener returns, use
+     * {@link #toTrade()} or {@link #toAggregateTrade()} to get an immutable copy
+     */
+    public static class TradeEvent {
+
+        /**
+         * {@code eventType} is instance that memorizes the event type
+         */
+        private EventType eventType;
+
+        /**
+         * {@code eventTime} is instance that memorizes the event time
+         */
+        private long eventTime;
+
+        /**
+         * {@code symbol} is instance that memorizes the symbol
+         */
+        private String symbol;
+
+        /**
+         * {@code price} is instance that memorizes the price
+         */
+        private double price;
+
+        /**
+         * {@code quantity} is instance that memorizes the quantity
+         */
+        private double quantity;
+
+        /**
+         * {@code tradeTime} is instance that memorizes the trade time
+         */
+        private long tradeTime;
+
+        /**
+         * {@code buyerMarketMaker} is instance that memorizes whether the buyer is the market maker
+         */
+        private boolean buyerMarketMaker;
+
+        /**
+         * {@code tradeId} is instance that memorizes the trade identifier
+         */
+        private long tradeId;
+
+        /**
+         * {@code buyerOrderId} is instance that memorizes the buyer order identifier
+         */
+        private long buyerOrderId;
+
+        /**
+         * {@code sellerOrderId} is instance that memorizes the seller order identifier
+         */
+        private long sellerOrderId;
+
+        /**
+         * {@code aggregateTradeId} is instance that memorizes the aggregate trade identifier
+         */
+        private long aggregateTradeId;
+
+        /**
+         * {@code firstTradeId} is instance that memorizes the first trade identifier of the aggregate trade
+         */
+        private long firstTradeId;
+
+        /**
+         * {@code lastTradeId} is instance that memorizes the last trade identifier of the aggregate trade
+         */
+        private long lastTradeId;
+
+        /**
+         * Method to reset the values before filling the event with a new frame <br>
+         * No-any params required
+         */
+        private void reset() {
+            eventType = no_content;
+            eventTime = 0;
+            symbol = null;
+            price = 0;
+            quantity = 0;
+            tradeTime = 0;
+            buyerMarketMaker = false;
+            tradeId = 0;
+            buyerOrderId = 0;
+            sellerOrderId = 0;
+            aggregateTradeId = 0;
+            firstTradeId = 0;
+            lastTradeId = 0;
+        }
+
+        /**
+         * Method to get an immutable copy of the event as trade <br>
+         * No-any params required
+         *
+         * @return trade as {@link WbsTrade}
+         */
+        public WbsTrade toTrade() {
+            return new WbsTrade(eventType, eventTime, symbol, price, quantity, tradeTime, buyerMarketMaker, tradeId,
+                    buyerOrderId, sellerOrderId);
+        }
+
+        /**
+         * Method to get an immutable copy of the event as aggregate trade <br>
+         * No-any params required
+         *
+         * @return aggregate trade as {@link AggregateTrade}
+         */
+        public AggregateTrade toAggregateTrade() {
+            return new AggregateTrade(eventType, eventTime, symbol, price, quantity, tradeTime, buyerMarketMaker,
+                    aggregateTradeId, firstTradeId, lastTradeId);
+        }
+
+        /**
+         * Method to get {@link #eventType} instance <br>
+         * No-any params required
+         *
+         * @return {@link #eventType} instance as {@link EventType}
+         */
+        public EventType getEventType() {
+            return eventType;
+        }
+
+        /**
+         * Method to get {@link #eventTime} instance <br>
+         * No-any params required
+         *
+         * @return {@link #eventTime} instance as long
+         */
+        public long getEventTime() {
+            return eventTime;
+        }
+
+        /**
+         * Method to get {@link #symbol} instance <br>
+         * No-any params required
+         *
+         * @return {@link #symbol} instance as {@link String}
+         */
+        public String getSymbol() {
+            return symbol;
+        }
+
+        /**
+         * Method to get {@link #price} instance <br>
+         * No-any params required
+         *
+         * @return {@link #price} instance as double
+         */
+        public double getPrice() {
+            return price;
+        }
+
+        /**
+         * Method to get {@link #quantity} instance <br>
+         * No-any params required
+         *
+         * @return {@link #quantity} instance as double
+         */
+        public double getQuantity() {
+            return quantity;
+        }
+
+        /**
+         * Method to get {@link #tradeTime} instance <br>
+         * No-any params required
+         *
+         * @return {@link #tradeTime} instance as long
+         */
+        public long getTradeTime() {
+            return tradeTime;
+        }
+
+        /**
+         * Method to get {@link #buyerMarketMaker} instance <br>
+         * No-any params required
+         *
+         * @return {@link #buyerMarketMaker} instance as boolean
+         */
+        public boolean isBuyerMarketMaker() {
+            return buyerMarketMaker;
+        }
+
+        /**
+         * Method to get {@link #tradeId} instance <br>
+         * No-any params required
+         *
+         * @return {@link #tradeId} instance as long
+         */
+        public long getTradeId() {
+            return tradeId;
+        }
+
+        /**
+         * Method to get {@link #buyerOrderId} instance <br>
+         * No-any params required
+         *
+         * @return {@link #buyerOrderId} instance as long
+         */
+        public long getBuyerOrderId() {
+            return buyerOrderId;
+        }
+
+        /**
+         * Method to get {@link #sellerOrderId} instance <br>
+         * No-any params required
+         *
+         * @return {@link #sellerOrderId} instance as long
+         */
+        public long getSellerOrderId() {
+            return sellerOrderId;
+        }
+
+        /**
+         * Method to get {@link #aggregateTradeId} instance <br>
+         * No-any params required
+         *
+         * @return {@link #aggregateTradeId} instance as long
+         */
+        public long getAggregateTradeId() {
+            return aggregateTradeId;
+        }
+
+        /**
+         * Method to get {@link #firstTradeId} instance <br>
+         * No-any params required
+         *
+         * @return {@link #firstTradeId} instance as long
+         */
+        public long getFirstTradeId() {
+            return firstTradeId;
+        }
+
+        /**
+         * Method to get {@link #lastTradeId} instance <br>
+         * No-any params required
+         *
+         * @return {@link #lastTradeId} instance as long
+         */
+        public long getLastTradeId() {
+            return lastTradeId;
+        }
+
+    }
+
+    /**
+     * The {@code BookTickerEvent} class is useful to decode the book-ticker frames without allocations
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @apiNote the same instance is filled again with each frame: it must not be kept after the listener returns, use
+     * {@link #toBookTicker()} to get an immutable copy
+     */
+    public static class BookTickerEvent {
+
+        /**
+         * {@code orderBookUpdateId} is instance that memorizes the order book update identifier
+         */
+        private long orderBookUpdateId;
+
+        /**
+         * {@code symbol} is instance that memorizes the symbol
+         */
+        private String symbol;
+
+        /**
+         * {@code bestBidPrice} is instance that memorizes the best bid price
+         */
+        private double bestBidPrice;
+
+        /**
+         * {@code bestBidQuantity} is instance that memorizes the best bid quantity
+         */
+        private double bestBidQuantity;
+
+        /**
+         * {@code bestAskPrice} is instance that memorizes the best ask price
+         */
+        private double bestAskPrice;
+
+        /**
+         * {@code bestAskQuantity} is instance that memorizes the best ask quantity
+         */
+        private double bestAskQuantity;
+
+        /**
+         * Method to reset the values before filling the event with a new frame <br>
+         * No-any params required
+         */
+        private void reset() {
+            orderBookUpdateId = 0;
+            symbol = null;
+            bestBidPrice = 0;
+            bestBidQuantity = 0;
+            bestAskPrice = 0;
+            bestAskQuantity = 0;
+        }
+
+        /**
+         * Method to get an immutable copy of the event <br>
+         * No-any params required
+         *
+         * @return book-ticker as {@link WbsBookTicker}
+         */
+        public WbsBookTicker toBookTicker() {
+            return new WbsBookTicker(orderBookUpdateId, symbol, bestBidPrice, bestBidQuantity, bestAskPrice,
+                    bestAskQuantity);
+        }
+
+        /**
+         * Method to get {@link #orderBookUpdateId} instance <br>
+         * No-any params required
+         *
+         * @return {@link #orderBookUpdateId} instance as long
+         */
+        public long getOrderBookUpdateId() {
+            return orderBookUpdateId;
+        }
+
+        /**
+         * Method to get {@link #symbol} instance <br>
+         * No-any params required
+         *
+         * @return {@link #symbol} instance as {@link String}
+         */
+        public String getSymbol() {
+            return symbol;
+        }
+
+        /**
+         * Method to get {@link #bestBidPrice} instance <br>
+         * No-any params required
+         *
+         * @return {@link #bestBidPrice} instance as double
+         */
+        public double getBestBidPrice() {
+            return bestBidPrice;
+        }
+
+        /**
+         * Method to get {@link #bestBidQuantity} instance <br>
+         * No-any params required
+         *
+         * @return {@link #bestBidQuantity} instance as double
+         */
+        public double getBestBidQuantity() {
+            return bestBidQuantity;
+        }
+
+        /**
+         * Method to get {@link #bestAskPrice} instance <br>
+         * No-any params required
+         *
+         * @return {@link #bestAskPrice} instance as double
+         */
+        public double getBestAskPrice() {
+            return bestAskPrice;
+        }
+
+        /**
+         * Method to get {@link #bestAskQuantity} instance <br>
+         * No-any params required
+         *
+         * @return {@link #bestAskQuantity} instance as double
+         */
+        public double getBestAskQuantity() {
+            return bestAskQuantity;
+        }
+
+    }
+
+}
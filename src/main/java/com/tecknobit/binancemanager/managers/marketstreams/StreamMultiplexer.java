@@ -0,0 +1,591 @@
+package com.tecknobit.binancemanager.managers.marketstreams;
+
+import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.binancemanager.managers.BinanceMessageQueue;
+import com.tecknobit.binancemanager.managers.SupervisedWebsocket;
+import com.tecknobit.binancemanager.managers.SupervisedWebsocket.ConnectionGap;
+import org.java_websocket.client.WebSocketClient;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.tecknobit.binancemanager.managers.marketstreams.BinanceMarketStreamsManager.WEB_SOCKET_DATA_STREAM_ENDPOINT;
+
+/**
+ * The {@code StreamMultiplexer} class is useful to subscribe many market streams on few combined connections
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote each connection is a combined stream that carries up to {@link #MAX_STREAMS_PER_CONNECTION} streams: the
+ * streams are added and removed from the opened connections with the {@code "SUBSCRIBE"} and {@code "UNSUBSCRIBE"}
+ * messages, sent in batches and paced to respect the {@link #MAX_CONTROL_MESSAGES_PER_SECOND} limit, and a new
+ * connection is opened only when the others are full. The frames of all the connections are buffered in a single
+ * {@link BinanceMessageQueue} and routed, by their {@code "stream"} field, to the {@link StreamSubscription} of their
+ * stream by a single dispatcher thread, so tracking hundreds of symbols takes a handful of connections and one thread
+ * @implNote the listeners of the subscriptions are executed by the dispatcher thread, so a slow listener delays the
+ * frames of the other streams, that are buffered meanwhile in the queue. The connections are supervised by
+ * {@link SupervisedWebsocket}: when a connection is reopened its streams are resubscribed and the gap is dispatched to
+ * their subscriptions
+ * @see <a href="https://binance-docs.github.io/apidocs/spot/en/#live-subscribing-unsubscribing-to-streams">
+ * Live Subscribing/Unsubscribing to streams</a>
+ * @see BinanceMarketStreamsManager
+ */
+public class StreamMultiplexer {
+
+    /**
+     * {@code MAX_STREAMS_PER_CONNECTION} is the max number of streams that can be subscribed on a single connection
+     */
+    public static final int MAX_STREAMS_PER_CONNECTION = 1024;
+
+    /**
+     * {@code MAX_STREAMS_PER_MESSAGE} is the max number of streams sent in a single {@code "SUBSCRIBE"} or
+     * {@code "UNSUBSCRIBE"} message
+     */
+    public static final int MAX_STREAMS_PER_MESSAGE = 200;
+
+    /**
+     * {@code MAX_CONTROL_MESSAGES_PER_SECOND} is the max number of messages that can be sent on a connection for
+     * second
+     */
+    public static final int MAX_CONTROL_MESSAGES_PER_SECOND = 5;
+
+    /**
+     * {@code STREAM_PREFIX} is the prefix of the frames of a combined stream
+     */
+    private static final String STREAM_PREFIX = "{\"stream\":\"";
+
+    /**
+     * {@code DATA_SEPARATOR} is the separator between the name of the stream and its data in the frames of a
+     * combined stream
+     */
+    private static final String DATA_SEPARATOR = "\",\"data\":";
+
+    /**
+     * {@code endpoint} is instance that memorizes the base endpoint of the connections
+     */
+    private final String endpoint;
+
+    /**
+     * {@code streamsPerConnection} is instance that memorizes the max number of streams subscribed on each connection
+     */
+    private final int streamsPerConnection;
+
+    /**
+     * {@code messageQueue} is the queue where the frames of all the connections are buffered until they are dispatched
+     */
+    private final BinanceMessageQueue messageQueue;
+
+    /**
+     * {@code subscriptions} is instance that memorizes the active subscriptions, mapped by stream
+     */
+    private final ConcurrentHashMap<String, StreamSubscription<?>> subscriptions;
+
+    /**
+     * {@code connections} is the list of the connections opened
+     */
+    private final ArrayList<Connection> connections;
+
+    /**
+     * {@code streamConnections} is instance that memorizes the connection of each stream subscribed
+     */
+    private final HashMap<String, Connection> streamConnections;
+
+    /**
+     * {@code requestIds} is the generator of the identifiers of the control messages
+     */
+    private final AtomicLong requestIds;
+
+    /**
+     * {@code dispatcher} is the thread that routes the frames to the subscriptions
+     */
+    private final Thread dispatcher;
+
+    /**
+     * {@code errorListener} is instance that receives the errors of the connections and of the control messages
+     */
+    private volatile Consumer<Exception> errorListener;
+
+    /**
+     * {@code closed} whether the multiplexer has been closed
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructor to init a {@link StreamMultiplexer} with the {@link #MAX_STREAMS_PER_CONNECTION} and a default
+     * {@link BinanceMessageQueue} <br>
+     * No-any params required
+     */
+    @Wrapper
+    public StreamMultiplexer() {
+        this(MAX_STREAMS_PER_CONNECTION, new BinanceMessageQueue());
+    }
+
+    /**
+     * Constructor to init a {@link StreamMultiplexer}
+     *
+     * @param streamsPerConnection: max number of streams subscribed on each connection
+     * @param messageQueue:         queue where the frames of all the connections are buffered until they are dispatched
+     */
+    @Wrapper
+    public StreamMultiplexer(int streamsPerConnection, BinanceMessageQueue messageQueue) {
+        this(WEB_SOCKET_DATA_STREAM_ENDPOINT, streamsPerConnection, messageQueue);
+    }
+
+    /**
+     * Constructor to init a {@link StreamMultiplexer}
+     *
+     * @param endpoint:             base endpoint of the connections es. {@code "wss://data-stream.binance.com"}
+     * @param streamsPerConnection: max number of streams subscribed on each connection
+     * @param messageQueue:         queue where the frames of all the connections are buffered until they are dispatched
+     * @throws IllegalArgumentException when the number of streams for connection is not in the range
+     *                                  [1, {@link #MAX_STREAMS_PER_CONNECTION}]
+     */
+    public StreamMultiplexer(String endpoint, int streamsPerConnection, BinanceMessageQueue messageQueue) {
+        if (streamsPerConnection <= 0 || streamsPerConnection > MAX_STREAMS_PER_CONNECTION) {
+            throw new IllegalArgumentException("Streams per connection must be in the range [1, "
+                    + MAX_STREAMS_PER_CONNECTION + "]");
+        }
+        this.endpoint = endpoint;
+        this.streamsPerConnection = streamsPerConnection;
+        this.messageQueue = messageQueue;
+        subscriptions = new ConcurrentHashMap<>();
+        connections = new ArrayList<>();
+        streamConnections = new HashMap<>();
+        requestIds = new AtomicLong();
+        dispatcher = new Thread(this::dispatchFrames, "binance-stream-multiplexer");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    /**
+     * Method to subscribe to a stream and receive each frame of it
+     *
+     * @param stream:   the stream name to subscribe es. btcusdt@trade
+     * @param listener: listener that receives each frame of the stream as {@link String}
+     * @return the subscription created as {@link StreamSubscription} of {@link String}
+     * @throws IOException when a new connection cannot be opened
+     */
+    @Wrapper
+    public StreamSubscription<String> subscribe(String stream, Consumer<String> listener) throws IOException {
+        return subscribe(stream, frame -> frame, listener);
+    }
+
+    /**
+     * Method to subscribe to a stream and receive each event of it
+     *
+     * @param stream:   the stream name to subscribe es. btcusdt@trade
+     * @param decoder:  decoder of the data of the frames of the stream
+     * @param listener: listener that receives each event of the stream
+     * @return the subscription created as {@link StreamSubscription} of {@link T}
+     * @throws IOException when a new connection cannot be opened
+     */
+    public <T> StreamSubscription<T> subscribe(String stream, Function<String, T> decoder,
+                                               Consumer<T> listener) throws IOException {
+        return subscribe(List.of(stream), decoder, listener).get(0);
+    }
+
+    /**
+     * Method to subscribe to more streams with the same decoder and listener
+     *
+     * @param streams:  the stream names to subscribe es. btcusdt@trade, ethusdt@trade
+     * @param decoder:  decoder of the data of the frames of the streams
+     * @param listener: listener that receives each event of the streams
+     * @return the subscriptions created, in the same order of the streams, as {@link ArrayList} of
+     * {@link StreamSubscription} of {@link T}
+     * @throws IOException              when a new connection cannot be opened
+     * @throws IllegalArgumentException when a stream is already subscribed
+     * @throws IllegalStateException    when the multiplexer has been closed
+     * @implNote the streams are subscribed with the minimum number of messages: the free slots of the connections
+     * opened are filled first and the new connections are opened with their first streams in the endpoint
+     */
+    public synchronized <T> ArrayList<StreamSubscription<T>> subscribe(Collection<String> streams,
+                                                                       Function<String, T> decoder,
+                                                                       Consumer<T> listener) throws IOException {
+        if (closed)
+            throw new IllegalStateException("Multiplexer has been closed");
+        ArrayList<StreamSubscription<T>> newSubscriptions = new ArrayList<>(streams.size());
+        for (String stream : streams) {
+            if (subscriptions.containsKey(stream) || streamConnections.containsKey(stream))
+                throw new IllegalArgumentException("Stream " + stream + " already subscribed");
+            StreamSubscription<T> subscription = new StreamSubscription<>(stream, decoder, listener, messageQueue);
+            subscription.setMultiplexer(this);
+            newSubscriptions.add(subscription);
+        }
+        HashMap<Connection, ArrayList<String>> pendingStreams = new HashMap<>();
+        ArrayList<String> unassignedStreams = new ArrayList<>();
+        for (StreamSubscription<T> subscription : newSubscriptions) {
+            String stream = subscription.getStream();
+            subscriptions.put(stream, subscription);
+            Connection connection = findFreeConnection();
+            if (connection != null) {
+                connection.streams.add(stream);
+                streamConnections.put(stream, connection);
+                pendingStreams.computeIfAbsent(connection, k -> new ArrayList<>()).add(stream);
+            } else
+                unassignedStreams.add(stream);
+        }
+        try {
+            for (Map.Entry<Connection, ArrayList<String>> entry : pendingStreams.entrySet())
+                entry.getKey().sendControlMessage(null, "SUBSCRIBE", entry.getValue());
+            for (int start = 0; start < unassignedStreams.size(); start += streamsPerConnection) {
+                List<String> connectionStreams = unassignedStreams.subList(start, Math.min(start
+                        + streamsPerConnection, unassignedStreams.size()));
+                Connection connection = new Connection(connectionStreams);
+                connections.add(connection);
+                for (String stream : connectionStreams)
+                    streamConnections.put(stream, connection);
+            }
+        } catch (IOException e) {
+            for (StreamSubscription<T> subscription : newSubscriptions)
+                subscription.cancel();
+            throw e;
+        }
+        return newSubscriptions;
+    }
+
+    /**
+     * Method to unsubscribe a stream
+     *
+     * @param subscription: the subscription of the stream to unsubscribe
+     * @apiNote this method is invoked by {@link StreamSubscription#cancel()}, the connection of the stream is closed
+     * when it has no more streams subscribed
+     */
+    public synchronized void unsubscribe(StreamSubscription<?> subscription) {
+        String stream = subscription.getStream();
+        if (subscriptions.get(stream) != subscription)
+            return;
+        subscriptions.remove(stream);
+        if (subscription.isActive())
+            subscription.cancel();
+        Connection connection = streamConnections.remove(stream);
+        if (connection != null) {
+            connection.streams.remove(stream);
+            if (connection.streams.isEmpty()) {
+                connections.remove(connection);
+                connection.webSocket.close();
+            } else {
+                try {
+                    connection.sendControlMessage(null, "UNSUBSCRIBE", List.of(stream));
+                } catch (IOException e) {
+                    notifyError(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to close all the connections and cancel all the subscriptions <br>
+     * No-any params required
+     */
+    public void close() {
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+            for (StreamSubscription<?> subscription : new ArrayList<>(subscriptions.values()))
+                subscription.cancel();
+            for (Connection connection : connections)
+                connection.webSocket.close();
+            connections.clear();
+            streamConnections.clear();
+        }
+        messageQueue.close();
+        dispatcher.interrupt();
+    }
+
+    /**
+     * Method to find a connection with a free slot for a new stream <br>
+     * No-any params required
+     *
+     * @return the connection found as {@link Connection}, {@code "null"} if all the connections are full
+     */
+    private Connection findFreeConnection() {
+        for (Connection connection : connections)
+            if (connection.streams.size() < streamsPerConnection)
+                return connection;
+        return null;
+    }
+
+    /**
+     * Method to dispatch the frames queued to their subscriptions until the multiplexer is closed <br>
+     * No-any params required
+     */
+    private void dispatchFrames() {
+        try {
+            String frame;
+            while (!closed && (frame = messageQueue.take()) != null) {
+                try {
+                    routeFrame(frame);
+                } catch (Exception e) {
+                    notifyError(e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Method to route a frame to the subscription of its stream
+     *
+     * @param frame: the frame to route
+     * @implNote the name of the stream and its data are sliced from the frame without parsing it, the frames with a
+     * different layout, like the responses to the control messages, are parsed
+     */
+    private void routeFrame(String frame) {
+        String stream;
+        String data;
+        int streamEnd = frame.startsWith(STREAM_PREFIX) ? frame.indexOf('"', STREAM_PREFIX.length()) : -1;
+        if (streamEnd > 0 && frame.startsWith(DATA_SEPARATOR, streamEnd)) {
+            stream = frame.substring(STREAM_PREFIX.length(), streamEnd);
+            data = frame.substring(streamEnd + DATA_SEPARATOR.length(), frame.lastIndexOf('}'));
+        } else {
+            JSONObject jFrame = new JSONObject(frame);
+            if (!jFrame.has("stream")) {
+                JSONObject error = jFrame.optJSONObject("error");
+                if (error != null)
+                    notifyError(new IOException("Control message " + jFrame.opt("id") + " failed: " + error));
+                return;
+            }
+            stream = jFrame.getString("stream");
+            data = jFrame.get("data").toString();
+        }
+        StreamSubscription<?> subscription = subscriptions.get(stream);
+        if (subscription != null)
+            subscription.dispatch(data);
+    }
+
+    /**
+     * Method to notify an error to the {@link #errorListener}
+     *
+     * @param error: the error occurred
+     */
+    private void notifyError(Exception error) {
+        Consumer<Exception> errorListener = this.errorListener;
+        if (errorListener != null)
+            errorListener.accept(error);
+    }
+
+    /**
+     * Method to get the number of connections opened <br>
+     * No-any params required
+     *
+     * @return number of connections opened as int
+     */
+    public synchronized int getConnectionsCount() {
+        return connections.size();
+    }
+
+    /**
+     * Method to get the number of streams subscribed <br>
+     * No-any params required
+     *
+     * @return number of streams subscribed as int
+     */
+    public int getSubscriptionsCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Method to get the subscription of a stream
+     *
+     * @param stream: the stream name es. btcusdt@trade
+     * @return the subscription of the stream as {@link StreamSubscription}, {@code "null"} if not subscribed
+     */
+    public StreamSubscription<?> getSubscription(String stream) {
+        return subscriptions.get(stream);
+    }
+
+    /**
+     * Method to get {@link #streamsPerConnection} instance <br>
+     * No-any params required
+     *
+     * @return {@link #streamsPerConnection} instance as int
+     */
+    public int getStreamsPerConnection() {
+        return streamsPerConnection;
+    }
+
+    /**
+     * Method to get {@link #messageQueue} instance <br>
+     * No-any params required
+     *
+     * @return {@link #messageQueue} instance as {@link BinanceMessageQueue}
+     */
+    public BinanceMessageQueue getMessageQueue() {
+        return messageQueue;
+    }
+
+    /**
+     * Method to get {@link #closed} instance <br>
+     * No-any params required
+     *
+     * @return {@link #closed} instance as boolean
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Method to set {@link #errorListener} instance
+     *
+     * @param errorListener: listener that receives the errors of the connections and of the control messages
+     */
+    public void setErrorListener(Consumer<Exception> errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    /**
+     * The {@code Connection} class is useful to manage a combined connection of the multiplexer
+     *
+     * @implNote the connection is supervised: when it is reopened the streams subscribed are resubscribed and the
+     * {@link ConnectionGap} is dispatched to their subscriptions
+     */
+    private class Connection {
+
+        /**
+         * {@code webSocket} is the connection where the frames are received
+         */
+        private final SupervisedWebsocket webSocket;
+
+        /**
+         * {@code streams} is the list of the streams subscribed on the connection
+         */
+        private final LinkedHashSet<String> streams;
+
+        /**
+         * {@code endpointStreams} is the list of the streams subscribed with the endpoint of the last connection opened
+         */
+        private List<String> endpointStreams;
+
+        /**
+         * {@code nextMessageAt} is when the next control message can be sent respecting the
+         * {@link #MAX_CONTROL_MESSAGES_PER_SECOND} limit
+         */
+        private long nextMessageAt;
+
+        /**
+         * Constructor to init a {@link Connection} and open it
+         *
+         * @param streams: the streams subscribed on the connection
+         * @throws IOException when the connection cannot be opened
+         */
+        private Connection(List<String> streams) throws IOException {
+            this.streams = new LinkedHashSet<>(streams);
+            webSocket = new SupervisedWebsocket(this::assembleEndpoint, messageQueue::offer);
+            webSocket.setOpenListener(this::resubscribe);
+            webSocket.setGapListener(this::dispatchGap);
+            webSocket.setErrorListener(StreamMultiplexer.this::notifyError);
+            webSocket.connect();
+        }
+
+        /**
+         * Method to assemble the endpoint of a new connection with the first {@link #MAX_STREAMS_PER_MESSAGE} streams
+         * subscribed <br>
+         * No-any params required
+         *
+         * @return the endpoint as {@link String}
+         */
+        private String assembleEndpoint() {
+            synchronized (StreamMultiplexer.this) {
+                endpointStreams = new ArrayList<>(MAX_STREAMS_PER_MESSAGE);
+                for (String stream : streams) {
+                    if (endpointStreams.size() == MAX_STREAMS_PER_MESSAGE)
+                        break;
+                    endpointStreams.add(stream);
+                }
+                return endpoint + "/stream?streams=" + String.join("/", endpointStreams);
+            }
+        }
+
+        /**
+         * Method to subscribe on a new connection the streams not included in its endpoint
+         *
+         * @param client: the new connection
+         * @implNote the streams unsubscribed while the connection was opening are unsubscribed too
+         */
+        private void resubscribe(WebSocketClient client) {
+            synchronized (StreamMultiplexer.this) {
+                ArrayList<String> subscribeStreams = new ArrayList<>(streams);
+                subscribeStreams.removeAll(endpointStreams);
+                ArrayList<String> unsubscribeStreams = new ArrayList<>(endpointStreams);
+                unsubscribeStreams.removeAll(streams);
+                try {
+                    sendControlMessage(client, "SUBSCRIBE", subscribeStreams);
+                    sendControlMessage(client, "UNSUBSCRIBE", unsubscribeStreams);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        /**
+         * Method to dispatch a gap of the connection to the subscriptions of its streams
+         *
+         * @param gap: the gap occurred
+         */
+        private void dispatchGap(ConnectionGap gap) {
+            ArrayList<String> gapStreams;
+            synchronized (StreamMultiplexer.this) {
+                gapStreams = new ArrayList<>(streams);
+            }
+            for (String stream : gapStreams) {
+                StreamSubscription<?> subscription = subscriptions.get(stream);
+                if (subscription != null)
+                    subscription.onGap(gap);
+            }
+        }
+
+        /**
+         * Method to send a control message for a list of streams, the lock of the multiplexer must be held
+         *
+         * @param client:  the connection where send the message, {@code "null"} to use the current one
+         * @param method:  method of the message, {@code "SUBSCRIBE"} or {@code "UNSUBSCRIBE"}
+         * @param streams: the streams of the message
+         * @throws IOException when the message cannot be sent or the thread is interrupted while waiting to respect
+         *                     the {@link #MAX_CONTROL_MESSAGES_PER_SECOND} limit
+         * @implNote the streams are split in messages of {@link #MAX_STREAMS_PER_MESSAGE} streams. When the current
+         * connection has been dropped the message is not sent, the streams are resubscribed by the reconnection
+         */
+        private void sendControlMessage(WebSocketClient client, String method, List<String> streams) throws IOException {
+            if (client == null && !webSocket.isConnected())
+                return;
+            for (int start = 0; start < streams.size(); start += MAX_STREAMS_PER_MESSAGE) {
+                long waitTime = nextMessageAt - System.currentTimeMillis();
+                try {
+                    if (waitTime > 0)
+                        Thread.sleep(waitTime);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+                JSONObject message = new JSONObject();
+                message.put("method", method);
+                message.put("params", new JSONArray(streams.subList(start, Math.min(start + MAX_STREAMS_PER_MESSAGE,
+                        streams.size()))));
+                message.put("id", requestIds.incrementAndGet());
+                if (client != null) {
+                    try {
+                        client.send(message.toString());
+                    } catch (Exception e) {
+                        throw new IOException(e);
+                    }
+                } else
+                    webSocket.send(message.toString());
+                nextMessageAt = System.currentTimeMillis() + 1000 / MAX_CONTROL_MESSAGES_PER_SECOND;
+            }
+        }
+
+    }
+
+}
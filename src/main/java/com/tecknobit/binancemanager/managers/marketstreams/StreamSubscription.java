@@ -0,0 +1,242 @@
+package com.tecknobit.binancemanager.managers.marketstreams;
+
+import com.tecknobit.binancemanager.managers.BinanceMessageQueue;
+import com.tecknobit.binancemanager.managers.SupervisedWebsocket;
+import com.tecknobit.binancemanager.managers.SupervisedWebsocket.ConnectionGap;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The {@code StreamSubscription} class is useful to dispatch each frame of a market stream to a listener
+ *
+ * @param <T> type of the events dispatched to the listener
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the frames received by the connection are buffered in a {@link BinanceMessageQueue} and dispatched to the
+ * listener by a dedicated thread, so a slow listener does not stall the connection. When the connection is reopened
+ * after a drop the {@link ConnectionGap} is dispatched to the {@link #gapListener}, so the listener knows that the
+ * events of the gap have been lost
+ * @see BinanceMarketStreamsManager
+ */
+public class StreamSubscription<T> {
+
+    /**
+     * {@code stream} is instance that memorizes the name of the stream subscribed
+     */
+    private final String stream;
+
+    /**
+     * {@code decoder} is instance used to decode the frames of the stream
+     */
+    private final Function<String, T> decoder;
+
+    /**
+     * {@code listener} is instance that receives the events of the stream
+     */
+    private final Consumer<T> listener;
+
+    /**
+     * {@code errorListener} is instance that receives the errors occurred decoding or dispatching the frames
+     */
+    private volatile Consumer<Exception> errorListener;
+
+    /**
+     * {@code gapListener} is instance that receives the gaps of the connection, when the events of the stream have
+     * been lost
+     */
+    private volatile Consumer<ConnectionGap> gapListener;
+
+    /**
+     * {@code messageQueue} is the queue where the frames are buffered until they are dispatched
+     */
+    private final BinanceMessageQueue messageQueue;
+
+    /**
+     * {@code webSocket} is the connection where the frames are received
+     */
+    private volatile SupervisedWebsocket webSocket;
+
+    /**
+     * {@code multiplexer} is the multiplexer where the stream is subscribed, {@code "null"} if the stream has its own
+     * connection
+     */
+    private volatile StreamMultiplexer multiplexer;
+
+    /**
+     * {@code active} whether the subscription is active
+     */
+    private volatile boolean active = true;
+
+    /**
+     * Constructor to init a {@link StreamSubscription}
+     *
+     * @param stream:   name of the stream subscribed
+     * @param decoder:  decoder of the frames of the stream
+     * @param listener: listener that receives the events of the stream
+     */
+    public StreamSubscription(String stream, Function<String, T> decoder, Consumer<T> listener) {
+        this(stream, decoder, listener, new BinanceMessageQueue());
+    }
+
+    /**
+     * Constructor to init a {@link StreamSubscription}
+     *
+     * @param stream:       name of the stream subscribed
+     * @param decoder:      decoder of the frames of the stream
+     * @param listener:     listener that receives the events of the stream
+     * @param messageQueue: queue where the frames are buffered until they are dispatched
+     */
+    public StreamSubscription(String stream, Function<String, T> decoder, Consumer<T> listener,
+                              BinanceMessageQueue messageQueue) {
+        this.stream = stream;
+        this.decoder = decoder;
+        this.listener = listener;
+        this.messageQueue = messageQueue;
+    }
+
+    /**
+     * Method to queue a frame received by the connection
+     *
+     * @param frame: the frame received
+     */
+    public void onFrame(String frame) {
+        if (active)
+            messageQueue.offer(frame);
+    }
+
+    /**
+     * Method to decode a frame and dispatch it to the {@link #listener}
+     *
+     * @param frame: the frame received
+     */
+    public void dispatch(String frame) {
+        if (active) {
+            try {
+                listener.accept(decoder.apply(frame));
+            } catch (Exception e) {
+                Consumer<Exception> errorListener = this.errorListener;
+                if (errorListener != null)
+                    errorListener.accept(e);
+            }
+        }
+    }
+
+    /**
+     * Method to dispatch a gap of the connection to the {@link #gapListener}
+     *
+     * @param gap: the gap occurred
+     */
+    public void onGap(ConnectionGap gap) {
+        Consumer<ConnectionGap> gapListener = this.gapListener;
+        if (active && gapListener != null)
+            gapListener.accept(gap);
+    }
+
+    /**
+     * Method to cancel the subscription and close its connection <br>
+     * No-any params required
+     *
+     * @apiNote when the stream is subscribed on a {@link StreamMultiplexer} it is unsubscribed from the shared
+     * connection, that is kept opened for the other streams
+     */
+    public void cancel() {
+        if (!active)
+            return;
+        active = false;
+        StreamMultiplexer multiplexer = this.multiplexer;
+        if (multiplexer != null) {
+            multiplexer.unsubscribe(this);
+            return;
+        }
+        messageQueue.close();
+        SupervisedWebsocket webSocket = this.webSocket;
+        if (webSocket != null)
+            webSocket.close();
+    }
+
+    /**
+     * Method to get {@link #stream} instance <br>
+     * No-any params required
+     *
+     * @return {@link #stream} instance as {@link String}
+     */
+    public String getStream() {
+        return stream;
+    }
+
+    /**
+     * Method to get {@link #active} instance <br>
+     * No-any params required
+     *
+     * @return {@link #active} instance as boolean
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Method to get {@link #messageQueue} instance <br>
+     * No-any params required
+     *
+     * @return {@link #messageQueue} instance as {@link BinanceMessageQueue}
+     */
+    public BinanceMessageQueue getMessageQueue() {
+        return messageQueue;
+    }
+
+    /**
+     * Method to set {@link #errorListener} instance
+     *
+     * @param errorListener: listener that receives the errors occurred decoding or dispatching the frames
+     */
+    public void setErrorListener(Consumer<Exception> errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    /**
+     * Method to set {@link #gapListener} instance
+     *
+     * @param gapListener: listener that receives the gaps of the connection, es. to resync a state built from the
+     *                     events of the stream
+     */
+    public void setGapListener(Consumer<ConnectionGap> gapListener) {
+        this.gapListener = gapListener;
+    }
+
+    /**
+     * Method to set {@link #webSocket} instance
+     *
+     * @param webSocket: the connection where the frames are received
+     */
+    protected void setWebSocket(SupervisedWebsocket webSocket) {
+        this.webSocket = webSocket;
+    }
+
+    /**
+     * Method to set {@link #multiplexer} instance
+     *
+     * @param multiplexer: the multiplexer where the stream is subscribed
+     */
+    protected void setMultiplexer(StreamMultiplexer multiplexer) {
+        this.multiplexer = multiplexer;
+    }
+
+    /**
+     * Method to start the thread that dispatches the frames queued in the {@link #messageQueue} <br>
+     * No-any params required
+     */
+    protected void start() {
+        Thread dispatcher = new Thread(() -> {
+            try {
+                String frame;
+                while (active && (frame = messageQueue.take()) != null)
+                    dispatch(frame);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "binance-stream-" + stream);
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+}
@@ -1,9 +1,11 @@
 package com.tecknobit.binancemanager.managers.marketstreams.records.ticker;
 
 import com.tecknobit.binancemanager.managers.records.BinanceItem;
+import com.tecknobit.binancemanager.managers.records.websocketstream.BinanceWebsocketResponse.EventType;
 import org.json.JSONObject;
 
 import static com.tecknobit.apimanager.trading.TradingTools.roundValue;
+import static com.tecknobit.binancemanager.managers.records.websocketstream.BinanceWebsocketResponse.EventType.bookTicker;
 
 /**
  * The {@code WbsBookTicker} class is useful to format a websocket book ticker
@@ -15,6 +17,11 @@ import static com.tecknobit.apimanager.trading.TradingTools.roundValue;
  */
 public class WbsBookTicker extends BinanceItem {
 
+    /**
+     * {@code eventType} event type of the book ticker, always {@link EventType#bookTicker}
+     */
+    private final EventType eventType;
+
     /**
      * {@code orderBookUpdateId} order book update id of the book ticker
      */
@@ -58,6 +65,7 @@ public class WbsBookTicker extends BinanceItem {
     public WbsBookTicker(long orderBookUpdateId, String symbol, double bestBidPrice, double bestBidQuantity,
                          double bestAskPrice, double bestAskQuantity) {
         super(null);
+        eventType = bookTicker;
         this.orderBookUpdateId = orderBookUpdateId;
         this.symbol = symbol;
         this.bestBidPrice = bestBidPrice;
@@ -73,6 +81,7 @@ public class WbsBookTicker extends BinanceItem {
      */
     public WbsBookTicker(JSONObject jWbsBookTicker) {
         super(jWbsBookTicker);
+        eventType = bookTicker;
         orderBookUpdateId = hItem.getLong("u", 0);
         symbol = hItem.getString("s");
         bestBidPrice = hItem.getDouble("b", 0);
@@ -81,6 +90,16 @@ public class WbsBookTicker extends BinanceItem {
         bestAskQuantity = hItem.getDouble("A", 0);
     }
 
+    /**
+     * Method to get {@link #eventType} instance <br>
+     * No-any params required
+     *
+     * @return {@link #eventType} instance as {@link EventType}
+     */
+    public EventType getEventType() {
+        return eventType;
+    }
+
     /**
      * Method to get {@link #orderBookUpdateId} instance <br>
      * No-any params required
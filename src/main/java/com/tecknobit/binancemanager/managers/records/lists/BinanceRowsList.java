@@ -7,13 +7,20 @@ import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.function.Function;
 
 /**
  * The {@code BinanceRowsList} class is useful to create a {@code "Binance"}'s rows list
  *
  * @param <T> type of the item to insert in the list
  * @author N7ghtm4r3 - Tecknobit
+ * @apiNote when the list is in the keyed mode, see {@link #enableKeyedMode(Function)}, the rows are indexed by their
+ * natural identifier, es. the {@code "tranId"} or the {@code "txId"}, so the duplicates are detected and the rows
+ * are fetched in constant time, also when the pages of the same history are merged
  * @see BinanceItem
  */
 @Structure
@@ -27,7 +34,19 @@ public abstract class BinanceRowsList<T> extends BinanceItem {
     /**
      * {@code rows} list of the items
      */
-    protected final ArrayList<T> rows;
+    protected ArrayList<T> rows;
+
+    /**
+     * {@code rowKey} is instance that memorizes the function to get the natural identifier of a row, {@code null}
+     * when the list is not in the keyed mode
+     */
+    protected Function<T, ?> rowKey;
+
+    /**
+     * {@code rowsIndex} is instance that memorizes the rows indexed by their natural identifier, {@code null} when
+     * the list is not in the keyed mode
+     */
+    protected HashMap<Object, T> rowsIndex;
 
     /**
      * Constructor to init {@link BinanceRowsList} object
@@ -81,16 +100,77 @@ public abstract class BinanceRowsList<T> extends BinanceItem {
         return rows;
     }
 
+    /**
+     * Method to index the rows by their natural identifier, the rows with an identifier already indexed are discarded
+     *
+     * @param rowKey: the function to get the natural identifier of a row, es. {@code Transfer::getTxId}
+     * @apiNote the rows must be added or removed with the methods of this list to keep the index aligned, the changes
+     * made directly on the list returned by {@link #getRows()} are not indexed
+     * @implNote the rows are copied in a new list, so the list passed to the constructor is not changed, and the
+     * {@link #total} is not changed because it can be the number of items counted by the server in all the pages
+     */
+    public void enableKeyedMode(Function<T, ?> rowKey) {
+        HashMap<Object, T> rowsIndex = new HashMap<>();
+        ArrayList<T> keyedRows = new ArrayList<>(rows.size());
+        for (T row : rows)
+            if (rowsIndex.putIfAbsent(rowKey.apply(row), row) == null)
+                keyedRows.add(row);
+        rows = keyedRows;
+        this.rowKey = rowKey;
+        this.rowsIndex = rowsIndex;
+    }
+
+    /**
+     * Method to get whether the list is in the keyed mode <br>
+     * No-any params required
+     *
+     * @return whether the list is in the keyed mode as boolean
+     */
+    public boolean hasRowKey() {
+        return rowKey != null;
+    }
+
     /**
      * Method to add an item to {@link #rows}
      *
      * @param row: row to add
+     * @implNote in the keyed mode the duplicates are detected in constant time by the natural identifier, otherwise
+     * by scanning the rows
      */
     public void addRow(T row) {
-        if (!rows.contains(row)) {
-            rows.add(row);
-            total += 1;
+        if (rowKey != null) {
+            if (rowsIndex.putIfAbsent(rowKey.apply(row), row) != null)
+                return;
+        } else if (rows.contains(row))
+            return;
+        rows.add(row);
+        total += 1;
+    }
+
+    /**
+     * Method to add a list of items to {@link #rows}, es. to merge the pages of the same history
+     *
+     * @param rows: rows to add
+     * @return number of the rows added, the duplicates are skipped, as int
+     * @implNote the duplicates are detected with a single pass on the current rows, also when the list is not in the
+     * keyed mode
+     */
+    public int addRows(Collection<? extends T> rows) {
+        int size = this.rows.size();
+        this.rows.ensureCapacity(size + rows.size());
+        if (rowKey != null) {
+            for (T row : rows)
+                if (rowsIndex.putIfAbsent(rowKey.apply(row), row) == null)
+                    this.rows.add(row);
+        } else {
+            HashSet<T> currentRows = new HashSet<>(this.rows);
+            for (T row : rows)
+                if (currentRows.add(row))
+                    this.rows.add(row);
         }
+        int added = this.rows.size() - size;
+        total += added;
+        return added;
     }
 
     /**
@@ -98,14 +178,51 @@ public abstract class BinanceRowsList<T> extends BinanceItem {
      *
      * @param row: row to remove
      * @return result of operation as boolean
+     * @implNote in the keyed mode the row is removed by its natural identifier, so also an equivalent instance of
+     * the row indexed can be used
      */
     public boolean removeRow(T row) {
+        if (rowKey != null)
+            return removeById(rowKey.apply(row));
         boolean removed = rows.remove(row);
         if (removed)
             total -= 1;
         return removed;
     }
 
+    /**
+     * Method to remove a row from {@link #rows} by its natural identifier
+     *
+     * @param id: natural identifier of the row to remove, the {@code long} identifiers must be passed as {@link Long}
+     * @return result of operation as boolean, always {@code false} when the list is not in the keyed mode
+     */
+    public boolean removeById(Object id) {
+        if (rowKey == null)
+            return false;
+        T row = rowsIndex.remove(id);
+        if (row == null)
+            return false;
+        int index = rows.size() - 1;
+        while (index >= 0 && rows.get(index) != row)
+            index--;
+        if (index >= 0)
+            rows.remove(index);
+        total -= 1;
+        return true;
+    }
+
+    /**
+     * Method to get a row from {@link #rows} by its natural identifier
+     *
+     * @param id: natural identifier of the row to fetch, the {@code long} identifiers must be passed as {@link Long}
+     * @return row as {@link T}, {@code null} if not found or if the list is not in the keyed mode
+     */
+    public T getById(Object id) {
+        if (rowKey == null)
+            return null;
+        return rowsIndex.get(id);
+    }
+
     /**
      * Method to get a row from {@link #rows} list
      *
@@ -56,6 +56,11 @@ public abstract class BinanceWebsocketResponse extends BinanceItem {
          */
         listStatus("listStatus"),
 
+        /**
+         * {@code listenKeyExpired} event type
+         */
+        listenKeyExpired("listenKeyExpired"),
+
         /**
          * {@code aggTrade} event type
          */
@@ -101,6 +106,11 @@ public abstract class BinanceWebsocketResponse extends BinanceItem {
          */
         depthUpdate("depthUpdate"),
 
+        /**
+         * {@code bookTicker} event type, the book-ticker frames have not an event type field
+         */
+        bookTicker("bookTicker"),
+
         /**
          * {@code COMMAND} event type
          */
@@ -130,6 +140,25 @@ public abstract class BinanceWebsocketResponse extends BinanceItem {
             return type;
         }
 
+        /**
+         * Method to reach the enum constant of the event contained in a websocket frame
+         *
+         * @param frame: the frame from fetch the event type
+         * @return enum constant as {@link EventType}
+         * @implNote the frame is not parsed, its {@code "e"} field is reached with a string scan, so if the frame is
+         * a list will be returned the type of its first event
+         */
+        public static EventType reachFrameEventType(String frame) {
+            int index = frame.indexOf("\"e\":\"");
+            if (index == -1)
+                return no_content;
+            int start = index + 5;
+            int end = frame.indexOf('"', start);
+            if (end == -1)
+                return no_content;
+            return reachEnumConstant(frame.substring(start, end));
+        }
+
         /**
          * Method to reach the enum constant <br>
          *
@@ -7,12 +7,14 @@ import com.tecknobit.apimanager.formatters.JsonHelper;
 import com.tecknobit.apimanager.interfaces.Manager;
 import com.tecknobit.binancemanager.exceptions.SystemException;
 import com.tecknobit.binancemanager.managers.BinanceManager;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.OrderType;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.Side;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.OrderValidator;
 import org.json.JSONObject;
 
 import java.io.IOException;
 
 import static com.tecknobit.apimanager.apis.APIRequest.HMAC_SHA256_ALGORITHM;
-import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.DELETE;
 import static com.tecknobit.apimanager.apis.APIRequest.getSignature;
 
 /**
@@ -36,6 +38,12 @@ public class BinanceSignedManager extends BinanceManager {
      */
     protected final String secretKey;
 
+    /**
+     * {@code orderValidator} is instance used to validate the orders before sending them, {@code "null"} if the
+     * orders are sent without validation
+     */
+    protected volatile OrderValidator orderValidator;
+
     /**
      * Constructor to init a {@link BinanceSignedManager}
      *
@@ -152,7 +160,7 @@ public class BinanceSignedManager extends BinanceManager {
     protected Params createTimestampPayload(Params extraParams, long recvWindow) {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         if (recvWindow != -1)
             extraParams.addParam("recvWindow", recvWindow);
         return extraParams;
@@ -232,11 +240,9 @@ public class BinanceSignedManager extends BinanceManager {
      * @return response of the request
      */
     protected String sendDeleteSignedRequest(String endpoint, String params) throws Exception {
-        APIRequest.Params mParams = new APIRequest.Params();
         if (params == null)
             params = "";
-        apiRequest.sendAPIRequest(baseEndpoint + endpoint + params, DELETE, "X-MBX-APIKEY", apiKey);
-        return apiRequest.getResponse();
+        return sendDeleteRequest(endpoint, params, apiKey);
     }
 
     /**
@@ -249,7 +255,7 @@ public class BinanceSignedManager extends BinanceManager {
     protected String sendPostSignedRequest(String endpoint, Params params) throws Exception {
         if (params == null)
             params = new Params();
-        params.addParam("timestamp", getServerTime());
+        params.addParam("timestamp", getTimestamp());
         params.addParam("signature", getSignature(secretKey, params.createQueryString(), HMAC_SHA256_ALGORITHM));
         return sendPostRequest(endpoint, params, apiKey);
     }
@@ -263,7 +269,7 @@ public class BinanceSignedManager extends BinanceManager {
      */
     public boolean isSuccessResponse(String endpoint, Params payload) throws Exception {
         sendPostSignedRequest(endpoint, payload);
-        return JsonHelper.getBoolean(apiRequest.getJSONResponse(), "success");
+        return JsonHelper.getBoolean(new JSONObject(getResponse()), "success");
     }
 
     /**
@@ -285,6 +291,52 @@ public class BinanceSignedManager extends BinanceManager {
         }
     }
 
+    /**
+     * Method to enable the order validator, so the orders are normalized and validated against the filters of their
+     * symbols before sending them
+     *
+     * @param orderValidator: the order validator to use
+     * @apiNote the orders rejected by the validator are not sent and an
+     * {@link com.tecknobit.binancemanager.exceptions.OrderRejectedException} is thrown
+     */
+    public void enableOrderValidator(OrderValidator orderValidator) {
+        this.orderValidator = orderValidator;
+    }
+
+    /**
+     * Method to disable the order validator <br>
+     * No-any params required
+     */
+    public void disableOrderValidator() {
+        orderValidator = null;
+    }
+
+    /**
+     * Method to get {@link #orderValidator} instance <br>
+     * No-any params required
+     *
+     * @return {@link #orderValidator} instance as {@link OrderValidator}
+     */
+    public OrderValidator getOrderValidator() {
+        return orderValidator;
+    }
+
+    /**
+     * Method to validate an order with the {@link #orderValidator}, if enabled
+     *
+     * @param symbol:  symbol used in the order es. BTCBUSD
+     * @param side:    side of the order
+     * @param type:    type of the order
+     * @param payload: payload of the order to normalize in place
+     * @throws IOException when the order has been rejected or the data required by the validation has not been
+     *                     fetched
+     */
+    protected void validateOrder(String symbol, Side side, OrderType type, Params payload) throws IOException {
+        OrderValidator validator = orderValidator;
+        if (validator != null)
+            validator.validate(symbol, side, type, payload);
+    }
+
     /**
      * Method to get apiKey used <br>
      * No-any params required
@@ -731,7 +731,7 @@ public class BinanceFuturesAlgoManager extends BinanceSignedManager {
     public <T> T cancelAlgoOrder(long algoId, long recvWindow, ReturnFormat format) throws Exception {
         Params payload = new Params();
         payload.addParam("algoId", algoId);
-        payload.addParam("timestamp", getServerTime());
+        payload.addParam("timestamp", getTimestamp());
         if (recvWindow != -1)
             payload.addParam("recvWindow", recvWindow);
         return returnCancelAlgoOrder(sendDeleteSignedRequest(ALGO_FUTURES_ORDER_ENDPOINT, payload), format);
@@ -1003,7 +1003,7 @@ public class BinanceFuturesAlgoManager extends BinanceSignedManager {
     public <T> T getHistoricalAlgoOrders(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         return returnAlgoOrdersList(sendGetSignedRequest(ALGO_FUTURES_HISTORICAL_ORDERS_ENDPOINT, extraParams), format);
     }
 
@@ -1283,7 +1283,7 @@ public class BinanceFuturesAlgoManager extends BinanceSignedManager {
         if (extraParams == null)
             extraParams = new Params();
         extraParams.addParam("algoId", algoId);
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         return returnSubAlgoOrders(sendGetSignedRequest(ALGO_FUTURES_SUBORDERS_ENDPOINT, extraParams), format);
     }
 
@@ -514,7 +514,7 @@ public class BinanceSpotAlgoManager extends BinanceSignedManager {
     public <T> T cancelAlgoOrder(long algoId, long recvWindow, ReturnFormat format) throws Exception {
         Params payload = new Params();
         payload.addParam("algoId", algoId);
-        payload.addParam("timestamp", getServerTime());
+        payload.addParam("timestamp", getTimestamp());
         if (recvWindow != -1)
             payload.addParam("recvWindow", recvWindow);
         return returnCancelAlgoOrder(sendDeleteSignedRequest(ALGO_SPOT_ORDER_ENDPOINT, payload), format);
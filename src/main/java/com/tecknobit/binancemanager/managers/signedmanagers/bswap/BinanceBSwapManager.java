@@ -360,7 +360,7 @@ public class BinanceBSwapManager extends BinanceSignedManager {
     public <T> T getPoolLiquidityInformation(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String poolLiquidityInformationResponse = sendGetSignedRequest(BSWAP_LIQUIDITY_ENDPOINT, extraParams);
         switch (format) {
             case JSON:
@@ -1121,7 +1121,7 @@ public class BinanceBSwapManager extends BinanceSignedManager {
     public <T> T getLiquidityOperation(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String liquidityOperationResponse = sendGetSignedRequest(BSWAP_LIQUIDITY_OPS_ENDPOINT, extraParams);
         switch (format) {
             case JSON:
@@ -1412,7 +1412,7 @@ public class BinanceBSwapManager extends BinanceSignedManager {
         if (recvWindow > -1)
             query.addParam("recvWindow", recvWindow);
         if (recvWindow != -2)
-            query.addParam("timestamp", getServerTime());
+            query.addParam("timestamp", getTimestamp());
         return query;
     }
 
@@ -1575,7 +1575,7 @@ public class BinanceBSwapManager extends BinanceSignedManager {
     public <T> T getSwapHistory(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String historyResponse = sendGetSignedRequest(BSWAP_SWAP_ENDPOINT, extraParams);
         switch (format) {
             case JSON:
@@ -1714,7 +1714,7 @@ public class BinanceBSwapManager extends BinanceSignedManager {
     public <T> T getPoolConfigure(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String configureResponse = sendGetSignedRequest(BSWAP_POOL_CONFIGURE_ENDPOINT, extraParams);
         switch (format) {
             case JSON:
@@ -2261,7 +2261,7 @@ public class BinanceBSwapManager extends BinanceSignedManager {
         query.addParam("quoteAsset", quoteAsset);
         if (recvWindow != -1)
             query.addParam("recvWindow", recvWindow);
-        query.addParam("timestamp", getServerTime());
+        query.addParam("timestamp", getTimestamp());
         return query;
     }
 
@@ -2409,7 +2409,7 @@ public class BinanceBSwapManager extends BinanceSignedManager {
     public <T> T getUnclaimedRewards(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String rewardsResponse = sendGetSignedRequest(BSWAP_UNCLAIMED_REWARDS_ENDPOINT, extraParams);
         switch (format) {
             case JSON:
@@ -2710,7 +2710,7 @@ public class BinanceBSwapManager extends BinanceSignedManager {
     public <T> T getClaimedHistory(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String historyResponse = sendGetSignedRequest(BSWAP_CLAIMED_HISTORY_ENDPOINT, extraParams);
         switch (format) {
             case JSON:
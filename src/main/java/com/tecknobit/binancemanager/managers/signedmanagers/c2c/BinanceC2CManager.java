@@ -247,7 +247,7 @@ public class BinanceC2CManager extends BinanceSignedManager {
     @RequestWeight(weight = "1(IP)")
     @RequestPath(method = GET, path = "/sapi/v1/c2c/orderMatch/listUserOrderHistory")
     public <T> T getC2CTradeHistory(Side tradeType, Params extraParams, ReturnFormat format) throws Exception {
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         extraParams.addParam("traderType", tradeType);
         return returnC2CTradeHistory(sendGetSignedRequest(C2C_TRADES_HISTORY_ENDPOINT, extraParams), format);
     }
@@ -1450,7 +1450,7 @@ public class BinanceConvertManager extends BinanceSignedManager {
             extraParams = new Params();
         extraParams.addParam("startTime", startTime);
         extraParams.addParam("endTime", endTime);
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String tradeHistoryResponse = sendGetSignedRequest(TRADE_FLOW_ENDPOINT, extraParams.createQueryString());
         switch (format) {
             case JSON:
@@ -315,7 +315,7 @@ public class BinanceCryptoLoansManager extends BinanceSignedManager {
     public <T> T getCryptoLoansIncomeHistory(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String historyResponse = sendGetSignedRequest(LOAN_INCOME_ENDPOINT, extraParams);
         switch (format) {
             case JSON:
@@ -648,7 +648,7 @@ public class BinanceCryptoLoansManager extends BinanceSignedManager {
     public <T> T getLoanBorrowHistory(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String historyResponse = sendGetRequest(LOAN_BORROW_HISTORY_ENDPOINT, extraParams, apiKey);
         switch (format) {
             case JSON:
@@ -807,7 +807,7 @@ public class BinanceCryptoLoansManager extends BinanceSignedManager {
     public <T> T getLoanOngoingOrders(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String listResponse = sendGetRequest(LOAN_ONGOING_ORDERS_ENDPOINT, extraParams, apiKey);
         switch (format) {
             case JSON:
@@ -1146,7 +1146,7 @@ public class BinanceCryptoLoansManager extends BinanceSignedManager {
     public <T> T getLoanRepaymentHistory(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String historyResponse = sendGetRequest(LOAN_REPAY_HISTORY_ENDPOINT, extraParams, apiKey);
         switch (format) {
             case JSON:
@@ -1304,7 +1304,7 @@ public class BinanceCryptoLoansManager extends BinanceSignedManager {
         Params payload = new Params();
         payload.addParam("orderId", orderId);
         payload.addParam("amount", amount);
-        payload.addParam("timestamp", getServerTime());
+        payload.addParam("timestamp", getTimestamp());
         return payload;
     }
 
@@ -1467,7 +1467,7 @@ public class BinanceCryptoLoansManager extends BinanceSignedManager {
     public <T> T getLoanLTVAdjustmentHistory(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String historyResponse = sendGetRequest(LOAN_ADJUSTMENT_HISTORY_ENDPOINT, extraParams, apiKey);
         switch (format) {
             case JSON:
@@ -1608,7 +1608,7 @@ public class BinanceCryptoLoansManager extends BinanceSignedManager {
     public <T> T getLoanableAssetsData(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String listResponse = sendGetRequest(LOAN_LOANABLE_DATA_ENDPOINT, extraParams, apiKey);
         switch (format) {
             case JSON:
@@ -1749,7 +1749,7 @@ public class BinanceCryptoLoansManager extends BinanceSignedManager {
     public <T> T getCollateralAssetsData(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String listResponse = sendGetRequest(LOAN_COLLATERAL_DATA_ENDPOINT, extraParams, apiKey);
         switch (format) {
             case JSON:
@@ -1911,7 +1911,7 @@ public class BinanceCryptoLoansManager extends BinanceSignedManager {
         Params payload = new Params();
         payload.addParam("loanCoin", loanCoin);
         payload.addParam("collateralCoin", collateralCoin);
-        payload.addParam("timestamp", getServerTime());
+        payload.addParam("timestamp", getTimestamp());
         return payload;
     }
 
@@ -2050,7 +2050,7 @@ public class BinanceCryptoLoansManager extends BinanceSignedManager {
         if (extraParams == null)
             extraParams = new Params();
         extraParams.addParam("marginCall", marginCall);
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String marginCallResponse = sendPostRequest(LOAN_CUSTOMIZE_MARGIN_CALL_ENDPOINT, extraParams, apiKey);
         switch (format) {
             case JSON:
@@ -253,7 +253,7 @@ public class BinanceFiatManager extends BinanceSignedManager {
     @RequestPath(method = GET, path = "/sapi/v1/fiat/orders")
     public <T> T getDepositWithdrawHistory(int type, Params extraParams, ReturnFormat format) throws Exception {
         extraParams.addParam("transactionType", type);
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         return returnOperationsHistory(sendGetSignedRequest(FIAT_ORDERS_ENDPOINT, extraParams), format);
     }
 
@@ -421,7 +421,7 @@ public class BinanceFiatManager extends BinanceSignedManager {
     @RequestPath(method = GET, path = "/sapi/v1/fiat/payments")
     public <T> T getPaymentsHistory(int type, Params extraParams, ReturnFormat format) throws Exception {
         extraParams.addParam("transactionType", type);
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         return returnPaymentsHistory(sendGetSignedRequest(FIAT_ORDERS_ENDPOINT, extraParams), format);
     }
 
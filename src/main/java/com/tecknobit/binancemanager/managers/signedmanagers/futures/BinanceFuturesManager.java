@@ -270,7 +270,7 @@ public class BinanceFuturesManager extends BinanceSignedManager {
     public <T> T getCrossCollateralBorrowHistory(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String borrowHistory = sendGetSignedRequest(FUTURES_LOAN_BORROW_HISTORY_ENDPOINT, extraParams);
         switch (format) {
             case JSON:
@@ -423,7 +423,7 @@ public class BinanceFuturesManager extends BinanceSignedManager {
     public <T> T getCrossCollateralRepaymentHistory(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String repaymentHistory = sendGetSignedRequest(FUTURES_LOAN_REPAY_HISTORY_ENDPOINT, extraParams);
         switch (format) {
             case JSON:
@@ -543,7 +543,7 @@ public class BinanceFuturesManager extends BinanceSignedManager {
         Params query = new Params();
         if (recvWindow != -1)
             query.addParam("recvWindow", recvWindow);
-        query.addParam("timestamp", getServerTime());
+        query.addParam("timestamp", getTimestamp());
         String wallerResponse = sendGetSignedRequest(FUTURES_LOAN_WALLET_ENDPOINT, query);
         switch (format) {
             case JSON:
@@ -702,7 +702,7 @@ public class BinanceFuturesManager extends BinanceSignedManager {
     public <T> T getAdjustCrossCollateralLTVHistory(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String LTVHistory = sendGetSignedRequest(FUTURES_LOAN_ADJUST_COLLATERAL_HISTORY_ENDPOINT, extraParams);
         switch (format) {
             case JSON:
@@ -861,7 +861,7 @@ public class BinanceFuturesManager extends BinanceSignedManager {
     public <T> T getCrossCollateralLiquidationHistory(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String liquidationHistory = sendGetSignedRequest(FUTURES_LOAN_LIQUIDATION_HISTORY_ENDPOINT, extraParams);
         switch (format) {
             case JSON:
@@ -1026,7 +1026,7 @@ public class BinanceFuturesManager extends BinanceSignedManager {
     public <T> T getCrossCollateralInterestHistory(Params extraParams, ReturnFormat format) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String liquidationHistory = sendGetSignedRequest(FUTURES_LOAN_INTEREST_HISTORY_ENDPOINT, extraParams);
         switch (format) {
             case JSON:
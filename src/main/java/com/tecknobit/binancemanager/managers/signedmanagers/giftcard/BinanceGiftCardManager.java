@@ -955,7 +955,7 @@ public class BinanceGiftCardManager extends BinanceSignedManager {
         Params query = new Params();
         if (recvWindow != -1)
             query.addParam("recvWindow", recvWindow);
-        query.addParam("timestamp", getServerTime());
+        query.addParam("timestamp", getTimestamp());
         return query;
     }
 
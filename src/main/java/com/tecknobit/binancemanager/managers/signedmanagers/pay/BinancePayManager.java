@@ -236,7 +236,7 @@ public class BinancePayManager extends BinanceSignedManager {
     @RequestWeight(weight = "3000(UID)")
     @RequestPath(method = GET, path = "/sapi/v1/pay/transactions")
     public <T> T getPayTradeHistory(Params extraParams, ReturnFormat format) throws Exception {
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         return returnPayTradeHistory(sendGetSignedRequest(PAY_TRADE_HISTORY_ENDPOINT, extraParams), format);
     }
 
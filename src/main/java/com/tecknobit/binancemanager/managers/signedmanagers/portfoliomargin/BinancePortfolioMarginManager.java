@@ -566,7 +566,7 @@ public class BinancePortfolioMarginManager extends BinanceSignedManager {
     @RequestPath(method = POST, path = "/sapi/v1/portfolio/repay")
     public <T> T marginBankruptcyLoanRepay(long recvWindow, ReturnFormat format) throws Exception {
         Params payload = new Params();
-        payload.addParam("timestamp", getServerTime());
+        payload.addParam("timestamp", getTimestamp());
         if (recvWindow != -1)
             payload.addParam("recvWindow", recvWindow);
         String loanRepayResponse = sendPostRequest(PORTFOLIO_REPAY_ENDPOINT, payload, apiKey);
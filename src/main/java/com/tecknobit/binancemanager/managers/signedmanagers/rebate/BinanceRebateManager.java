@@ -236,7 +236,7 @@ public class BinanceRebateManager extends BinanceSignedManager {
     @RequestWeight(weight = "12000(UID)")
     @RequestPath(method = GET, path = "/sapi/v1/rebate/taxQuery")
     public <T> T getSpotRebateHistory(Params extraParams, ReturnFormat format) throws Exception {
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         return returnSpotRebateHistory(sendGetSignedRequest(REBATE_HISTORY_ENDPOINT, extraParams), format);
     }
 
@@ -1201,7 +1201,7 @@ public class BinanceSavingsManager extends BinanceSignedManager {
         Params payload = createFlexibleOpePayload(productId, amount, recvWindow);
         payload.addParam("type", type);
         sendPostSignedRequest(LENDING_DAILY_REDEEM_ENDPOINT, payload);
-        return apiRequest.getResponseStatusCode() == 200;
+        return getStatusResponse() == 200;
     }
 
     /**
@@ -3422,7 +3422,7 @@ public class BinanceSimpleEarnManager extends BinanceSignedManager {
      */
     private double getLeftPersonalQuota(String endpoint, Params query) throws Exception {
         sendGetSignedRequest(endpoint, query);
-        return JsonHelper.getDouble(apiRequest.getJSONResponse(), "leftPersonalQuota");
+        return JsonHelper.getDouble(new JSONObject(getResponse()), "leftPersonalQuota");
     }
 
     /**
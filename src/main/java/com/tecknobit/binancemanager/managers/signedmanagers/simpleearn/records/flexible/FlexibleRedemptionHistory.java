@@ -28,6 +28,7 @@ public class FlexibleRedemptionHistory extends BinanceRowsList<FlexibleRedemptio
      */
     public FlexibleRedemptionHistory(ArrayList<FlexibleRedemptionRecord> rows) {
         super(rows);
+        enableKeyedMode(FlexibleRedemptionRecord::getRedeemId);
     }
 
     /**
@@ -38,6 +39,7 @@ public class FlexibleRedemptionHistory extends BinanceRowsList<FlexibleRedemptio
      */
     public FlexibleRedemptionHistory(int total, ArrayList<FlexibleRedemptionRecord> rows) {
         super(total, rows);
+        enableKeyedMode(FlexibleRedemptionRecord::getRedeemId);
     }
 
     /**
@@ -49,6 +51,7 @@ public class FlexibleRedemptionHistory extends BinanceRowsList<FlexibleRedemptio
         super(jFlexibleRedemptionHistory);
         for (Object row : hItem.fetchList("rows"))
             rows.add(new FlexibleRedemptionRecord((JSONObject) row));
+        enableKeyedMode(FlexibleRedemptionRecord::getRedeemId);
     }
 
     /**
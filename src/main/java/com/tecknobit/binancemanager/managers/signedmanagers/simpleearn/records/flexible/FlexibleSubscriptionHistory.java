@@ -29,6 +29,7 @@ public class FlexibleSubscriptionHistory extends BinanceRowsList<FlexibleSubscri
      */
     public FlexibleSubscriptionHistory(ArrayList<FlexibleSubscriptionRecord> rows) {
         super(rows);
+        enableKeyedMode(FlexibleSubscriptionRecord::getPurchaseId);
     }
 
     /**
@@ -39,6 +40,7 @@ public class FlexibleSubscriptionHistory extends BinanceRowsList<FlexibleSubscri
      */
     public FlexibleSubscriptionHistory(int total, ArrayList<FlexibleSubscriptionRecord> rows) {
         super(total, rows);
+        enableKeyedMode(FlexibleSubscriptionRecord::getPurchaseId);
     }
 
     /**
@@ -50,6 +52,7 @@ public class FlexibleSubscriptionHistory extends BinanceRowsList<FlexibleSubscri
         super(jFlexibleSubscriptionHistory);
         for (Object row : hItem.fetchList("rows"))
             rows.add(new FlexibleSubscriptionRecord((JSONObject) row));
+        enableKeyedMode(FlexibleSubscriptionRecord::getPurchaseId);
     }
 
     /**
@@ -31,6 +31,7 @@ public class LockedRedemptionHistory extends BinanceRowsList<LockedRedemptionRec
      */
     public LockedRedemptionHistory(ArrayList<LockedRedemptionRecord> rows) {
         super(rows);
+        enableKeyedMode(LockedRedemptionRecord::getRedeemId);
     }
 
     /**
@@ -41,6 +42,7 @@ public class LockedRedemptionHistory extends BinanceRowsList<LockedRedemptionRec
      */
     public LockedRedemptionHistory(int total, ArrayList<LockedRedemptionRecord> rows) {
         super(total, rows);
+        enableKeyedMode(LockedRedemptionRecord::getRedeemId);
     }
 
     /**
@@ -52,6 +54,7 @@ public class LockedRedemptionHistory extends BinanceRowsList<LockedRedemptionRec
         super(jLockedRedemptionHistory);
         for (Object row : hItem.fetchList("rows"))
             rows.add(new LockedRedemptionRecord((JSONObject) row));
+        enableKeyedMode(LockedRedemptionRecord::getRedeemId);
     }
 
     /**
@@ -568,7 +568,7 @@ public class BinanceStakingManager extends BinanceSignedManager {
     @RequestPath(method = POST, path = "/sapi/v1/staking/redeem")
     public boolean redeemStakingProduct(ProductType product, long productId, Params extraParams) throws Exception {
         sendPostSignedRequest(STAKING_REDEEM_ENDPOINT, createStakingOpePayload(product, productId, extraParams));
-        return JsonHelper.getBoolean(apiRequest.getJSONResponse(), "success");
+        return JsonHelper.getBoolean(new JSONObject(getResponse()), "success");
     }
 
     /**
@@ -1150,7 +1150,7 @@ public class BinanceStakingManager extends BinanceSignedManager {
     public <T> T getPersonalLeftQuota(ProductType product, long productId, long recvWindow,
                                       ReturnFormat format) throws Exception {
         Params query = createStakingOpePayload(product, productId, null);
-        query.addParam("timestamp", getServerTime());
+        query.addParam("timestamp", getTimestamp());
         if (recvWindow != -1)
             query.addParam("recvWindow", recvWindow);
         String quotesList = sendGetSignedRequest(PERSONAL_LEFT_QUOTA_ENDPOINT, query);
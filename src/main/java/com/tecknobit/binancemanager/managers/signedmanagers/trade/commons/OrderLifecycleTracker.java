@@ -0,0 +1,643 @@
+package com.tecknobit.binancemanager.managers.signedmanagers.trade.commons;
+
+import com.tecknobit.binancemanager.managers.BinanceManager;
+import com.tecknobit.binancemanager.managers.BinanceServerClock;
+import com.tecknobit.binancemanager.managers.LatencyHistogram;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.Status;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.margin.records.orders.response.MarginOrder;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.spot.records.orders.response.ACKSpotOrder;
+import com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers.userdatastreams.records.OrderUpdate;
+import org.json.JSONObject;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers.userdatastreams.records.OrderUpdate.ExecutionType.TRADE;
+
+/**
+ * The {@code OrderLifecycleTracker} class is useful to measure the latencies of the orders, from their submission to
+ * their final state, splitting the time spent on the network from the time spent by the matching engine
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the orders are submitted with {@link #track(String, Callable)}, that timestamps the submission and
+ * the acknowledgment of the request, while the {@code "executionReport"} events must be passed to
+ * {@link #onOrderUpdate(OrderUpdate)}, es. with {@code "session.setOrderUpdateListener(tracker::onOrderUpdate)"}.
+ * The latencies are recorded in a {@link LatencyHistogram} for each {@link LatencyMetric} and symbol, and can be read
+ * with {@link #getHistogram(String, LatencyMetric)} or exported with {@link #toJSONObject()}
+ * @implNote the local timestamps are compared with the ones of the exchange through the {@link BinanceServerClock},
+ * so the one-way latencies have the error of its offset, while the round trips are measured with the monotonic clock.
+ * The events received before the acknowledgment of their order are kept until {@link #UNMATCHED_UPDATE_TTL}, the
+ * lifecycles are released when their order reaches its final state, so all the final events of the orders tracked
+ * must be passed to the tracker
+ * @see OrderUpdate
+ */
+public class OrderLifecycleTracker {
+
+    /**
+     * {@code UNMATCHED_UPDATE_TTL} is the time, in milliseconds, after that the lifecycles created by events of orders
+     * not tracked are discarded
+     */
+    public static final long UNMATCHED_UPDATE_TTL = 60000;
+
+    /**
+     * {@code LatencyMetric} list of available latency metrics
+     */
+    public enum LatencyMetric {
+
+        /**
+         * {@code ACK_ROUND_TRIP} time from the submission of the order to the receipt of its acknowledgment, measured
+         * with the local monotonic clock
+         */
+        ACK_ROUND_TRIP,
+
+        /**
+         * {@code REQUEST_TRANSIT} time from the submission of the order to its {@code "transactTime"}: the network
+         * and the gateway of the request
+         */
+        REQUEST_TRANSIT,
+
+        /**
+         * {@code RESPONSE_TRANSIT} time from the {@code "transactTime"} of the order to the receipt of its
+         * acknowledgment: the network of the response
+         */
+        RESPONSE_TRANSIT,
+
+        /**
+         * {@code EVENT_PUBLISH} time from the transaction of an execution report to its event time: the publishing
+         * of the exchange
+         */
+        EVENT_PUBLISH,
+
+        /**
+         * {@code EVENT_TRANSIT} time from the event time of an execution report to its receipt: the network of the
+         * user data stream
+         */
+        EVENT_TRANSIT,
+
+        /**
+         * {@code TIME_TO_FILL} time from the {@code "transactTime"} of the order to the transaction that filled it:
+         * the time spent by the order in the matching engine
+         */
+        TIME_TO_FILL,
+
+        /**
+         * {@code WIRE_TO_FILL} time from the submission of the order to the receipt of the event that filled it,
+         * measured with the local monotonic clock
+         */
+        WIRE_TO_FILL
+
+    }
+
+    /**
+     * {@code serverClock} is instance used to align the local timestamps with the ones of the exchange
+     */
+    private final BinanceServerClock serverClock;
+
+    /**
+     * {@code lifecycles} is instance that memorizes the lifecycles not completed mapped by symbol and order id, the
+     * order ids are unique only for each symbol
+     */
+    private final ConcurrentHashMap<String, OrderLifecycle> lifecycles = new ConcurrentHashMap<>();
+
+    /**
+     * {@code histograms} is instance that memorizes the histograms of the latencies mapped by symbol
+     */
+    private final ConcurrentHashMap<String, EnumMap<LatencyMetric, LatencyHistogram>> histograms =
+            new ConcurrentHashMap<>();
+
+    /**
+     * {@code lastSweep} is instance that memorizes when the lifecycles of the orders not tracked have been discarded
+     * the last time
+     */
+    private volatile long lastSweep = System.nanoTime();
+
+    /**
+     * {@code completionListener} is instance that receives the lifecycles completed
+     */
+    private volatile Consumer<OrderLifecycle> completionListener;
+
+    /**
+     * Constructor to init a {@link OrderLifecycleTracker}
+     *
+     * @param manager: manager used to submit the orders, its {@link BinanceServerClock} is used by the tracker
+     */
+    public OrderLifecycleTracker(BinanceManager manager) {
+        this(manager.getServerClock());
+    }
+
+    /**
+     * Constructor to init a {@link OrderLifecycleTracker}
+     *
+     * @param serverClock: clock used to align the local timestamps with the ones of the exchange
+     */
+    public OrderLifecycleTracker(BinanceServerClock serverClock) {
+        this.serverClock = serverClock;
+    }
+
+    /**
+     * Method to submit an order tracking its lifecycle
+     *
+     * @param symbol:  symbol of the order
+     * @param request: request that submits the order, es. {@code "() -> manager.sendLimitOrder(...)"}
+     * @return the order submitted
+     * @throws Exception when the request has been go wrong
+     * @implNote the {@code "transactTime"} is available only with the orders returned as {@link ACKSpotOrder} or
+     * {@link MarginOrder}, otherwise only the round trip of the request is recorded. The execution reports received
+     * before the acknowledgment are matched by symbol and order id
+     */
+    public <T extends Order> T track(String symbol, Callable<T> request) throws Exception {
+        long submitNanos = System.nanoTime();
+        long submitTime = serverClock.currentTimeMillis();
+        T order = request.call();
+        long ackNanos = System.nanoTime();
+        long ackTime = serverClock.currentTimeMillis();
+        long transactTime = -1;
+        if (order instanceof ACKSpotOrder)
+            transactTime = ((ACKSpotOrder) order).getTransactTime();
+        else if (order instanceof MarginOrder)
+            transactTime = ((MarginOrder) order).getTransactTime();
+        OrderLifecycle lifecycle = lifecycles.computeIfAbsent(lifecycleKey(symbol, order.getOrderId()),
+                key -> new OrderLifecycle(symbol, order.getOrderId(), order.getClientOrderId()));
+        boolean completed;
+        synchronized (lifecycle) {
+            lifecycle.submitNanos = submitNanos;
+            lifecycle.submitTime = submitTime;
+            lifecycle.ackNanos = ackNanos;
+            lifecycle.ackTime = ackTime;
+            lifecycle.transactTime = transactTime;
+            lifecycle.acknowledged = true;
+            completed = lifecycle.finalStatus != null;
+        }
+        EnumMap<LatencyMetric, LatencyHistogram> histograms = getHistograms(symbol);
+        histograms.get(LatencyMetric.ACK_ROUND_TRIP).record((ackNanos - submitNanos) / 1000);
+        if (transactTime > 0) {
+            histograms.get(LatencyMetric.REQUEST_TRANSIT).record((transactTime - submitTime) * 1000);
+            histograms.get(LatencyMetric.RESPONSE_TRANSIT).record((ackTime - transactTime) * 1000);
+        }
+        if (completed)
+            complete(lifecycle);
+        return order;
+    }
+
+    /**
+     * Method to apply an execution report to the lifecycle of its order
+     *
+     * @param update: the execution report received
+     */
+    public void onOrderUpdate(OrderUpdate update) {
+        long receiveNanos = System.nanoTime();
+        long receiveTime = serverClock.currentTimeMillis();
+        EnumMap<LatencyMetric, LatencyHistogram> histograms = getHistograms(update.getSymbol());
+        histograms.get(LatencyMetric.EVENT_PUBLISH).record((update.getEventTime() - update.getTransactionTime()) * 1000);
+        histograms.get(LatencyMetric.EVENT_TRANSIT).record((receiveTime - update.getEventTime()) * 1000);
+        String key = lifecycleKey(update.getSymbol(), update.getOrderId());
+        OrderLifecycle lifecycle = lifecycles.get(key);
+        if (lifecycle == null) {
+            lifecycle = lifecycles.computeIfAbsent(key, k -> new OrderLifecycle(update.getSymbol(),
+                    update.getOrderId(), update.getClientOrderId()));
+            sweep(receiveNanos);
+        }
+        boolean completed;
+        synchronized (lifecycle) {
+            lifecycle.updates++;
+            if (lifecycle.firstEventTime < 0)
+                lifecycle.firstEventTime = update.getEventTime();
+            if (update.getCurrentExecutionType() == TRADE && lifecycle.firstFillTime < 0)
+                lifecycle.firstFillTime = update.getTransactionTime();
+            if (lifecycle.finalStatus == null && isFinal(update.getCurrentOrderStatus())) {
+                lifecycle.finalStatus = update.getCurrentOrderStatus();
+                lifecycle.finalTime = update.getTransactionTime();
+                lifecycle.finalNanos = receiveNanos;
+            }
+            completed = lifecycle.acknowledged && lifecycle.finalStatus != null;
+        }
+        if (completed)
+            complete(lifecycle);
+    }
+
+    /**
+     * Method to complete a lifecycle, recording its fill latencies and releasing it
+     *
+     * @param lifecycle: the lifecycle to complete
+     */
+    private void complete(OrderLifecycle lifecycle) {
+        if (!lifecycles.remove(lifecycleKey(lifecycle.symbol, lifecycle.orderId), lifecycle))
+            return;
+        if (lifecycle.finalStatus == Status.FILLED) {
+            EnumMap<LatencyMetric, LatencyHistogram> histograms = getHistograms(lifecycle.symbol);
+            if (lifecycle.transactTime > 0)
+                histograms.get(LatencyMetric.TIME_TO_FILL).record((lifecycle.finalTime - lifecycle.transactTime) * 1000);
+            histograms.get(LatencyMetric.WIRE_TO_FILL).record((lifecycle.finalNanos - lifecycle.submitNanos) / 1000);
+        }
+        Consumer<OrderLifecycle> completionListener = this.completionListener;
+        if (completionListener != null)
+            completionListener.accept(lifecycle);
+    }
+
+    /**
+     * Method to discard the lifecycles created by events of orders not tracked, at most once each
+     * {@link #UNMATCHED_UPDATE_TTL}
+     *
+     * @param now: the current time of the monotonic clock
+     */
+    private void sweep(long now) {
+        long ttl = UNMATCHED_UPDATE_TTL * 1000000;
+        if (now - lastSweep < ttl)
+            return;
+        lastSweep = now;
+        for (OrderLifecycle lifecycle : lifecycles.values()) {
+            if (!lifecycle.acknowledged && now - lifecycle.createdNanos > ttl)
+                lifecycles.remove(lifecycleKey(lifecycle.symbol, lifecycle.orderId), lifecycle);
+        }
+    }
+
+    /**
+     * Method to get whether a status is a final status of an order
+     *
+     * @param status: the status to check
+     * @return whether the status is a final status as boolean
+     */
+    private static boolean isFinal(Status status) {
+        return status == Status.FILLED || status == Status.CANCELED || status == Status.REJECTED
+                || status == Status.EXPIRED || status == Status.EXPIRED_IN_MATCH;
+    }
+
+    /**
+     * Method to get the histograms of a symbol, creating them if not exist
+     *
+     * @param symbol: the symbol of the histograms
+     * @return histograms of the symbol as {@link EnumMap} of {@link LatencyHistogram}
+     */
+    private EnumMap<LatencyMetric, LatencyHistogram> getHistograms(String symbol) {
+        return histograms.computeIfAbsent(symbol, key -> {
+            EnumMap<LatencyMetric, LatencyHistogram> histograms = new EnumMap<>(LatencyMetric.class);
+            for (LatencyMetric metric : LatencyMetric.values())
+                histograms.put(metric, new LatencyHistogram());
+            return histograms;
+        });
+    }
+
+    /**
+     * Method to get a histogram of the latencies
+     *
+     * @param symbol: the symbol of the orders
+     * @param metric: the metric of the latencies
+     * @return histogram of the latencies as {@link LatencyHistogram}, {@code "null"} if no orders of the symbol have
+     * been tracked
+     */
+    public LatencyHistogram getHistogram(String symbol, LatencyMetric metric) {
+        EnumMap<LatencyMetric, LatencyHistogram> histograms = this.histograms.get(symbol);
+        return histograms != null ? histograms.get(metric) : null;
+    }
+
+    /**
+     * Method to get the symbols tracked <br>
+     * No-any params required
+     *
+     * @return symbols tracked as {@link Set} of {@link String}
+     */
+    public Set<String> getSymbols() {
+        return histograms.keySet();
+    }
+
+    /**
+     * Method to get the lifecycle of an order not completed yet
+     *
+     * @param symbol:  symbol of the order
+     * @param orderId: the id of the order
+     * @return lifecycle of the order as {@link OrderLifecycle}, {@code "null"} if not available
+     */
+    public OrderLifecycle getLifecycle(String symbol, long orderId) {
+        return lifecycles.get(lifecycleKey(symbol, orderId));
+    }
+
+    /**
+     * Method to get the key of a lifecycle in the {@link #lifecycles}
+     *
+     * @param symbol:  symbol of the order
+     * @param orderId: the id of the order
+     * @return key of the lifecycle as {@link String}
+     */
+    private static String lifecycleKey(String symbol, long orderId) {
+        return symbol.toUpperCase() + ":" + orderId;
+    }
+
+    /**
+     * Method to get the number of the lifecycles not completed <br>
+     * No-any params required
+     *
+     * @return number of the lifecycles not completed as int
+     */
+    public int getPendingLifecyclesCount() {
+        return lifecycles.size();
+    }
+
+    /**
+     * Method to reset all the histograms <br>
+     * No-any params required
+     */
+    public void reset() {
+        for (EnumMap<LatencyMetric, LatencyHistogram> histograms : histograms.values())
+            for (LatencyHistogram histogram : histograms.values())
+                histogram.reset();
+    }
+
+    /**
+     * Method to set {@link #completionListener} instance
+     *
+     * @param completionListener: listener that receives the lifecycles completed, es. to export them
+     */
+    public void setCompletionListener(Consumer<OrderLifecycle> completionListener) {
+        this.completionListener = completionListener;
+    }
+
+    /**
+     * Method to export the histograms <br>
+     * No-any params required
+     *
+     * @return histograms as {@link JSONObject}, with the summary of each {@link LatencyMetric} for each symbol in
+     * microseconds
+     */
+    public JSONObject toJSONObject() {
+        JSONObject export = new JSONObject();
+        for (Map.Entry<String, EnumMap<LatencyMetric, LatencyHistogram>> symbol : histograms.entrySet()) {
+            JSONObject metrics = new JSONObject();
+            for (Map.Entry<LatencyMetric, LatencyHistogram> metric : symbol.getValue().entrySet())
+                if (metric.getValue().getTotalCount() > 0)
+                    metrics.put(metric.getKey().name(), metric.getValue().toJSONObject());
+            export.put(symbol.getKey(), metrics);
+        }
+        return export;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return toJSONObject().toString();
+    }
+
+    /**
+     * The {@code OrderLifecycle} class is useful to format the timestamps of the lifecycle of an order
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @apiNote the times are in the milliseconds of the exchange, the nanos of the local monotonic clock, the values
+     * not available yet are -1
+     */
+    public static class OrderLifecycle {
+
+        /**
+         * {@code symbol} is instance that memorizes the symbol of the order
+         */
+        private final String symbol;
+
+        /**
+         * {@code clientOrderId} is instance that memorizes the client order id of the order
+         */
+        private final String clientOrderId;
+
+        /**
+         * {@code createdNanos} is instance that memorizes when the lifecycle has been created
+         */
+        private final long createdNanos = System.nanoTime();
+
+        /**
+         * {@code orderId} is instance that memorizes the id of the order
+         */
+        private final long orderId;
+
+        /**
+         * {@code submitNanos} is instance that memorizes when the order has been submitted
+         */
+        private volatile long submitNanos = -1;
+
+        /**
+         * {@code submitTime} is instance that memorizes when the order has been submitted
+         */
+        private volatile long submitTime = -1;
+
+        /**
+         * {@code ackNanos} is instance that memorizes when the acknowledgment of the order has been received
+         */
+        private volatile long ackNanos = -1;
+
+        /**
+         * {@code ackTime} is instance that memorizes when the acknowledgment of the order has been received
+         */
+        private volatile long ackTime = -1;
+
+        /**
+         * {@code transactTime} is instance that memorizes when the order has been accepted by the exchange
+         */
+        private volatile long transactTime = -1;
+
+        /**
+         * {@code firstEventTime} is instance that memorizes the event time of the first execution report
+         */
+        private volatile long firstEventTime = -1;
+
+        /**
+         * {@code firstFillTime} is instance that memorizes the transaction time of the first fill
+         */
+        private volatile long firstFillTime = -1;
+
+        /**
+         * {@code finalTime} is instance that memorizes the transaction time of the final state
+         */
+        private volatile long finalTime = -1;
+
+        /**
+         * {@code finalNanos} is instance that memorizes when the final state has been received
+         */
+        private volatile long finalNanos = -1;
+
+        /**
+         * {@code finalStatus} is instance that memorizes the final status of the order, {@code "null"} if not reached
+         */
+        private volatile Status finalStatus;
+
+        /**
+         * {@code updates} is instance that memorizes the number of the execution reports received
+         */
+        private volatile int updates;
+
+        /**
+         * {@code acknowledged} whether the acknowledgment of the order has been received
+         */
+        private volatile boolean acknowledged;
+
+        /**
+         * Constructor to init a {@link OrderLifecycle}
+         *
+         * @param symbol:        symbol of the order
+         * @param orderId:       id of the order
+         * @param clientOrderId: client order id of the order
+         */
+        private OrderLifecycle(String symbol, long orderId, String clientOrderId) {
+            this.symbol = symbol;
+            this.orderId = orderId;
+            this.clientOrderId = clientOrderId;
+        }
+
+        /**
+         * Method to get {@link #symbol} instance <br>
+         * No-any params required
+         *
+         * @return {@link #symbol} instance as {@link String}
+         */
+        public String getSymbol() {
+            return symbol;
+        }
+
+        /**
+         * Method to get {@link #orderId} instance <br>
+         * No-any params required
+         *
+         * @return {@link #orderId} instance as long
+         */
+        public long getOrderId() {
+            return orderId;
+        }
+
+        /**
+         * Method to get {@link #clientOrderId} instance <br>
+         * No-any params required
+         *
+         * @return {@link #clientOrderId} instance as {@link String}
+         */
+        public String getClientOrderId() {
+            return clientOrderId;
+        }
+
+        /**
+         * Method to get {@link #submitTime} instance <br>
+         * No-any params required
+         *
+         * @return {@link #submitTime} instance as long
+         */
+        public long getSubmitTime() {
+            return submitTime;
+        }
+
+        /**
+         * Method to get {@link #ackTime} instance <br>
+         * No-any params required
+         *
+         * @return {@link #ackTime} instance as long
+         */
+        public long getAckTime() {
+            return ackTime;
+        }
+
+        /**
+         * Method to get the round trip of the acknowledgment <br>
+         * No-any params required
+         *
+         * @return round trip of the acknowledgment in microseconds as long, -1 if not available
+         */
+        public long getAckRoundTrip() {
+            return ackNanos < 0 ? -1 : (ackNanos - submitNanos) / 1000;
+        }
+
+        /**
+         * Method to get {@link #transactTime} instance <br>
+         * No-any params required
+         *
+         * @return {@link #transactTime} instance as long
+         */
+        public long getTransactTime() {
+            return transactTime;
+        }
+
+        /**
+         * Method to get {@link #firstEventTime} instance <br>
+         * No-any params required
+         *
+         * @return {@link #firstEventTime} instance as long
+         */
+        public long getFirstEventTime() {
+            return firstEventTime;
+        }
+
+        /**
+         * Method to get {@link #firstFillTime} instance <br>
+         * No-any params required
+         *
+         * @return {@link #firstFillTime} instance as long
+         */
+        public long getFirstFillTime() {
+            return firstFillTime;
+        }
+
+        /**
+         * Method to get {@link #finalTime} instance <br>
+         * No-any params required
+         *
+         * @return {@link #finalTime} instance as long
+         */
+        public long getFinalTime() {
+            return finalTime;
+        }
+
+        /**
+         * Method to get the time from the submission of the order to the receipt of its final state <br>
+         * No-any params required
+         *
+         * @return time from the submission to the final state in microseconds as long, -1 if not available
+         */
+        public long getWireToFinal() {
+            return finalNanos < 0 || submitNanos < 0 ? -1 : (finalNanos - submitNanos) / 1000;
+        }
+
+        /**
+         * Method to get {@link #finalStatus} instance <br>
+         * No-any params required
+         *
+         * @return {@link #finalStatus} instance as {@link Status}
+         */
+        public Status getFinalStatus() {
+            return finalStatus;
+        }
+
+        /**
+         * Method to get {@link #updates} instance <br>
+         * No-any params required
+         *
+         * @return {@link #updates} instance as int
+         */
+        public int getUpdates() {
+            return updates;
+        }
+
+        /**
+         * Method to get {@link #acknowledged} instance <br>
+         * No-any params required
+         *
+         * @return {@link #acknowledged} instance as boolean
+         */
+        public boolean isAcknowledged() {
+            return acknowledged;
+        }
+
+        /**
+         * Returns a string representation of the object <br>
+         * No-any params required
+         *
+         * @return a string representation of the object as {@link String}
+         */
+        @Override
+        public String toString() {
+            return new JSONObject(this).toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.tecknobit.binancemanager.managers.signedmanagers.trade.commons;
+
+import org.json.JSONObject;
+
+/**
+ * The {@code OrderResult} class is useful to contain the outcome of an order sent in a batch of orders
+ *
+ * @param <T> type of the result of the order
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote an outcome has the result of the order when it has been successful, otherwise the error that made it
+ * fail, es. the rejection of {@code "Binance"} or of the {@link OrderValidator}
+ */
+public class OrderResult<T> {
+
+    /**
+     * {@code order} is instance that memorizes the order sent
+     */
+    private final OrderSpec order;
+
+    /**
+     * {@code result} is instance that memorizes the result of the order, {@code "null"} if it has failed
+     */
+    private final T result;
+
+    /**
+     * {@code error} is instance that memorizes the error that made the order fail, {@code "null"} if it has been
+     * successful
+     */
+    private final Exception error;
+
+    /**
+     * Constructor to init {@link OrderResult} object
+     *
+     * @param order:  the order sent
+     * @param result: the result of the order, {@code "null"} if it has failed
+     * @param error:  the error that made the order fail, {@code "null"} if it has been successful
+     */
+    public OrderResult(OrderSpec order, T result, Exception error) {
+        this.order = order;
+        this.result = result;
+        this.error = error;
+    }
+
+    /**
+     * Method to get whether the order has been successful <br>
+     * No-any params required
+     *
+     * @return whether the order has been successful as boolean
+     */
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+    /**
+     * Method to get {@link #order} instance <br>
+     * No-any params required
+     *
+     * @return {@link #order} instance as {@link OrderSpec}
+     */
+    public OrderSpec getOrder() {
+        return order;
+    }
+
+    /**
+     * Method to get {@link #result} instance <br>
+     * No-any params required
+     *
+     * @return {@link #result} instance as {@link T}
+     */
+    public T getResult() {
+        return result;
+    }
+
+    /**
+     * Method to get {@link #error} instance <br>
+     * No-any params required
+     *
+     * @return {@link #error} instance as {@link Exception}
+     */
+    public Exception getError() {
+        return error;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject(this).toString();
+    }
+
+}
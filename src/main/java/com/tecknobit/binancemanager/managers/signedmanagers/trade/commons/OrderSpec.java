@@ -0,0 +1,138 @@
+package com.tecknobit.binancemanager.managers.signedmanagers.trade.commons;
+
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.OrderResponseType;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.OrderType;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.Side;
+import org.json.JSONObject;
+
+import static com.tecknobit.binancemanager.managers.BinanceManager.Params;
+
+/**
+ * The {@code OrderSpec} class is useful to describe an order to send in a batch of orders
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the payload is the same assembled for the single orders, es. with {@link Order#getLimitPayload} or
+ * {@link Order#getMarketPayload}, and the {@code "symbol"}, {@code "side"}, {@code "type"} and
+ * {@code "newOrderRespType"} params are inserted when the order is sent
+ */
+public class OrderSpec {
+
+    /**
+     * {@code symbol} is instance that memorizes the symbol used in the order
+     */
+    private final String symbol;
+
+    /**
+     * {@code side} is instance that memorizes the side of the order
+     */
+    private final Side side;
+
+    /**
+     * {@code type} is instance that memorizes the type of the order
+     */
+    private final OrderType type;
+
+    /**
+     * {@code newOrderRespType} is instance that memorizes the format of the response of the order, {@code "null"} to
+     * use the default one of the type
+     */
+    private final OrderResponseType newOrderRespType;
+
+    /**
+     * {@code payload} is instance that memorizes the payload of the order
+     */
+    private final Params payload;
+
+    /**
+     * Constructor to init {@link OrderSpec} object
+     *
+     * @param symbol:  symbol used in the order es. BTCBUSD
+     * @param side:    side of the order
+     * @param type:    type of the order
+     * @param payload: payload of the order
+     */
+    public OrderSpec(String symbol, Side side, OrderType type, Params payload) {
+        this(symbol, side, type, null, payload);
+    }
+
+    /**
+     * Constructor to init {@link OrderSpec} object
+     *
+     * @param symbol:           symbol used in the order es. BTCBUSD
+     * @param side:             side of the order
+     * @param type:             type of the order
+     * @param newOrderRespType: format of the response of the order, {@code "null"} to use the default one of the type
+     * @param payload:          payload of the order
+     */
+    public OrderSpec(String symbol, Side side, OrderType type, OrderResponseType newOrderRespType, Params payload) {
+        this.symbol = symbol;
+        this.side = side;
+        this.type = type;
+        this.newOrderRespType = newOrderRespType;
+        if (payload == null)
+            payload = new Params();
+        this.payload = payload;
+    }
+
+    /**
+     * Method to get {@link #symbol} instance <br>
+     * No-any params required
+     *
+     * @return {@link #symbol} instance as {@link String}
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Method to get {@link #side} instance <br>
+     * No-any params required
+     *
+     * @return {@link #side} instance as {@link Side}
+     */
+    public Side getSide() {
+        return side;
+    }
+
+    /**
+     * Method to get {@link #type} instance <br>
+     * No-any params required
+     *
+     * @return {@link #type} instance as {@link OrderType}
+     */
+    public OrderType getType() {
+        return type;
+    }
+
+    /**
+     * Method to get {@link #newOrderRespType} instance <br>
+     * No-any params required
+     *
+     * @return {@link #newOrderRespType} instance as {@link OrderResponseType}
+     */
+    public OrderResponseType getNewOrderRespType() {
+        return newOrderRespType;
+    }
+
+    /**
+     * Method to get {@link #payload} instance <br>
+     * No-any params required
+     *
+     * @return {@link #payload} instance as {@link Params}
+     */
+    public Params getPayload() {
+        return payload;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject(this).toString();
+    }
+
+}
@@ -0,0 +1,333 @@
+package com.tecknobit.binancemanager.managers.signedmanagers.trade.commons;
+
+import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.binancemanager.exceptions.OrderRejectedException;
+import com.tecknobit.binancemanager.managers.market.BinanceMarketManager;
+import com.tecknobit.binancemanager.managers.market.ExchangeInformationCache;
+import com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.Filter.FilterType;
+import com.tecknobit.binancemanager.managers.market.records.stats.SymbolFilters;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.OrderType;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.Side;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+import static com.tecknobit.binancemanager.managers.BinanceManager.Params;
+import static com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.Filter.FilterType.*;
+import static com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.OrderType.MARKET;
+import static com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.Side.BUY;
+
+/**
+ * The {@code OrderValidator} class is useful to normalize and validate the payloads of the orders against the trading
+ * rules of their symbols before sending them, so the orders that would be rejected by {@code "Binance"} are not sent
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the payloads assembled with the {@link Order} methods, es. {@link Order#getLimitPayload} or
+ * {@link Order#getMarketPayload}, are normalized in place:
+ * <ul>
+ * <li>
+ * {@code "price"} and {@code "stopPrice"} are rounded to the tick size of the {@code "PRICE_FILTER"}, the limit
+ * prices toward the side of the order: down for the BUY orders and up for the SELL ones
+ * </li>
+ * <li>
+ * {@code "quantity"} is rounded down to the step size of the {@code "LOT_SIZE"} and, for the market orders, also to
+ * the step size of the {@code "MARKET_LOT_SIZE"} when it is not zero
+ * </li>
+ * </ul>
+ * then are checked the {@code "PRICE_FILTER"}, {@code "LOT_SIZE"}, {@code "MARKET_LOT_SIZE"} for the market orders,
+ * {@code "NOTIONAL"}/{@code "MIN_NOTIONAL"}, {@code "PERCENT_PRICE_BY_SIDE"}/{@code "PERCENT_PRICE"} and
+ * {@code "MAX_NUM_ORDERS"} filters, throwing an {@link OrderRejectedException} at the first violated
+ * @implNote the filters are read from an {@link ExchangeInformationCache}, the average price, required only by the
+ * percent price and the market notional checks, is cached for {@link #AVERAGE_PRICE_TIME_TO_LIVE} and the
+ * {@code "MAX_NUM_ORDERS"} filter is checked only when an {@link #openOrdersCounter} is set. All the arithmetic is
+ * executed with {@link BigDecimal} values, so the values sent are exact multiples of the steps
+ * @see <a href="https://binance-docs.github.io/apidocs/spot/en/#filters">Filters</a>
+ */
+public class OrderValidator {
+
+    /**
+     * {@code AVERAGE_PRICE_TIME_TO_LIVE} is the time to live, in milliseconds, of the average prices fetched
+     */
+    public static final long AVERAGE_PRICE_TIME_TO_LIVE = 10 * 1000;
+
+    /**
+     * {@code exchangeInformationCache} is instance used to read the filters of the symbols
+     */
+    private final ExchangeInformationCache exchangeInformationCache;
+
+    /**
+     * {@code averagePrices} is instance that memorizes the average prices fetched, mapped by symbol
+     */
+    private final ConcurrentHashMap<String, AveragePrice> averagePrices;
+
+    /**
+     * {@code openOrdersCounter} is instance that counts the open orders of a symbol, {@code "null"} if the
+     * {@code "MAX_NUM_ORDERS"} filter is not checked
+     */
+    private volatile ToIntFunction<String> openOrdersCounter;
+
+    /**
+     * Constructor to init an {@link OrderValidator}
+     *
+     * @param marketManager: manager used to fetch the exchange information and the average prices
+     */
+    @Wrapper
+    public OrderValidator(BinanceMarketManager marketManager) {
+        this(new ExchangeInformationCache(marketManager));
+    }
+
+    /**
+     * Constructor to init an {@link OrderValidator}
+     *
+     * @param exchangeInformationCache: cache used to read the filters of the symbols, its manager is used to fetch
+     *                                  the average prices
+     */
+    public OrderValidator(ExchangeInformationCache exchangeInformationCache) {
+        this.exchangeInformationCache = exchangeInformationCache;
+        averagePrices = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method to normalize and validate the payload of an order
+     *
+     * @param symbol:  symbol used in the order es. BTCBUSD
+     * @param side:    side of the order
+     * @param type:    type of the order
+     * @param payload: payload of the order to normalize in place
+     * @return payload normalized as {@link Params}
+     * @throws OrderRejectedException when the order would be rejected by the filters of its symbol
+     * @throws IOException            when the request to fetch the exchange information or the average price has
+     *                                been go wrong
+     */
+    public Params validate(String symbol, Side side, OrderType type, Params payload) throws IOException {
+        SymbolFilters filters = exchangeInformationCache.getSymbolFilters(symbol);
+        if (filters == null)
+            throw new OrderRejectedException(symbol, null, "the symbol is not listed");
+        if (!filters.getStatus().equals("TRADING"))
+            throw new OrderRejectedException(symbol, null, "the symbol status is " + filters.getStatus());
+        boolean isMarket = type == MARKET;
+        BigDecimal price = normalizePrice(filters, payload, "price", side == BUY ? RoundingMode.FLOOR
+                : RoundingMode.CEILING);
+        normalizePrice(filters, payload, "stopPrice", RoundingMode.HALF_UP);
+        BigDecimal quantity = decimalValue(payload, "quantity");
+        if (quantity != null) {
+            quantity = roundToStep(quantity, filters.getMinQty(), filters.getStepSize(), RoundingMode.FLOOR);
+            checkRange(symbol, LOT_SIZE, "quantity", quantity, filters.getMinQty(), filters.getMaxQty());
+            if (isMarket) {
+                if (filters.getMarketStepSize() > 0) {
+                    quantity = roundToStep(quantity, filters.getMarketMinQty(), filters.getMarketStepSize(),
+                            RoundingMode.FLOOR);
+                }
+                checkRange(symbol, MARKET_LOT_SIZE, "quantity", quantity, filters.getMarketMinQty(),
+                        filters.getMarketMaxQty());
+            }
+            payload.addParam("quantity", quantity.toPlainString());
+        }
+        if (price != null && !isMarket) {
+            checkPercentPrice(symbol, filters, side, price);
+            if (quantity != null)
+                checkNotional(symbol, filters, price.multiply(quantity), true, true);
+        } else {
+            BigDecimal quoteOrderQty = decimalValue(payload, "quoteOrderQty");
+            if (quoteOrderQty != null) {
+                checkNotional(symbol, filters, quoteOrderQty, filters.isApplyMinToMarket(),
+                        filters.isApplyMaxToMarket());
+            } else if (quantity != null && (filters.isApplyMinToMarket() || filters.isApplyMaxToMarket())) {
+                checkNotional(symbol, filters, quantity.multiply(BigDecimal.valueOf(getAveragePrice(symbol))),
+                        filters.isApplyMinToMarket(), filters.isApplyMaxToMarket());
+            }
+        }
+        ToIntFunction<String> openOrdersCounter = this.openOrdersCounter;
+        if (openOrdersCounter != null && openOrdersCounter.applyAsInt(symbol) >= filters.getMaxNumOrders()) {
+            throw new OrderRejectedException(symbol, MAX_NUM_ORDERS, "the max number of open orders, "
+                    + filters.getMaxNumOrders() + ", has been reached");
+        }
+        return payload;
+    }
+
+    /**
+     * Method to normalize a price of a payload to the {@code "PRICE_FILTER"}
+     *
+     * @param filters:  filters of the symbol
+     * @param payload:  payload of the order
+     * @param key:      key of the price to normalize
+     * @param rounding: rounding mode to use
+     * @return price normalized as {@link BigDecimal}, {@code "null"} if not inserted in the payload
+     * @throws OrderRejectedException when the price is out of the range of the {@code "PRICE_FILTER"}
+     */
+    private BigDecimal normalizePrice(SymbolFilters filters, Params payload, String key,
+                                      RoundingMode rounding) throws OrderRejectedException {
+        BigDecimal price = decimalValue(payload, key);
+        if (price == null)
+            return null;
+        price = roundToStep(price, filters.getMinPrice(), filters.getTickSize(), rounding);
+        checkRange(filters.getSymbol(), PRICE_FILTER, key, price, filters.getMinPrice(), filters.getMaxPrice());
+        payload.addParam(key, price.toPlainString());
+        return price;
+    }
+
+    /**
+     * Method to check the price of an order against the {@code "PERCENT_PRICE_BY_SIDE"} or {@code "PERCENT_PRICE"}
+     * filters
+     *
+     * @param symbol:  symbol used in the order
+     * @param filters: filters of the symbol
+     * @param side:    side of the order
+     * @param price:   price of the order
+     * @throws OrderRejectedException when the price is out of the range of the filters
+     * @throws IOException            when the request to fetch the average price has been go wrong
+     */
+    private void checkPercentPrice(String symbol, SymbolFilters filters, Side side, BigDecimal price) throws IOException {
+        double multiplierUp = side == BUY ? filters.getBidMultiplierUp() : filters.getAskMultiplierUp();
+        double multiplierDown = side == BUY ? filters.getBidMultiplierDown() : filters.getAskMultiplierDown();
+        if (multiplierUp == Double.POSITIVE_INFINITY && multiplierDown == 0)
+            return;
+        BigDecimal averagePrice = BigDecimal.valueOf(getAveragePrice(symbol));
+        BigDecimal maxPrice = multiplierUp == Double.POSITIVE_INFINITY ? null
+                : averagePrice.multiply(BigDecimal.valueOf(multiplierUp));
+        BigDecimal minPrice = averagePrice.multiply(BigDecimal.valueOf(multiplierDown));
+        if (price.compareTo(minPrice) < 0 || (maxPrice != null && price.compareTo(maxPrice) > 0)) {
+            throw new OrderRejectedException(symbol, PERCENT_PRICE_BY_SIDE, "the price " + price.toPlainString()
+                    + " is out of the range allowed around the average price " + averagePrice.toPlainString());
+        }
+    }
+
+    /**
+     * Method to check the notional of an order against the {@code "NOTIONAL"} or {@code "MIN_NOTIONAL"} filters
+     *
+     * @param symbol:   symbol used in the order
+     * @param filters:  filters of the symbol
+     * @param notional: notional of the order
+     * @param checkMin: whether check the min notional
+     * @param checkMax: whether check the max notional
+     * @throws OrderRejectedException when the notional is out of the range of the filters
+     */
+    private void checkNotional(String symbol, SymbolFilters filters, BigDecimal notional, boolean checkMin,
+                               boolean checkMax) throws OrderRejectedException {
+        checkRange(symbol, NOTIONAL, "notional", notional, checkMin ? filters.getMinNotional() : 0,
+                checkMax ? filters.getMaxNotional() : Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Method to check a value of an order is in a range
+     *
+     * @param symbol:     symbol used in the order
+     * @param filterType: filter that defines the range
+     * @param key:        key of the value
+     * @param value:      value to check
+     * @param min:        min value allowed
+     * @param max:        max value allowed, {@link Double#POSITIVE_INFINITY} if not limited
+     * @throws OrderRejectedException when the value is out of the range
+     */
+    private static void checkRange(String symbol, FilterType filterType, String key, BigDecimal value, double min,
+                                   double max) throws OrderRejectedException {
+        if (value.signum() <= 0 || value.compareTo(BigDecimal.valueOf(min)) < 0
+                || (max != Double.POSITIVE_INFINITY && value.compareTo(BigDecimal.valueOf(max)) > 0)) {
+            throw new OrderRejectedException(symbol, filterType, "the " + key + " " + value.toPlainString()
+                    + " is out of the range [" + BigDecimal.valueOf(min).toPlainString() + ", "
+                    + (max == Double.POSITIVE_INFINITY ? "+inf" : BigDecimal.valueOf(max).toPlainString()) + "]");
+        }
+    }
+
+    /**
+     * Method to round a value to a multiple of a step
+     *
+     * @param value:    value to round
+     * @param min:      min value from which the steps are counted
+     * @param step:     step of the value, {@code "0"} if the value is not stepped
+     * @param rounding: rounding mode to use
+     * @return value rounded as {@link BigDecimal}
+     */
+    private static BigDecimal roundToStep(BigDecimal value, double min, double step, RoundingMode rounding) {
+        if (step <= 0)
+            return value.stripTrailingZeros();
+        BigDecimal minValue = BigDecimal.valueOf(min);
+        BigDecimal stepValue = BigDecimal.valueOf(step);
+        return value.subtract(minValue).divide(stepValue, 0, rounding).multiply(stepValue).add(minValue)
+                .stripTrailingZeros();
+    }
+
+    /**
+     * Method to get a value of a payload as decimal
+     *
+     * @param payload: payload of the order
+     * @param key:     key of the value
+     * @return value as {@link BigDecimal}, {@code "null"} if not inserted in the payload
+     */
+    private static BigDecimal decimalValue(Params payload, String key) {
+        Object value = payload.getParam(key);
+        if (value == null)
+            return null;
+        return new BigDecimal(value.toString());
+    }
+
+    /**
+     * Method to get the average price of a symbol, fetching it when the cached one is expired
+     *
+     * @param symbol: symbol of the average price
+     * @return average price as double
+     * @throws IOException when the request to fetch the average price has been go wrong
+     */
+    private double getAveragePrice(String symbol) throws IOException {
+        AveragePrice averagePrice = averagePrices.get(symbol);
+        long now = System.currentTimeMillis();
+        if (averagePrice == null || averagePrice.expiresAt <= now) {
+            averagePrice = new AveragePrice(exchangeInformationCache.getMarketManager()
+                    .getCurrentAveragePriceValue(symbol), now + AVERAGE_PRICE_TIME_TO_LIVE);
+            averagePrices.put(symbol, averagePrice);
+        }
+        return averagePrice.price;
+    }
+
+    /**
+     * Method to get {@link #exchangeInformationCache} instance <br>
+     * No-any params required
+     *
+     * @return {@link #exchangeInformationCache} instance as {@link ExchangeInformationCache}
+     */
+    public ExchangeInformationCache getExchangeInformationCache() {
+        return exchangeInformationCache;
+    }
+
+    /**
+     * Method to set {@link #openOrdersCounter} instance
+     *
+     * @param openOrdersCounter: function that counts the open orders of a symbol, {@code "null"} to not check the
+     *                           {@code "MAX_NUM_ORDERS"} filter
+     */
+    public void setOpenOrdersCounter(ToIntFunction<String> openOrdersCounter) {
+        this.openOrdersCounter = openOrdersCounter;
+    }
+
+    /**
+     * The {@code AveragePrice} class is useful to memorize an average price fetched
+     */
+    private static class AveragePrice {
+
+        /**
+         * {@code price} is instance that memorizes the average price
+         */
+        private final double price;
+
+        /**
+         * {@code expiresAt} is instance that memorizes when the average price expires
+         */
+        private final long expiresAt;
+
+        /**
+         * Constructor to init an {@link AveragePrice}
+         *
+         * @param price:     the average price
+         * @param expiresAt: when the average price expires
+         */
+        private AveragePrice(double price, long expiresAt) {
+            this.price = price;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
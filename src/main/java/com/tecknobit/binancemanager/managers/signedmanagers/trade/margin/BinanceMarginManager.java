@@ -3341,6 +3341,7 @@ public class BinanceMarginManager extends BinanceSignedManager {
     @Returner
     private <T> T returnNewMarginOrder(String symbol, Side side, OrderResponseType newOrderRespType, OrderType type,
                                        Params extraParams, ReturnFormat format) throws Exception {
+        validateOrder(symbol, side, type, extraParams);
         extraParams.addParam("symbol", symbol);
         extraParams.addParam("side", side);
         extraParams.addParam("newOrderRespType", newOrderRespType);
@@ -5176,6 +5177,34 @@ public class BinanceMarginManager extends BinanceSignedManager {
                 getTimestampParam() + "&recvWindow=" + recvWindow), format);
     }
 
+    /**
+     * Request to get cross margin account details
+     *
+     * @param omitZeroBalances: whether to drop the assets with all the amounts equal to 0
+     * @return cross margin account details response as {@link CrossMarginAccountDetails}
+     * @throws Exception when request has been go wrong -> you can use these methods to get more details about error:
+     *                   <ul>
+     *                       <li>
+     *                           {@link #getErrorResponse()}
+     *                       </li>
+     *                       <li>
+     *                           {@link #getJSONErrorResponse()}
+     *                       </li>
+     *                       <li>
+     *                           {@link #printErrorResponse()}
+     *                       </li>
+     *                   </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#query-cross-margin-account-details-user_data">
+     * Query Cross Margin Account Details (USER_DATA)</a>
+     */
+    @Wrapper
+    @RequestWeight(weight = "10(IP)")
+    @RequestPath(method = GET, path = "/sapi/v1/margin/account")
+    public CrossMarginAccountDetails getCrossMarginAccountDetails(boolean omitZeroBalances) throws Exception {
+        return new CrossMarginAccountDetails(new JSONObject(sendGetSignedRequest(CROSS_MARGIN_ACCOUNT_DETAILS_ENDPOINT,
+                getTimestampParam())), omitZeroBalances);
+    }
+
     /**
      * Method to create a cross margin account object
      *
@@ -11561,7 +11590,7 @@ public class BinanceMarginManager extends BinanceSignedManager {
         Params payload = new Params();
         payload.addParam("assetNames", assetNames);
         sendPostSignedRequest(EXCHANGE_SMALL_LIABILITY_ENDPOINT, payload);
-        return apiRequest.getResponseStatusCode() == 200;
+        return getStatusResponse() == 200;
     }
 
     /**
@@ -11706,7 +11735,7 @@ public class BinanceMarginManager extends BinanceSignedManager {
             extraParams = new Params();
         extraParams.addParam("current", current);
         extraParams.addParam("size", size);
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         String historyResponse = sendGetSignedRequest(EXCHANGE_SMALL_LIABILITY_HISTORY_ENDPOINT, extraParams);
         switch (format) {
             case JSON:
@@ -6,9 +6,11 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 
 import static com.tecknobit.apimanager.formatters.JsonHelper.getJSONArray;
 import static com.tecknobit.binancemanager.managers.signedmanagers.wallet.records.accountsnapshots.MarginAccountSnapshot.assembleUserMarginAssetsList;
+import static com.tecknobit.binancemanager.managers.signedmanagers.wallet.records.accountsnapshots.SpotAccountSnapshot.indexBalances;
 
 /**
  * The {@code CrossMarginAccountDetails} class is useful to format a {@code "Binance"}'s cross margin account details
@@ -45,6 +47,11 @@ public class CrossMarginAccountDetails extends MarginAccount {
      */
     private final ArrayList<UserMarginAsset> userMarginAssets;
 
+    /**
+     * {@code userMarginAssetsIndex} is instance that memorizes {@link #userMarginAssets} indexed by asset
+     */
+    private final HashMap<String, UserMarginAsset> userMarginAssetsIndex;
+
     /** Constructor to init {@link CrossMarginAccountDetails} object
      * @param borrowEnabled: borrow is enable
      * @param marginLevel: margin level
@@ -65,6 +72,7 @@ public class CrossMarginAccountDetails extends MarginAccount {
         this.tradeEnabled = tradeEnabled;
         this.transferEnabled = transferEnabled;
         this.userMarginAssets = userMarginAssets;
+        userMarginAssetsIndex = indexBalances(userMarginAssets);
     }
 
     /**
@@ -74,6 +82,17 @@ public class CrossMarginAccountDetails extends MarginAccount {
      * @throws IllegalArgumentException if parameters range is not respected
      */
     public CrossMarginAccountDetails(JSONObject crossMarginAccount) {
+        this(crossMarginAccount, false);
+    }
+
+    /**
+     * Constructor to init {@link CrossMarginAccountDetails} object
+     *
+     * @param crossMarginAccount: cross margin account details as {@link JSONObject}
+     * @param omitZeroBalances:   whether to drop the assets with all the amounts equal to 0
+     * @throws IllegalArgumentException if parameters range is not respected
+     */
+    public CrossMarginAccountDetails(JSONObject crossMarginAccount, boolean omitZeroBalances) {
         super(crossMarginAccount);
         borrowEnabled = crossMarginAccount.getBoolean("borrowEnabled");
         marginLevel = crossMarginAccount.getDouble("marginLevel");
@@ -81,7 +100,9 @@ public class CrossMarginAccountDetails extends MarginAccount {
             throw new IllegalArgumentException("Margin level value cannot be less than 0");
         tradeEnabled = crossMarginAccount.getBoolean("tradeEnabled");
         transferEnabled = crossMarginAccount.getBoolean("transferEnabled");
-        userMarginAssets = assembleUserMarginAssetsList(getJSONArray(crossMarginAccount, "userAssets", new JSONArray()));
+        userMarginAssets = assembleUserMarginAssetsList(getJSONArray(crossMarginAccount, "userAssets", new JSONArray()),
+                omitZeroBalances);
+        userMarginAssetsIndex = indexBalances(userMarginAssets);
     }
 
     /**
@@ -138,10 +159,14 @@ public class CrossMarginAccountDetails extends MarginAccount {
      * Method to add a {@link MarginAsset} to {@link #userMarginAssets}
      *
      * @param assetMargin: asset margin to add
+     * @implNote the asset margin is not added when its asset is already indexed, so the list and the index
+     * always contain the same items
      */
     public void insertUserAssetMargin(UserMarginAsset assetMargin) {
-        if (!userMarginAssets.contains(assetMargin))
+        if (!userMarginAssetsIndex.containsKey(assetMargin.getAsset())) {
             userMarginAssets.add(assetMargin);
+            userMarginAssetsIndex.put(assetMargin.getAsset(), assetMargin);
+        }
     }
 
     /**
@@ -151,6 +176,7 @@ public class CrossMarginAccountDetails extends MarginAccount {
      * @return result of operation as boolean
      */
     public boolean removeUserAssetMargin(UserMarginAsset assetMargin) {
+        userMarginAssetsIndex.remove(assetMargin.getAsset(), assetMargin);
         return userMarginAssets.remove(assetMargin);
     }
 
@@ -164,4 +190,15 @@ public class CrossMarginAccountDetails extends MarginAccount {
         return userMarginAssets.get(index);
     }
 
+    /**
+     * Method to get a margin asset from {@link #userMarginAssets} list
+     *
+     * @param asset: asset of the margin asset
+     * @return margin asset as {@link UserMarginAsset}, {@code "null"} if not available
+     * @apiNote the margin asset is read from an index built with the list, so the list is not scanned
+     */
+    public UserMarginAsset getUserAssetMargin(String asset) {
+        return userMarginAssetsIndex.get(asset);
+    }
+
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 
 /**
  * The {@code ComposedIMarginAccountInfo} class is useful to format a {@code "Binance"}'s isolated margin account
@@ -21,6 +22,12 @@ public class ComposedIMarginAccountInfo extends MarginAccount {
      */
     private ArrayList<IsolatedMarginAccountInfo> isolatedMarginAccountInfoList;
 
+    /**
+     * {@code isolatedMarginAccountInfoIndex} is instance that memorizes {@link #isolatedMarginAccountInfoList} indexed
+     * by symbol
+     */
+    private HashMap<String, IsolatedMarginAccountInfo> isolatedMarginAccountInfoIndex;
+
     /**
      * Constructor to init {@link ComposedIMarginAccountInfo} object
      *
@@ -34,6 +41,7 @@ public class ComposedIMarginAccountInfo extends MarginAccount {
                                       ArrayList<IsolatedMarginAccountInfo> isolatedMarginAccountInfoList) {
         super(totalAssetOfBtc, totalLiabilityOfBtc, totalNetAssetOfBtc);
         this.isolatedMarginAccountInfoList = isolatedMarginAccountInfoList;
+        indexIsolatedMarginAccountInfoList();
     }
 
     /**
@@ -43,11 +51,37 @@ public class ComposedIMarginAccountInfo extends MarginAccount {
      * @throws IllegalArgumentException if parameters range is not respected
      */
     public ComposedIMarginAccountInfo(JSONObject marginAccountInfo) {
+        this(marginAccountInfo, false);
+    }
+
+    /**
+     * Constructor to init {@link ComposedIMarginAccountInfo} object
+     *
+     * @param marginAccountInfo: total asset of Bitcoin
+     * @param omitZeroBalances:  whether to drop the isolated pairs with all the amounts of both the assets equal to 0
+     * @throws IllegalArgumentException if parameters range is not respected
+     */
+    public ComposedIMarginAccountInfo(JSONObject marginAccountInfo, boolean omitZeroBalances) {
         super(marginAccountInfo);
         isolatedMarginAccountInfoList = new ArrayList<>();
         JSONArray jAccounts = hItem.getJSONArray("assets", new JSONArray());
-        for (int j = 0; j < jAccounts.length(); j++)
-            isolatedMarginAccountInfoList.add(new IsolatedMarginAccountInfo(jAccounts.getJSONObject(j)));
+        for (int j = 0; j < jAccounts.length(); j++) {
+            IsolatedMarginAccountInfo info = new IsolatedMarginAccountInfo(jAccounts.getJSONObject(j));
+            if (!omitZeroBalances || !info.hasZeroBalance())
+                isolatedMarginAccountInfoList.add(info);
+        }
+        indexIsolatedMarginAccountInfoList();
+    }
+
+    /**
+     * Method to index {@link #isolatedMarginAccountInfoList} by symbol <br>
+     * No-any params required
+     */
+    private void indexIsolatedMarginAccountInfoList() {
+        isolatedMarginAccountInfoIndex = new HashMap<>();
+        if (isolatedMarginAccountInfoList != null)
+            for (IsolatedMarginAccountInfo info : isolatedMarginAccountInfoList)
+                isolatedMarginAccountInfoIndex.put(info.getSymbol(), info);
     }
 
     /**
@@ -67,16 +101,21 @@ public class ComposedIMarginAccountInfo extends MarginAccount {
      */
     public void setIsolatedMarginAccountInfoList(ArrayList<IsolatedMarginAccountInfo> isolatedMarginAccountInfoList) {
         this.isolatedMarginAccountInfoList = isolatedMarginAccountInfoList;
+        indexIsolatedMarginAccountInfoList();
     }
 
     /**
      * Method to add an {@link IsolatedMarginAccountInfo} to {@link #isolatedMarginAccountInfoList}
      *
      * @param info: isolated margin account info to add
+     * @implNote the info is not added when its symbol is already indexed, so the list and the index
+     * always contain the same items
      */
     public void insertIsolatedMarginAccountInfo(IsolatedMarginAccountInfo info) {
-        if (!isolatedMarginAccountInfoList.contains(info))
+        if (!isolatedMarginAccountInfoIndex.containsKey(info.getSymbol())) {
             isolatedMarginAccountInfoList.add(info);
+            isolatedMarginAccountInfoIndex.put(info.getSymbol(), info);
+        }
     }
 
     /**
@@ -86,6 +125,7 @@ public class ComposedIMarginAccountInfo extends MarginAccount {
      * @return result of operation as boolean
      */
     public boolean removeUserAssetMargin(IsolatedMarginAccountInfo info) {
+        isolatedMarginAccountInfoIndex.remove(info.getSymbol(), info);
         return isolatedMarginAccountInfoList.remove(info);
     }
 
@@ -99,4 +139,16 @@ public class ComposedIMarginAccountInfo extends MarginAccount {
         return isolatedMarginAccountInfoList.get(index);
     }
 
+    /**
+     * Method to get an isolated margin account info from {@link #isolatedMarginAccountInfoList} list
+     *
+     * @param symbol: symbol of the isolated margin account info
+     * @return isolated margin account info as {@link IsolatedMarginAccountInfo}, {@code "null"} if not available
+     * @apiNote the isolated margin account info is read from an index built with the list, so the list is not
+     * scanned
+     */
+    public IsolatedMarginAccountInfo getIsolatedMarginAccountInfo(String symbol) {
+        return isolatedMarginAccountInfoIndex.get(symbol);
+    }
+
 }
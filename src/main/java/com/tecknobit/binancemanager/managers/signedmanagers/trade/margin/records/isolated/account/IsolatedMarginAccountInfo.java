@@ -116,7 +116,10 @@ public class IsolatedMarginAccountInfo {
      * @throws IllegalArgumentException if parameters range is not respected
      */
     public IsolatedMarginAccountInfo(JSONObject isolatedMarginAccountInfo) {
-        symbol = isolatedMarginAccountInfo.getString("asset");
+        if (isolatedMarginAccountInfo.has("symbol"))
+            symbol = isolatedMarginAccountInfo.getString("symbol");
+        else
+            symbol = isolatedMarginAccountInfo.getString("asset");
         isolatedCreated = isolatedMarginAccountInfo.getBoolean("isolatedCreated");
         enabled = isolatedMarginAccountInfo.getBoolean("enabled");
         marginLevel = isolatedMarginAccountInfo.getDouble("marginLevel");
@@ -412,6 +415,30 @@ public class IsolatedMarginAccountInfo {
         return quoteAsset;
     }
 
+    /**
+     * Method to get one of the assets of the isolated pair
+     *
+     * @param asset: the asset to get, base or quote
+     * @return asset as {@link IsolatedMarginAsset}, {@code "null"} if not part of the isolated pair
+     */
+    public IsolatedMarginAsset getAsset(String asset) {
+        if (baseAsset != null && baseAsset.getAsset().equals(asset))
+            return baseAsset;
+        if (quoteAsset != null && quoteAsset.getAsset().equals(asset))
+            return quoteAsset;
+        return null;
+    }
+
+    /**
+     * Method to get whether all the amounts of both the assets of the isolated pair are equal to 0 <br>
+     * No-any params required
+     *
+     * @return whether all the amounts of both the assets are equal to 0 as boolean
+     */
+    public boolean hasZeroBalance() {
+        return (baseAsset == null || baseAsset.hasZeroBalance()) && (quoteAsset == null || quoteAsset.hasZeroBalance());
+    }
+
     /**
      * Returns a string representation of the object <br>
      * No-any params required
@@ -30,6 +30,7 @@ public class ForceLiquidationList extends BinanceRowsList<Liquidation> {
      */
     public ForceLiquidationList(int total, ArrayList<Liquidation> liquidationAssetsList) {
         super(total, liquidationAssetsList);
+        enableKeyedMode(Liquidation::getOrderId);
     }
 
     /**
@@ -41,6 +42,7 @@ public class ForceLiquidationList extends BinanceRowsList<Liquidation> {
         super(jsonLiquidation);
         for (Object row : hItem.fetchList("rows"))
             rows.add(new Liquidation((JSONObject) row));
+        enableKeyedMode(Liquidation::getOrderId);
     }
 
     /**
@@ -26,6 +26,7 @@ public class IsolatedTransferHistoryList extends BinanceRowsList<IsolatedTransfe
      */
     public IsolatedTransferHistoryList(int total, ArrayList<IsolatedTransfer> isolatedTransfersList) {
         super(total, isolatedTransfersList);
+        enableKeyedMode(IsolatedTransfer::getTxId);
     }
 
     /**
@@ -37,6 +38,7 @@ public class IsolatedTransferHistoryList extends BinanceRowsList<IsolatedTransfe
         super(jsonTransfer);
         for (Object row : hItem.fetchList("rows"))
             rows.add(new IsolatedTransfer((JSONObject) row));
+        enableKeyedMode(IsolatedTransfer::getTxId);
     }
 
     /**
@@ -26,6 +26,7 @@ public class LoansList extends BinanceRowsList<LoansList.Loan> {
      */
     public LoansList(int total, ArrayList<Loan> loanAssetsList) {
         super(total, loanAssetsList);
+        enableKeyedMode(Loan::getTxId);
     }
 
     /**
@@ -37,6 +38,7 @@ public class LoansList extends BinanceRowsList<LoansList.Loan> {
         super(jLoansList);
         for (Object row : hItem.fetchList("rows"))
             rows.add(new Loan((JSONObject) row));
+        enableKeyedMode(Loan::getTxId);
     }
 
     /**
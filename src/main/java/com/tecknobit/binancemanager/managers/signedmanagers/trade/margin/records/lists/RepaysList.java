@@ -27,6 +27,7 @@ public class RepaysList extends BinanceRowsList<RepaysList.Repay> {
      */
     public RepaysList(int total, ArrayList<Repay> marginRepayAssetsList) {
         super(total, marginRepayAssetsList);
+        enableKeyedMode(Repay::getTxId);
     }
 
     /**
@@ -38,6 +39,7 @@ public class RepaysList extends BinanceRowsList<RepaysList.Repay> {
         super(jRepaysList);
         for (Object row : hItem.fetchList("rows"))
             rows.add(new Repay((JSONObject) row));
+        enableKeyedMode(Repay::getTxId);
     }
 
     /**
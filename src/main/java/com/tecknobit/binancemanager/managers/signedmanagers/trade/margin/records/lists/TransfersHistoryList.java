@@ -27,6 +27,7 @@ public class TransfersHistoryList extends BinanceRowsList<Transfer> {
      */
     public TransfersHistoryList(int total, ArrayList<Transfer> marginTransferAssetsList) {
         super(total, marginTransferAssetsList);
+        enableKeyedMode(Transfer::getTxId);
     }
 
     /**
@@ -38,6 +39,7 @@ public class TransfersHistoryList extends BinanceRowsList<Transfer> {
         super(jTransfersHistoryList);
         for (Object row : hItem.fetchList("rows"))
             rows.add(new Transfer((JSONObject) row));
+        enableKeyedMode(Transfer::getTxId);
     }
 
     /**
@@ -3,12 +3,17 @@ package com.tecknobit.binancemanager.managers.signedmanagers.trade.spot;
 import com.tecknobit.apimanager.annotations.*;
 import com.tecknobit.apimanager.interfaces.Manager;
 import com.tecknobit.binancemanager.exceptions.SystemException;
+import com.tecknobit.binancemanager.managers.BinanceHttpTransport.Response;
 import com.tecknobit.binancemanager.managers.BinanceManager;
+import com.tecknobit.binancemanager.managers.BinanceRateLimiter;
+import com.tecknobit.binancemanager.managers.BinanceWebsocketApiTransport;
 import com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.SelfTradePreventionMode;
 import com.tecknobit.binancemanager.managers.signedmanagers.BinanceSignedManager;
 import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order;
 import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.OrderCountUsage;
 import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.OrderDetails;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.OrderResult;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.OrderSpec;
 import com.tecknobit.binancemanager.managers.signedmanagers.trade.spot.records.account.SpotAccountInformation;
 import com.tecknobit.binancemanager.managers.signedmanagers.trade.spot.records.account.SpotAccountTradesList;
 import com.tecknobit.binancemanager.managers.signedmanagers.trade.spot.records.orders.details.ComposedSpotOrderDetails;
@@ -21,13 +26,26 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.IOException;
+import java.net.URLDecoder;
 import java.util.ArrayList;
-
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.tecknobit.apimanager.apis.APIRequest.HMAC_SHA256_ALGORITHM;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
+import static com.tecknobit.apimanager.apis.APIRequest.getSignature;
 import static com.tecknobit.binancemanager.managers.BinanceManager.ReturnFormat.LIBRARY_OBJECT;
 import static com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.OrderType.*;
 import static com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.OrderCountUsage.returnCountUsageList;
 import static com.tecknobit.binancemanager.managers.signedmanagers.trade.spot.records.orders.response.SpotOrder.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * The {@code BinanceSpotManager} class is useful to manage all {@code "Binance"}'s Spot Endpoints
@@ -106,6 +124,42 @@ public class BinanceSpotManager extends BinanceSignedManager {
      */
     public static final String MY_PREVENTED_MATCHES = "/api/v3/myPreventedMatches";
 
+    /**
+     * {@code DEFAULT_BATCH_PARALLELISM} is the default max number of orders of a batch sent at the same time
+     */
+    public static final int DEFAULT_BATCH_PARALLELISM = 10;
+
+    /**
+     * {@code WEBSOCKET_API_METHODS} is the list of the WebSocket API methods that replace the REST endpoints when the
+     * WebSocket API is enabled, mapped by request method and endpoint es. {@code "POST /api/v3/order"}
+     */
+    private static final HashMap<String, String> WEBSOCKET_API_METHODS = new HashMap<>();
+
+    /**
+     * {@code WEBSOCKET_API_INTEGER_PARAMS} is the list of the params sent as integer values to the WebSocket API,
+     * the others are sent as strings
+     */
+    private static final Set<String> WEBSOCKET_API_INTEGER_PARAMS = Set.of("orderId", "cancelOrderId", "orderListId",
+            "trailingDelta", "strategyId", "strategyType", "recvWindow", "startTime", "endTime", "fromId", "limit");
+
+    static {
+        WEBSOCKET_API_METHODS.put(POST + " " + SPOT_ORDER_ENDPOINT, "order.place");
+        WEBSOCKET_API_METHODS.put(POST + " " + SPOT_TEST_NEW_ORDER_ENDPOINT, "order.test");
+        WEBSOCKET_API_METHODS.put(GET + " " + SPOT_ORDER_ENDPOINT, "order.status");
+        WEBSOCKET_API_METHODS.put(DELETE + " " + SPOT_ORDER_ENDPOINT, "order.cancel");
+        WEBSOCKET_API_METHODS.put(POST + " " + CANCEL_AND_SEND_ORDER_ENDPOINT, "order.cancelReplace");
+        WEBSOCKET_API_METHODS.put(GET + " " + SPOT_OPEN_ORDERS_ENDPOINT, "openOrders.status");
+        WEBSOCKET_API_METHODS.put(DELETE + " " + SPOT_OPEN_ORDERS_ENDPOINT, "openOrders.cancelAll");
+        WEBSOCKET_API_METHODS.put(GET + " " + SPOT_ACCOUNT_INFORMATION_ENDPOINT, "account.status");
+        WEBSOCKET_API_METHODS.put(GET + " " + SPOT_ACCOUNT_CURRENT_ORDER_COUNT_USAGE, "account.rateLimits.orders");
+    }
+
+    /**
+     * {@code websocketApiTransport} is instance used to send the trading requests with the WebSocket API,
+     * {@code "null"} to send them with the REST API
+     */
+    private volatile BinanceWebsocketApiTransport websocketApiTransport;
+
     /**
      * Constructor to init a {@link BinanceSpotManager}
      *
@@ -309,8 +363,9 @@ public class BinanceSpotManager extends BinanceSignedManager {
     public boolean testNewOrder(String symbol, Side side, OrderType type, Params extraParams) throws Exception {
         if (extraParams == null)
             extraParams = new Params();
+        validateOrder(symbol, side, type, extraParams);
         extraParams.addParam("symbol", symbol);
-        extraParams.addParam("timestamp", getServerTime());
+        extraParams.addParam("timestamp", getTimestamp());
         extraParams.addParam("side", side);
         extraParams.addParam("type", type);
         return sendPostSignedRequest(SPOT_TEST_NEW_ORDER_ENDPOINT, extraParams).equals("{}");
@@ -2949,14 +3004,153 @@ public class BinanceSpotManager extends BinanceSignedManager {
      */
     private <T> T returnNewOrder(String symbol, Side side, OrderType type, OrderResponseType newOrderRespType,
                                  Params extraParams, ReturnFormat format) throws Exception {
-        Params payload = new Params();
+        return returnSpotOrder(sendNewOrderRequest(symbol, side, type, newOrderRespType, extraParams), type,
+                newOrderRespType, format);
+    }
+
+    /**
+     * Request to send a batch of spot orders
+     *
+     * @param orders: orders to send
+     * @return outcomes of the orders, in the same order of the orders sent, as {@link ArrayList} of {@link OrderResult}
+     * of {@link SpotOrder} custom object
+     * @apiNote the orders are sent with the {@link #DEFAULT_BATCH_PARALLELISM}, see
+     * {@link #sendOrders(List, int, ReturnFormat)} for the details
+     */
+    @Wrapper
+    @RequestWeight(weight = "1(IP/UID)")
+    @RequestPath(method = POST, path = "/api/v3/order")
+    public ArrayList<OrderResult<SpotOrder>> sendOrders(List<OrderSpec> orders) {
+        return sendOrders(orders, DEFAULT_BATCH_PARALLELISM, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to send a batch of spot orders
+     *
+     * @param orders: orders to send
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return outcomes of the orders, in the same order of the orders sent, as {@link ArrayList} of
+     * {@link OrderResult} with the result formatted as {@code "format"} defines
+     * @apiNote the orders are sent with the {@link #DEFAULT_BATCH_PARALLELISM}, see
+     * {@link #sendOrders(List, int, ReturnFormat)} for the details
+     */
+    @Wrapper
+    @RequestWeight(weight = "1(IP/UID)")
+    @RequestPath(method = POST, path = "/api/v3/order")
+    public <T> ArrayList<OrderResult<T>> sendOrders(List<OrderSpec> orders, ReturnFormat format) {
+        return sendOrders(orders, DEFAULT_BATCH_PARALLELISM, format);
+    }
+
+    /**
+     * Request to send a batch of spot orders
+     *
+     * @param orders:      orders to send
+     * @param parallelism: max number of orders sent at the same time
+     * @param format:      return type formatter -> {@link ReturnFormat}
+     * @return outcomes of the orders, in the same order of the orders sent, as {@link ArrayList} of
+     * {@link OrderResult} with the result formatted as {@code "format"} defines
+     * @throws IllegalArgumentException when the parallelism is not positive
+     * @throws IllegalStateException    when the concurrent transport is not enabled
+     * @apiNote the orders are sent at the same time on the connections kept alive by the concurrent transport,
+     * which must be enabled before, so the whole batch takes about the time of a single order. Each order is signed when
+     * it is sent, with the timestamp of the local server clock, and:
+     * <ul>
+     * <li>
+     * is normalized and validated by the order validator, if enabled
+     * </li>
+     * <li>
+     * is counted in the {@code "ORDERS"} limits by the rate limiter, if enabled, which delays or rejects the orders
+     * that would exceed them as its policy defines
+     * </li>
+     * </ul>
+     * an order failed does not stop the others, its error is returned in its {@link OrderResult}
+     * @implNote the orders are dispatched in the order of the list by {@code "parallelism"} workers executed with the
+     * {@link #async(Callable)} method
+     */
+    @RequestWeight(weight = "1(IP/UID)")
+    @RequestPath(method = POST, path = "/api/v3/order")
+    public <T> ArrayList<OrderResult<T>> sendOrders(List<OrderSpec> orders, int parallelism, ReturnFormat format) {
+        if (parallelism <= 0)
+            throw new IllegalArgumentException("Parallelism must be positive");
+        int size = orders.size();
+        AtomicReferenceArray<OrderResult<T>> results = new AtomicReferenceArray<>(size);
+        AtomicInteger nextOrder = new AtomicInteger();
+        CompletableFuture<?>[] workers = new CompletableFuture[Math.min(parallelism, size)];
+        for (int j = 0; j < workers.length; j++) {
+            workers[j] = async(() -> {
+                int index;
+                while ((index = nextOrder.getAndIncrement()) < size) {
+                    OrderSpec order = orders.get(index);
+                    try {
+                        results.set(index, new OrderResult<>(order, sendBatchedOrder(order, format), null));
+                    } catch (Exception e) {
+                        results.set(index, new OrderResult<>(order, null, e));
+                    }
+                }
+                return null;
+            });
+        }
+        CompletableFuture.allOf(workers).join();
+        ArrayList<OrderResult<T>> outcomes = new ArrayList<>(size);
+        for (int j = 0; j < size; j++)
+            outcomes.add(results.get(j));
+        return outcomes;
+    }
+
+    /**
+     * Request to send an order of a batch
+     *
+     * @param order:  order to send
+     * @param format: return type formatter -> {@link ReturnFormat}
+     * @return result of the order as {@code "format"} defines
+     * @throws IOException when the order has been rejected
+     * @implNote this method is annotated to be counted as an order by the rate limiter
+     */
+    @RequestWeight(weight = "1(IP/UID)")
+    @RequestPath(method = POST, path = "/api/v3/order")
+    private <T> T sendBatchedOrder(OrderSpec order, ReturnFormat format) throws Exception {
+        String orderResponse = sendNewOrderRequest(order.getSymbol(), order.getSide(), order.getType(),
+                order.getNewOrderRespType(), order.getPayload());
+        if (websocketApiTransport == null) {
+            Response response = getTransportResponse();
+            if (response != null && !response.isSuccessful())
+                throw new IOException(response.getErrorResponse());
+        }
+        return returnSpotOrder(orderResponse, order.getType(), order.getNewOrderRespType(), format);
+    }
+
+    /**
+     * Request to send a new spot order
+     *
+     * @param symbol:           symbol used to the order es. BTCBUSD
+     * @param side:             BUY or SELL order
+     * @param type:             LIMIT, MARKET,STOP_LOSS, STOP_LOSS_LIMIT, TAKE_PROFIT, TAKE_PROFIT_LIMIT, LIMIT_MAKER
+     * @param newOrderRespType: format response of the order request (ACK, RESULT,FULL)
+     * @param extraParams:      additional params of the request
+     * @return response of the order as {@link String}
+     */
+    private String sendNewOrderRequest(String symbol, Side side, OrderType type, OrderResponseType newOrderRespType,
+                                       Params extraParams) throws Exception {
+        validateOrder(symbol, side, type, extraParams);
         extraParams.addParam("symbol", symbol);
         extraParams.addParam("side", side);
         extraParams.addParam("type", type);
         extraParams.addParam("newOrderRespType", newOrderRespType);
-        String params = getTimestampParam() + "&symbol=" + symbol + "&side=" + side + "&type=" + type
-                + "&newOrderRespType=" + newOrderRespType;
-        String orderResponse = sendPostSignedRequest(SPOT_ORDER_ENDPOINT, extraParams);
+        return sendPostSignedRequest(SPOT_ORDER_ENDPOINT, extraParams);
+    }
+
+    /**
+     * Method to create a spot order
+     *
+     * @param orderResponse:    obtained from Binance's response
+     * @param type:             type of the order
+     * @param newOrderRespType: format response of the order request (ACK, RESULT,FULL)
+     * @param format:           return type formatter -> {@link ReturnFormat}
+     * @return result of the order as {@code "format"} defines
+     */
+    @Returner
+    private <T> T returnSpotOrder(String orderResponse, OrderType type, OrderResponseType newOrderRespType,
+                                  ReturnFormat format) {
         switch (format) {
             case JSON:
                 return (T) new JSONObject(orderResponse);
@@ -5541,6 +5735,7 @@ public class BinanceSpotManager extends BinanceSignedManager {
     @Returner
     private <T> T cancelAndSendOrder(String symbol, Side side, OrderType type, ReplaceMode cancelReplaceMode,
                                      Params extraParams, ReturnFormat format) throws Exception {
+        validateOrder(symbol, side, type, extraParams);
         extraParams.addParam("symbol", symbol);
         extraParams.addParam("side", side);
         extraParams.addParam("type", type);
@@ -7309,6 +7504,35 @@ public class BinanceSpotManager extends BinanceSignedManager {
         return returnAccountInformation(sendGetSignedRequest(SPOT_ACCOUNT_INFORMATION_ENDPOINT, getTimestampParam()), format);
     }
 
+    /**
+     * Request to get spot account information
+     *
+     * @param omitZeroBalances: whether to drop the balances with all the amounts equal to 0
+     * @return spot account information response as {@link SpotAccountInformation} custom object
+     * @throws Exception when request has been go wrong -> you can use these methods to get more details about error:
+     *                   <ul>
+     *                       <li>
+     *                           {@link #getErrorResponse()}
+     *                       </li>
+     *                       <li>
+     *                           {@link #getJSONErrorResponse()}
+     *                       </li>
+     *                       <li>
+     *                           {@link #printErrorResponse()}
+     *                       </li>
+     *                   </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#account-information-user_data">
+     * Account Information (USER_DATA)</a>
+     * @implNote the zero balances are omitted also by the response, so it is lighter to transfer and to parse
+     */
+    @Wrapper
+    @RequestWeight(weight = "10(IP)")
+    @RequestPath(method = GET, path = "/api/v3/account")
+    public SpotAccountInformation getSpotAccountInformation(boolean omitZeroBalances) throws Exception {
+        return new SpotAccountInformation(new JSONObject(sendGetSignedRequest(SPOT_ACCOUNT_INFORMATION_ENDPOINT,
+                getTimestampParam() + "&omitZeroBalances=" + omitZeroBalances)), omitZeroBalances);
+    }
+
     /** Request to get spot account information
      * @param #recvWindow: time to keep alive request, then rejected. Max value is 60000
      * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#account-information-user_data">
@@ -7760,4 +7984,165 @@ public class BinanceSpotManager extends BinanceSignedManager {
         }
     }
 
+    /**
+     * Method to enable the WebSocket API, so the trading requests are sent over a single persistent connection
+     * instead of the REST API <br>
+     * No-any params required
+     *
+     * @apiNote see {@link #enableWebsocketApi(BinanceWebsocketApiTransport)} for the details
+     */
+    @Wrapper
+    public void enableWebsocketApi() {
+        enableWebsocketApi(new BinanceWebsocketApiTransport());
+    }
+
+    /**
+     * Method to enable the WebSocket API, so the trading requests are sent over a single persistent connection
+     * instead of the REST API
+     *
+     * @param websocketApiTransport: the transport to use, can be shared between more managers of the same account
+     * @apiNote the requests to place, test, query and cancel the orders, to cancel and replace them, to cancel all
+     * the open orders and to get the account information and its order count usage are sent with the equivalent
+     * WebSocket API methods, es. {@code "order.place"} or {@code "account.status"}, so all their methods work
+     * as usual and return the same results. The unsuccessful requests throw an {@link IOException} with the error
+     * response, that is also returned by {@link #getErrorResponse()} and {@link #getJSONErrorResponse()} as for the
+     * REST API, and the rate limiter, if enabled, counts the requests as when they are sent with the REST API
+     */
+    public void enableWebsocketApi(BinanceWebsocketApiTransport websocketApiTransport) {
+        this.websocketApiTransport = websocketApiTransport;
+    }
+
+    /**
+     * Method to disable the WebSocket API and come back to send the trading requests with the REST API <br>
+     * No-any params required
+     *
+     * @implNote the connection of the transport is not closed because it can be shared
+     */
+    public void disableWebsocketApi() {
+        websocketApiTransport = null;
+    }
+
+    /**
+     * Method to get whether the WebSocket API is enabled <br>
+     * No-any params required
+     *
+     * @return whether the WebSocket API is enabled as boolean
+     */
+    public boolean isWebsocketApiEnabled() {
+        return websocketApiTransport != null;
+    }
+
+    /**
+     * Method to get {@link #websocketApiTransport} instance <br>
+     * No-any params required
+     *
+     * @return {@link #websocketApiTransport} instance as {@link BinanceWebsocketApiTransport}
+     */
+    public BinanceWebsocketApiTransport getWebsocketApiTransport() {
+        return websocketApiTransport;
+    }
+
+    /**
+     * Method to execute a get request and get response of that
+     *
+     * @param endpoint : endpoint to request
+     * @param params   :   params HTTP for the request
+     * @return response of the request
+     * @implNote the request is sent with the WebSocket API when it is enabled and the endpoint has an equivalent
+     * method
+     */
+    @Override
+    protected String sendGetSignedRequest(String endpoint, String params) throws Exception {
+        BinanceWebsocketApiTransport transport = websocketApiTransport;
+        String method = WEBSOCKET_API_METHODS.get(GET + " " + endpoint);
+        if (transport != null && method != null)
+            return sendWebsocketApiRequest(transport, method, params);
+        return super.sendGetSignedRequest(endpoint, params);
+    }
+
+    /**
+     * Method to execute a delete request and get response of that
+     *
+     * @param endpoint: endpoint to request
+     * @param params:   params HTTP for the request
+     * @return response of the request
+     * @implNote the request is sent with the WebSocket API when it is enabled and the endpoint has an equivalent
+     * method
+     */
+    @Override
+    protected String sendDeleteSignedRequest(String endpoint, String params) throws Exception {
+        BinanceWebsocketApiTransport transport = websocketApiTransport;
+        String method = WEBSOCKET_API_METHODS.get(DELETE + " " + endpoint);
+        if (transport != null && method != null)
+            return sendWebsocketApiRequest(transport, method, params);
+        return super.sendDeleteSignedRequest(endpoint, params);
+    }
+
+    /**
+     * Method to execute a signed post request
+     *
+     * @param endpoint: endpoint to request
+     * @param params:   params HTTP for the request
+     * @return response of the request
+     * @implNote the request is sent with the WebSocket API when it is enabled and the endpoint has an equivalent
+     * method
+     */
+    @Override
+    protected String sendPostSignedRequest(String endpoint, Params params) throws Exception {
+        BinanceWebsocketApiTransport transport = websocketApiTransport;
+        String method = WEBSOCKET_API_METHODS.get(POST + " " + endpoint);
+        if (transport != null && method != null)
+            return sendWebsocketApiRequest(transport, method, params != null ? params.createQueryString() : null);
+        return super.sendPostSignedRequest(endpoint, params);
+    }
+
+    /**
+     * Method to send a signed request with the WebSocket API
+     *
+     * @param transport: the transport to use
+     * @param method:    method of the request es. {@code "order.place"}
+     * @param query:     params of the request formatted as query string
+     * @return the {@code "result"} of the response as {@link String}
+     * @throws IOException when the request has been go wrong or has not been successful
+     * @implNote the params are signed as the WebSocket API requires: sorted by name, with the {@code "apiKey"} and
+     * a new {@code "timestamp"}, so the {@code "timestamp"} and {@code "signature"} params of the query are discarded
+     */
+    private String sendWebsocketApiRequest(BinanceWebsocketApiTransport transport, String method,
+                                           String query) throws Exception {
+        TreeMap<String, Object> params = new TreeMap<>();
+        if (query != null) {
+            if (query.startsWith("?"))
+                query = query.substring(1);
+            for (String param : query.split("&")) {
+                int separator = param.indexOf('=');
+                if (separator <= 0)
+                    continue;
+                String key = URLDecoder.decode(param.substring(0, separator), UTF_8);
+                String value = URLDecoder.decode(param.substring(separator + 1), UTF_8);
+                if (!value.equals("null") && !key.equals("timestamp") && !key.equals("signature"))
+                    params.put(key, WEBSOCKET_API_INTEGER_PARAMS.contains(key) ? (Object) Long.parseLong(value) : value);
+            }
+        }
+        params.put("apiKey", apiKey);
+        params.put("timestamp", getTimestamp());
+        StringBuilder payload = new StringBuilder();
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            if (payload.length() > 0)
+                payload.append('&');
+            payload.append(param.getKey()).append('=').append(param.getValue());
+        }
+        JSONObject jParams = new JSONObject(params);
+        jParams.put("signature", getSignature(secretKey, payload.toString(), HMAC_SHA256_ALGORITHM));
+        BinanceRateLimiter limiter = rateLimiter;
+        if (limiter != null)
+            limiter.acquire();
+        Response response = transport.send(method, jParams);
+        websocketApiResponse.set(response);
+        if (limiter != null)
+            limiter.update(response.getStatusCode(), response);
+        if (!response.isSuccessful())
+            throw new IOException(response.getErrorResponse());
+        return response.getBody();
+    }
+
 }
@@ -9,10 +9,12 @@ import org.json.JSONObject;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 
 import static com.tecknobit.apimanager.trading.TradingTools.roundValue;
 import static com.tecknobit.binancemanager.managers.signedmanagers.wallet.records.accountsnapshots.SpotAccountSnapshot.SpotBalance;
 import static com.tecknobit.binancemanager.managers.signedmanagers.wallet.records.accountsnapshots.SpotAccountSnapshot.getBalancesSpot;
+import static com.tecknobit.binancemanager.managers.signedmanagers.wallet.records.accountsnapshots.SpotAccountSnapshot.indexBalances;
 
 /**
  * The {@code SpotAccountInformation} class is useful to format a {@code "Binance"}'s spot account information
@@ -84,6 +86,11 @@ public class SpotAccountInformation extends BinanceItem {
      */
     private ArrayList<SpotBalance> spotsListBalance;
 
+    /**
+     * {@code balancesIndex} is instance that memorizes {@link #spotsListBalance} indexed by asset
+     */
+    private HashMap<String, SpotBalance> balancesIndex;
+
     /**
      * {@code permissionsList} is instance that memorizes permissions list
      */
@@ -159,6 +166,7 @@ public class SpotAccountInformation extends BinanceItem {
             this.updateTime = updateTime;
         this.accountType = accountType;
         this.spotsListBalance = spotsListBalance;
+        balancesIndex = indexBalances(spotsListBalance);
         this.permissionsList = permissionsList;
     }
 
@@ -169,6 +177,17 @@ public class SpotAccountInformation extends BinanceItem {
      * @throws IllegalArgumentException if parameters range is not respected
      */
     public SpotAccountInformation(JSONObject spotAccountInformation) {
+        this(spotAccountInformation, false);
+    }
+
+    /**
+     * Constructor to init {@link SpotAccountInformation} object
+     *
+     * @param spotAccountInformation: spot account details as {@link JSONObject}
+     * @param omitZeroBalances:       whether to drop the balances with all the amounts equal to 0
+     * @throws IllegalArgumentException if parameters range is not respected
+     */
+    public SpotAccountInformation(JSONObject spotAccountInformation, boolean omitZeroBalances) {
         super(spotAccountInformation);
         makerCommission = hItem.getDouble("makerCommission", 0);
         if (makerCommission < 0)
@@ -191,7 +210,8 @@ public class SpotAccountInformation extends BinanceItem {
         if (updateTime < 0)
             throw new IllegalArgumentException("Update time value cannot be less than 0");
         accountType = hItem.getString("accountType");
-        spotsListBalance = getBalancesSpot(hItem.getJSONArray("balances", new JSONArray()));
+        spotsListBalance = getBalancesSpot(hItem.getJSONArray("balances", new JSONArray()), omitZeroBalances);
+        balancesIndex = indexBalances(spotsListBalance);
         permissionsList = new ArrayList<>();
         JSONArray jPermissions = hItem.getJSONArray("permissionsList", new JSONArray());
         for (int j = 0; j < jPermissions.length(); j++)
@@ -487,16 +507,21 @@ public class SpotAccountInformation extends BinanceItem {
      */
     public void setBalancesSpotsList(ArrayList<SpotBalance> spotsListBalance) {
         this.spotsListBalance = spotsListBalance;
+        balancesIndex = indexBalances(spotsListBalance);
     }
 
     /**
      * Method to add a balance spot to {@link #spotsListBalance}
      *
      * @param spotBalance: balance spot to add
+     * @implNote the balance is not added when its asset is already indexed, so the list and the index
+     * always contain the same items
      */
     public void insertBalanceSpot(SpotBalance spotBalance) {
-        if (!spotsListBalance.contains(spotBalance))
+        if (!balancesIndex.containsKey(spotBalance.getAsset())) {
             spotsListBalance.add(spotBalance);
+            balancesIndex.put(spotBalance.getAsset(), spotBalance);
+        }
     }
 
     /**
@@ -506,6 +531,7 @@ public class SpotAccountInformation extends BinanceItem {
      * @return result of operation as boolean
      */
     public boolean removeBalanceSpot(SpotBalance balanceSpot) {
+        balancesIndex.remove(balanceSpot.getAsset(), balanceSpot);
         return spotsListBalance.remove(balanceSpot);
     }
 
@@ -519,6 +545,17 @@ public class SpotAccountInformation extends BinanceItem {
         return spotsListBalance.get(index);
     }
 
+    /**
+     * Method to get the balance of an asset from {@link #spotsListBalance} list
+     *
+     * @param asset: asset of the balance
+     * @return balance of the asset as {@link SpotBalance}, {@code "null"} if not available
+     * @apiNote the balance is read from an index built with the list, so the list is not scanned
+     */
+    public SpotBalance getBalance(String asset) {
+        return balancesIndex.get(asset);
+    }
+
     /**
      * Method to get {@link #permissionsList} instance <br>
      * No-any params required
@@ -536,7 +536,7 @@ public class BinanceVipLoansManager extends BinanceSignedManager {
         Params payload = new Params();
         payload.addParam("orderId", orderId);
         payload.addParam("amount", amount);
-        payload.addParam("timestamp", getServerTime());
+        payload.addParam("timestamp", getTimestamp());
         if (recvWindow != -1)
             payload.addParam("recvWindow", recvWindow);
         String repayResponse = sendPostRequest(VIP_REPAY_ENDPOINT, payload, apiKey);
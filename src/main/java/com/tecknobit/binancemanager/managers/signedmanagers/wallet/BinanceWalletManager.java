@@ -503,6 +503,37 @@ public class BinanceWalletManager extends BinanceSignedManager {
         return returnAccountSnapshot(type, sendGetSignedRequest(DAILY_ACCOUNT_SNAPSHOT_ENDPOINT, params), format);
     }
 
+    /**
+     * Request to get your daily account snapshot
+     *
+     * @param type:             SPOT, MARGIN OR FUTURES
+     * @param omitZeroBalances: whether to drop the balances with all the amounts equal to 0
+     * @return account snapshot as {@link AccountSnapshot} cast custom object
+     * @throws Exception when request has been go wrong -> you can use these methods to get more details about error:
+     *                   <ul>
+     *                       <li>
+     *                           {@link #getErrorResponse()}
+     *                       </li>
+     *                       <li>
+     *                           {@link #getJSONErrorResponse()}
+     *                       </li>
+     *                       <li>
+     *                           {@link #printErrorResponse()}
+     *                       </li>
+     *                   </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://binance-docs.github.io/apidocs/spot/en/#daily-account-snapshot-user_data">
+     * Daily Account Snapshot (USER_DATA)</a>
+     */
+    @Wrapper
+    @WrappedRequest
+    @RequestWeight(weight = "2400(IP)")
+    @RequestPath(method = GET, path = "/sapi/v1/accountSnapshot")
+    public <T> T getAccountSnapshot(AccountType type, boolean omitZeroBalances) throws Exception {
+        String params = getTimestampParam() + "&type=" + type.toString().toUpperCase();
+        return returnAccountSnapshot(type, sendGetSignedRequest(DAILY_ACCOUNT_SNAPSHOT_ENDPOINT, params), LIBRARY_OBJECT,
+                omitZeroBalances);
+    }
+
     /** Request to get your daily account snapshot
      * @param type: SPOT, MARGIN OR FUTURES
      * @param extraParams: additional params of the request, keys accepted are:
@@ -3733,7 +3764,7 @@ public class BinanceWalletManager extends BinanceSignedManager {
         payload.addParam("coin", coin);
         payload.addParam("enable", enable);
         sendPostSignedRequest(CONVERTIBLE_COINS_ENDPOINT, payload);
-        return apiRequest.getResponseStatusCode() == 200;
+        return getStatusResponse() == 200;
     }
 
     /**
@@ -162,6 +162,22 @@ public class AccountSnapshot {
      */
     @Returner
     public static <T> T returnAccountSnapshot(AccountType type, String accountResponse, ReturnFormat format) {
+        return returnAccountSnapshot(type, accountResponse, format, false);
+    }
+
+    /**
+     * Method to create an account object
+     *
+     * @param type:             SPOT, MARGIN OR FUTURES
+     * @param accountResponse:  obtained from Binance's response
+     * @param format:           return type formatter -> {@link ReturnFormat}
+     * @param omitZeroBalances: whether to drop the balances with all the amounts equal to 0, used only with the
+     *                          {@link ReturnFormat#LIBRARY_OBJECT} format
+     * @return account as {@code "format"} defines
+     */
+    @Returner
+    public static <T> T returnAccountSnapshot(AccountType type, String accountResponse, ReturnFormat format,
+                                              boolean omitZeroBalances) {
         JSONObject jResponse = new JSONObject(accountResponse);
         switch (format) {
             case JSON:
@@ -169,11 +185,11 @@ public class AccountSnapshot {
             case LIBRARY_OBJECT:
                 switch (type) {
                     case spot:
-                        return (T) new SpotAccountSnapshot(jResponse);
+                        return (T) new SpotAccountSnapshot(jResponse, omitZeroBalances);
                     case margin:
-                        return (T) new MarginAccountSnapshot(jResponse);
+                        return (T) new MarginAccountSnapshot(jResponse, omitZeroBalances);
                     default:
-                        return (T) new FuturesAccountSnapshot(jResponse);
+                        return (T) new FuturesAccountSnapshot(jResponse, omitZeroBalances);
                 }
             default:
                 return (T) accountResponse;
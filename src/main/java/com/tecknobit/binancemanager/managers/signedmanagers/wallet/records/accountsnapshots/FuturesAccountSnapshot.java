@@ -9,6 +9,7 @@ import org.json.JSONObject;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 
 import static com.tecknobit.apimanager.trading.TradingTools.roundValue;
 import static com.tecknobit.binancemanager.managers.signedmanagers.wallet.records.accountsnapshots.AccountSnapshot.AccountType.futures;
@@ -71,10 +72,20 @@ public class FuturesAccountSnapshot extends AccountSnapshot {
      * @param futuresAccount: futures account snapshot details as {@link JSONObject}
      */
     public FuturesAccountSnapshot(JSONObject futuresAccount) {
+        this(futuresAccount, false);
+    }
+
+    /**
+     * Constructor to init {@link FuturesAccountSnapshot} object
+     *
+     * @param futuresAccount:   futures account snapshot details as {@link JSONObject}
+     * @param omitZeroBalances: whether to drop the assets with all the balances equal to 0
+     */
+    public FuturesAccountSnapshot(JSONObject futuresAccount, boolean omitZeroBalances) {
         super(futuresAccount);
         futuresData = new ArrayList<>();
         for (int j = 0; j < snapshotVos.length(); j++)
-            futuresData.add(new FuturesData(snapshotVos.getJSONObject(j)));
+            futuresData.add(new FuturesData(snapshotVos.getJSONObject(j), omitZeroBalances));
     }
 
     /**
@@ -143,6 +154,11 @@ public class FuturesAccountSnapshot extends AccountSnapshot {
          */
         private ArrayList<FuturesAsset> futuresAssets;
 
+        /**
+         * {@code futuresAssetsIndex} is instance that memorizes {@link #futuresAssets} indexed by asset
+         */
+        private HashMap<String, FuturesAsset> futuresAssetsIndex;
+
         /**
          * {@code futuresPositions} is instance that memorizes list of {@link FuturesPosition}
          */
@@ -159,6 +175,7 @@ public class FuturesAccountSnapshot extends AccountSnapshot {
             this.updateTime = updateTime;
             this.futuresAssets = futureAssets;
             this.futuresPositions = futurePositions;
+            indexFuturesAssets();
         }
 
         /**
@@ -167,18 +184,43 @@ public class FuturesAccountSnapshot extends AccountSnapshot {
          * @param dataFutures: futures data details as {@link JSONObject}
          */
         public FuturesData(JSONObject dataFutures) {
+            this(dataFutures, false);
+        }
+
+        /**
+         * Constructor to init {@link FuturesData} object
+         *
+         * @param dataFutures:      futures data details as {@link JSONObject}
+         * @param omitZeroBalances: whether to drop the assets with all the balances equal to 0
+         */
+        public FuturesData(JSONObject dataFutures, boolean omitZeroBalances) {
             JsonHelper hFutures = new JsonHelper(dataFutures);
             updateTime = dataFutures.getLong("updateTime");
             futuresAssets = new ArrayList<>();
             JSONArray jAssets = hFutures.getJSONArray("assets", new JSONArray());
-            for (int j = 0; j < jAssets.length(); j++)
-                futuresAssets.add(new FuturesAsset(jAssets.getJSONObject(j)));
+            for (int j = 0; j < jAssets.length(); j++) {
+                FuturesAsset futuresAsset = new FuturesAsset(jAssets.getJSONObject(j));
+                if (!omitZeroBalances || !futuresAsset.hasZeroBalance())
+                    futuresAssets.add(futuresAsset);
+            }
+            indexFuturesAssets();
             futuresPositions = new ArrayList<>();
             JSONArray jPositions = hFutures.getJSONArray("position", new JSONArray());
             for (int j = 0; j < jPositions.length(); j++)
                 futuresPositions.add(new FuturesPosition(jPositions.getJSONObject(j)));
         }
 
+        /**
+         * Method to index {@link #futuresAssets} by asset <br>
+         * No-any params required
+         */
+        private void indexFuturesAssets() {
+            futuresAssetsIndex = new HashMap<>();
+            if (futuresAssets != null)
+                for (FuturesAsset futuresAsset : futuresAssets)
+                    futuresAssetsIndex.put(futuresAsset.getAsset(), futuresAsset);
+        }
+
         /**
          * Method to get {@link #updateTime} instance <br>
          * No-any params required
@@ -216,16 +258,21 @@ public class FuturesAccountSnapshot extends AccountSnapshot {
          */
         public void setAssetFuturesList(ArrayList<FuturesAsset> futuresAssets) {
             this.futuresAssets = futuresAssets;
+            indexFuturesAssets();
         }
 
         /**
          * Method to add a futures asset  to {@link #futuresAssets}
          *
          * @param futuresAsset: futures asset to add
+         * @implNote the futures asset is not added when its asset is already indexed, so the list and the index
+         * always contain the same items
          */
         public void insertAssetFuture(FuturesAsset futuresAsset) {
-            if (!futuresAssets.contains(futuresAsset))
+            if (!futuresAssetsIndex.containsKey(futuresAsset.getAsset())) {
                 futuresAssets.add(futuresAsset);
+                futuresAssetsIndex.put(futuresAsset.getAsset(), futuresAsset);
+            }
         }
 
         /**
@@ -235,6 +282,7 @@ public class FuturesAccountSnapshot extends AccountSnapshot {
          * @return result of operation as boolean
          */
         public boolean removeAssetFuture(FuturesAsset futuresAsset) {
+            futuresAssetsIndex.remove(futuresAsset.getAsset(), futuresAsset);
             return futuresAssets.remove(futuresAsset);
         }
 
@@ -248,6 +296,16 @@ public class FuturesAccountSnapshot extends AccountSnapshot {
             return futuresAssets.get(index);
         }
 
+        /**
+         * Method to get a futures asset from {@link #futuresAssets} list
+         *
+         * @param asset: asset of the futures asset
+         * @return futures asset as {@link FuturesAsset}, {@code "null"} if not available
+         */
+        public FuturesAsset getAssetFutures(String asset) {
+            return futuresAssetsIndex.get(asset);
+        }
+
         /**
          * Method to get {@link #futuresPositions} instance <br>
          * No-any params required
@@ -428,6 +486,16 @@ public class FuturesAccountSnapshot extends AccountSnapshot {
             this.walletBalance = walletBalance;
         }
 
+        /**
+         * Method to get whether all the balances of the asset are equal to 0 <br>
+         * No-any params required
+         *
+         * @return whether all the balances of the asset are equal to 0 as boolean
+         */
+        public boolean hasZeroBalance() {
+            return marginBalance == 0 && walletBalance == 0;
+        }
+
         /**
          * Method to get {@link #walletBalance} instance
          *
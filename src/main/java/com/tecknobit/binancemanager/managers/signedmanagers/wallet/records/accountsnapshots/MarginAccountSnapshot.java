@@ -9,9 +9,11 @@ import org.json.JSONObject;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 
 import static com.tecknobit.apimanager.trading.TradingTools.roundValue;
 import static com.tecknobit.binancemanager.managers.signedmanagers.wallet.records.accountsnapshots.AccountSnapshot.AccountType.margin;
+import static com.tecknobit.binancemanager.managers.signedmanagers.wallet.records.accountsnapshots.SpotAccountSnapshot.indexBalances;
 
 /**
  * The {@code MarginAccountSnapshot} class is useful to format a {@code "Binance"}'s margin account snapshot
@@ -71,10 +73,20 @@ public class MarginAccountSnapshot extends AccountSnapshot {
      * @param marginAccount : margin account snapshot details as {@link JSONObject}
      */
     public MarginAccountSnapshot(JSONObject marginAccount) {
+        this(marginAccount, false);
+    }
+
+    /**
+     * Constructor to init {@link MarginAccountSnapshot} object
+     *
+     * @param marginAccount :    margin account snapshot details as {@link JSONObject}
+     * @param omitZeroBalances: whether to drop the assets with all the amounts equal to 0
+     */
+    public MarginAccountSnapshot(JSONObject marginAccount, boolean omitZeroBalances) {
         super(marginAccount);
         marginData = new ArrayList<>();
         for (int j = 0; j < snapshotVos.length(); j++)
-            marginData.add(new MarginData(snapshotVos.getJSONObject(j)));
+            marginData.add(new MarginData(snapshotVos.getJSONObject(j), omitZeroBalances));
     }
 
     /**
@@ -85,9 +97,25 @@ public class MarginAccountSnapshot extends AccountSnapshot {
      */
     @Returner
     public static ArrayList<UserMarginAsset> assembleUserMarginAssetsList(JSONArray jsonAssets) {
+        return assembleUserMarginAssetsList(jsonAssets, false);
+    }
+
+    /**
+     * Method to assemble a {@link UserMarginAsset} list
+     *
+     * @param jsonAssets:       snapshotVos obtain by AccountSnapshot {@code "Binance"} request
+     * @param omitZeroBalances: whether to drop the assets with all the amounts equal to 0
+     * @return list as {@link ArrayList} of {@link UserMarginAsset}
+     */
+    @Returner
+    public static ArrayList<UserMarginAsset> assembleUserMarginAssetsList(JSONArray jsonAssets,
+                                                                          boolean omitZeroBalances) {
         ArrayList<UserMarginAsset> userMarginAssets = new ArrayList<>();
-        for (int j = 0; j < jsonAssets.length(); j++)
-            userMarginAssets.add(new UserMarginAsset(jsonAssets.getJSONObject(j)));
+        for (int j = 0; j < jsonAssets.length(); j++) {
+            UserMarginAsset userMarginAsset = new UserMarginAsset(jsonAssets.getJSONObject(j));
+            if (!omitZeroBalances || !userMarginAsset.hasZeroBalance())
+                userMarginAssets.add(userMarginAsset);
+        }
         return userMarginAssets;
     }
 
@@ -163,6 +191,11 @@ public class MarginAccountSnapshot extends AccountSnapshot {
          */
         private ArrayList<UserMarginAsset> userMarginAssets;
 
+        /**
+         * {@code userMarginAssetsIndex} is instance that memorizes {@link #userMarginAssets} indexed by asset
+         */
+        private HashMap<String, UserMarginAsset> userMarginAssetsIndex;
+
         /**
          * Constructor to init {@link MarginData} object
          *
@@ -185,6 +218,7 @@ public class MarginAccountSnapshot extends AccountSnapshot {
             else
                 this.updateTime = updateTime;
             this.userMarginAssets = userAssetsMargin;
+            userMarginAssetsIndex = indexBalances(userAssetsMargin);
         }
 
         /**
@@ -194,6 +228,17 @@ public class MarginAccountSnapshot extends AccountSnapshot {
          * @throws IllegalArgumentException if parameters range is not respected
          */
         public MarginData(JSONObject marginData) {
+            this(marginData, false);
+        }
+
+        /**
+         * Constructor to init {@link MarginData} object
+         *
+         * @param marginData:       margin data details as {@link JSONObject}
+         * @param omitZeroBalances: whether to drop the assets with all the amounts equal to 0
+         * @throws IllegalArgumentException if parameters range is not respected
+         */
+        public MarginData(JSONObject marginData, boolean omitZeroBalances) {
             super(marginData);
             marginLevel = hItem.getDouble("marginLevel", 0);
             if (marginLevel < 0)
@@ -202,7 +247,8 @@ public class MarginAccountSnapshot extends AccountSnapshot {
             if (updateTime < 0)
                 throw new IllegalArgumentException("Update time value cannot be less than 0");
             userMarginAssets = assembleUserMarginAssetsList(hItem.getJSONArray("userAssets",
-                    new JSONArray()));
+                    new JSONArray()), omitZeroBalances);
+            userMarginAssetsIndex = indexBalances(userMarginAssets);
         }
 
         /**
@@ -287,16 +333,21 @@ public class MarginAccountSnapshot extends AccountSnapshot {
          */
         public void setUserAssetsMargin(ArrayList<UserMarginAsset> userMarginAssets) {
             this.userMarginAssets = userMarginAssets;
+            userMarginAssetsIndex = indexBalances(userMarginAssets);
         }
 
         /**
          * Method to add a margin asset  to {@link #userMarginAssets}
          *
          * @param userMarginAsset: margin asset to add
+         * @implNote the user margin asset is not added when its asset is already indexed, so the list and the index
+         * always contain the same items
          */
         public void insertUserAssetMargin(UserMarginAsset userMarginAsset) {
-            if (!userMarginAssets.contains(userMarginAsset))
+            if (!userMarginAssetsIndex.containsKey(userMarginAsset.getAsset())) {
                 userMarginAssets.add(userMarginAsset);
+                userMarginAssetsIndex.put(userMarginAsset.getAsset(), userMarginAsset);
+            }
         }
 
         /**
@@ -306,6 +357,7 @@ public class MarginAccountSnapshot extends AccountSnapshot {
          * @return result of operation as boolean
          */
         public boolean removeUserAssetMargin(UserMarginAsset userMarginAsset) {
+            userMarginAssetsIndex.remove(userMarginAsset.getAsset(), userMarginAsset);
             return userMarginAssets.remove(userMarginAsset);
         }
 
@@ -319,6 +371,16 @@ public class MarginAccountSnapshot extends AccountSnapshot {
             return userMarginAssets.get(index);
         }
 
+        /**
+         * Method to get a margin asset from {@link #userMarginAssets} list
+         *
+         * @param asset: asset of the margin asset
+         * @return margin asset as {@link UserMarginAsset}, {@code "null"} if not available
+         */
+        public UserMarginAsset getUserAssetMargin(String asset) {
+            return userMarginAssetsIndex.get(asset);
+        }
+
     }
 
     /**
@@ -489,6 +551,17 @@ public class MarginAccountSnapshot extends AccountSnapshot {
             this.netAsset = netAsset;
         }
 
+        /**
+         * Method to get whether all the amounts of the asset are equal to 0 <br>
+         * No-any params required
+         *
+         * @return whether all the amounts of the asset are equal to 0 as boolean
+         */
+        @Override
+        public boolean hasZeroBalance() {
+            return super.hasZeroBalance() && borrowed == 0 && interest == 0 && netAsset == 0;
+        }
+
     }
 
 }
@@ -8,6 +8,7 @@ import org.json.JSONObject;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 
 import static com.tecknobit.apimanager.trading.TradingTools.roundValue;
 import static com.tecknobit.binancemanager.managers.signedmanagers.wallet.records.accountsnapshots.AccountSnapshot.AccountType.spot;
@@ -70,10 +71,20 @@ public class SpotAccountSnapshot extends AccountSnapshot {
      * @param spotAccount: futures account snapshot details as {@link JSONObject}
      */
     public SpotAccountSnapshot(JSONObject spotAccount) {
+        this(spotAccount, false);
+    }
+
+    /**
+     * Constructor to init {@link SpotAccountSnapshot} object
+     *
+     * @param spotAccount:      futures account snapshot details as {@link JSONObject}
+     * @param omitZeroBalances: whether to drop the balances with all the amounts equal to 0
+     */
+    public SpotAccountSnapshot(JSONObject spotAccount, boolean omitZeroBalances) {
         super(spotAccount);
         assetsSpotData = new ArrayList<>();
         for (int j = 0; j < snapshotVos.length(); j++)
-            assetsSpotData.add(new SpotData(snapshotVos.getJSONObject(j)));
+            assetsSpotData.add(new SpotData(snapshotVos.getJSONObject(j), omitZeroBalances));
     }
 
     /**
@@ -84,12 +95,43 @@ public class SpotAccountSnapshot extends AccountSnapshot {
      */
     @Returner
     public static ArrayList<SpotBalance> getBalancesSpot(JSONArray jsonBalances) {
+        return getBalancesSpot(jsonBalances, false);
+    }
+
+    /**
+     * Method to assemble a {@link SpotBalance} list
+     *
+     * @param jsonBalances:     snapshotVos obtain by AccountSnapshot {@code "Binance"} request
+     * @param omitZeroBalances: whether to drop the balances with all the amounts equal to 0
+     * @return list as {@link ArrayList} of {@link SpotBalance}
+     */
+    @Returner
+    public static ArrayList<SpotBalance> getBalancesSpot(JSONArray jsonBalances, boolean omitZeroBalances) {
         ArrayList<SpotBalance> spotBalances = new ArrayList<>();
-        for (int j = 0; j < jsonBalances.length(); j++)
-            spotBalances.add(new SpotBalance(jsonBalances.getJSONObject(j)));
+        for (int j = 0; j < jsonBalances.length(); j++) {
+            SpotBalance spotBalance = new SpotBalance(jsonBalances.getJSONObject(j));
+            if (!omitZeroBalances || !spotBalance.hasZeroBalance())
+                spotBalances.add(spotBalance);
+        }
         return spotBalances;
     }
 
+    /**
+     * Method to index a balances list by asset
+     *
+     * @param balances: balances to index, can be {@code "null"}
+     * @return balances indexed by asset as {@link HashMap} of {@link T}
+     * @apiNote the lookups of an asset on the index do not scan the whole list, so are preferable when the list
+     * contains many assets, es. the dust ones
+     */
+    public static <T extends SpotBalance> HashMap<String, T> indexBalances(ArrayList<T> balances) {
+        HashMap<String, T> index = new HashMap<>();
+        if (balances != null)
+            for (T balance : balances)
+                index.put(balance.getAsset(), balance);
+        return index;
+    }
+
     /**
      * Method to get {@link #assetsSpotData} instance <br>
      * No-any params required
@@ -159,6 +201,11 @@ public class SpotAccountSnapshot extends AccountSnapshot {
          */
         private ArrayList<SpotBalance> spotBalances;
 
+        /**
+         * {@code balancesIndex} is instance that memorizes {@link #spotBalances} indexed by asset
+         */
+        private HashMap<String, SpotBalance> balancesIndex;
+
         /**
          * Constructor to init {@link SpotData} object
          *
@@ -177,6 +224,7 @@ public class SpotAccountSnapshot extends AccountSnapshot {
             else
                 this.updateTime = updateTime;
             this.spotBalances = spotBalances;
+            balancesIndex = indexBalances(spotBalances);
         }
 
         /**
@@ -186,6 +234,17 @@ public class SpotAccountSnapshot extends AccountSnapshot {
          * @throws IllegalArgumentException if parameters range is not respected
          */
         public SpotData(JSONObject spotData) {
+            this(spotData, false);
+        }
+
+        /**
+         * Constructor to init {@link SpotData} object
+         *
+         * @param spotData:         spot data details as {@link JSONObject}
+         * @param omitZeroBalances: whether to drop the balances with all the amounts equal to 0
+         * @throws IllegalArgumentException if parameters range is not respected
+         */
+        public SpotData(JSONObject spotData, boolean omitZeroBalances) {
             JsonHelper hSpotData = new JsonHelper(spotData);
             totalAssetOfBtc = hSpotData.getDouble("totalAssetOfBtc", 0);
             if (totalAssetOfBtc < 0)
@@ -193,7 +252,8 @@ public class SpotAccountSnapshot extends AccountSnapshot {
             updateTime = hSpotData.getLong("updateTime", 0);
             if (updateTime < 0)
                 throw new IllegalArgumentException("Update time value cannot be less than 0");
-            spotBalances = getBalancesSpot(hSpotData.getJSONArray("balances", new JSONArray()));
+            spotBalances = getBalancesSpot(hSpotData.getJSONArray("balances", new JSONArray()), omitZeroBalances);
+            balancesIndex = indexBalances(spotBalances);
         }
 
         /**
@@ -278,16 +338,21 @@ public class SpotAccountSnapshot extends AccountSnapshot {
          */
         public void setSpotBalancesList(ArrayList<SpotBalance> spotBalances) {
             this.spotBalances = spotBalances;
+            balancesIndex = indexBalances(spotBalances);
         }
 
         /**
          * Method to add a spot balance  to {@link #spotBalances}
          *
          * @param spotBalance: spot balance to add
+         * @implNote the spot balance is not added when its asset is already indexed, so the list and the index
+         * always contain the same items
          */
         public void insertSpotBalance(SpotBalance spotBalance) {
-            if (!spotBalances.contains(spotBalance))
+            if (!balancesIndex.containsKey(spotBalance.getAsset())) {
                 spotBalances.add(spotBalance);
+                balancesIndex.put(spotBalance.getAsset(), spotBalance);
+            }
         }
 
         /**
@@ -297,6 +362,7 @@ public class SpotAccountSnapshot extends AccountSnapshot {
          * @return result of operation as boolean
          */
         public boolean removeSpotBalance(SpotBalance spotBalance) {
+            balancesIndex.remove(spotBalance.getAsset(), spotBalance);
             return spotBalances.remove(spotBalance);
         }
 
@@ -310,6 +376,16 @@ public class SpotAccountSnapshot extends AccountSnapshot {
             return spotBalances.get(index);
         }
 
+        /**
+         * Method to get a spot balance from {@link #spotBalances} list
+         *
+         * @param asset: asset of the spot balance
+         * @return spot balance as {@link SpotBalance}, {@code "null"} if not available
+         */
+        public SpotBalance getSpotBalance(String asset) {
+            return balancesIndex.get(asset);
+        }
+
         /**
          * Returns a string representation of the object <br>
          * No-any params required
@@ -457,6 +533,16 @@ public class SpotAccountSnapshot extends AccountSnapshot {
             this.locked = locked;
         }
 
+        /**
+         * Method to get whether all the amounts of the balance are equal to 0 <br>
+         * No-any params required
+         *
+         * @return whether all the amounts of the balance are equal to 0 as boolean
+         */
+        public boolean hasZeroBalance() {
+            return free == 0 && locked == 0;
+        }
+
         /**
          * Returns a string representation of the object <br>
          * No-any params required
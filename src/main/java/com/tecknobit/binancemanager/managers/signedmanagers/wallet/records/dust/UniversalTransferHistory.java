@@ -29,6 +29,7 @@ public class UniversalTransferHistory extends BinanceRowsList<UniversalTransfer>
      */
     public UniversalTransferHistory(int total, ArrayList<UniversalTransfer> rows) {
         super(total, rows);
+        enableKeyedMode(UniversalTransfer::getTranId);
     }
 
     /**
@@ -40,6 +41,7 @@ public class UniversalTransferHistory extends BinanceRowsList<UniversalTransfer>
         super(jTransfersList);
         for (Object row : hItem.fetchList("rows"))
             rows.add(new UniversalTransfer((JSONObject) row));
+        enableKeyedMode(UniversalTransfer::getTranId);
     }
 
     /**
@@ -3,18 +3,22 @@ package com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers;
 import com.tecknobit.apimanager.interfaces.Manager;
 import com.tecknobit.binancemanager.exceptions.SystemException;
 import com.tecknobit.binancemanager.managers.BinanceManager;
+import com.tecknobit.binancemanager.managers.BinanceMessageQueue;
+import com.tecknobit.binancemanager.managers.BinanceMessageQueue.OverflowPolicy;
+import com.tecknobit.binancemanager.managers.SupervisedWebsocket;
+import com.tecknobit.binancemanager.managers.SupervisedWebsocket.ConnectionGap;
 import com.tecknobit.binancemanager.managers.records.websocketstream.BinanceWebsocketResponse.EventType;
 import com.tecknobit.binancemanager.managers.signedmanagers.BinanceSignedManager;
-import org.java_websocket.client.WebSocketClient;
-import org.java_websocket.handshake.ServerHandshake;
-import org.json.JSONObject;
 
 import java.io.IOException;
-import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
-import static com.tecknobit.apimanager.formatters.JsonHelper.getString;
-import static com.tecknobit.binancemanager.managers.records.websocketstream.BinanceWebsocketResponse.EventType.no_content;
-import static com.tecknobit.binancemanager.managers.records.websocketstream.BinanceWebsocketResponse.EventType.valueOf;
+import static com.tecknobit.binancemanager.managers.BinanceMessageQueue.DEFAULT_CAPACITY;
+import static com.tecknobit.binancemanager.managers.BinanceMessageQueue.DEFAULT_OVERFLOW_POLICY;
+import static com.tecknobit.binancemanager.managers.records.websocketstream.BinanceWebsocketResponse.EventType.reachFrameEventType;
 
 /**
  * The {@code BinanceWebsocketManager} class is useful to manage all websocket binance requests
@@ -33,6 +37,32 @@ public class BinanceWebsocketManager extends BinanceSignedManager {
      */
     protected volatile String webSocketResponse;
 
+    /**
+     * {@code responseLock} is the lock used to wait the {@link #webSocketResponse} without spinning
+     */
+    private final Object responseLock = new Object();
+
+    /**
+     * {@code messageQueues} is the list of the queues of the connections opened by the manager
+     */
+    private final CopyOnWriteArrayList<BinanceMessageQueue> messageQueues = new CopyOnWriteArrayList<>();
+
+    /**
+     * {@code messageQueueCapacity} is instance that memorizes the capacity of the queues of the new connections
+     */
+    private volatile int messageQueueCapacity = DEFAULT_CAPACITY;
+
+    /**
+     * {@code overflowPolicy} is instance that memorizes the policy of the queues of the new connections
+     */
+    private volatile OverflowPolicy overflowPolicy = DEFAULT_OVERFLOW_POLICY;
+
+    /**
+     * {@code connectionGapListener} is instance that receives the gaps of the connections, when the frames of a dropped
+     * connection have been lost
+     */
+    private volatile Consumer<ConnectionGap> connectionGapListener;
+
     /**
      * Constructor to init a {@link BinanceWebsocketManager}
      *
@@ -109,59 +139,31 @@ public class BinanceWebsocketManager extends BinanceSignedManager {
      * Method to start the websocket connection
      *
      * @param endpoint: the endpoint of the stream
+     * @implNote the connection is supervised: it is reopened when dropped and rolled over before the 24 hours limit,
+     * see {@link SupervisedWebsocket}
      */
     protected void startWebsocket(String endpoint) throws Exception {
-        new WebSocketClient(new URI(endpoint)) {
-
-            /**
-             * Called after an opening handshake has been performed and the given websocket is ready to be
-             * written on.
-             *
-             * @param handshakeData The handshake of the websocket instance
-             */
-            @Override
-            public void onOpen(ServerHandshake handshakeData) {
-            }
-
-            /**
-             * Callback for string messages received from the remote host
-             *
-             * @param message The UTF-8 decoded message that was received.
-             */
-            @Override
-            public void onMessage(String message) {
-                webSocketResponse = message;
-            }
-
-            /**
-             * Called after the websocket connection has been closed.
-             *
-             * @param code   The codes can be looked up here
-             * @param reason Additional information string
-             * @param remote Returns whether the closing of the connection was initiated by the remote
-             *               host.
-             */
-            @Override
-            public void onClose(int code, String reason, boolean remote) {
+        BinanceMessageQueue messageQueue = new BinanceMessageQueue(messageQueueCapacity, overflowPolicy);
+        messageQueue.setFrameListener(() -> {
+            synchronized (responseLock) {
+                responseLock.notifyAll();
             }
+        });
+        messageQueues.add(messageQueue);
+        SupervisedWebsocket webSocket = new SupervisedWebsocket(endpoint, messageQueue::offer);
+        webSocket.setGapListener(this::notifyConnectionGap);
+        webSocket.connect();
+    }
 
-            /**
-             * Called when errors occurs. If an error causes the websocket connection to fail {@link
-             * #onClose(int, String, boolean)} will be called additionally.<br> This method will be called
-             * primarily because of IO or protocol errors.<br> If the given exception is an RuntimeException
-             * that probably means that you encountered a bug.<br>
-             *
-             * @param ex The exception causing this error
-             */
-            @Override
-            public void onError(Exception ex) {
-                try {
-                    throw new Exception(ex);
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            }
-        }.connect();
+    /**
+     * Method to notify a gap of a connection to the {@link #connectionGapListener}
+     *
+     * @param gap: the gap occurred
+     */
+    protected void notifyConnectionGap(ConnectionGap gap) {
+        Consumer<ConnectionGap> connectionGapListener = this.connectionGapListener;
+        if (connectionGapListener != null)
+            connectionGapListener.accept(gap);
     }
 
     /**
@@ -170,10 +172,95 @@ public class BinanceWebsocketManager extends BinanceSignedManager {
      * @param type: type of the event to wait
      */
     protected void waitCorrectResponse(EventType type) {
-        while (webSocketResponse == null || valueOf(getString(new JSONObject(webSocketResponse), "e",
-                no_content.name())) != type) {
-            Thread.onSpinWait();
+        waitCorrectResponse(response -> reachFrameEventType(response) == type);
+    }
+
+    /**
+     * Method to wait the correct response to format the correct object or return the correct response
+     *
+     * @param condition: the condition that the {@link #webSocketResponse} must respect
+     * @implNote the current thread waits, without spinning, until one of the {@link #messageQueues} contains a
+     * response that respects the condition, the newest one is removed from its queue and assigned to the
+     * {@link #webSocketResponse}, the older ones that respect the condition are discarded and the other responses are
+     * kept for the next invocations
+     */
+    protected void waitCorrectResponse(Predicate<String> condition) {
+        synchronized (responseLock) {
+            try {
+                while (true) {
+                    for (BinanceMessageQueue messageQueue : messageQueues) {
+                        String response = messageQueue.pollLatest(condition);
+                        if (response != null) {
+                            webSocketResponse = response;
+                            return;
+                        }
+                    }
+                    responseLock.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
         }
     }
 
+    /**
+     * Method to set the queue used by the new connections
+     *
+     * @param capacity:       capacity of the queues of the new connections
+     * @param overflowPolicy: policy to apply when a queue is full
+     * @throws IllegalArgumentException when the capacity value is not positive or the policy is
+     *                                  {@link OverflowPolicy#BLOCK}
+     * @implNote the connections already opened keep their own queue. The {@link OverflowPolicy#BLOCK} policy is not
+     * allowed because the responses are polled by type, so a queue full of responses of other types would block the
+     * connection forever
+     */
+    public void setMessageQueue(int capacity, OverflowPolicy overflowPolicy) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity value must be positive");
+        if (overflowPolicy == OverflowPolicy.BLOCK)
+            throw new IllegalArgumentException("BLOCK policy is not allowed for the connections of the manager");
+        messageQueueCapacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Method to get {@link #messageQueueCapacity} instance <br>
+     * No-any params required
+     *
+     * @return {@link #messageQueueCapacity} instance as int
+     */
+    public int getMessageQueueCapacity() {
+        return messageQueueCapacity;
+    }
+
+    /**
+     * Method to get {@link #overflowPolicy} instance <br>
+     * No-any params required
+     *
+     * @return {@link #overflowPolicy} instance as {@link OverflowPolicy}
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Method to set {@link #connectionGapListener} instance
+     *
+     * @param connectionGapListener: listener that receives the gaps of the connections
+     */
+    public void setConnectionGapListener(Consumer<ConnectionGap> connectionGapListener) {
+        this.connectionGapListener = connectionGapListener;
+    }
+
+    /**
+     * Method to get the queues of the connections opened by the manager <br>
+     * No-any params required
+     *
+     * @return queues of the connections as {@link List} of {@link BinanceMessageQueue}
+     */
+    public List<BinanceMessageQueue> getMessageQueues() {
+        return List.copyOf(messageQueues);
+    }
+
 }
@@ -8,6 +8,7 @@ import com.tecknobit.apimanager.interfaces.Manager;
 import com.tecknobit.binancemanager.exceptions.SystemException;
 import com.tecknobit.binancemanager.managers.BinanceManager;
 import com.tecknobit.binancemanager.managers.signedmanagers.BinanceSignedManager;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.spot.BinanceSpotManager;
 import com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers.BinanceWebsocketManager;
 import com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers.userdatastreams.records.AccountUpdate;
 import com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers.userdatastreams.records.BalanceUpdate;
@@ -19,6 +20,9 @@ import java.io.IOException;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
 import static com.tecknobit.binancemanager.managers.BinanceManager.BinanceEndpoint.MAIN_ENDPOINT;
 import static com.tecknobit.binancemanager.managers.BinanceManager.ReturnFormat.LIBRARY_OBJECT;
+import static com.tecknobit.binancemanager.managers.records.websocketstream.BinanceWebsocketResponse.EventType.*;
+import static com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers.userdatastreams.UserDataStreamSession.ListenKeyType.CROSS_MARGIN;
+import static com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers.userdatastreams.UserDataStreamSession.ListenKeyType.SPOT;
 
 /**
  * The {@code BinanceUserDataStreamsManager} class is useful to manage user data streams endpoints
@@ -460,6 +464,78 @@ public class BinanceUserDataStreamsManager extends BinanceWebsocketManager {
         return sendDeleteRequest(ISOLATED_MARGIN_USER_DATA_STREAM_ENDPOINT, payload, apiKey).equals("{}");
     }
 
+    /**
+     * Method to start a session on a spot user data stream <br>
+     * No-any params required
+     *
+     * @return the session started as {@link UserDataStreamSession}
+     * @throws Exception when the listen key cannot be created or the connection cannot be opened
+     * @apiNote the session keeps the listen key alive and dispatches all the events of the stream to its listeners,
+     * it is preferable to the getters of the updates, that wait a single event for each invocation
+     */
+    @Wrapper
+    public UserDataStreamSession startSpotUserDataSession() throws Exception {
+        return startUserDataSession(new UserDataStreamSession(this, SPOT));
+    }
+
+    /**
+     * Method to start a session on a cross margin user data stream <br>
+     * No-any params required
+     *
+     * @return the session started as {@link UserDataStreamSession}
+     * @throws Exception when the listen key cannot be created or the connection cannot be opened
+     * @apiNote the session keeps the listen key alive and dispatches all the events of the stream to its listeners,
+     * it is preferable to the getters of the updates, that wait a single event for each invocation
+     */
+    @Wrapper
+    public UserDataStreamSession startMarginUserDataSession() throws Exception {
+        return startUserDataSession(new UserDataStreamSession(this, CROSS_MARGIN));
+    }
+
+    /**
+     * Method to start a session on an isolated margin user data stream
+     *
+     * @param symbol: the symbol used in for the listen key
+     * @return the session started as {@link UserDataStreamSession}
+     * @throws Exception when the listen key cannot be created or the connection cannot be opened
+     * @apiNote the session keeps the listen key alive and dispatches all the events of the stream to its listeners,
+     * it is preferable to the getters of the updates, that wait a single event for each invocation
+     */
+    @Wrapper
+    public UserDataStreamSession startIsolatedMarginUserDataSession(String symbol) throws Exception {
+        return startUserDataSession(new UserDataStreamSession(this, symbol));
+    }
+
+    /**
+     * Method to start a live mirror of the spot account
+     *
+     * @param spotManager: manager used to request the snapshots of the account
+     * @return the mirror started as {@link SpotAccountMirror}
+     * @throws Exception when the session cannot be started or the snapshots cannot be requested
+     * @apiNote the mirror reads the balances and the open orders without any request, the listeners of its session
+     * are used by the mirror, so the events must be received with the listeners of the mirror
+     */
+    @Wrapper
+    public SpotAccountMirror startSpotAccountMirror(BinanceSpotManager spotManager) throws Exception {
+        SpotAccountMirror mirror = new SpotAccountMirror(spotManager, new UserDataStreamSession(this, SPOT));
+        mirror.start();
+        return mirror;
+    }
+
+    /**
+     * Method to start a session on a user data stream
+     *
+     * @param session: the session to start
+     * @return the session started as {@link UserDataStreamSession}
+     * @throws Exception when the listen key cannot be created or the connection cannot be opened
+     * @implNote the listeners set after this method may miss the first events of the stream, to avoid it create the
+     * session with its constructor and set the listeners before {@link UserDataStreamSession#start()}
+     */
+    private UserDataStreamSession startUserDataSession(UserDataStreamSession session) throws Exception {
+        session.start();
+        return session;
+    }
+
     /**
      * Method to create a listen key payload for the requests
      *
@@ -677,8 +753,12 @@ public class BinanceUserDataStreamsManager extends BinanceWebsocketManager {
     private <T> T getWebSocketContent(String listenKey, Class<T> type, ReturnFormat format) throws Exception {
         currentListenKey = listenKey;
         startWebsocket(WEB_SOCKET_STREAM_ENDPOINT);
-        while (webSocketResponse == null)
-            Thread.onSpinWait();
+        if (type.equals(AccountUpdate.class))
+            waitCorrectResponse(outboundAccountPosition);
+        else if (type.equals(BalanceUpdate.class))
+            waitCorrectResponse(balanceUpdate);
+        else
+            waitCorrectResponse(executionReport);
         JSONObject response = new JSONObject(webSocketResponse);
         switch (format) {
             case JSON:
@@ -0,0 +1,824 @@
+package com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers.userdatastreams;
+
+import com.tecknobit.binancemanager.managers.SupervisedWebsocket.ConnectionGap;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.OrderType;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.Side;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.Status;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.spot.BinanceSpotManager;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.spot.records.account.SpotAccountInformation;
+import com.tecknobit.binancemanager.managers.signedmanagers.trade.spot.records.orders.response.SpotOrderStatus;
+import com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers.userdatastreams.records.AccountUpdate;
+import com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers.userdatastreams.records.BalanceUpdate;
+import com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers.userdatastreams.records.OrderUpdate;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static com.tecknobit.binancemanager.managers.signedmanagers.wallet.records.accountsnapshots.SpotAccountSnapshot.SpotBalance;
+
+/**
+ * The {@code SpotAccountMirror} class is useful to keep a live copy of the spot account, its balances and its open
+ * orders, without requesting them each time
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the mirror is seeded with the {@link SpotAccountInformation} and the open orders list, then the
+ * {@code "outboundAccountPosition"}, {@code "balanceUpdate"} and {@code "executionReport"} events of the
+ * {@link UserDataStreamSession} are applied incrementally. When the session has a gap the mirror is seeded again, so
+ * the events lost during the gap are recovered by the snapshots
+ * @implNote the updates are applied by a single writer at a time, while the reads never lock: the balances and the
+ * orders are immutable snapshots replaced in concurrent maps at each update, so a read always returns a coherent
+ * snapshot. The mirror uses the listeners of the session, so its own listeners must be used to receive the events
+ * @see <a href="https://binance-docs.github.io/apidocs/spot/en/#user-data-streams">
+ * User Data Streams</a>
+ * @see UserDataStreamSession
+ */
+public class SpotAccountMirror {
+
+    /**
+     * {@code spotManager} is instance used to request the snapshots of the account
+     */
+    private final BinanceSpotManager spotManager;
+
+    /**
+     * {@code session} is the session where the events of the account are received
+     */
+    private final UserDataStreamSession session;
+
+    /**
+     * {@code balances} is instance that memorizes the balances mapped by asset
+     */
+    private final ConcurrentHashMap<String, MirroredBalance> balances = new ConcurrentHashMap<>();
+
+    /**
+     * {@code openOrders} is instance that memorizes the open orders mapped by order id
+     */
+    private final ConcurrentHashMap<Long, MirroredOrder> openOrders = new ConcurrentHashMap<>();
+
+    /**
+     * {@code openOrdersByClientId} is instance that memorizes the open orders mapped by client order id
+     */
+    private final ConcurrentHashMap<String, MirroredOrder> openOrdersByClientId = new ConcurrentHashMap<>();
+
+    /**
+     * {@code openOrdersCounts} is instance that memorizes the number of the open orders mapped by symbol
+     */
+    private final ConcurrentHashMap<String, Integer> openOrdersCounts = new ConcurrentHashMap<>();
+
+    /**
+     * {@code closedWhileSeeding} is instance that memorizes the orders closed while a seed is in progress, so the seed
+     * does not insert them again
+     */
+    private final HashSet<Long> closedWhileSeeding = new HashSet<>();
+
+    /**
+     * {@code sequence} is the sequence of the updates applied, used to find what a seed has not refreshed
+     */
+    private long sequence;
+
+    /**
+     * {@code seeding} whether a seed is in progress
+     */
+    private boolean seeding;
+
+    /**
+     * {@code seeds} is instance that memorizes the number of seeds of the mirror
+     */
+    private volatile long seeds;
+
+    /**
+     * {@code accountUpdateListener} is instance that receives the account updates after they have been applied
+     */
+    private volatile Consumer<AccountUpdate> accountUpdateListener;
+
+    /**
+     * {@code balanceUpdateListener} is instance that receives the balance updates after they have been applied
+     */
+    private volatile Consumer<BalanceUpdate> balanceUpdateListener;
+
+    /**
+     * {@code orderUpdateListener} is instance that receives the order updates after they have been applied
+     */
+    private volatile Consumer<OrderUpdate> orderUpdateListener;
+
+    /**
+     * {@code errorListener} is instance that receives the errors of the mirror
+     */
+    private volatile Consumer<Exception> errorListener;
+
+    /**
+     * Constructor to init a {@link SpotAccountMirror}
+     *
+     * @param spotManager: manager used to request the snapshots of the account
+     * @param session:     session where the events of the account are received, not started yet or started with
+     *                     a {@link UserDataStreamSession.ListenKeyType#SPOT} listen key
+     * @throws IllegalArgumentException when the session is not a spot session
+     */
+    public SpotAccountMirror(BinanceSpotManager spotManager, UserDataStreamSession session) {
+        if (session.getListenKeyType() != UserDataStreamSession.ListenKeyType.SPOT)
+            throw new IllegalArgumentException("The session must be a spot user data session");
+        this.spotManager = spotManager;
+        this.session = session;
+    }
+
+    /**
+     * Method to start the mirror: the listeners are registered on the session, the session is started and the
+     * mirror is seeded <br>
+     * No-any params required
+     *
+     * @throws Exception             when the session cannot be started or the snapshots cannot be requested
+     * @throws IllegalStateException when the concurrent transport of the {@link #spotManager} is not enabled, the
+     *                               mirror is seeded again asynchronously after each gap
+     * @implNote the session is started before the seed, so the events occurred while the snapshots are requested are
+     * not lost, the snapshots older than the events already applied are discarded
+     */
+    public void start() throws Exception {
+        spotManager.checkConcurrentTransport();
+        session.setAccountUpdateListener(this::applyAccountUpdate);
+        session.setBalanceUpdateListener(this::applyBalanceUpdate);
+        session.setOrderUpdateListener(this::applyOrderUpdate);
+        session.setGapListener(this::onGap);
+        session.start();
+        seed();
+    }
+
+    /**
+     * Method to close the mirror and its session <br>
+     * No-any params required
+     */
+    public void close() {
+        session.close();
+    }
+
+    /**
+     * Method to seed the mirror with the snapshots of the account and of the open orders <br>
+     * No-any params required
+     *
+     * @throws Exception when the snapshots cannot be requested
+     * @implNote the balances and the orders not refreshed by the snapshots or by an event since the seed started are
+     * removed, because they have been closed while the events were not received
+     */
+    public void seed() throws Exception {
+        long seedSequence;
+        synchronized (this) {
+            seedSequence = ++sequence;
+            seeding = true;
+            closedWhileSeeding.clear();
+        }
+        SpotAccountInformation account;
+        ArrayList<SpotOrderStatus> orders;
+        try {
+            account = spotManager.getSpotAccountInformation();
+            orders = spotManager.getCurrentOpenOrders();
+        } catch (Exception e) {
+            synchronized (this) {
+                seeding = false;
+                closedWhileSeeding.clear();
+            }
+            throw e;
+        }
+        synchronized (this) {
+            long accountTime = account.getUpdateTime();
+            long applySequence = ++sequence;
+            for (SpotBalance balance : account.getBalancesSpotsList()) {
+                MirroredBalance current = balances.get(balance.getAsset());
+                if (current == null || current.updateTime <= accountTime) {
+                    balances.put(balance.getAsset(), new MirroredBalance(balance.getAsset(), balance.getFree(),
+                            balance.getLocked(), accountTime, applySequence));
+                }
+            }
+            balances.values().removeIf(balance -> balance.sequence < seedSequence);
+            for (SpotOrderStatus order : orders) {
+                if (closedWhileSeeding.contains(order.getOrderId()))
+                    continue;
+                MirroredOrder current = openOrders.get(order.getOrderId());
+                if (current == null || current.updateTime <= order.getUpdateTime())
+                    putOrder(new MirroredOrder(order, applySequence));
+            }
+            for (MirroredOrder order : new ArrayList<>(openOrders.values()))
+                if (order.sequence < seedSequence)
+                    removeOrder(order);
+            seeding = false;
+            closedWhileSeeding.clear();
+            seeds++;
+        }
+    }
+
+    /**
+     * Method to seed again the mirror after a gap of the session
+     *
+     * @param gap: the gap occurred
+     */
+    private void onGap(ConnectionGap gap) {
+        spotManager.async(() -> {
+            seed();
+            return true;
+        }).whenComplete((result, error) -> {
+            if (error != null)
+                notifyError(error instanceof Exception ? (Exception) error : new Exception(error));
+        });
+    }
+
+    /**
+     * Method to apply an account update
+     *
+     * @param update: the account update to apply
+     */
+    private void applyAccountUpdate(AccountUpdate update) {
+        synchronized (this) {
+            long updateTime = update.getLastAccountUpdate();
+            long applySequence = ++sequence;
+            for (SpotBalance balance : update.getBalances()) {
+                MirroredBalance current = balances.get(balance.getAsset());
+                if (current == null || current.updateTime <= updateTime) {
+                    balances.put(balance.getAsset(), new MirroredBalance(balance.getAsset(), balance.getFree(),
+                            balance.getLocked(), updateTime, applySequence));
+                }
+            }
+        }
+        Consumer<AccountUpdate> accountUpdateListener = this.accountUpdateListener;
+        if (accountUpdateListener != null)
+            accountUpdateListener.accept(update);
+    }
+
+    /**
+     * Method to apply a balance update
+     *
+     * @param update: the balance update to apply
+     * @implNote the delta is applied to the free balance only when it has been cleared after the last update of the
+     * balance, the next account update brings anyway the definitive balance
+     */
+    private void applyBalanceUpdate(BalanceUpdate update) {
+        synchronized (this) {
+            MirroredBalance current = balances.get(update.getAsset());
+            long clearTime = update.getClearTime();
+            if (current == null) {
+                balances.put(update.getAsset(), new MirroredBalance(update.getAsset(),
+                        Math.max(update.getBalanceDelta(), 0), 0, clearTime, ++sequence));
+            } else if (current.updateTime < clearTime) {
+                balances.put(update.getAsset(), new MirroredBalance(update.getAsset(),
+                        Math.max(current.free + update.getBalanceDelta(), 0), current.locked, clearTime, ++sequence));
+            }
+        }
+        Consumer<BalanceUpdate> balanceUpdateListener = this.balanceUpdateListener;
+        if (balanceUpdateListener != null)
+            balanceUpdateListener.accept(update);
+    }
+
+    /**
+     * Method to apply an order update
+     *
+     * @param update: the order update to apply
+     * @implNote the canceled orders are found by order id, because the client order id of their updates is the one
+     * of the cancel request
+     */
+    private void applyOrderUpdate(OrderUpdate update) {
+        synchronized (this) {
+            MirroredOrder current = openOrders.get(update.getOrderId());
+            if (current == null || current.updateTime <= update.getTransactionTime()) {
+                if (isOpen(update.getCurrentOrderStatus()))
+                    putOrder(new MirroredOrder(current, update, ++sequence));
+                else {
+                    if (current != null)
+                        removeOrder(current);
+                    if (seeding)
+                        closedWhileSeeding.add(update.getOrderId());
+                }
+            }
+        }
+        Consumer<OrderUpdate> orderUpdateListener = this.orderUpdateListener;
+        if (orderUpdateListener != null)
+            orderUpdateListener.accept(update);
+    }
+
+    /**
+     * Method to insert an open order in the indexes
+     *
+     * @param order: the order to insert
+     */
+    private void putOrder(MirroredOrder order) {
+        MirroredOrder previous = openOrders.put(order.orderId, order);
+        if (previous != null)
+            openOrdersByClientId.remove(previous.clientOrderId, previous);
+        else
+            openOrdersCounts.merge(order.symbol, 1, Integer::sum);
+        openOrdersByClientId.put(order.clientOrderId, order);
+    }
+
+    /**
+     * Method to remove an open order from the indexes
+     *
+     * @param order: the order to remove
+     */
+    private void removeOrder(MirroredOrder order) {
+        if (openOrders.remove(order.orderId) != null) {
+            openOrdersByClientId.remove(order.clientOrderId, order);
+            openOrdersCounts.computeIfPresent(order.symbol, (symbol, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    /**
+     * Method to get whether a status is of an open order
+     *
+     * @param status: the status to check
+     * @return whether the status is of an open order as boolean
+     */
+    private static boolean isOpen(Status status) {
+        return status == Status.NEW || status == Status.PARTIALLY_FILLED || status == Status.PENDING_CANCELED;
+    }
+
+    /**
+     * Method to get the balance of an asset
+     *
+     * @param asset: the asset of the balance
+     * @return balance of the asset as {@link MirroredBalance}, {@code "null"} if not available
+     */
+    public MirroredBalance getBalance(String asset) {
+        return balances.get(asset);
+    }
+
+    /**
+     * Method to get the free balance of an asset
+     *
+     * @param asset: the asset of the balance
+     * @return free balance of the asset as double, 0 if not available
+     */
+    public double getFree(String asset) {
+        MirroredBalance balance = balances.get(asset);
+        return balance != null ? balance.free : 0;
+    }
+
+    /**
+     * Method to get the locked balance of an asset
+     *
+     * @param asset: the asset of the balance
+     * @return locked balance of the asset as double, 0 if not available
+     */
+    public double getLocked(String asset) {
+        MirroredBalance balance = balances.get(asset);
+        return balance != null ? balance.locked : 0;
+    }
+
+    /**
+     * Method to get the balances of the account <br>
+     * No-any params required
+     *
+     * @return balances of the account as {@link Collection} of {@link MirroredBalance}
+     */
+    public Collection<MirroredBalance> getBalances() {
+        return Collections.unmodifiableCollection(balances.values());
+    }
+
+    /**
+     * Method to get an open order
+     *
+     * @param orderId: the id of the order
+     * @return open order as {@link MirroredOrder}, {@code "null"} if not open
+     */
+    public MirroredOrder getOpenOrder(long orderId) {
+        return openOrders.get(orderId);
+    }
+
+    /**
+     * Method to get an open order
+     *
+     * @param clientOrderId: the client order id of the order
+     * @return open order as {@link MirroredOrder}, {@code "null"} if not open
+     */
+    public MirroredOrder getOpenOrder(String clientOrderId) {
+        return openOrdersByClientId.get(clientOrderId);
+    }
+
+    /**
+     * Method to get the open orders of the account <br>
+     * No-any params required
+     *
+     * @return open orders of the account as {@link Collection} of {@link MirroredOrder}
+     */
+    public Collection<MirroredOrder> getOpenOrders() {
+        return Collections.unmodifiableCollection(openOrders.values());
+    }
+
+    /**
+     * Method to get the number of the open orders of a symbol
+     *
+     * @param symbol: the symbol of the orders
+     * @return number of the open orders of the symbol as int
+     * @apiNote can be used as counter of the {@code "MAX_NUM_ORDERS"} filter, es.
+     * {@code "validator.setOpenOrdersCounter(mirror::getOpenOrdersCount)"}
+     */
+    public int getOpenOrdersCount(String symbol) {
+        return openOrdersCounts.getOrDefault(symbol, 0);
+    }
+
+    /**
+     * Method to get {@link #session} instance <br>
+     * No-any params required
+     *
+     * @return {@link #session} instance as {@link UserDataStreamSession}
+     */
+    public UserDataStreamSession getSession() {
+        return session;
+    }
+
+    /**
+     * Method to get {@link #seeds} instance <br>
+     * No-any params required
+     *
+     * @return {@link #seeds} instance as long
+     */
+    public long getSeeds() {
+        return seeds;
+    }
+
+    /**
+     * Method to set {@link #accountUpdateListener} instance
+     *
+     * @param accountUpdateListener: listener that receives the account updates after they have been applied
+     */
+    public void setAccountUpdateListener(Consumer<AccountUpdate> accountUpdateListener) {
+        this.accountUpdateListener = accountUpdateListener;
+    }
+
+    /**
+     * Method to set {@link #balanceUpdateListener} instance
+     *
+     * @param balanceUpdateListener: listener that receives the balance updates after they have been applied
+     */
+    public void setBalanceUpdateListener(Consumer<BalanceUpdate> balanceUpdateListener) {
+        this.balanceUpdateListener = balanceUpdateListener;
+    }
+
+    /**
+     * Method to set {@link #orderUpdateListener} instance
+     *
+     * @param orderUpdateListener: listener that receives the order updates after they have been applied
+     */
+    public void setOrderUpdateListener(Consumer<OrderUpdate> orderUpdateListener) {
+        this.orderUpdateListener = orderUpdateListener;
+    }
+
+    /**
+     * Method to set {@link #errorListener} instance, also of the session
+     *
+     * @param errorListener: listener that receives the errors of the mirror
+     */
+    public void setErrorListener(Consumer<Exception> errorListener) {
+        this.errorListener = errorListener;
+        session.setErrorListener(errorListener);
+    }
+
+    /**
+     * Method to notify an error to the {@link #errorListener}
+     *
+     * @param error: the error occurred
+     */
+    private void notifyError(Exception error) {
+        Consumer<Exception> errorListener = this.errorListener;
+        if (errorListener != null)
+            errorListener.accept(error);
+    }
+
+    /**
+     * The {@code MirroredBalance} class is useful to format an immutable snapshot of a balance of the mirror
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    public static class MirroredBalance {
+
+        /**
+         * {@code asset} is instance that memorizes the asset of the balance
+         */
+        private final String asset;
+
+        /**
+         * {@code free} is instance that memorizes the free amount of the balance
+         */
+        private final double free;
+
+        /**
+         * {@code locked} is instance that memorizes the locked amount of the balance
+         */
+        private final double locked;
+
+        /**
+         * {@code updateTime} is instance that memorizes the time of the last update of the balance
+         */
+        private final long updateTime;
+
+        /**
+         * {@code sequence} is the sequence of the update of the mirror that inserted the balance
+         */
+        private final long sequence;
+
+        /**
+         * Constructor to init a {@link MirroredBalance}
+         *
+         * @param asset:      the asset of the balance
+         * @param free:       the free amount of the balance
+         * @param locked:     the locked amount of the balance
+         * @param updateTime: the time of the last update of the balance
+         * @param sequence:   the sequence of the update of the mirror that inserted the balance
+         */
+        private MirroredBalance(String asset, double free, double locked, long updateTime, long sequence) {
+            this.asset = asset;
+            this.free = free;
+            this.locked = locked;
+            this.updateTime = updateTime;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Method to get {@link #asset} instance <br>
+         * No-any params required
+         *
+         * @return {@link #asset} instance as {@link String}
+         */
+        public String getAsset() {
+            return asset;
+        }
+
+        /**
+         * Method to get {@link #free} instance <br>
+         * No-any params required
+         *
+         * @return {@link #free} instance as double
+         */
+        public double getFree() {
+            return free;
+        }
+
+        /**
+         * Method to get {@link #locked} instance <br>
+         * No-any params required
+         *
+         * @return {@link #locked} instance as double
+         */
+        public double getLocked() {
+            return locked;
+        }
+
+        /**
+         * Method to get the total amount of the balance <br>
+         * No-any params required
+         *
+         * @return total amount of the balance as double
+         */
+        public double getTotal() {
+            return free + locked;
+        }
+
+        /**
+         * Method to get {@link #updateTime} instance <br>
+         * No-any params required
+         *
+         * @return {@link #updateTime} instance as long
+         */
+        public long getUpdateTime() {
+            return updateTime;
+        }
+
+        /**
+         * Returns a string representation of the object <br>
+         * No-any params required
+         *
+         * @return a string representation of the object as {@link String}
+         */
+        @Override
+        public String toString() {
+            return new JSONObject(this).toString();
+        }
+
+    }
+
+    /**
+     * The {@code MirroredOrder} class is useful to format an immutable snapshot of an open order of the mirror
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    public static class MirroredOrder {
+
+        /**
+         * {@code symbol} is instance that memorizes the symbol of the order
+         */
+        private final String symbol;
+
+        /**
+         * {@code orderId} is instance that memorizes the id of the order
+         */
+        private final long orderId;
+
+        /**
+         * {@code clientOrderId} is instance that memorizes the client order id of the order
+         */
+        private final String clientOrderId;
+
+        /**
+         * {@code side} is instance that memorizes the side of the order
+         */
+        private final Side side;
+
+        /**
+         * {@code type} is instance that memorizes the type of the order
+         */
+        private final OrderType type;
+
+        /**
+         * {@code price} is instance that memorizes the price of the order
+         */
+        private final double price;
+
+        /**
+         * {@code originalQuantity} is instance that memorizes the original quantity of the order
+         */
+        private final double originalQuantity;
+
+        /**
+         * {@code executedQuantity} is instance that memorizes the executed quantity of the order
+         */
+        private final double executedQuantity;
+
+        /**
+         * {@code status} is instance that memorizes the status of the order
+         */
+        private final Status status;
+
+        /**
+         * {@code updateTime} is instance that memorizes the time of the last update of the order
+         */
+        private final long updateTime;
+
+        /**
+         * {@code sequence} is the sequence of the update of the mirror that inserted the order
+         */
+        private final long sequence;
+
+        /**
+         * Constructor to init a {@link MirroredOrder} from a snapshot
+         *
+         * @param order:    the order of the snapshot
+         * @param sequence: the sequence of the update of the mirror that inserted the order
+         */
+        private MirroredOrder(SpotOrderStatus order, long sequence) {
+            symbol = order.getSymbol();
+            orderId = order.getOrderId();
+            clientOrderId = order.getClientOrderId();
+            side = order.getSide();
+            type = order.getType();
+            price = order.getPrice();
+            originalQuantity = order.getOrigQty();
+            executedQuantity = order.getExecutedQty();
+            status = order.getStatus();
+            updateTime = order.getUpdateTime();
+            this.sequence = sequence;
+        }
+
+        /**
+         * Constructor to init a {@link MirroredOrder} from an update
+         *
+         * @param current:  the current snapshot of the order, {@code "null"} if not available
+         * @param update:   the update of the order
+         * @param sequence: the sequence of the update of the mirror that inserted the order
+         */
+        private MirroredOrder(MirroredOrder current, OrderUpdate update, long sequence) {
+            symbol = update.getSymbol();
+            orderId = update.getOrderId();
+            clientOrderId = current != null ? current.clientOrderId : update.getClientOrderId();
+            side = update.getSide();
+            type = update.getType();
+            price = update.getOrderPrice();
+            originalQuantity = update.getOrderQuantity();
+            executedQuantity = update.getLastCumulativeFilledQuantity();
+            status = update.getCurrentOrderStatus();
+            updateTime = update.getTransactionTime();
+            this.sequence = sequence;
+        }
+
+        /**
+         * Method to get {@link #symbol} instance <br>
+         * No-any params required
+         *
+         * @return {@link #symbol} instance as {@link String}
+         */
+        public String getSymbol() {
+            return symbol;
+        }
+
+        /**
+         * Method to get {@link #orderId} instance <br>
+         * No-any params required
+         *
+         * @return {@link #orderId} instance as long
+         */
+        public long getOrderId() {
+            return orderId;
+        }
+
+        /**
+         * Method to get {@link #clientOrderId} instance <br>
+         * No-any params required
+         *
+         * @return {@link #clientOrderId} instance as {@link String}
+         */
+        public String getClientOrderId() {
+            return clientOrderId;
+        }
+
+        /**
+         * Method to get {@link #side} instance <br>
+         * No-any params required
+         *
+         * @return {@link #side} instance as {@link Side}
+         */
+        public Side getSide() {
+            return side;
+        }
+
+        /**
+         * Method to get {@link #type} instance <br>
+         * No-any params required
+         *
+         * @return {@link #type} instance as {@link OrderType}
+         */
+        public OrderType getType() {
+            return type;
+        }
+
+        /**
+         * Method to get {@link #price} instance <br>
+         * No-any params required
+         *
+         * @return {@link #price} instance as double
+         */
+        public double getPrice() {
+            return price;
+        }
+
+        /**
+         * Method to get {@link #originalQuantity} instance <br>
+         * No-any params required
+         *
+         * @return {@link #originalQuantity} instance as double
+         */
+        public double getOriginalQuantity() {
+            return originalQuantity;
+        }
+
+        /**
+         * Method to get {@link #executedQuantity} instance <br>
+         * No-any params required
+         *
+         * @return {@link #executedQuantity} instance as double
+         */
+        public double getExecutedQuantity() {
+            return executedQuantity;
+        }
+
+        /**
+         * Method to get the remaining quantity of the order <br>
+         * No-any params required
+         *
+         * @return remaining quantity of the order as double
+         */
+        public double getRemainingQuantity() {
+            return originalQuantity - executedQuantity;
+        }
+
+        /**
+         * Method to get {@link #status} instance <br>
+         * No-any params required
+         *
+         * @return {@link #status} instance as {@link Status}
+         */
+        public Status getStatus() {
+            return status;
+        }
+
+        /**
+         * Method to get {@link #updateTime} instance <br>
+         * No-any params required
+         *
+         * @return {@link #updateTime} instance as long
+         */
+        public long getUpdateTime() {
+            return updateTime;
+        }
+
+        /**
+         * Returns a string representation of the object <br>
+         * No-any params required
+         *
+         * @return a string representation of the object as {@link String}
+         */
+        @Override
+        public String toString() {
+            return new JSONObject(this).toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,565 @@
+package com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers.userdatastreams;
+
+import com.tecknobit.binancemanager.managers.BinanceMessageQueue;
+import com.tecknobit.binancemanager.managers.SupervisedWebsocket;
+import com.tecknobit.binancemanager.managers.SupervisedWebsocket.ConnectionGap;
+import com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers.userdatastreams.records.AccountUpdate;
+import com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers.userdatastreams.records.BalanceUpdate;
+import com.tecknobit.binancemanager.managers.signedmanagers.websocketmanagers.userdatastreams.records.OrderUpdate;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static com.tecknobit.binancemanager.managers.BinanceManager.WEB_SOCKET_STREAM_ENDPOINT;
+import static com.tecknobit.binancemanager.managers.records.websocketstream.BinanceWebsocketResponse.EventType.reachFrameEventType;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The {@code UserDataStreamSession} class is useful to keep a user data stream opened and dispatch its events to
+ * typed listeners
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the session creates the listen key, pings it each {@link #KEEPALIVE_INTERVAL} and holds a
+ * {@link SupervisedWebsocket} opened with it. When the listen key expires, or a keepalive fails, a new listen key is
+ * created and the connection is rolled over on it, the {@link ConnectionGap} is dispatched to the {@link #gapListener}
+ * because the events of the gap have been lost
+ * @implNote the listeners are executed by a dedicated thread of the session, the keepalives of all the sessions are
+ * scheduled on a single daemon thread and sent with {@link BinanceUserDataStreamsManager#async}
+ * @see <a href="https://binance-docs.github.io/apidocs/spot/en/#user-data-streams">
+ * User Data Streams</a>
+ * @see BinanceUserDataStreamsManager
+ */
+public class UserDataStreamSession {
+
+    /**
+     * {@code KEEPALIVE_INTERVAL} is the interval, in milliseconds, between two keepalives of the listen key
+     */
+    public static final long KEEPALIVE_INTERVAL = 30 * 60 * 1000;
+
+    /**
+     * {@code RENEWAL_RETRY_DELAY} is the delay, in milliseconds, before retrying a failed renewal of the listen key
+     */
+    public static final long RENEWAL_RETRY_DELAY = 5000;
+
+    /**
+     * {@code KEEPALIVE_SCHEDULER} is the scheduler of the keepalives of all the sessions
+     */
+    private static final ScheduledExecutorService KEEPALIVE_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "binance-listen-key-keepalive");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * {@code ListenKeyType} list of available listen key types
+     */
+    public enum ListenKeyType {
+
+        /**
+         * {@code SPOT} listen key type
+         */
+        SPOT,
+
+        /**
+         * {@code CROSS_MARGIN} listen key type
+         */
+        CROSS_MARGIN,
+
+        /**
+         * {@code ISOLATED_MARGIN} listen key type
+         */
+        ISOLATED_MARGIN
+
+    }
+
+    /**
+     * {@code manager} is instance used to manage the listen key
+     */
+    private final BinanceUserDataStreamsManager manager;
+
+    /**
+     * {@code listenKeyType} is instance that memorizes the type of the listen key
+     */
+    private final ListenKeyType listenKeyType;
+
+    /**
+     * {@code symbol} is instance that memorizes the symbol of the isolated margin listen key, {@code "null"} for the
+     * other types
+     */
+    private final String symbol;
+
+    /**
+     * {@code messageQueue} is the queue where the frames are buffered until they are dispatched
+     */
+    private final BinanceMessageQueue messageQueue;
+
+    /**
+     * {@code webSocket} is the connection where the frames are received
+     */
+    private final SupervisedWebsocket webSocket;
+
+    /**
+     * {@code renewing} whether a renewal of the listen key is in progress
+     */
+    private final AtomicBoolean renewing = new AtomicBoolean();
+
+    /**
+     * {@code listenKey} is instance that memorizes the current listen key
+     */
+    private volatile String listenKey;
+
+    /**
+     * {@code pendingListenKey} is instance that memorizes the listen key renewed while the connection is rolled over
+     * on it, {@code "null"} if no rollover is in progress
+     */
+    private volatile String pendingListenKey;
+
+    /**
+     * {@code keepaliveTask} is the task of the keepalives, {@code "null"} if not started
+     */
+    private ScheduledFuture<?> keepaliveTask;
+
+    /**
+     * {@code accountUpdateListener} is instance that receives the account updates
+     */
+    private volatile Consumer<AccountUpdate> accountUpdateListener;
+
+    /**
+     * {@code balanceUpdateListener} is instance that receives the balance updates
+     */
+    private volatile Consumer<BalanceUpdate> balanceUpdateListener;
+
+    /**
+     * {@code orderUpdateListener} is instance that receives the order updates
+     */
+    private volatile Consumer<OrderUpdate> orderUpdateListener;
+
+    /**
+     * {@code gapListener} is instance that receives the gaps of the session, when its events have been lost
+     */
+    private volatile Consumer<ConnectionGap> gapListener;
+
+    /**
+     * {@code errorListener} is instance that receives the errors of the session
+     */
+    private volatile Consumer<Exception> errorListener;
+
+    /**
+     * {@code renewals} is instance that memorizes the number of renewals of the listen key
+     */
+    private volatile long renewals;
+
+    /**
+     * {@code started} whether the session has been started
+     */
+    private volatile boolean started;
+
+    /**
+     * {@code closed} whether the session has been closed
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructor to init a {@link UserDataStreamSession}
+     *
+     * @param manager:       manager used to manage the listen key
+     * @param listenKeyType: type of the listen key, {@link ListenKeyType#SPOT} or {@link ListenKeyType#CROSS_MARGIN}
+     * @throws IllegalArgumentException when the type is {@link ListenKeyType#ISOLATED_MARGIN}, its symbol is required
+     */
+    public UserDataStreamSession(BinanceUserDataStreamsManager manager, ListenKeyType listenKeyType) {
+        this(manager, listenKeyType, null);
+    }
+
+    /**
+     * Constructor to init a {@link UserDataStreamSession} for an isolated margin listen key
+     *
+     * @param manager: manager used to manage the listen key
+     * @param symbol:  symbol of the isolated margin listen key
+     */
+    public UserDataStreamSession(BinanceUserDataStreamsManager manager, String symbol) {
+        this(manager, ListenKeyType.ISOLATED_MARGIN, symbol);
+    }
+
+    /**
+     * Constructor to init a {@link UserDataStreamSession}
+     *
+     * @param manager:       manager used to manage the listen key
+     * @param listenKeyType: type of the listen key
+     * @param symbol:        symbol of the isolated margin listen key, {@code "null"} for the other types
+     * @throws IllegalArgumentException when the symbol is missing for an isolated margin listen key
+     */
+    private UserDataStreamSession(BinanceUserDataStreamsManager manager, ListenKeyType listenKeyType, String symbol) {
+        if (listenKeyType == ListenKeyType.ISOLATED_MARGIN && symbol == null)
+            throw new IllegalArgumentException("Symbol is required for the isolated margin listen keys");
+        this.manager = manager;
+        this.listenKeyType = listenKeyType;
+        this.symbol = symbol;
+        messageQueue = new BinanceMessageQueue(manager.getMessageQueueCapacity(), manager.getOverflowPolicy());
+        webSocket = new SupervisedWebsocket(() -> {
+            String pendingListenKey = this.pendingListenKey;
+            return WEB_SOCKET_STREAM_ENDPOINT + (pendingListenKey != null ? pendingListenKey : listenKey);
+        }, messageQueue::offer);
+        webSocket.setGapListener(this::notifyGap);
+        webSocket.setErrorListener(this::notifyError);
+    }
+
+    /**
+     * Method to start the session: the listen key is created, the connection is opened and the keepalives are
+     * scheduled <br>
+     * No-any params required
+     *
+     * @throws Exception             when the listen key cannot be created or the connection cannot be opened
+     * @throws IllegalStateException when the session has been closed or the concurrent transport of the
+     *                               {@link #manager} is not enabled, the keepalives are sent asynchronously
+     */
+    public synchronized void start() throws Exception {
+        if (closed)
+            throw new IllegalStateException("Session has been closed");
+        manager.checkConcurrentTransport();
+        if (started)
+            return;
+        listenKey = createListenKey();
+        try {
+            webSocket.connect();
+        } catch (Exception e) {
+            String listenKey = this.listenKey;
+            this.listenKey = null;
+            try {
+                closeListenKey(listenKey);
+            } catch (Exception closeError) {
+                e.addSuppressed(closeError);
+            }
+            throw e;
+        }
+        Thread dispatcher = new Thread(this::dispatchFrames, "binance-user-data-" + listenKeyType.name().toLowerCase());
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+        keepaliveTask = KEEPALIVE_SCHEDULER.scheduleAtFixedRate(this::keepAlive, KEEPALIVE_INTERVAL,
+                KEEPALIVE_INTERVAL, MILLISECONDS);
+        started = true;
+    }
+
+    /**
+     * Method to close the session: the keepalives are stopped, the connection is closed and the listen key is closed
+     * <br>
+     * No-any params required
+     */
+    public void close() {
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+            if (keepaliveTask != null)
+                keepaliveTask.cancel(false);
+        }
+        webSocket.close();
+        messageQueue.close();
+        String listenKey = this.listenKey;
+        if (listenKey != null) {
+            closeListenKeyAsync(listenKey);
+        }
+    }
+
+    /**
+     * Method to close a listen key
+     *
+     * @param listenKey: the listen key to close
+     * @return whether the listen key has been closed as boolean
+     * @throws Exception when the request has been go wrong
+     */
+    private boolean closeListenKey(String listenKey) throws Exception {
+        return switch (listenKeyType) {
+            case SPOT -> manager.closeSpotListenKey(listenKey);
+            case CROSS_MARGIN -> manager.closeMarginListenKey(listenKey);
+            case ISOLATED_MARGIN -> manager.closeIsolatedMarginListenKey(symbol, listenKey);
+        };
+    }
+
+    /**
+     * Method to close a listen key asynchronously, notifying the error to the {@link #errorListener} if it fails
+     *
+     * @param listenKey: the listen key to close
+     */
+    private void closeListenKeyAsync(String listenKey) {
+        manager.async(() -> closeListenKey(listenKey)).whenComplete((result, error) -> {
+            if (error != null)
+                notifyError(error instanceof Exception ? (Exception) error : new Exception(error));
+        });
+    }
+
+    /**
+     * Method to create a new listen key <br>
+     * No-any params required
+     *
+     * @return listen key as {@link String}
+     * @throws Exception when the request has been go wrong
+     */
+    private String createListenKey() throws Exception {
+        return switch (listenKeyType) {
+            case SPOT -> manager.createSpotListenKey();
+            case CROSS_MARGIN -> manager.createMarginListenKey();
+            case ISOLATED_MARGIN -> manager.createIsolatedMarginListenKey(symbol);
+        };
+    }
+
+    /**
+     * Method to send a keepalive of the listen key, renewing it when the keepalive fails <br>
+     * No-any params required
+     */
+    private void keepAlive() {
+        String listenKey = this.listenKey;
+        if (closed || listenKey == null)
+            return;
+        manager.async(() -> switch (listenKeyType) {
+            case SPOT -> manager.pingKeepAliveSpotListenKey(listenKey);
+            case CROSS_MARGIN -> manager.pingKeepAliveMarginListenKey(listenKey);
+            case ISOLATED_MARGIN -> manager.pingKeepAliveIsolatedMarginListenKey(symbol, listenKey);
+        }).whenComplete((alive, error) -> {
+            if (error != null || !alive) {
+                notifyError(new IOException("Keepalive of the listen key has been go wrong", error));
+                renewListenKey(System.currentTimeMillis(), "keepalive failed");
+            }
+        });
+    }
+
+    /**
+     * Method to create a new listen key and roll over the connection on it
+     *
+     * @param expiredAt: when the previous listen key has expired
+     * @param reason:    reason of the renewal
+     * @implNote when the new listen key cannot be created, or the connection cannot be rolled over on it, the renewal
+     * is retried after the {@link #RENEWAL_RETRY_DELAY}. The current listen key is replaced, and then closed, only
+     * when the connection has been rolled over on the new one, so until then it is still kept alive
+     */
+    private void renewListenKey(long expiredAt, String reason) {
+        if (closed || !renewing.compareAndSet(false, true))
+            return;
+        manager.async(this::createListenKey).whenComplete((listenKey, error) -> {
+            try {
+                if (closed)
+                    return;
+                if (error != null) {
+                    notifyError(error instanceof Exception ? (Exception) error : new Exception(error));
+                    KEEPALIVE_SCHEDULER.schedule(() -> renewListenKey(expiredAt, reason), RENEWAL_RETRY_DELAY,
+                            MILLISECONDS);
+                    return;
+                }
+                String oldListenKey = this.listenKey;
+                boolean rolledOver;
+                pendingListenKey = listenKey;
+                try {
+                    rolledOver = webSocket.rollover();
+                    if (rolledOver)
+                        this.listenKey = listenKey;
+                } finally {
+                    pendingListenKey = null;
+                }
+                if (!rolledOver) {
+                    closeListenKeyAsync(listenKey);
+                    if (!closed) {
+                        notifyError(new IOException("Rollover on the renewed listen key has been go wrong"));
+                        KEEPALIVE_SCHEDULER.schedule(() -> renewListenKey(expiredAt, reason), RENEWAL_RETRY_DELAY,
+                                MILLISECONDS);
+                    }
+                    return;
+                }
+                renewals++;
+                if (oldListenKey != null)
+                    closeListenKeyAsync(oldListenKey);
+                notifyGap(new ConnectionGap(expiredAt, System.currentTimeMillis(), 0, reason));
+            } finally {
+                renewing.set(false);
+            }
+        });
+    }
+
+    /**
+     * Method to dispatch the frames queued to the listeners until the session is closed <br>
+     * No-any params required
+     */
+    private void dispatchFrames() {
+        try {
+            String frame;
+            while (!closed && (frame = messageQueue.take()) != null) {
+                try {
+                    dispatchFrame(frame);
+                } catch (Exception e) {
+                    notifyError(e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Method to dispatch a frame to its listener
+     *
+     * @param frame: the frame to dispatch
+     */
+    private void dispatchFrame(String frame) {
+        switch (reachFrameEventType(frame)) {
+            case outboundAccountPosition -> {
+                Consumer<AccountUpdate> accountUpdateListener = this.accountUpdateListener;
+                if (accountUpdateListener != null)
+                    accountUpdateListener.accept(new AccountUpdate(new JSONObject(frame)));
+            }
+            case balanceUpdate -> {
+                Consumer<BalanceUpdate> balanceUpdateListener = this.balanceUpdateListener;
+                if (balanceUpdateListener != null)
+                    balanceUpdateListener.accept(new BalanceUpdate(new JSONObject(frame)));
+            }
+            case executionReport -> {
+                Consumer<OrderUpdate> orderUpdateListener = this.orderUpdateListener;
+                if (orderUpdateListener != null)
+                    orderUpdateListener.accept(new OrderUpdate(new JSONObject(frame)));
+            }
+            case listenKeyExpired -> renewListenKey(new JSONObject(frame).optLong("E", System.currentTimeMillis()),
+                    "listenKeyExpired");
+        }
+    }
+
+    /**
+     * Method to notify a gap to the {@link #gapListener}
+     *
+     * @param gap: the gap occurred
+     */
+    private void notifyGap(ConnectionGap gap) {
+        Consumer<ConnectionGap> gapListener = this.gapListener;
+        if (gapListener != null)
+            gapListener.accept(gap);
+    }
+
+    /**
+     * Method to notify an error to the {@link #errorListener}
+     *
+     * @param error: the error occurred
+     */
+    private void notifyError(Exception error) {
+        Consumer<Exception> errorListener = this.errorListener;
+        if (errorListener != null)
+            errorListener.accept(error);
+    }
+
+    /**
+     * Method to get {@link #listenKeyType} instance <br>
+     * No-any params required
+     *
+     * @return {@link #listenKeyType} instance as {@link ListenKeyType}
+     */
+    public ListenKeyType getListenKeyType() {
+        return listenKeyType;
+    }
+
+    /**
+     * Method to get {@link #symbol} instance <br>
+     * No-any params required
+     *
+     * @return {@link #symbol} instance as {@link String}
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Method to get {@link #listenKey} instance <br>
+     * No-any params required
+     *
+     * @return {@link #listenKey} instance as {@link String}
+     */
+    public String getListenKey() {
+        return listenKey;
+    }
+
+    /**
+     * Method to get {@link #renewals} instance <br>
+     * No-any params required
+     *
+     * @return {@link #renewals} instance as long
+     */
+    public long getRenewals() {
+        return renewals;
+    }
+
+    /**
+     * Method to get whether the session is connected <br>
+     * No-any params required
+     *
+     * @return whether the session is connected as boolean
+     */
+    public boolean isConnected() {
+        return webSocket.isConnected();
+    }
+
+    /**
+     * Method to get {@link #closed} instance <br>
+     * No-any params required
+     *
+     * @return {@link #closed} instance as boolean
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Method to get {@link #messageQueue} instance <br>
+     * No-any params required
+     *
+     * @return {@link #messageQueue} instance as {@link BinanceMessageQueue}
+     */
+    public BinanceMessageQueue getMessageQueue() {
+        return messageQueue;
+    }
+
+    /**
+     * Method to set {@link #accountUpdateListener} instance
+     *
+     * @param accountUpdateListener: listener that receives the account updates
+     */
+    public void setAccountUpdateListener(Consumer<AccountUpdate> accountUpdateListener) {
+        this.accountUpdateListener = accountUpdateListener;
+    }
+
+    /**
+     * Method to set {@link #balanceUpdateListener} instance
+     *
+     * @param balanceUpdateListener: listener that receives the balance updates
+     */
+    public void setBalanceUpdateListener(Consumer<BalanceUpdate> balanceUpdateListener) {
+        this.balanceUpdateListener = balanceUpdateListener;
+    }
+
+    /**
+     * Method to set {@link #orderUpdateListener} instance
+     *
+     * @param orderUpdateListener: listener that receives the order updates
+     */
+    public void setOrderUpdateListener(Consumer<OrderUpdate> orderUpdateListener) {
+        this.orderUpdateListener = orderUpdateListener;
+    }
+
+    /**
+     * Method to set {@link #gapListener} instance
+     *
+     * @param gapListener: listener that receives the gaps of the session, es. to reload a state built from the events
+     */
+    public void setGapListener(Consumer<ConnectionGap> gapListener) {
+        this.gapListener = gapListener;
+    }
+
+    /**
+     * Method to set {@link #errorListener} instance
+     *
+     * @param errorListener: listener that receives the errors of the session
+     */
+    public void setErrorListener(Consumer<Exception> errorListener) {
+        this.errorListener = errorListener;
+    }
+
+}
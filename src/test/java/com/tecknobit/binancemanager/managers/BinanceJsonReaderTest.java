@@ -0,0 +1,163 @@
+package com.tecknobit.binancemanager.managers;
+
+import com.tecknobit.binancemanager.managers.BinanceJsonReader.Token;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code BinanceJsonReaderTest} class is useful to test the reading of the responses with the
+ * {@link BinanceJsonReader}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+class BinanceJsonReaderTest {
+
+    @Test
+    void readsAnOrderBookResponse() throws IOException {
+        BinanceJsonReader reader = new BinanceJsonReader("{\"lastUpdateId\":1027024,\"bids\":[[\"4.00000000\","
+                + "\"431.00000000\"]],\"asks\":[[\"4.00000200\",\"12.00000000\"]]}");
+        reader.beginObject();
+        assertEquals("lastUpdateId", reader.nextName());
+        assertEquals(1027024, reader.nextLong());
+        assertEquals("bids", reader.nextName());
+        reader.beginArray();
+        reader.beginArray();
+        assertEquals(4.0, reader.nextDouble());
+        assertEquals(431.0, reader.nextDouble());
+        assertFalse(reader.hasNext());
+        reader.endArray();
+        assertFalse(reader.hasNext());
+        reader.endArray();
+        assertEquals("asks", reader.nextName());
+        reader.beginArray();
+        reader.beginArray();
+        assertEquals(4.000002, reader.nextDouble());
+        assertEquals(12.0, reader.nextDouble());
+        reader.endArray();
+        reader.endArray();
+        reader.endObject();
+        assertEquals(Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    void readsQuotedAndUnquotedNumbers() throws IOException {
+        BinanceJsonReader reader = new BinanceJsonReader("[\"0.00100000\", 0.001, \"-12.5\", -12.5, 1e-3, "
+                + "\"9007199254740993\", 9007199254740993, \"\", null]");
+        reader.beginArray();
+        assertEquals(0.001, reader.nextDouble());
+        assertEquals(0.001, reader.nextDouble());
+        assertEquals(-12.5, reader.nextDouble());
+        assertEquals(-12.5, reader.nextDouble());
+        assertEquals(0.001, reader.nextDouble());
+        assertEquals(9007199254740993L, reader.nextLong());
+        assertEquals(9007199254740993L, reader.nextLong());
+        assertEquals(0, reader.nextDouble());
+        assertEquals(0, reader.nextLong());
+        reader.endArray();
+    }
+
+    @Test
+    void readsTheScalarValuesAsOrgJson() throws IOException {
+        BinanceJsonReader reader = new BinanceJsonReader("{\"filterType\":\"LOT_SIZE\",\"maxNumOrders\":200,"
+                + "\"serverTime\":1565246363776,\"multiplier\":1.5,\"applyToMarket\":true,\"nested\":{\"a\":[1,2]},"
+                + "\"empty\":null}");
+        reader.beginObject();
+        assertEquals("filterType", reader.nextName());
+        assertEquals("LOT_SIZE", reader.nextValue());
+        assertEquals("maxNumOrders", reader.nextName());
+        assertEquals(200, reader.nextValue());
+        assertEquals("serverTime", reader.nextName());
+        assertEquals(1565246363776L, reader.nextValue());
+        assertEquals("multiplier", reader.nextName());
+        assertEquals(1.5, reader.nextValue());
+        assertEquals("applyToMarket", reader.nextName());
+        assertEquals(true, reader.nextValue());
+        assertEquals("nested", reader.nextName());
+        assertNull(reader.nextValue());
+        assertEquals("empty", reader.nextName());
+        assertNull(reader.nextValue());
+        assertFalse(reader.hasNext());
+        reader.endObject();
+    }
+
+    @Test
+    void skipsTheNestedValues() throws IOException {
+        BinanceJsonReader reader = new BinanceJsonReader("{\"symbols\":[{\"filters\":[{\"a\":\"]}\"}],\"b\":[[]]}],"
+                + "\"timezone\":\"UTC\"}");
+        reader.beginObject();
+        assertEquals("symbols", reader.nextName());
+        reader.skipValue();
+        assertEquals("timezone", reader.nextName());
+        assertEquals("UTC", reader.nextString());
+        reader.endObject();
+        assertEquals(Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    void readsTheEscapedStrings() throws IOException {
+        BinanceJsonReader reader = new BinanceJsonReader("[\"a\\\"b\", \"\\u0041\\n\", \"\\\\\"]");
+        reader.beginArray();
+        assertEquals("a\"b", reader.nextString());
+        assertEquals("A\n", reader.nextString());
+        assertEquals("\\", reader.nextString());
+        reader.endArray();
+    }
+
+    @Test
+    void readsAResponseLongerThanTheBuffer() throws IOException {
+        StringBuilder response = new StringBuilder("[");
+        for (int j = 0; j < 5000; j++) {
+            if (j > 0)
+                response.append(',');
+            response.append("[\"").append(j).append(".12345678\",\"").append(j).append("\"]");
+        }
+        response.append(']');
+        // a reader that returns few chars at time, so the values are split between more reads
+        Reader source = new StringReader(response.toString()) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(length, 7));
+            }
+        };
+        BinanceJsonReader reader = new BinanceJsonReader(source);
+        reader.beginArray();
+        int count = 0;
+        while (reader.hasNext()) {
+            reader.beginArray();
+            assertEquals(count + 0.12345678, reader.nextDouble(), 1e-9);
+            assertEquals(count, reader.nextInt());
+            reader.endArray();
+            count++;
+        }
+        reader.endArray();
+        assertEquals(5000, count);
+    }
+
+    @Test
+    void rejectsTheMalformedResponses() {
+        assertThrows(IOException.class, () -> {
+            BinanceJsonReader reader = new BinanceJsonReader("{\"a\" 1}");
+            reader.beginObject();
+            reader.nextName();
+            reader.nextLong();
+        });
+        assertThrows(IOException.class, () -> {
+            BinanceJsonReader reader = new BinanceJsonReader("[1 2]");
+            reader.beginArray();
+            reader.nextLong();
+            reader.nextLong();
+        });
+        assertThrows(IOException.class, () -> new BinanceJsonReader("{\"a\":1}").beginArray());
+        assertThrows(IOException.class, () -> {
+            BinanceJsonReader reader = new BinanceJsonReader("[\"abc\"]");
+            reader.beginArray();
+            reader.nextDouble();
+        });
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.tecknobit.binancemanager.managers;
+
+import com.tecknobit.apimanager.annotations.RequestWeight;
+import com.tecknobit.binancemanager.exceptions.RateLimitException;
+import com.tecknobit.binancemanager.managers.BinanceHttpTransport.Response;
+import com.tecknobit.binancemanager.managers.BinanceRateLimiter.RequestCost;
+import com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.RateLimit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpHeaders;
+import java.util.HashMap;
+import java.util.List;
+
+import static com.tecknobit.binancemanager.managers.BinanceRateLimiter.LimitPolicy.FAIL_FAST;
+import static com.tecknobit.binancemanager.managers.BinanceRateLimiter.ORDER_COUNT_HEADER;
+import static com.tecknobit.binancemanager.managers.BinanceRateLimiter.USED_WEIGHT_HEADER;
+import static com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.RateLimit.RateLimitInterval.DAY;
+import static com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.RateLimit.RateLimitType.ORDERS;
+import static com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.RateLimit.RateLimitType.REQUEST_WEIGHT;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code BinanceRateLimiterTest} class is useful to test the weight parsing and the budgets accounting of the
+ * {@link BinanceRateLimiter}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the budgets are loaded with daily windows, so the windows do not roll while a test runs
+ */
+class BinanceRateLimiterTest {
+
+    /**
+     * {@code limiter} is the limiter under test
+     */
+    private BinanceRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new BinanceRateLimiter(FAIL_FAST);
+        limiter.loadRateLimits(List.of(new RateLimit(1, 100, DAY, REQUEST_WEIGHT),
+                new RateLimit(1, 2, DAY, ORDERS)));
+        limiter.setUidWeightLimit(10, 86400000);
+    }
+
+    @Test
+    void parsesTheSingleWeights() {
+        RequestCost cost = BinanceRateLimiter.parseWeight("2(IP)", false);
+        assertEquals(2, cost.getIpWeight());
+        assertEquals(0, cost.getUidWeight());
+        assertFalse(cost.isOrder());
+        cost = BinanceRateLimiter.parseWeight("3000(UID)", true);
+        assertEquals(0, cost.getIpWeight());
+        assertEquals(3000, cost.getUidWeight());
+        assertTrue(cost.isOrder());
+        cost = BinanceRateLimiter.parseWeight("1(IP) / 2(UID)", false);
+        assertEquals(1, cost.getIpWeight());
+        assertEquals(2, cost.getUidWeight());
+        cost = BinanceRateLimiter.parseWeight("4(IP/UID)", false);
+        assertEquals(4, cost.getIpWeight());
+        assertEquals(4, cost.getUidWeight());
+    }
+
+    @Test
+    void parsesTheTieredWeights() {
+        RequestCost cost = BinanceRateLimiter.parseWeight("1/5/10/50(IP)", false);
+        assertEquals(50, cost.getIpWeight());
+        assertEquals(1, cost.getLowestTierCost().getIpWeight());
+        cost = BinanceRateLimiter.parseWeight("20/2(UID)", true);
+        assertEquals(20, cost.getUidWeight());
+        assertEquals(2, cost.getLowestTierCost().getUidWeight());
+        assertTrue(cost.getLowestTierCost().isOrder());
+        cost = BinanceRateLimiter.parseWeight("3(IP)", false);
+        assertEquals(3, cost.getLowestTierCost().getIpWeight());
+    }
+
+    @Test
+    void parsesTheWeightsWithoutLimitAsIp() {
+        RequestCost cost = BinanceRateLimiter.parseWeight("5", false);
+        assertEquals(5, cost.getIpWeight());
+        assertEquals(0, cost.getUidWeight());
+        cost = BinanceRateLimiter.parseWeight("", false);
+        assertEquals(1, cost.getIpWeight());
+        assertEquals(1, cost.getLowestTierCost().getIpWeight());
+    }
+
+    @Test
+    void chargesTheHighestTierWithoutTheWeightHeaders() throws Exception {
+        TieredManager manager = new TieredManager();
+        manager.send(limiter, false);
+        assertEquals(50, limiter.getUsedIpWeight("1d"));
+        manager.send(limiter, true);
+        assertEquals(51, limiter.getUsedIpWeight("1d"));
+    }
+
+    @Test
+    void countsTheWeightUntilTheBudgetIsExhausted() throws RateLimitException {
+        limiter.acquire(new RequestCost(60, 0, false));
+        limiter.acquire(new RequestCost(40, 0, false));
+        assertEquals(100, limiter.getUsedIpWeight("1d"));
+        RateLimitException exception = assertThrows(RateLimitException.class,
+                () -> limiter.acquire(new RequestCost(1, 0, false)));
+        assertTrue(exception.getRetryAfter() > 0);
+        assertEquals(100, limiter.getUsedIpWeight("1d"));
+    }
+
+    @Test
+    void refusesARequestThatExceedsAnyBudget() throws RateLimitException {
+        limiter.acquire(new RequestCost(1, 10, false));
+        assertThrows(RateLimitException.class, () -> limiter.acquire(new RequestCost(1, 1, false)));
+        assertEquals(1, limiter.getUsedIpWeight("1d"));
+        limiter.acquire(new RequestCost(1, 0, false));
+        assertEquals(2, limiter.getUsedIpWeight("1d"));
+    }
+
+    @Test
+    void countsOnlyTheOrders() throws RateLimitException {
+        limiter.acquire(new RequestCost(1, 0, false));
+        assertEquals(0, limiter.getOrderCount("1d"));
+        limiter.acquire(new RequestCost(1, 0, true));
+        limiter.acquire(new RequestCost(1, 0, true));
+        assertEquals(2, limiter.getOrderCount("1d"));
+        assertThrows(RateLimitException.class, () -> limiter.acquire(new RequestCost(1, 0, true)));
+        limiter.acquire(new RequestCost(1, 0, false));
+        assertEquals(4, limiter.getUsedIpWeight("1d"));
+    }
+
+    @Test
+    void alignsTheBudgetsWithTheServerUsage() throws RateLimitException {
+        limiter.acquire(new RequestCost(10, 0, false));
+        limiter.update(200, response(200, USED_WEIGHT_HEADER + "1d", "30"));
+        assertEquals(30, limiter.getUsedIpWeight("1d"));
+        limiter.update(200, response(200, USED_WEIGHT_HEADER + "1d", "5"));
+        assertEquals(30, limiter.getUsedIpWeight("1d"));
+        limiter.update(200, response(200, ORDER_COUNT_HEADER + "1d", "2"));
+        assertThrows(RateLimitException.class, () -> limiter.acquire(new RequestCost(1, 0, true)));
+    }
+
+    @Test
+    void tracksTheServerWindowsNotLoaded() {
+        assertEquals(-1, limiter.getUsedIpWeight("1h"));
+        limiter.update(200, response(200, "X-MBX-USED-WEIGHT-1H", "7"));
+        assertEquals(7, limiter.getUsedIpWeight("1h"));
+        limiter.update(200, response(200, USED_WEIGHT_HEADER + "1x", "7"));
+        assertEquals(-1, limiter.getUsedIpWeight("1x"));
+    }
+
+    @Test
+    void blocksTheRequestsAfterATooManyRequestsResponse() {
+        long now = System.currentTimeMillis();
+        limiter.update(429, response(429, "Retry-After", "30"));
+        assertTrue(limiter.getBlockedUntil() >= now + 30000);
+        RateLimitException exception = assertThrows(RateLimitException.class,
+                () -> limiter.acquire(new RequestCost(1, 0, false)));
+        assertTrue(exception.getRetryAfter() > 29000);
+        assertEquals(0, limiter.getUsedIpWeight("1d"));
+    }
+
+    @Test
+    void blocksUntilTheEndOfTheMinuteWithoutRetryAfter() {
+        long now = System.currentTimeMillis();
+        limiter.update(418, null);
+        assertTrue(limiter.getBlockedUntil() > now);
+        assertTrue(limiter.getBlockedUntil() <= now + 60000 + 1000);
+    }
+
+    /**
+     * Method to create a response with a header
+     *
+     * @param statusCode: status code of the response
+     * @param header:     name of the header
+     * @param value:      value of the header
+     * @return the response as {@link Response}
+     */
+    private static Response response(int statusCode, String header, String value) {
+        HashMap<String, List<String>> headers = new HashMap<>();
+        headers.put(header, List.of(value));
+        return new Response(statusCode, "{}", HttpHeaders.of(headers, (name, values) -> true));
+    }
+
+    /**
+     * The {@code TieredManager} class is useful to acquire the budget from a manager method with a tiered weight
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static class TieredManager extends BinanceManager {
+
+        /**
+         * Constructor to init a {@link TieredManager} <br>
+         * No-any params required
+         */
+        private TieredManager() throws Exception {
+            super("https://api.binance.com");
+        }
+
+        /**
+         * Method to acquire the budget as the manager methods do before sending a request
+         *
+         * @param limiter:       the limiter to acquire
+         * @param weightHeaders: whether the response will have the weight headers
+         */
+        @RequestWeight(weight = "1/5/10/50(IP)")
+        private void send(BinanceRateLimiter limiter, boolean weightHeaders) throws RateLimitException {
+            limiter.acquire(weightHeaders);
+        }
+
+    }
+
+}
@@ -0,0 +1,271 @@
+package com.tecknobit.binancemanager.managers.marketstreams;
+
+import com.tecknobit.binancemanager.managers.SupervisedWebsocket.ConnectionGap;
+import com.tecknobit.binancemanager.managers.market.BinanceMarketManager;
+import com.tecknobit.binancemanager.managers.market.records.OrderBook;
+import com.tecknobit.binancemanager.managers.market.records.OrderBook.BookOrderDetails;
+import com.tecknobit.binancemanager.managers.marketstreams.LocalOrderBook.PriceLevels;
+import com.tecknobit.binancemanager.managers.marketstreams.records.DiffDepth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static com.tecknobit.binancemanager.managers.records.websocketstream.BinanceWebsocketResponse.EventType.depthUpdate;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code LocalOrderBookTest} class is useful to test the sequencing of the events and of the snapshots of the
+ * {@link LocalOrderBook}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the snapshots requested by the book are completed by the tests and the diff depth events are passed
+ * directly to the book, so no connection is opened
+ */
+class LocalOrderBookTest {
+
+    /**
+     * {@code snapshotRequests} are the snapshot requests sent by the book and not completed yet
+     */
+    private final ArrayDeque<CompletableFuture<OrderBook>> snapshotRequests = new ArrayDeque<>();
+
+    /**
+     * {@code updates} is the number of the updates notified by the book
+     */
+    private final AtomicInteger updates = new AtomicInteger();
+
+    /**
+     * {@code orderBook} is the book under test
+     */
+    private LocalOrderBook orderBook;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        BinanceMarketManager marketManager = new BinanceMarketManager("https://api.binance.com") {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> CompletableFuture<T> async(Callable<T> request) {
+                CompletableFuture<T> snapshotRequest = new CompletableFuture<>();
+                snapshotRequests.add((CompletableFuture<OrderBook>) snapshotRequest);
+                return snapshotRequest;
+            }
+        };
+        marketManager.enableConcurrentTransport();
+        BinanceMarketStreamsManager streamsManager = new BinanceMarketStreamsManager() {
+            @Override
+            public StreamSubscription<DiffDepth> subscribeToDiffDepthStream(String symbol, int updateSpeed,
+                                                                            Consumer<DiffDepth> listener) {
+                return new StreamSubscription<>(symbol.toLowerCase() + "@depth", frame -> null, listener);
+            }
+        };
+        orderBook = new LocalOrderBook("btcusdt", streamsManager, marketManager);
+        orderBook.setUpdateListener(book -> updates.incrementAndGet());
+        orderBook.start();
+    }
+
+    @Test
+    void buffersTheEventsUntilTheSnapshot() {
+        orderBook.onDiffDepth(diffDepth(95, 105, List.of(level(10, 4)), List.of()));
+        orderBook.onDiffDepth(diffDepth(106, 110, List.of(level(9, 0)), List.of(level(12, 1))));
+        assertFalse(orderBook.isSynced());
+        assertEquals(1, snapshotRequests.size());
+        assertEquals(0, updates.get());
+        completeSnapshot(100);
+        assertTrue(orderBook.isSynced());
+        assertEquals(110, orderBook.getLastUpdateId());
+        assertEquals(10, orderBook.getBestBidPrice());
+        assertEquals(4, orderBook.getBestBidQuantity());
+        assertEquals(0, orderBook.getBidQuantity(9));
+        assertEquals(11, orderBook.getBestAskPrice());
+        assertEquals(1, orderBook.getAskQuantity(12));
+        assertEquals(1, updates.get());
+        assertEquals(0, orderBook.getResyncs());
+    }
+
+    @Test
+    void dropsTheEventsOlderThanTheSnapshot() {
+        orderBook.onDiffDepth(diffDepth(90, 99, List.of(level(10, 7)), List.of()));
+        orderBook.onDiffDepth(diffDepth(100, 101, List.of(), List.of(level(11, 8))));
+        completeSnapshot(100);
+        assertTrue(orderBook.isSynced());
+        assertEquals(101, orderBook.getLastUpdateId());
+        assertEquals(5, orderBook.getBidQuantity(10));
+        assertEquals(8, orderBook.getAskQuantity(11));
+    }
+
+    @Test
+    void requestsANewSnapshotOlderThanTheEvents() {
+        orderBook.onDiffDepth(diffDepth(200, 210, List.of(level(10, 1)), List.of()));
+        completeSnapshot(150);
+        assertFalse(orderBook.isSynced());
+        assertEquals(1, snapshotRequests.size());
+        assertEquals(0, updates.get());
+        completeSnapshot(205);
+        assertTrue(orderBook.isSynced());
+        assertEquals(210, orderBook.getLastUpdateId());
+        assertEquals(1, orderBook.getBidQuantity(10));
+    }
+
+    @Test
+    void appliesTheEventsInSequence() {
+        sync();
+        orderBook.onDiffDepth(diffDepth(101, 102, List.of(level(10, 0), level(9.5, 3)), List.of(level(10.5, 2))));
+        assertEquals(102, orderBook.getLastUpdateId());
+        assertEquals(9.5, orderBook.getBestBidPrice());
+        assertEquals(10.5, orderBook.getBestAskPrice());
+        assertEquals(0, orderBook.getBidQuantity(10));
+        orderBook.onDiffDepth(diffDepth(103, 103, List.of(level(9.5, 0), level(9, 0)), List.of()));
+        assertTrue(Double.isNaN(orderBook.getBestBidPrice()));
+        assertEquals(3, updates.get());
+        assertTrue(snapshotRequests.isEmpty());
+    }
+
+    @Test
+    void ignoresTheStaleEvents() {
+        sync();
+        orderBook.onDiffDepth(diffDepth(95, 100, List.of(level(10, 9)), List.of()));
+        assertTrue(orderBook.isSynced());
+        assertEquals(100, orderBook.getLastUpdateId());
+        assertEquals(5, orderBook.getBidQuantity(10));
+        assertEquals(1, updates.get());
+        assertTrue(snapshotRequests.isEmpty());
+    }
+
+    @Test
+    void resyncsWhenAnEventIsMissing() {
+        sync();
+        orderBook.onDiffDepth(diffDepth(105, 110, List.of(level(10, 1)), List.of()));
+        assertFalse(orderBook.isSynced());
+        assertEquals(1, orderBook.getResyncs());
+        assertEquals(1, snapshotRequests.size());
+        assertTrue(Double.isNaN(orderBook.getBestBidPrice()));
+        orderBook.onDiffDepth(diffDepth(111, 112, List.of(level(9, 6)), List.of()));
+        completeSnapshot(108);
+        assertTrue(orderBook.isSynced());
+        assertEquals(112, orderBook.getLastUpdateId());
+        assertEquals(1, orderBook.getBidQuantity(10));
+        assertEquals(6, orderBook.getBidQuantity(9));
+    }
+
+    @Test
+    void resyncsAfterAConnectionGap() {
+        sync();
+        orderBook.onGap(new ConnectionGap(1, 2, 1006, "abnormal close"));
+        assertFalse(orderBook.isSynced());
+        assertEquals(1, orderBook.getResyncs());
+        assertTrue(Double.isNaN(orderBook.getBestAskPrice()));
+        orderBook.onDiffDepth(diffDepth(150, 151, List.of(), List.of()));
+        assertEquals(1, snapshotRequests.size());
+        completeSnapshot(150);
+        assertTrue(orderBook.isSynced());
+        assertEquals(151, orderBook.getLastUpdateId());
+    }
+
+    @Test
+    void requestsTheSnapshotAgainAfterAnError() {
+        ArrayList<Exception> errors = new ArrayList<>();
+        orderBook.setErrorListener(errors::add);
+        orderBook.onDiffDepth(diffDepth(101, 101, List.of(), List.of()));
+        snapshotRequests.poll().completeExceptionally(new IOException("snapshot not available"));
+        assertEquals(1, errors.size());
+        assertFalse(orderBook.isSynced());
+        orderBook.onDiffDepth(diffDepth(102, 102, List.of(), List.of()));
+        assertEquals(1, snapshotRequests.size());
+        completeSnapshot(100);
+        assertTrue(orderBook.isSynced());
+        assertEquals(102, orderBook.getLastUpdateId());
+    }
+
+    @Test
+    void ignoresTheSnapshotsAfterTheStop() {
+        orderBook.onDiffDepth(diffDepth(101, 101, List.of(), List.of()));
+        orderBook.stop();
+        completeSnapshot(100);
+        assertFalse(orderBook.isSynced());
+        assertEquals(-1, orderBook.getLastUpdateId());
+    }
+
+    @Test
+    void keepsThePriceLevelsSorted() {
+        PriceLevels bids = new PriceLevels(true);
+        PriceLevels asks = new PriceLevels(false);
+        for (int j = 1; j <= 100; j++) {
+            bids.set(j, j);
+            asks.set(101 - j, j);
+        }
+        assertEquals(100, bids.size());
+        assertEquals(100, bids.getPrice(0));
+        assertEquals(1, bids.getPrice(99));
+        assertEquals(1, asks.getPrice(0));
+        assertEquals(100, asks.getQuantity(0));
+        bids.set(100, 0);
+        bids.set(50, 2.5);
+        bids.set(1000.5, 0);
+        assertEquals(99, bids.size());
+        assertEquals(99, bids.getPrice(0));
+        assertEquals(2.5, bids.get(50));
+        assertEquals(0, bids.get(1000.5));
+        ArrayList<BookOrderDetails> levels = asks.getLevels(2);
+        assertEquals(2, levels.size());
+        assertEquals(2, levels.get(1).getPrice());
+        assertEquals(99, levels.get(1).getQuantity());
+        assertTrue(Double.isNaN(asks.getPrice(100)));
+    }
+
+    /**
+     * Method to sync the book with a snapshot whose last update identifier is {@code 100} <br>
+     * No-any params required
+     */
+    private void sync() {
+        orderBook.onDiffDepth(diffDepth(101, 100, List.of(), List.of()));
+        completeSnapshot(100);
+        assertTrue(orderBook.isSynced());
+    }
+
+    /**
+     * Method to complete the first snapshot request not completed yet
+     *
+     * @param lastUpdateId: last update identifier of the snapshot
+     * @implNote the snapshot has the bid {@code 10 - 5} and the ask {@code 11 - 3}
+     */
+    private void completeSnapshot(long lastUpdateId) {
+        CompletableFuture<OrderBook> snapshotRequest = snapshotRequests.poll();
+        assertNotNull(snapshotRequest);
+        snapshotRequest.complete(new OrderBook(lastUpdateId, new ArrayList<>(List.of(level(10, 5))),
+                new ArrayList<>(List.of(level(11, 3))), "BTCUSDT"));
+    }
+
+    /**
+     * Method to create a diff depth event
+     *
+     * @param firstUpdateId: first update identifier of the event
+     * @param finalUpdateId: final update identifier of the event
+     * @param bids:          bids of the event
+     * @param asks:          asks of the event
+     * @return diff depth event as {@link DiffDepth}
+     */
+    private static DiffDepth diffDepth(long firstUpdateId, long finalUpdateId, List<BookOrderDetails> bids,
+                                       List<BookOrderDetails> asks) {
+        return new DiffDepth(depthUpdate, System.currentTimeMillis(), "BTCUSDT", firstUpdateId, finalUpdateId,
+                new ArrayList<>(bids), new ArrayList<>(asks));
+    }
+
+    /**
+     * Method to create a price level
+     *
+     * @param price:    price of the level
+     * @param quantity: quantity of the level
+     * @return price level as {@link BookOrderDetails}
+     */
+    private static BookOrderDetails level(double price, double quantity) {
+        return new BookOrderDetails(price, quantity);
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.tecknobit.binancemanager.managers.marketstreams;
+
+import com.tecknobit.binancemanager.managers.marketstreams.MarketFrameDecoder.BookTickerEvent;
+import com.tecknobit.binancemanager.managers.marketstreams.MarketFrameDecoder.TradeEvent;
+import com.tecknobit.binancemanager.managers.marketstreams.records.ticker.WbsBookTicker;
+import com.tecknobit.binancemanager.managers.marketstreams.records.trade.AggregateTrade;
+import com.tecknobit.binancemanager.managers.marketstreams.records.trade.WbsTrade;
+import org.junit.jupiter.api.Test;
+
+import static com.tecknobit.binancemanager.managers.records.websocketstream.BinanceWebsocketResponse.EventType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code MarketFrameDecoderTest} class is useful to test the decoding of the market streams frames with the
+ * {@link MarketFrameDecoder}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+class MarketFrameDecoderTest {
+
+    /**
+     * {@code TRADE_FRAME} is a frame of the trade stream
+     */
+    private static final String TRADE_FRAME = "{\"e\":\"trade\",\"E\":1672515782136,\"s\":\"BNBBTC\",\"t\":12345,"
+            + "\"p\":\"0.00100000\",\"q\":\"100.5\",\"b\":88,\"a\":50,\"T\":1672515782134,\"m\":true,\"M\":true}";
+
+    /**
+     * {@code AGGREGATE_TRADE_FRAME} is a frame of the aggregate trade stream
+     */
+    private static final String AGGREGATE_TRADE_FRAME = "{\"e\":\"aggTrade\",\"E\":1672515782136,\"s\":\"BNBBTC\","
+            + "\"a\":12345,\"p\":\"0.001\",\"q\":\"100\",\"f\":100,\"l\":105,\"T\":1672515782134,\"m\":false,"
+            + "\"M\":true}";
+
+    /**
+     * {@code BOOK_TICKER_FRAME} is a frame of the book-ticker stream
+     */
+    private static final String BOOK_TICKER_FRAME = "{\"u\":400900217,\"s\":\"BNBUSDT\",\"b\":\"25.35190000\","
+            + "\"B\":\"31.21000000\",\"a\":\"25.36520000\",\"A\":\"40.66000000\"}";
+
+    /**
+     * {@code decoder} is the decoder under test
+     */
+    private final MarketFrameDecoder decoder = new MarketFrameDecoder();
+
+    @Test
+    void decodesATrade() {
+        WbsTrade wbsTrade = decoder.decodeTrade(TRADE_FRAME);
+        assertEquals(trade, wbsTrade.getEventType());
+        assertEquals(1672515782136L, wbsTrade.getEventTime());
+        assertEquals("BNBBTC", wbsTrade.getSymbol());
+        assertEquals(12345, wbsTrade.getTradeId());
+        assertEquals(0.001, wbsTrade.getPrice());
+        assertEquals(100.5, wbsTrade.getQuantity());
+        assertEquals(88, wbsTrade.getBuyerOrderId());
+        assertEquals(50, wbsTrade.getSellerOrderId());
+        assertEquals(1672515782134L, wbsTrade.getTradeTime());
+        assertTrue(wbsTrade.isBuyerMarketMaker());
+    }
+
+    @Test
+    void decodesAnAggregateTrade() {
+        AggregateTrade aggregateTrade = decoder.decodeAggregateTrade(AGGREGATE_TRADE_FRAME);
+        assertEquals(aggTrade, aggregateTrade.getEventType());
+        assertEquals("BNBBTC", aggregateTrade.getSymbol());
+        assertEquals(12345, aggregateTrade.getAggregateTradeId());
+        assertEquals(0.001, aggregateTrade.getPrice());
+        assertEquals(100, aggregateTrade.getQuantity());
+        assertEquals(100, aggregateTrade.getFirstTradeId());
+        assertEquals(105, aggregateTrade.getLastTradeId());
+        assertEquals(1672515782134L, aggregateTrade.getTradeTime());
+        assertFalse(aggregateTrade.isBuyerMarketMaker());
+    }
+
+    @Test
+    void decodesABookTicker() {
+        WbsBookTicker wbsBookTicker = decoder.decodeBookTicker(BOOK_TICKER_FRAME);
+        assertEquals(bookTicker, wbsBookTicker.getEventType());
+        assertEquals(400900217, wbsBookTicker.getOrderBookUpdateId());
+        assertEquals("BNBUSDT", wbsBookTicker.getSymbol());
+        assertEquals(25.3519, wbsBookTicker.getBestBidPrice());
+        assertEquals(31.21, wbsBookTicker.getBestBidQuantity());
+        assertEquals(25.3652, wbsBookTicker.getBestAskPrice());
+        assertEquals(40.66, wbsBookTicker.getBestAskQuantity());
+    }
+
+    @Test
+    void decodesTheCombinedFrames() {
+        WbsBookTicker wbsBookTicker = decoder.decodeBookTicker("{\"stream\":\"bnbusdt@bookTicker\",\"data\":"
+                + BOOK_TICKER_FRAME + "}");
+        assertEquals(400900217, wbsBookTicker.getOrderBookUpdateId());
+        assertEquals("BNBUSDT", wbsBookTicker.getSymbol());
+        assertEquals(40.66, wbsBookTicker.getBestAskQuantity());
+        String combinedTrade = "{\"stream\":\"bnbbtc@aggTrade\",\"data\":" + AGGREGATE_TRADE_FRAME + "}";
+        assertEquals(aggTrade, decoder.readEventType(combinedTrade));
+        AggregateTrade aggregateTrade = decoder.decodeAggregateTrade(combinedTrade);
+        assertEquals(12345, aggregateTrade.getAggregateTradeId());
+        assertEquals(105, aggregateTrade.getLastTradeId());
+    }
+
+    @Test
+    void readsTheEventType() {
+        assertEquals(trade, decoder.readEventType(TRADE_FRAME));
+        assertEquals(aggTrade, decoder.readEventType(AGGREGATE_TRADE_FRAME));
+        assertEquals(trade, decoder.readEventType(TRADE_FRAME));
+        assertEquals(no_content, decoder.readEventType(BOOK_TICKER_FRAME));
+        assertEquals(no_content, decoder.readEventType("{\"e\":\"unknown\"}"));
+        assertEquals(no_content, decoder.readEventType("{}"));
+        assertEquals(no_content, decoder.readEventType(""));
+    }
+
+    @Test
+    void skipsTheNestedValues() {
+        WbsTrade wbsTrade = decoder.decodeTrade("{\"e\":\"trade\", \"x\":{\"a\":7,\"p\":\"9\",\"z\":[{\"q\":\"}\"}]},"
+                + " \"p\": 1.5, \"a\":3 }");
+        assertEquals(1.5, wbsTrade.getPrice());
+        assertEquals(0, wbsTrade.getQuantity());
+        assertEquals(3, wbsTrade.getSellerOrderId());
+    }
+
+    @Test
+    void fillsTheFlyweights() {
+        TradeEvent event = new TradeEvent();
+        assertSame(event, decoder.decodeTrade(TRADE_FRAME, event));
+        assertEquals(trade, event.getEventType());
+        assertEquals(50, event.getSellerOrderId());
+        String symbol = event.getSymbol();
+        assertSame(event, decoder.decodeTrade(AGGREGATE_TRADE_FRAME, event));
+        assertEquals(aggTrade, event.getEventType());
+        assertEquals(12345, event.getAggregateTradeId());
+        assertEquals(0, event.getSellerOrderId());
+        assertEquals(0, event.getBuyerOrderId());
+        assertSame(symbol, event.getSymbol());
+        decoder.decodeTrade("{\"e\":\"trade\",\"s\":\"ETHBTC\"}", event);
+        assertEquals("ETHBTC", event.getSymbol());
+        assertEquals(0, event.getPrice());
+        assertEquals(0, event.getAggregateTradeId());
+        assertFalse(event.isBuyerMarketMaker());
+        BookTickerEvent bookTickerEvent = new BookTickerEvent();
+        assertSame(bookTickerEvent, decoder.decodeBookTicker(BOOK_TICKER_FRAME, bookTickerEvent));
+        assertEquals(25.3519, bookTickerEvent.getBestBidPrice());
+        decoder.decodeBookTicker("{\"u\":1,\"s\":\"BNBUSDT\"}", bookTickerEvent);
+        assertEquals(1, bookTickerEvent.getOrderBookUpdateId());
+        assertEquals(0, bookTickerEvent.getBestBidPrice());
+    }
+
+    @Test
+    void readsTheValuesAsParseDouble() {
+        String[] values = {"0", "0.00000001", "25.35190000", "-12.5", "123456.78901234", "9007199254740993",
+                "90071992547409.93", "0.1234567890123456789012345", "12345678901234567890.5", "1e-8", "1.5E3"};
+        BookTickerEvent event = new BookTickerEvent();
+        for (String value : values) {
+            decoder.decodeBookTicker("{\"u\":1,\"b\":\"" + value + "\",\"a\":" + value + "}", event);
+            assertEquals(Double.parseDouble(value), event.getBestBidPrice(), value);
+            assertEquals(Double.parseDouble(value), event.getBestAskPrice(), value);
+        }
+        TradeEvent tradeEvent = decoder.decodeTrade("{\"e\":\"trade\",\"E\":-5,\"t\":1.0E3}", new TradeEvent());
+        assertEquals(-5, tradeEvent.getEventTime());
+        assertEquals(1000, tradeEvent.getTradeId());
+    }
+
+}
@@ -0,0 +1,248 @@
+package com.tecknobit.binancemanager.managers.signedmanagers.trade.commons;
+
+import com.tecknobit.binancemanager.exceptions.OrderRejectedException;
+import com.tecknobit.binancemanager.managers.market.BinanceMarketManager;
+import com.tecknobit.binancemanager.managers.market.ExchangeInformationCache;
+import com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.Filter;
+import com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.Filter.FilterType;
+import com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.Symbol;
+import com.tecknobit.binancemanager.managers.market.records.stats.SymbolFilters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.tecknobit.binancemanager.managers.BinanceManager.Params;
+import static com.tecknobit.binancemanager.managers.market.records.stats.ExchangeInformation.Filter.FilterType.*;
+import static com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.OrderType.LIMIT;
+import static com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.OrderType.MARKET;
+import static com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.Side.BUY;
+import static com.tecknobit.binancemanager.managers.signedmanagers.trade.commons.Order.Side.SELL;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code OrderValidatorTest} class is useful to test the pre-trade checks of the {@link OrderValidator}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the filters are served by a cache filled by the tests and the average price of all the symbols is
+ * {@code 30000}, so no request is sent
+ */
+class OrderValidatorTest {
+
+    /**
+     * {@code AVERAGE_PRICE} is the average price returned for all the symbols
+     */
+    private static final double AVERAGE_PRICE = 30000;
+
+    /**
+     * {@code symbolsFilters} are the filters served by the cache
+     */
+    private final HashMap<String, SymbolFilters> symbolsFilters = new HashMap<>();
+
+    /**
+     * {@code averagePriceRequests} is the number of the average price requests sent by the validator
+     */
+    private final AtomicInteger averagePriceRequests = new AtomicInteger();
+
+    /**
+     * {@code validator} is the validator under test
+     */
+    private OrderValidator validator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        symbolsFilters.put("BTCUSDT", symbolFilters("BTCUSDT", "TRADING",
+                filter(PRICE_FILTER, "minPrice", "0.01000000", "maxPrice", "1000000.00000000", "tickSize",
+                        "0.01000000"),
+                filter(LOT_SIZE, "minQty", "0.00001000", "maxQty", "9000.00000000", "stepSize", "0.00001000"),
+                filter(MARKET_LOT_SIZE, "minQty", "0.00000000", "maxQty", "100.00000000", "stepSize",
+                        "0.00000000"),
+                filter(NOTIONAL, "minNotional", "5.00000000", "applyMinToMarket", true, "maxNotional",
+                        "9000000.00000000", "applyMaxToMarket", false, "avgPriceMins", 5),
+                filter(PERCENT_PRICE_BY_SIDE, "bidMultiplierUp", "5", "bidMultiplierDown", "0.2",
+                        "askMultiplierUp", "5", "askMultiplierDown", "0.2", "avgPriceMins", 5),
+                filter(MAX_NUM_ORDERS, "maxNumOrders", 200)));
+        symbolsFilters.put("BNBUSDT", symbolFilters("BNBUSDT", "TRADING",
+                filter(LOT_SIZE, "minQty", "0.00100000", "maxQty", "9000.00000000", "stepSize", "0.00100000"),
+                filter(MARKET_LOT_SIZE, "minQty", "0.10000000", "maxQty", "1000.00000000", "stepSize",
+                        "0.10000000")));
+        symbolsFilters.put("ETHBTC", symbolFilters("ETHBTC", "BREAK"));
+        BinanceMarketManager marketManager = new BinanceMarketManager("https://api.binance.com") {
+            @Override
+            public double getCurrentAveragePriceValue(String symbol) {
+                averagePriceRequests.incrementAndGet();
+                return AVERAGE_PRICE;
+            }
+        };
+        validator = new OrderValidator(new ExchangeInformationCache(marketManager) {
+            @Override
+            public SymbolFilters getSymbolFilters(String symbol) {
+                return symbolsFilters.get(symbol);
+            }
+        });
+    }
+
+    @Test
+    void roundsThePriceToTheTickInFavorOfTheTrader() throws Exception {
+        assertEquals("30000.01", param(validator.validate("BTCUSDT", BUY, LIMIT, payload("30000.019", "0.001")),
+                "price"));
+        assertEquals("30000.02", param(validator.validate("BTCUSDT", SELL, LIMIT, payload("30000.011", "0.001")),
+                "price"));
+        assertEquals("30000", param(validator.validate("BTCUSDT", SELL, LIMIT, payload("30000", "0.001")),
+                "price"));
+        Params payload = payload("30000", "0.001");
+        payload.addParam("stopPrice", "30000.015");
+        assertEquals("30000.02", param(validator.validate("BTCUSDT", SELL, LIMIT, payload), "stopPrice"));
+    }
+
+    @Test
+    void floorsTheQuantityToTheStep() throws Exception {
+        Params payload = validator.validate("BTCUSDT", BUY, LIMIT, payload("30000", "0.0012345"));
+        assertEquals("0.00123", param(payload, "quantity"));
+        payload = validator.validate("BTCUSDT", BUY, LIMIT, payload("30000", "1.00000000"));
+        assertEquals("1", param(payload, "quantity"));
+    }
+
+    @Test
+    void rejectsTheQuantityOutOfTheLotSize() {
+        assertRejected(LOT_SIZE, "BTCUSDT", BUY, LIMIT, payload("30000", "0.000009"));
+        assertRejected(LOT_SIZE, "BTCUSDT", BUY, LIMIT, payload("30000", "9000.1"));
+    }
+
+    @Test
+    void appliesTheMarketLotSizeToTheMarketOrders() throws Exception {
+        Params payload = validator.validate("BNBUSDT", BUY, MARKET, payload(null, "1.2345"));
+        assertEquals("1.2", param(payload, "quantity"));
+        payload = validator.validate("BNBUSDT", BUY, LIMIT, payload(null, "1.2345"));
+        assertEquals("1.234", param(payload, "quantity"));
+        assertRejected(MARKET_LOT_SIZE, "BNBUSDT", SELL, MARKET, payload(null, "0.05"));
+        assertRejected(MARKET_LOT_SIZE, "BTCUSDT", SELL, MARKET, payload(null, "150"));
+        assertEquals(0, averagePriceRequests.get());
+    }
+
+    @Test
+    void ignoresTheMarketStepWhenNotSet() throws Exception {
+        Params payload = validator.validate("BTCUSDT", SELL, MARKET, payload(null, "0.0012345"));
+        assertEquals("0.00123", param(payload, "quantity"));
+    }
+
+    @Test
+    void checksTheNotional() throws Exception {
+        assertRejected(NOTIONAL, "BTCUSDT", BUY, LIMIT, payload("30000", "0.0001"));
+        assertRejected(NOTIONAL, "BTCUSDT", SELL, MARKET, payload(null, "0.0001"));
+        Params payload = new Params();
+        payload.addParam("quoteOrderQty", "4");
+        assertRejected(NOTIONAL, "BTCUSDT", BUY, MARKET, payload);
+        payload = new Params();
+        payload.addParam("quoteOrderQty", "10000000");
+        assertSame(payload, validator.validate("BTCUSDT", BUY, MARKET, payload));
+        assertThrows(OrderRejectedException.class, () -> validator.validate("BTCUSDT", BUY, LIMIT,
+                payload("30000", "300.5")));
+    }
+
+    @Test
+    void checksThePriceAroundTheAveragePrice() throws Exception {
+        assertRejected(PERCENT_PRICE_BY_SIDE, "BTCUSDT", BUY, LIMIT, payload("5999.99", "1"));
+        assertRejected(PERCENT_PRICE_BY_SIDE, "BTCUSDT", SELL, LIMIT, payload("150000.01", "0.001"));
+        validator.validate("BTCUSDT", BUY, LIMIT, payload("6000", "1"));
+        validator.validate("BTCUSDT", SELL, LIMIT, payload("150000", "0.001"));
+        assertEquals(1, averagePriceRequests.get());
+    }
+
+    @Test
+    void rejectsTheSymbolsNotTraded() {
+        OrderRejectedException exception = assertThrows(OrderRejectedException.class,
+                () -> validator.validate("ETHBTC", BUY, LIMIT, payload("0.05", "1")));
+        assertNull(exception.getFilterType());
+        assertEquals("ETHBTC", exception.getSymbol());
+        assertThrows(OrderRejectedException.class, () -> validator.validate("XYZUSDT", BUY, LIMIT,
+                payload("1", "1")));
+    }
+
+    @Test
+    void checksTheOpenOrders() throws Exception {
+        AtomicInteger openOrders = new AtomicInteger(199);
+        validator.setOpenOrdersCounter(symbol -> openOrders.get());
+        validator.validate("BTCUSDT", BUY, LIMIT, payload("30000", "0.001"));
+        openOrders.set(200);
+        assertRejected(MAX_NUM_ORDERS, "BTCUSDT", BUY, LIMIT, payload("30000", "0.001"));
+        validator.validate("BNBUSDT", BUY, MARKET, payload(null, "1"));
+    }
+
+    /**
+     * Method to assert that an order is rejected by a filter
+     *
+     * @param filterType: the filter that must reject the order
+     * @param symbol:     symbol of the order
+     * @param side:       side of the order
+     * @param type:       type of the order
+     * @param payload:    payload of the order
+     */
+    private void assertRejected(FilterType filterType, String symbol, Order.Side side, Order.OrderType type,
+                                Params payload) {
+        OrderRejectedException exception = assertThrows(OrderRejectedException.class,
+                () -> validator.validate(symbol, side, type, payload));
+        assertEquals(filterType, exception.getFilterType());
+    }
+
+    /**
+     * Method to create the payload of an order
+     *
+     * @param price:    price of the order, {@code "null"} to not insert it
+     * @param quantity: quantity of the order
+     * @return payload of the order as {@link Params}
+     */
+    private static Params payload(String price, String quantity) {
+        Params payload = new Params();
+        if (price != null)
+            payload.addParam("price", price);
+        payload.addParam("quantity", quantity);
+        return payload;
+    }
+
+    /**
+     * Method to get a param of a payload
+     *
+     * @param payload: the payload from fetch the param
+     * @param key:     key of the param
+     * @return param as {@link String}
+     */
+    private static String param(Params payload, String key) {
+        return payload.getParam(key);
+    }
+
+    /**
+     * Method to create the filters of a symbol
+     *
+     * @param symbol:  the symbol
+     * @param status:  status of the symbol
+     * @param filters: filters of the symbol
+     * @return filters of the symbol as {@link SymbolFilters}
+     */
+    private static SymbolFilters symbolFilters(String symbol, String status, Filter... filters) {
+        return new SymbolFilters(new Symbol(symbol, true, status, symbol.substring(0, 3), 8,
+                symbol.substring(3), 8, 8, new ArrayList<>(List.of("LIMIT", "MARKET")), true, true, true, false,
+                new ArrayList<>(List.of(filters)), new ArrayList<>(List.of("SPOT")), 8, null, new ArrayList<>()));
+    }
+
+    /**
+     * Method to create a filter
+     *
+     * @param filterType:    type of the filter
+     * @param keysAndValues: keys and values of the filter, es. "minQty", "0.001", "maxQty", "100"
+     * @return filter as {@link Filter}
+     */
+    private static Filter filter(FilterType filterType, Object... keysAndValues) {
+        ArrayList<String> keys = new ArrayList<>();
+        ArrayList<Object> values = new ArrayList<>();
+        for (int j = 0; j < keysAndValues.length; j += 2) {
+            keys.add((String) keysAndValues[j]);
+            values.add(keysAndValues[j + 1]);
+        }
+        return new Filter(keys, values, filterType);
+    }
+
+}